@@ -0,0 +1,67 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batching a sequence by <tt>seq.chunk</tt>, <tt>seq.batchMap</tt> and <tt>seq.sliding</tt> against the loop over
+ * <tt>takeNAndYield</tt> which they replace. Each batch is handed to a consumer which only reads its size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BatchBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BatchState {
+        @Param({"10", "1000"})
+        public int batchSize;
+    }
+
+    @Benchmark
+    public void takeNAndYieldLoop(final SourceState state, final BatchState batch, final Blackhole blackhole) {
+        Pair<List<Integer>, Iterable<Integer>> next = Functional.takeNAndYield(state.input, batch.batchSize);
+        while (!next.getLeft().isEmpty()) {
+            blackhole.consume(next.getLeft().size());
+            next = Functional.takeNAndYield(next.getRight(), batch.batchSize);
+        }
+    }
+
+    @Benchmark
+    public void chunk(final SourceState state, final BatchState batch, final Blackhole blackhole) {
+        for (final List<Integer> chunk : Functional.seq.chunk(batch.batchSize, state.input))
+            blackhole.consume(chunk.size());
+    }
+
+    @Benchmark
+    public Integer chunkPushed(final SourceState state, final BatchState batch) {
+        return Functional.fold((count, chunk) -> count + chunk.size(), 0, Functional.seq.chunk(batch.batchSize, state.input));
+    }
+
+    @Benchmark
+    public Integer batchMap(final SourceState state, final BatchState batch) {
+        return Functional.fold((a, b) -> a + b, 0, Functional.seq.batchMap(batch.batchSize, b -> Collections.singletonList(b.size()), state.input));
+    }
+
+    @Benchmark
+    public Integer sliding(final SourceState state, final BatchState batch) {
+        return Functional.fold((count, window) -> count + window.size(), 0, Functional.seq.sliding(batch.batchSize, batch.batchSize / 2, state.input));
+    }
+}
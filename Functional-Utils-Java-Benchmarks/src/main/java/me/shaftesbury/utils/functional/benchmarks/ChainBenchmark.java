@@ -0,0 +1,78 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chains of eager functions, each of which consumes the list returned by the one before, and indexed access to such a
+ * list. <tt>take</tt>, <tt>skip</tt>, <tt>toList</tt> and <tt>concat</tt> share the storage of the lists the library
+ * returns rather than copying it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ChainBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ResultState {
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+
+        public List<Integer> result;
+
+        @Setup
+        public void setUp() {
+            result = Functional.map(i -> i + 1, Functional.init(Functional.<Integer>identity(), size));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> mapOfFilter(final ResultState state) {
+        return Functional.map(i -> i * 2, Functional.filter(Functional.isEven, state.result));
+    }
+
+    @Benchmark
+    public long sumByIndex(final ResultState state) {
+        final List<Integer> l = state.result;
+        long sum = 0;
+        for (int i = 0; i < l.size(); ++i)
+            sum += l.get(i);
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> toList(final ResultState state) {
+        return Functional.toList(state.result);
+    }
+
+    @Benchmark
+    public List<Integer> takeHalf(final ResultState state) {
+        return Functional.take(state.size / 2, state.result);
+    }
+
+    @Benchmark
+    public List<Integer> skipHalf(final ResultState state) {
+        return Functional.skip(state.size / 2, state.result);
+    }
+
+    @Benchmark
+    public List<Integer> concatHalves(final ResultState state) {
+        final int half = state.size / 2;
+        return Functional.concat(Functional.take(half, state.result), Functional.skip(half, state.result));
+    }
+}
@@ -0,0 +1,58 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@link Functional#collect} and {@link Functional.seq#collect}. These have their own, smaller, input sizes because
+ * the eager implementation has historically been quadratic in the length of the output.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CollectBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "ITERABLE"})
+    public SourceType source;
+
+    private Iterable<Integer> input;
+
+    static final Function<Integer, List<Integer>> repeatThrice = i -> Arrays.asList(i, i, i);
+
+    @Setup
+    public void setUp() {
+        input = source.wrap(Functional.init(Functional.<Integer>identity(), size));
+    }
+
+    @Benchmark
+    public List<Integer> collect() {
+        return Functional.collect(repeatThrice, input);
+    }
+
+    @Benchmark
+    public void seqCollect(final Blackhole bh) {
+        for (final Integer i : Functional.seq.collect(repeatThrice, input))
+            bh.consume(i);
+    }
+}
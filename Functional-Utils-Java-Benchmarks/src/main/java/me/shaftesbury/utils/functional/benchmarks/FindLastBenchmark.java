@@ -0,0 +1,82 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <tt>findLast</tt> and <tt>last</tt> over each {@link SourceType} and also over a deque and a navigable set, which are
+ * scanned from the end. <tt>findLastEven</tt> matches half the elements; <tt>findLastNone</tt> matches none, so every
+ * element is tested whatever the container.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FindLastBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SortedState {
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+
+        public ArrayDeque<Integer> deque;
+        public TreeSet<Integer> set;
+
+        @Setup
+        public void setUp() {
+            deque = new ArrayDeque<>(Functional.init(Functional.<Integer>identity(), size));
+            set = new TreeSet<>(deque);
+        }
+    }
+
+    @Benchmark
+    public Integer findLastEven(final SourceState state) {
+        return Functional.findLast(Functional.isEven, state.input);
+    }
+
+    @Benchmark
+    public Option<Integer> findLastNone(final SourceState state) {
+        return Functional.noException.findLast(FunctionalBenchmark.never, state.input);
+    }
+
+    @Benchmark
+    public Integer last(final SourceState state) {
+        return Functional.last(state.input);
+    }
+
+    @Benchmark
+    public int findIndexNone(final SourceState state) {
+        return Functional.noException.findIndex(FunctionalBenchmark.never, state.input).orElse(-1);
+    }
+
+    @Benchmark
+    public Integer findLastEvenInDeque(final SortedState state) {
+        return Functional.findLast(Functional.isEven, state.deque);
+    }
+
+    @Benchmark
+    public Integer findLastEvenInNavigableSet(final SortedState state) {
+        return Functional.findLast(Functional.isEven, state.set);
+    }
+
+    @Benchmark
+    public Integer lastOfNavigableSet(final SortedState state) {
+        return Functional.last(state.set);
+    }
+}
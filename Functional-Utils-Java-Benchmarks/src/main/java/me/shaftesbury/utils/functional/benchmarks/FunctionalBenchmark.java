@@ -0,0 +1,182 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The eager operators of {@link Functional}. The hand-written <tt>...WithIterable</tt>, <tt>...WithInstanceOf</tt> and
+ * <tt>...WithHalfSize</tt> variants are the output-presizing strategies that used to be compared in SpeedTest and serve
+ * as baselines for the library implementations. The <tt>...WithSizeHint</tt> variants pass the size of the input through
+ * {@link Functional#withSizeHint(int, Iterable)}, which matters for the ITERABLE source.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FunctionalBenchmark {
+    static final Function<Integer, Integer> doubler = i -> 2 * i;
+    static final Function<Integer, Boolean> never = i -> i < 0;
+    static final BiFunction<Integer, Integer, Integer> sum = (acc, i) -> acc + i;
+    static final Function<Integer, Option<Integer>> oddsDoubled = i -> i % 2 != 0 ? Option.toOption(2 * i) : Option.<Integer>None();
+
+    @Benchmark
+    public List<Integer> map(final SourceState state) {
+        return Functional.map(doubler, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> mapWithIterable(final SourceState state) {
+        final List<Integer> output = new ArrayList<>();
+        for (final Integer i : state.input)
+            output.add(doubler.apply(i));
+        return Collections.unmodifiableList(output);
+    }
+
+    @Benchmark
+    public List<Integer> mapWithInstanceOf(final SourceState state) {
+        final List<Integer> output = state.input instanceof Collection<?> ? new ArrayList<>(((Collection<?>) state.input).size()) : new ArrayList<>();
+        for (final Integer i : state.input)
+            output.add(doubler.apply(i));
+        return Collections.unmodifiableList(output);
+    }
+
+    @Benchmark
+    public List<Integer> mapi(final SourceState state) {
+        return Functional.mapi((pos, i) -> pos + i, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> filterHalf(final SourceState state) {
+        return Functional.filter(Functional.isOdd, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> filterHalfWithPredicate(final SourceState state) {
+        return Functional.filter(state.input, i -> i % 2 != 0);
+    }
+
+    @Benchmark
+    public List<Integer> filterNone(final SourceState state) {
+        return Functional.filter(never, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> filterHalfWithIterable(final SourceState state) {
+        final List<Integer> output = new ArrayList<>();
+        for (final Integer i : state.input)
+            if (Functional.isOdd.apply(i))
+                output.add(i);
+        return Collections.unmodifiableList(output);
+    }
+
+    @Benchmark
+    public List<Integer> filterHalfWithInstanceOf(final SourceState state) {
+        final List<Integer> output = state.input instanceof Collection<?> ? new ArrayList<>(((Collection<?>) state.input).size()) : new ArrayList<>();
+        for (final Integer i : state.input)
+            if (Functional.isOdd.apply(i))
+                output.add(i);
+        return Collections.unmodifiableList(output);
+    }
+
+    @Benchmark
+    public List<Integer> filterHalfWithHalfSize(final SourceState state) {
+        final List<Integer> output = state.input instanceof Collection<?> ? new ArrayList<>(((Collection<?>) state.input).size() / 2 + 1) : new ArrayList<>();
+        for (final Integer i : state.input)
+            if (Functional.isOdd.apply(i))
+                output.add(i);
+        return Collections.unmodifiableList(output);
+    }
+
+    @Benchmark
+    public Integer fold(final SourceState state) {
+        return Functional.fold(sum, 0, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> choose(final SourceState state) {
+        return Functional.choose(oddsDoubled, state.input);
+    }
+
+    @Benchmark
+    public boolean exists(final SourceState state) {
+        return Functional.exists(never, state.input);
+    }
+
+    @Benchmark
+    public Integer findLast(final SourceState state) {
+        return Functional.findLast(Functional.isOdd, state.input);
+    }
+
+    @Benchmark
+    public Integer last(final SourceState state) {
+        return Functional.last(state.input);
+    }
+
+    @Benchmark
+    public List<Integer> toList(final SourceState state) {
+        return Functional.toList(state.input);
+    }
+
+    @Benchmark
+    public Object groupBy(final SourceState state) {
+        return Functional.groupBy(i -> i % 16, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> collect(final SourceState state) {
+        return Functional.collect(i -> Arrays.asList(i, i), state.input);
+    }
+
+    @Benchmark
+    public Object zip(final SourceState state) {
+        return Functional.zip(state.input, state.input);
+    }
+
+    @Benchmark
+    public Object toDictionary(final SourceState state) {
+        return Functional.toDictionary(Function.identity(), doubler, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> mapWithSizeHint(final SourceState state) {
+        return Functional.map(doubler, Functional.withSizeHint(state.size, state.input));
+    }
+
+    @Benchmark
+    public List<Integer> filterHalfWithSizeHint(final SourceState state) {
+        return Functional.filter(Functional.isOdd, Functional.withSizeHint(state.size, state.input));
+    }
+
+    @Benchmark
+    public List<Integer> toListWithSizeHint(final SourceState state) {
+        return Functional.toList(Functional.withSizeHint(state.size, state.input));
+    }
+
+    @Benchmark
+    public List<Integer> toListOfSeq(final SourceState state) {
+        return Functional.toList(Functional.seq.map(doubler, state.input));
+    }
+
+
+    @Benchmark
+    public List<Integer> takeHalf(final SourceState state) {
+        return Functional.take(state.size / 2, state.input);
+    }
+}
@@ -0,0 +1,75 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-key counts and sums by the single-pass aggregating operators and by <tt>groupBy</tt> followed by a fold of each
+ * group, over 'keys' distinct keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GroupBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class KeyState {
+        @Param({"16", "10000"})
+        public int keys;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> countByGroupBy(final SourceState state, final KeyState keys) {
+        final Map<Integer, List<Integer>> groups = Functional.groupBy(i -> i % keys.keys, state.input);
+        final Map<Integer, Integer> counts = new HashMap<>();
+        for (final Map.Entry<Integer, List<Integer>> entry : groups.entrySet())
+            counts.put(entry.getKey(), entry.getValue().size());
+        return counts;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> countBy(final SourceState state, final KeyState keys) {
+        return Functional.countBy(i -> i % keys.keys, state.input);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> sumByGroupBy(final SourceState state, final KeyState keys) {
+        final Map<Integer, List<Integer>> groups = Functional.groupBy(i -> i % keys.keys, state.input);
+        final Map<Integer, Long> sums = new HashMap<>();
+        for (final Map.Entry<Integer, List<Integer>> entry : groups.entrySet())
+            sums.put(entry.getKey(), Functional.fold((a, b) -> a + b, 0L, entry.getValue()));
+        return sums;
+    }
+
+    @Benchmark
+    public Map<Integer, Long> sumBy(final SourceState state, final KeyState keys) {
+        return Functional.sumBy(i -> i % keys.keys, i -> i, state.input);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupFold(final SourceState state, final KeyState keys) {
+        return Functional.groupFold(i -> i % keys.keys, 0L, (a, b) -> a + b, state.input);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> groupFoldIntoMutable(final SourceState state, final KeyState keys) {
+        return Functional.groupFoldInto(new HashMap<>(), i -> i % keys.keys, 0, (a, b) -> a + 1, state.input);
+    }
+}
@@ -0,0 +1,103 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.primitive.integer.Func2_T_int_T;
+import me.shaftesbury.utils.functional.primitive.integer.Func_int_int;
+import me.shaftesbury.utils.functional.primitive.integer.Functional;
+import me.shaftesbury.utils.functional.primitive.integer.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The fixed-function IntList operations against the same computation expressed through the general <tt>fold</tt>,
+ * <tt>mapToInt</tt> and <tt>filter</tt> with a lambda. On Java 17 or later, run with
+ * <tt>-jvmArgsAppend --add-modules=jdk.incubator.vector</tt> to use the Vector API kernels, and compare them with the
+ * scalar kernels by adding <tt>-Dme.shaftesbury.utils.functional.primitive.integer.useVectorApi=false</tt>. Run the scalar
+ * kernels with <tt>-jvmArgs -XX:-UseSuperWord</tt> to see how much of their speed comes from the JIT vectorising them on a
+ * given machine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IntKernelBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private IntList intList;
+    private int threshold;
+
+    static final Func2_T_int_T<Long, Long> sum = (acc, i) -> acc + i;
+    static final Func_int_int addOne = i -> i + 1;
+
+    @Setup
+    public void setUp() {
+        final int[] array = new int[size];
+        for (int i = 0; i < size; ++i)
+            array[i] = (int) ((i * 2654435761L) % 1000000);
+        intList = new IntList(array);
+        threshold = 500000;
+    }
+
+    @Benchmark
+    public long sumKernel() {
+        return Functional.sum(intList);
+    }
+
+    @Benchmark
+    public Long sumFold() {
+        return Functional.fold(sum, 0L, intList);
+    }
+
+    @Benchmark
+    public int maxKernel() {
+        return Functional.max(intList);
+    }
+
+    @Benchmark
+    public int countLessThanKernel() {
+        return Functional.countLessThan(threshold, intList);
+    }
+
+    @Benchmark
+    public int countLessThanFilter() {
+        return Functional.filter(intList, i -> i < threshold).size();
+    }
+
+    @Benchmark
+    public IntList addKernel() {
+        return Functional.add(1, intList);
+    }
+
+    @Benchmark
+    public IntList addMap() {
+        return Functional.mapToInt(addOne, intList);
+    }
+
+    @Benchmark
+    public long dotKernel() {
+        return Functional.dot(intList, intList);
+    }
+
+    @Benchmark
+    public IntList filterLessThanKernel() {
+        return Functional.filterLessThan(threshold, intList);
+    }
+
+    @Benchmark
+    public IntList filterLessThanPredicate() {
+        return Functional.filter(intList, i -> i < threshold);
+    }
+}
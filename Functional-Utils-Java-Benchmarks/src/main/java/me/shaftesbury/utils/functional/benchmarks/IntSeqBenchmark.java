@@ -0,0 +1,65 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.primitive.integer.Func_int_int;
+import me.shaftesbury.utils.functional.primitive.integer.Functional;
+import me.shaftesbury.utils.functional.primitive.integer.IntIterator;
+import me.shaftesbury.utils.functional.primitive.integer.IntSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * range, filter, map and sum as a lazy IntSeq pipeline, evaluated both by push (<tt>IntSeq.sum</tt>) and by pulling
+ * through its iterator, against the eager primitive <tt>Functional</tt> operations, which build an IntList at every step,
+ * and against a hand-written loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class IntSeqBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    static final Func_int_int fromZero = i -> i - 1;
+    static final IntPredicate isEven = i -> (i & 1) == 0;
+    static final Func_int_int timesThree = i -> 3 * i;
+
+    @Benchmark
+    public long seqPush() {
+        return IntSeq.sum(IntSeq.map(timesThree, IntSeq.filter(IntSeq.range(0, size), isEven)));
+    }
+
+    @Benchmark
+    public long seqPull() {
+        final IntIterator it = IntSeq.map(timesThree, IntSeq.filter(IntSeq.range(0, size), isEven)).iterator();
+        long sum = 0;
+        while (it.hasNext()) sum += it.next();
+        return sum;
+    }
+
+    @Benchmark
+    public long eager() {
+        return Functional.sum(Functional.mapToInt(timesThree, Functional.filter(Functional.init(fromZero, size), isEven)));
+    }
+
+    @Benchmark
+    public long loop() {
+        long sum = 0;
+        for (int i = 0; i < size; ++i)
+            if ((i & 1) == 0) sum += 3 * i;
+        return sum;
+    }
+}
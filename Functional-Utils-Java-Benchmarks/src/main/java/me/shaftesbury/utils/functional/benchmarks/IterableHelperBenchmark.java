@@ -0,0 +1,68 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.IterableHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fluent chains built with {@link IterableHelper#create}, which are backed by {@link Functional.seq} for the lazy
+ * stages and by {@link Functional} for the terminal ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IterableHelperBenchmark {
+
+    @Benchmark
+    public Integer filterMapFold(final SourceState state) {
+        return IterableHelper.create(state.input)
+                .filter(Functional.isOdd)
+                .map(FunctionalBenchmark.doubler)
+                .fold(FunctionalBenchmark.sum, 0);
+    }
+
+    @Benchmark
+    public List<Integer> mapChooseSkipTakeToList(final SourceState state) {
+        return IterableHelper.create(state.input)
+                .map(i -> i + 1)
+                .choose(FunctionalBenchmark.oddsDoubled)
+                .skip(10)
+                .take(state.size / 4)
+                .toList();
+    }
+
+    @Benchmark
+    public boolean filterMapExists(final SourceState state) {
+        return IterableHelper.create(state.input)
+                .filter(Functional.isEven)
+                .map(FunctionalBenchmark.doubler)
+                .exists(FunctionalBenchmark.never);
+    }
+
+    @Benchmark
+    public Integer takeWhileFind(final SourceState state) {
+        final int last = state.size;
+        return IterableHelper.create(state.input)
+                .takeWhile(i -> i <= last)
+                .find(i -> i == last);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> mapGroupBy(final SourceState state) {
+        return IterableHelper.create(state.input)
+                .map(FunctionalBenchmark.doubler)
+                .groupBy(i -> i % 16);
+    }
+}
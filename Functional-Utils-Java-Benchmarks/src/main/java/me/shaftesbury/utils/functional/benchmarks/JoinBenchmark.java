@@ -0,0 +1,78 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Joining a feed of 'size' rows to reference data of one row per thousand feed rows, by the join operators and by the
+ * <tt>groupBy</tt> + <tt>toDictionary</tt> + <tt>map</tt> combination which they replace. Both inputs are sorted by key,
+ * so that <tt>mergeJoin</tt> can be measured on the same data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JoinBenchmark {
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<Integer> feed;
+    private List<Integer> reference;
+
+    @Setup
+    public void setUp() {
+        feed = Functional.init(i -> i / 1000, size);
+        reference = Functional.init(i -> i, size / 1000);
+    }
+
+    @Benchmark
+    public List<Integer> groupByAndLookup() {
+        final Map<Integer, Integer> byKey = Functional.toDictionary(Function.identity(), Function.identity(), reference);
+        return Functional.choose(row -> byKey.containsKey(row) ? Option.toOption(row + byKey.get(row)) : Option.<Integer>None(), feed);
+    }
+
+    @Benchmark
+    public List<Integer> innerJoin() {
+        return Functional.innerJoin(feed, reference, Function.identity(), Function.identity(), Integer::sum);
+    }
+
+    @Benchmark
+    public Integer innerJoinFolded() {
+        return Functional.fold(Integer::sum, 0, Functional.seq.innerJoin(feed, reference, Function.identity(), Function.identity(), Integer::sum));
+    }
+
+    @Benchmark
+    public List<Integer> mergeJoin() {
+        return Functional.mergeJoin(feed, reference, Function.identity(), Function.identity(), Comparator.<Integer>naturalOrder(), Integer::sum);
+    }
+
+    @Benchmark
+    public List<Integer> groupJoin() {
+        return Functional.groupJoin(reference, feed, Function.identity(), Function.identity(), (r, rows) -> rows.size());
+    }
+
+    @Benchmark
+    public List<Integer> groupByThenMap() {
+        final Map<Integer, List<Integer>> byKey = Functional.groupBy(Function.identity(), feed);
+        return Functional.map(r -> byKey.containsKey(r) ? byKey.get(r).size() : 0, reference);
+    }
+}
@@ -0,0 +1,94 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.MException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of failure in {@link MException} under each {@link MException.StackTracePolicy}: a batch of values is validated,
+ * half of which fail, either reading just the exceptions or also their stack traces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MExceptionBenchmark {
+    public enum Policy {
+        NONE, LAZY_16, FULL;
+
+        MException.StackTracePolicy policy() {
+            switch (this) {
+                case NONE: return MException.StackTracePolicy.none();
+                case LAZY_16: return MException.StackTracePolicy.lazy(16);
+                default: return MException.StackTracePolicy.full();
+            }
+        }
+    }
+
+    @Param({"NONE", "LAZY_16", "FULL"})
+    public Policy policy;
+
+    @Param({"1000"})
+    public int size;
+
+    private List<String> input;
+    private MException.StackTracePolicy original;
+
+    @Setup
+    public void setUp() {
+        input = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i)
+            input.add(i % 2 == 0 ? Integer.toString(i) : "x" + i);
+        original = MException.getStackTracePolicy();
+        MException.setStackTracePolicy(policy.policy());
+    }
+
+    @TearDown
+    public void tearDown() {
+        MException.setStackTracePolicy(original);
+    }
+
+    private List<MException<Integer>> validate() {
+        final List<MException<Integer>> output = new ArrayList<>(input.size());
+        for (final String s : input)
+            output.add(MException.toMException(() -> Integer.parseInt(s)).map(i -> i * 2));
+        return output;
+    }
+
+    @Benchmark
+    public int failures() {
+        int failed = 0;
+        for (final MException<Integer> m : validate())
+            if (m.hasException()) ++failed;
+        return failed;
+    }
+
+    @Benchmark
+    public int failuresWithStackTraces() {
+        int frames = 0;
+        for (final MException<Integer> m : validate())
+            if (m.hasException()) frames += m.getExceptionWithStackTrace().getRight().length;
+        return frames;
+    }
+
+    @Benchmark
+    public MException<List<Integer>> sequence() {
+        return MException.sequence(validate());
+    }
+}
@@ -0,0 +1,75 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The cost of creating, comparing and unwrapping {@link Option}s. Run with <tt>-prof gc</tt> to see the allocation rate:
+ * the None benchmarks should report a <tt>gc.alloc.rate.norm</tt> of zero bytes per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OptionBenchmark {
+    static final Function<Integer, Option<Integer>> none = i -> Option.None();
+
+    public Integer value = 42;
+    public Integer nullValue = null;
+
+    @Benchmark
+    public Option<Integer> noneFactory() {
+        return Option.None();
+    }
+
+    @Benchmark
+    public Option<Integer> toOptionOfNull() {
+        return Option.toOption(nullValue);
+    }
+
+    @Benchmark
+    public boolean noneEqualsNone() {
+        return Option.<Integer>None().equals(Option.<Integer>None());
+    }
+
+    @Benchmark
+    public Integer noneOrElse() {
+        return Option.toOption(nullValue).map(i -> i + 1).filter(i -> i > 0).orElse(value);
+    }
+
+    @Benchmark
+    public Option<Integer> someFactory() {
+        return Option.toOption(value);
+    }
+
+    @Benchmark
+    public boolean someEqualsSome() {
+        return Option.toOption(value).equals(Option.toOption(value));
+    }
+
+    @Benchmark
+    public List<Integer> chooseNothing(final SourceState state) {
+        return Functional.choose(none, state.input);
+    }
+
+    @Benchmark
+    public void chooseHalf(final SourceState state, final Blackhole bh) {
+        bh.consume(Functional.choose(FunctionalBenchmark.oddsDoubled, state.input));
+    }
+}
@@ -0,0 +1,117 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@link Functional.parallel} against the serial operators in {@link Functional} on the common fork/join pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParallelBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private List<Integer> input;
+
+    static final Function<Integer, Double> expensive = i -> Math.sqrt(Math.log(i + 1.0) * Math.sin(i));
+
+    @Setup
+    public void setUp() {
+        input = Functional.init(Functional.<Integer>identity(), size);
+    }
+
+    @Benchmark
+    public List<Double> serialMap() {
+        return Functional.map(expensive, input);
+    }
+
+    @Benchmark
+    public List<Double> parallelMap() {
+        return Functional.parallel.map(expensive, input);
+    }
+
+    @Benchmark
+    public List<Integer> serialFilter() {
+        return Functional.filter(Functional.isOdd, input);
+    }
+
+    @Benchmark
+    public List<Integer> parallelFilter() {
+        return Functional.parallel.filter(Functional.isOdd, input);
+    }
+
+    @Benchmark
+    public Long serialFold() {
+        return Functional.fold((Long acc, Integer i) -> acc + i, 0L, input);
+    }
+
+    @Benchmark
+    public Long parallelFold() {
+        return Functional.parallel.fold((Long acc, Integer i) -> acc + i, Long::sum, 0L, input);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> serialGroupBy() {
+        return Functional.groupBy(i -> i % 1024, input);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> parallelGroupBy() {
+        return Functional.parallel.groupBy(i -> i % 1024, input);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> parallelUnorderedGroupBy() {
+        return Functional.parallel.groupBy(i -> i % 1024, input, Functional.parallel.MergeOrder.UNORDERED);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> serialGroupByManyKeys() {
+        return Functional.groupBy(i -> i / 4, input);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> parallelGroupByManyKeys() {
+        return Functional.parallel.groupBy(i -> i / 4, input);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> parallelUnorderedGroupByManyKeys() {
+        return Functional.parallel.groupBy(i -> i / 4, input, Functional.parallel.MergeOrder.UNORDERED);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> serialToDictionary() {
+        return Functional.toDictionary(i -> i / 4, Functional.<Integer>identity(), input);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> parallelToDictionary() {
+        return Functional.parallel.toDictionary(i -> i / 4, Functional.<Integer>identity(), input);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> parallelUnorderedToDictionary() {
+        return Functional.parallel.toDictionary(i -> i / 4, Functional.<Integer>identity(), input, Functional.parallel.MergeOrder.UNORDERED);
+    }
+}
@@ -0,0 +1,83 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.primitive.integer.IntIntMap;
+import me.shaftesbury.utils.functional.primitive.integer.IntList;
+import me.shaftesbury.utils.functional.primitive.integer.IntObjMap;
+import me.shaftesbury.utils.functional.primitive.integer.IntSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * De-duplication, frequency counts and grouping of int ids, drawn from 'ids' distinct values, into the primitive
+ * {@link IntSet}, {@link IntIntMap} and {@link IntObjMap} against the boxed equivalents over a <tt>List&lt;Integer&gt;</tt>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PrimitiveGroupBenchmark {
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"1000", "100000"})
+    public int ids;
+
+    private IntList intList;
+    private List<Integer> boxed;
+
+    @Setup
+    public void setUp() {
+        final int[] array = new int[size];
+        for (int i = 0; i < size; ++i)
+            array[i] = (int) ((i * 2654435761L) % ids);
+        intList = new IntList(array);
+        boxed = Functional.init(i -> array[i - 1], size);
+    }
+
+    @Benchmark
+    public IntSet distinctIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.distinct(intList);
+    }
+
+    @Benchmark
+    public Set<Integer> distinctGeneric() {
+        return Functional.toSet(boxed);
+    }
+
+    @Benchmark
+    public IntIntMap countByIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.countBy(i -> i, intList);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> countByGeneric() {
+        return Functional.countBy(i -> i, boxed);
+    }
+
+    @Benchmark
+    public IntObjMap<IntList> groupByIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.groupBy(i -> i % 1024, intList);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByGeneric() {
+        return Functional.groupBy(i -> i % 1024, boxed);
+    }
+}
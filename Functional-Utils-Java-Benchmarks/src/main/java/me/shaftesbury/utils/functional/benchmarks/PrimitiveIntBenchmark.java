@@ -0,0 +1,186 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.primitive.integer.Func2_T_int_T;
+import me.shaftesbury.utils.functional.primitive.integer.Func_int_Option_int;
+import me.shaftesbury.utils.functional.primitive.integer.Func_int_T;
+import me.shaftesbury.utils.functional.primitive.integer.Func_int_int;
+import me.shaftesbury.utils.functional.primitive.integer.IntList;
+import me.shaftesbury.utils.functional.primitive.integer.Option_int;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link me.shaftesbury.utils.functional.primitive.integer.Functional} against the equivalent generic operators on a
+ * <tt>List&lt;Integer&gt;</tt> and against a hand-written loop over an <tt>int[]</tt>. This replaces the timings that
+ * used to be printed by PrimitivesVsGenericTest.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PrimitiveIntBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private int[] array;
+    private IntList intList;
+    private List<Integer> boxed;
+
+    static final Func_int_int doubler = i -> 2 * i;
+    static final Func_int_T<Boolean> isOdd = i -> i % 2 != 0;
+    static final Func2_T_int_T<Integer, Integer> sum = (acc, i) -> acc + i;
+    static final Func_int_Option_int oddsDoubled = i -> i % 2 != 0 ? Option_int.toOption(2 * i) : Option_int.None();
+
+    @Setup
+    public void setUp() {
+        array = new int[size];
+        for (int i = 0; i < size; ++i)
+            array[i] = 2 * i;
+        intList = new IntList(array);
+        boxed = Functional.init(i -> 2 * (i - 1), size);
+    }
+
+    @Benchmark
+    public String joinArray() {
+        final StringBuilder builder = new StringBuilder();
+        for (final int i : array)
+            builder.append(i);
+        return builder.toString();
+    }
+
+    @Benchmark
+    public String joinIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.join("", intList);
+    }
+
+    @Benchmark
+    public String joinGeneric() {
+        return Functional.join("", boxed);
+    }
+
+    @Benchmark
+    public int findLastArray() {
+        final int threshold = size / 2;
+        for (int i = array.length - 1; i >= 0; --i)
+            if (array[i] < threshold)
+                return array[i];
+        throw new IllegalArgumentException();
+    }
+
+    @Benchmark
+    public int findLastIntList() {
+        final int threshold = size / 2;
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.findLast(i -> i < threshold, intList);
+    }
+
+    @Benchmark
+    public Integer findLastGeneric() {
+        final int threshold = size / 2;
+        return Functional.findLast(i -> i < threshold, boxed);
+    }
+
+    @Benchmark
+    public IntList initIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.init(doubler, size);
+    }
+
+    @Benchmark
+    public List<Integer> initGeneric() {
+        return Functional.init(FunctionalBenchmark.doubler, size);
+    }
+
+    @Benchmark
+    public IntList mapIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.map((Integer i) -> i + 1, boxed);
+    }
+
+    @Benchmark
+    public List<Integer> mapGeneric() {
+        return Functional.map(i -> i + 1, boxed);
+    }
+
+    @Benchmark
+    public IntList filterIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.filter(isOdd, intList);
+    }
+
+    @Benchmark
+    public List<Integer> filterGeneric() {
+        return Functional.filter(Functional.isOdd, boxed);
+    }
+
+    @Benchmark
+    public IntList chooseIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.choose(oddsDoubled, intList);
+    }
+
+    @Benchmark
+    public List<Integer> chooseGeneric() {
+        return Functional.choose(FunctionalBenchmark.oddsDoubled, boxed);
+    }
+
+    @Benchmark
+    public Integer foldIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.fold(sum, 0, intList);
+    }
+
+    @Benchmark
+    public Integer foldGeneric() {
+        return Functional.fold(FunctionalBenchmark.sum, 0, boxed);
+    }
+
+    @Benchmark
+    public int foldArray() {
+        int acc = 0;
+        for (final int i : array)
+            acc += i;
+        return acc;
+    }
+
+
+    @Benchmark
+    public IntList takeHalfIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.take(size / 2, intList);
+    }
+
+    @Benchmark
+    public IntList skipHalfIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.skip(size / 2, intList);
+    }
+
+    @Benchmark
+    public List<Integer> takeHalfGeneric() {
+        return Functional.take(size / 2, boxed);
+    }
+
+    @Benchmark
+    public IntList mapIntToInt() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.mapToInt(doubler, intList);
+    }
+
+    @Benchmark
+    public Pair<IntList, IntList> partitionIntList() {
+        return me.shaftesbury.utils.functional.primitive.integer.Functional.partition(isOdd, intList);
+    }
+
+    @Benchmark
+    public Pair<List<Integer>, List<Integer>> partitionGeneric() {
+        return Functional.partition(i -> i % 2 != 0, boxed);
+    }
+}
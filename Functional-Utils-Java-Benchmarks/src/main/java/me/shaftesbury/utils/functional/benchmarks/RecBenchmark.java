@@ -0,0 +1,69 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.Option;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The trampolined operators of {@link Functional.rec} alongside their iterative equivalents in {@link Functional}, to
+ * measure the cost of a bounce per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RecBenchmark {
+
+    @Benchmark
+    public Iterable<Integer> recMap(final SourceState state) {
+        return Functional.rec.map(FunctionalBenchmark.doubler, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> map(final SourceState state) {
+        return Functional.map(FunctionalBenchmark.doubler, state.input);
+    }
+
+    @Benchmark
+    public Iterable<Integer> recFilter(final SourceState state) {
+        return Functional.rec.filter(Functional.isOdd, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> filter(final SourceState state) {
+        return Functional.filter(Functional.isOdd, state.input);
+    }
+
+    @Benchmark
+    public Integer recFold(final SourceState state) {
+        return Functional.rec.fold(FunctionalBenchmark.sum, 0, state.input);
+    }
+
+    @Benchmark
+    public Integer fold(final SourceState state) {
+        return Functional.fold(FunctionalBenchmark.sum, 0, state.input);
+    }
+
+    @Benchmark
+    public List<Integer> recUnfold(final SourceState state) {
+        final int size = state.size;
+        return Functional.rec.unfold((Integer i) -> i > size ? Option.<Pair<Integer, Integer>>None() : Option.toOption(Pair.of(i, i + 1)), 1);
+    }
+
+    @Benchmark
+    public List<Integer> unfold(final SourceState state) {
+        final int size = state.size;
+        return Functional.unfold((Integer i) -> i > size ? Option.<Pair<Integer, Integer>>None() : Option.toOption(Pair.of(i, i + 1)), 1);
+    }
+}
@@ -0,0 +1,144 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import me.shaftesbury.utils.functional.Option;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every operator in {@link Functional.seq}, each drained element by element into a {@link Blackhole}, plus multi-stage
+ * chains drained both by iteration and by an eager terminal operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SeqBenchmark {
+
+    static <T> void drain(final Iterable<T> sequence, final Blackhole bh) {
+        for (final T t : sequence)
+            bh.consume(t);
+    }
+
+    @Benchmark
+    public void map(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.map(FunctionalBenchmark.doubler, state.input), bh);
+    }
+
+    @Benchmark
+    public void mapi(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.mapi((pos, i) -> pos + i, state.input), bh);
+    }
+
+    @Benchmark
+    public void concat(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.concat(state.input, state.input), bh);
+    }
+
+    @Benchmark
+    public void filter(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.filter(Functional.isOdd, state.input), bh);
+    }
+
+    @Benchmark
+    public void choose(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.choose(FunctionalBenchmark.oddsDoubled, state.input), bh);
+    }
+
+    @Benchmark
+    public void init(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.init(FunctionalBenchmark.doubler, state.size), bh);
+    }
+
+    @Benchmark
+    public void initInfinite(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.take(state.size, Functional.seq.init(FunctionalBenchmark.doubler)), bh);
+    }
+
+    @Benchmark
+    public void skip(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.skip(state.size / 2, state.input), bh);
+    }
+
+    @Benchmark
+    public void skipWhile(final SourceState state, final Blackhole bh) {
+        final int half = state.size / 2;
+        drain(Functional.seq.skipWhile(i -> i < half, state.input), bh);
+    }
+
+    @Benchmark
+    public void take(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.take(state.size / 2, state.input), bh);
+    }
+
+    @Benchmark
+    public void takeWhile(final SourceState state, final Blackhole bh) {
+        final int half = state.size / 2;
+        drain(Functional.seq.takeWhile(i -> i < half, state.input), bh);
+    }
+
+    @Benchmark
+    public void unfold(final SourceState state, final Blackhole bh) {
+        final int size = state.size;
+        drain(Functional.seq.unfold(i -> Pair.of(i, i + 1), i -> i > size, 1), bh);
+    }
+
+    @Benchmark
+    public void unfoldOption(final SourceState state, final Blackhole bh) {
+        final int size = state.size;
+        drain(Functional.seq.unfold(i -> i > size ? Option.<Pair<Integer, Integer>>None() : Option.toOption(Pair.of(i, i + 1)), 1), bh);
+    }
+
+    @Benchmark
+    public void partition(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.partition(state.size, 16), bh);
+    }
+
+    @Benchmark
+    public void zip(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.zip(state.input, state.input), bh);
+    }
+
+    @Benchmark
+    public void zip3(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.zip3(state.input, state.input, state.input), bh);
+    }
+
+    @Benchmark
+    public void zipWithFunctions(final SourceState state, final Blackhole bh) {
+        drain(Functional.seq.zip(FunctionalBenchmark.doubler, Functional.<Integer>identity(), state.input), bh);
+    }
+
+    private static Iterable<Integer> fiveStages(final SourceState state) {
+        return Functional.seq.map(FunctionalBenchmark.doubler,
+                Functional.seq.take(state.size - 10,
+                        Functional.seq.choose(FunctionalBenchmark.oddsDoubled,
+                                Functional.seq.skip(10,
+                                        Functional.seq.map(i -> i + 1, state.input)))));
+    }
+
+    @Benchmark
+    public void fiveStageChainIterated(final SourceState state, final Blackhole bh) {
+        drain(fiveStages(state), bh);
+    }
+
+    @Benchmark
+    public Integer fiveStageChainFolded(final SourceState state) {
+        return Functional.fold(FunctionalBenchmark.sum, 0, fiveStages(state));
+    }
+
+    @Benchmark
+    public Object fiveStageChainToList(final SourceState state) {
+        return Functional.toList(fiveStages(state));
+    }
+}
@@ -0,0 +1,85 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.primitive.integer.Functional;
+import me.shaftesbury.utils.functional.primitive.integer.IntList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting IntLists by radix sort against <tt>Arrays.sort</tt>, and intersecting two sorted id lists by merge against
+ * probing a hash set of one of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SortedIntBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private IntList unsorted;
+    private IntList sorted1;
+    private IntList sorted2;
+    private Set<Integer> hashed2;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(17);
+        final int[] a = new int[size];
+        final int[] b = new int[size];
+        for (int i = 0; i < size; ++i) {
+            a[i] = random.nextInt(4 * size);
+            b[i] = random.nextInt(4 * size);
+        }
+        unsorted = new IntList(a);
+        sorted1 = Functional.sort(new IntList(a));
+        sorted2 = Functional.sort(new IntList(b));
+        hashed2 = new HashSet<>();
+        for (final int i : b)
+            hashed2.add(i);
+    }
+
+    @Benchmark
+    public IntList radixSort() {
+        return Functional.sort(unsorted);
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        final int[] output = unsorted.toArray();
+        Arrays.sort(output);
+        return output;
+    }
+
+    @Benchmark
+    public IntList intersectMerge() {
+        return Functional.intersect(sorted1, sorted2);
+    }
+
+    @Benchmark
+    public IntList intersectHashSet() {
+        return Functional.filter(sorted1, hashed2::contains);
+    }
+
+    @Benchmark
+    public IntList intersectGallop() {
+        return Functional.intersect(Functional.take(Math.max(1, size / 100), sorted1), sorted2);
+    }
+}
@@ -0,0 +1,30 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import me.shaftesbury.utils.functional.Functional;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Shared benchmark state: a sequence of the integers 1..size held in a container of the requested {@link SourceType}.
+ * The input is built once per trial so that its construction is not part of the measurement.
+ */
+@State(Scope.Benchmark)
+public class SourceState {
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "ITERABLE"})
+    public SourceType source;
+
+    public Iterable<Integer> input;
+
+    @Setup
+    public void setUp() {
+        final List<Integer> ints = Functional.init(Functional.<Integer>identity(), size);
+        input = source.wrap(ints);
+    }
+}
@@ -0,0 +1,47 @@
+package me.shaftesbury.utils.functional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * The shape of the input handed to the operator under test. Many of the operators in Functional behave differently
+ * depending on whether the input is a {@link java.util.RandomAccess} list, a {@link Collection} whose size is known up
+ * front or an opaque {@link Iterable}, so each benchmark is run against all three.
+ */
+public enum SourceType {
+    ARRAY_LIST {
+        @Override
+        public <T> Iterable<T> wrap(final Collection<T> input) {
+            return new ArrayList<>(input);
+        }
+    },
+    LINKED_LIST {
+        @Override
+        public <T> Iterable<T> wrap(final Collection<T> input) {
+            return new LinkedList<>(input);
+        }
+    },
+    ITERABLE {
+        @Override
+        public <T> Iterable<T> wrap(final Collection<T> input) {
+            final Collection<T> copy = new ArrayList<>(input);
+            return new Iterable<T>() {
+                @Override
+                public Iterator<T> iterator() {
+                    return copy.iterator();
+                }
+            };
+        }
+    };
+
+    /**
+     * Copy the input into a new container of this type
+     *
+     * @param <T>   the type of the element in the input sequence
+     * @param input the elements to be copied
+     * @return an Iterable of the requested shape containing the elements of input in the same order
+     */
+    public abstract <T> Iterable<T> wrap(final Collection<T> input);
+}
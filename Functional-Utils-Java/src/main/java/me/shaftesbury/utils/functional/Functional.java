@@ -4,23 +4,38 @@ import io.vavr.control.Either;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -30,6 +45,11 @@ import static java.util.Objects.requireNonNull;
  * Herein are contained some standard algorithms from functional programming.
  * See <a href="http://en.wikipedia.org/wiki/Functional_programming">Functional Programming</a>
  * for more information
+ * <p>
+ * The functions which accept a predicate can be given either a <tt>Function&lt;A, Boolean&gt;</tt>, as the first argument,
+ * or a <tt>java.util.function.Predicate</tt>, as the last argument. The predicate forms return a primitive boolean and so
+ * avoid boxing and unboxing the result for every element. The arguments are in a different order so that an
+ * implicitly-typed lambda expression can only ever match one of the two forms.
  */
 public final class Functional {
     private Functional() {
@@ -99,21 +119,21 @@ public final class Functional {
         if (input == null) throw new IllegalArgumentException("input");
 
         A state = initialValue;
-        final List<B> results = new ArrayList<>();
+        final ImmutableArrayList.Builder<B> results = newBuilder(input);
         for (final B b : input) {
             final Pair<A, Option<B>> intermediate = f.apply(state, b);
             state = intermediate.getLeft();
             if (!intermediate.getRight().isNone())
                 results.add(intermediate.getRight().Some());
         }
-        return Pair.of(state, Collections.unmodifiableList(results));
+        return Pair.of(state, results.build());
     }
 
     public static <T> List<T> toList(final Enumeration<T> input) {
-        final List<T> output = new ArrayList<>();
+        final ImmutableArrayList.Builder<T> output = newBuilder(-1);
         while (input.hasMoreElements())
             output.add(input.nextElement());
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -158,10 +178,30 @@ public final class Functional {
      */
     public static <A> A find(final Function<? super A, Boolean> f, final Iterable<A> input) {
         if (f == null) throw new IllegalArgumentException("f");
+
+        return find(input, f::apply);
+    }
+
+    /**
+     * Find the first element from the input sequence for which the supplied predicate returns true
+     * find: A list -> (A -> bool) -> A
+     *
+     * @param input sequence
+     * @param f     predicate
+     * @param <A>   the type of the element in the input sequence
+     * @return the first element from the input sequence for which the supplied predicate returns true
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException   if no element is found that satisfies the predicate
+     */
+    public static <A> A find(final Iterable<A> input, final Predicate<? super A> f) {
+        if (f == null) throw new IllegalArgumentException("f");
         if (input == null) throw new IllegalArgumentException("input");
 
+        if (input instanceof Pipeline<?>)
+            return ((Pipeline<A>) input).find(f);
+
         for (final A a : input)
-            if (f.apply((a)))
+            if (f.test(a))
                 return a;
         throw new NoSuchElementException();
     }
@@ -197,14 +237,47 @@ public final class Functional {
      */
     public static <A> int findIndex(final Function<A, Boolean> f, final Iterable<? extends A> input) {
         if (f == null) throw new IllegalArgumentException("f");
+
+        return findIndex(input, f::apply);
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return the zero-based position in the input sequence of the found element
+     * findIndex: A list -> (A -> bool) -> int
+     *
+     * @param input sequence
+     * @param f     predicate
+     * @param <A>   the type of the element in the input sequence
+     * @return the position in the input sequence of the first element from the input sequence for which the supplied predicate
+     * returns true
+     * @throws java.lang.IllegalArgumentException if f or input are null or if no element is found that satisfies the predicate
+     */
+    public static <A> int findIndex(final Iterable<? extends A> input, final Predicate<? super A> f) {
+        if (f == null) throw new IllegalArgumentException("f");
         if (input == null) throw new IllegalArgumentException("input");
 
+        final int pos = indexOfFirstMatch(input, f);
+        if (pos >= 0) return pos;
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * @return the position of the first element of 'input' which satisfies 'f', or -1 if there is none
+     */
+    private static <A> int indexOfFirstMatch(final Iterable<? extends A> input, final Predicate<? super A> f) {
+        final List<? extends A> list = Pipeline.asRandomAccessList(input);
+        if (list != null) {
+            for (int i = 0, size = list.size(); i < size; ++i)
+                if (f.test(list.get(i)))
+                    return i;
+            return -1;
+        }
         int pos = 0;
         for (final A a : input)
-            if (f.apply(a))
+            if (f.test(a))
                 return pos;
             else pos++;
-        throw new IllegalArgumentException();
+        return -1;
     }
 
     /**
@@ -220,16 +293,159 @@ public final class Functional {
      */
     public static <A> A findLast(final Function<? super A, Boolean> f, final Iterable<A> input) {
         if (f == null) throw new IllegalArgumentException("f");
-        if (input == null) throw new IllegalArgumentException("input");
 
-        final Pair<List<A>, Iterable<A>> p = takeNAndYield(input, 1);
-        final Pair<A, Boolean> seed = Pair.of(p.getLeft().get(0), f.apply(p.getLeft().get(0)));
-        final Pair<A, Boolean> result = fold((state, item) -> f.apply(item) ? Pair.of(item, true) : state, seed, p.getRight());
+        return findLast(input, f::apply);
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return the last element in the input sequence that satisfies the predicate 'f'
+     * findLast: A seq -> (A -> bool) -> A
+     *
+     * @param input sequence
+     * @param f     predicate
+     * @param <A>   the type of the element in the input sequence
+     * @return the last element in the input sequence for which the supplied predicate returns true
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException   if no element is found that satisfies the predicate
+     */
+    public static <A> A findLast(final Iterable<A> input, final Predicate<? super A> f) {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
 
-        if (result.getRight()) return result.getLeft();
+        final Object found = lastMatch(input, f);
+        if (found != NOT_FOUND) return asElement(found);
         throw new NoSuchElementException();
     }
 
+    /**
+     * Returned by {@link #lastMatch(Iterable, Predicate)} and {@link #lastElement(Iterable)} when there is no such element,
+     * so that neither needs to allocate a wrapper for its result
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    /**
+     * Retype a result of {@link #lastMatch(Iterable, Predicate)} or {@link #lastElement(Iterable)} other than {@link #NOT_FOUND}
+     */
+    @SuppressWarnings("unchecked") // any value other than NOT_FOUND was read from the caller's Iterable<T>
+    private static <T> T asElement(final Object found) {
+        return (T) found;
+    }
+
+    /**
+     * Find the last element of 'input' which satisfies 'f'. Lists, deques and navigable sets are scanned backwards from
+     * the end, stopping at the first match. Anything else is scanned forwards once.
+     *
+     * @return the last element which satisfies 'f' or {@link #NOT_FOUND}
+     */
+    private static <A> Object lastMatch(final Iterable<A> input, final Predicate<? super A> f) {
+        if (input instanceof List<?>) {
+            final List<A> list = (List<A>) input;
+            if (input instanceof RandomAccess) {
+                for (int i = list.size() - 1; i >= 0; --i) {
+                    final A a = list.get(i);
+                    if (f.test(a)) return a;
+                }
+                return NOT_FOUND;
+            }
+            for (final ListIterator<A> it = list.listIterator(list.size()); it.hasPrevious(); ) {
+                final A a = it.previous();
+                if (f.test(a)) return a;
+            }
+            return NOT_FOUND;
+        }
+        final Iterator<A> descending = input instanceof Deque<?> ? ((Deque<A>) input).descendingIterator()
+                : input instanceof NavigableSet<?> ? ((NavigableSet<A>) input).descendingIterator()
+                : null;
+        if (descending != null) {
+            while (descending.hasNext()) {
+                final A a = descending.next();
+                if (f.test(a)) return a;
+            }
+            return NOT_FOUND;
+        }
+        final Object[] found = {NOT_FOUND};
+        Pipeline.push(input, a -> {
+            if (f.test(a)) found[0] = a;
+            return true;
+        });
+        return found[0];
+    }
+
+    /**
+     * Find the last element of 'input', reading it directly from lists, deques and sorted sets and otherwise scanning
+     * forwards once.
+     *
+     * @return the last element or {@link #NOT_FOUND} if 'input' is empty
+     */
+    private static <T> Object lastElement(final Iterable<T> input) {
+        if (input instanceof Collection<?> && ((Collection<?>) input).isEmpty()) return NOT_FOUND;
+        if (input instanceof List<?>) {
+            final List<T> list = (List<T>) input;
+            return input instanceof RandomAccess ? list.get(list.size() - 1) : list.listIterator(list.size()).previous();
+        }
+        if (input instanceof Deque<?>) return ((Deque<T>) input).getLast();
+        if (input instanceof SortedSet<?>) return ((SortedSet<T>) input).last();
+        final Object[] last = {NOT_FOUND};
+        Pipeline.push(input, t -> {
+            last[0] = t;
+            return true;
+        });
+        return last[0];
+    }
+
+    /**
+     * Annotate a sequence with the number of elements it is expected to contain. The eager functions use the size of a
+     * collection, or the size of a <tt>seq</tt> stage where that is known, to presize their output; this supplies the
+     * same information for sequences which cannot report it themselves. The hint need not be exact.
+     *
+     * @param sizeHint the expected number of elements in the input sequence
+     * @param input    the input sequence
+     * @param <T>      the type of the element in the input sequence
+     * @return a sequence containing the elements of 'input' which carries the hint
+     */
+    public static <T> Iterable<T> withSizeHint(final int sizeHint, final Iterable<T> input) {
+        if (sizeHint < 0) throw new IllegalArgumentException("Functional.withSizeHint(int,Iterable<T>): sizeHint is negative");
+        if (input == null) throw new IllegalArgumentException("Functional.withSizeHint(int,Iterable<T>): input is null");
+        return new SizeHinted<>(input, sizeHint);
+    }
+
+    /**
+     * @return an empty list with room for as many elements as 'input' is expected to contain
+     */
+    private static <T> ArrayList<T> newArrayList(final Iterable<?> input) {
+        return newArrayList(Pipeline.sizeHint(input));
+    }
+
+    private static <T> ArrayList<T> newArrayList(final int sizeHint) {
+        return sizeHint >= 0 ? new ArrayList<>(sizeHint) : new ArrayList<>();
+    }
+
+    /**
+     * @return an empty map which can hold as many entries as 'input' is expected to contain without rehashing
+     */
+    private static <K, V> HashMap<K, V> newHashMap(final Iterable<?> input) {
+        final int sizeHint = Pipeline.sizeHint(input);
+        return sizeHint >= 0 ? new HashMap<>((int) Math.min(Integer.MAX_VALUE, sizeHint * 4L / 3 + 1)) : new HashMap<>();
+    }
+
+    private static int minSizeHint(final Iterable<?> l1, final Iterable<?> l2) {
+        final int h1 = Pipeline.sizeHint(l1);
+        final int h2 = Pipeline.sizeHint(l2);
+        return h1 < 0 ? h2 : h2 < 0 ? h1 : Math.min(h1, h2);
+    }
+
+    /**
+     * @return a builder for an immutable list, with room for as many elements as 'input' is expected to contain. If more
+     * than half of that room goes unused, as it may for <tt>filter</tt> and <tt>choose</tt>, the list is trimmed when it is built.
+     */
+    private static <T> ImmutableArrayList.Builder<T> newBuilder(final Iterable<?> input) {
+        return new ImmutableArrayList.Builder<>(Pipeline.sizeHint(input));
+    }
+
+    private static <T> ImmutableArrayList.Builder<T> newBuilder(final int sizeHint) {
+        return new ImmutableArrayList.Builder<>(sizeHint);
+    }
+
     /**
      * As <tt>find</tt> except that here we return the last element in the input sequence that satisfies the predicate 'f'
      * findLast: (A -> bool) -> A list -> A
@@ -243,11 +459,27 @@ public final class Functional {
      */
     public static <A> A findLast(final Function<? super A, Boolean> f, final List<A> input) {
         if (f == null) throw new IllegalArgumentException("f");
+
+        return findLast(input, f::apply);
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return the last element in the input sequence that satisfies the predicate 'f'
+     * findLast: A list -> (A -> bool) -> A
+     *
+     * @param input sequence
+     * @param f     predicate
+     * @param <A>   the type of the element in the input sequence
+     * @return the last element in the input sequence for which the supplied predicate returns true
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException   if no element is found that satisfies the predicate
+     */
+    public static <A> A findLast(final List<A> input, final Predicate<? super A> f) {
+        if (f == null) throw new IllegalArgumentException("f");
         if (input == null) throw new IllegalArgumentException("input");
 
-        for (final A a : Iterators.reverse(input))
-            if (f.apply(a))
-                return a;
+        final Object found = lastMatch(input, f);
+        if (found != NOT_FOUND) return asElement(found);
         throw new NoSuchElementException();
     }
 
@@ -443,10 +675,10 @@ public final class Functional {
         if (f == null) throw new IllegalArgumentException("f");
         if (howMany < 1) throw new IllegalArgumentException("howMany");
 
-        final List<T> output = new ArrayList<>(howMany);
+        final Object[] output = new Object[howMany];
         for (int i = 1; i <= howMany; ++i)
-            output.add(f.apply(i));
-        return Collections.unmodifiableList(output);
+            output[i - 1] = f.apply(i);
+        return ImmutableArrayList.adopt(output, howMany);
     }
 
     /**
@@ -461,10 +693,10 @@ public final class Functional {
      * @return a list of type B containing the transformed values.
      */
     public static <A, B> List<B> map(final Function<A, ? extends B> f, final Iterable<? extends A> input) {
-        final List<B> output = input instanceof Collection<?> ? new ArrayList<>(((Collection) input).size()) : new ArrayList<>();
+        final ImmutableArrayList.Builder<B> output = newBuilder(input);
         for (final A a : input)
             output.add(f.apply(a));
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -496,11 +728,11 @@ public final class Functional {
      * @return a list of type B containing the transformed values.
      */
     public static <A, B> List<B> mapi(final BiFunction<Integer, A, ? extends B> f, final Iterable<? extends A> input) {
-        final List<B> output = input instanceof Collection<?> ? new ArrayList<>(((Collection) input).size()) : new ArrayList<>();
+        final ImmutableArrayList.Builder<B> output = newBuilder(input);
         int pos = 0;
         for (final A a : input)
             output.add(f.apply(pos++, a));
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -532,9 +764,10 @@ public final class Functional {
      * @return a sorted list containing all the elements of 'input' sorted using <tt>Collections.sort</tt> and 'f'
      */
     public static <A, AA extends A> List<AA> sortWith(final Comparator<A> f, final Collection<AA> input) {
-        final List<AA> output = new ArrayList<>(input);
-        Collections.sort(output, f);
-        return Collections.unmodifiableList(output);
+        @SuppressWarnings("unchecked") // AA erases to Object, and every element came from 'input'
+        final AA[] output = (AA[]) input.toArray();
+        Arrays.sort(output, f);
+        return ImmutableArrayList.adopt(output, output.length);
     }
 
     /**
@@ -618,12 +851,26 @@ public final class Functional {
      * function returns true for the element.
      */
     public static <A> List<A> filter(final Function<? super A, Boolean> pred, final Iterable<A> input) {
-        final List<A> output = input instanceof Collection<?> ? new ArrayList<>(((Collection) input).size()) : new ArrayList<>();
+        return filter(input, pred::apply);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+     *
+     * @param <A>   the type of the element in the input sequence
+     * @param input a sequence of objects
+     * @param pred  a filter predicate. This is passed each input element in turn and returns either true or false. If true then
+     *              the input element is passed through to the output otherwise it is ignored.
+     * @return a list which contains zero or more of the elements of the input sequence. Each element is included only if the filter
+     * predicate returns true for the element.
+     */
+    public static <A> List<A> filter(final Iterable<A> input, final Predicate<? super A> pred) {
+        final ImmutableArrayList.Builder<A> output = newBuilder(input);
         for (final A element : input)
-            if (pred.apply(element))
+            if (pred.test(element))
                 output.add(element);
 
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -652,8 +899,25 @@ public final class Functional {
      * @return true if the predicate returns true for any element in the input sequence, false otherwise
      */
     public static <A> boolean exists(final Function<? super A, Boolean> f, final Iterable<A> input) {
+        return exists(input, f::apply);
+    }
+
+    /**
+     * The converse operation to <tt>forAll</tt>. If the predicate returns true then 'exists' returns true and halts the traveral of the
+     * input sequence. Otherwise return false.
+     * exists: A list -> (A -> bool) -> bool
+     *
+     * @param <A>   the type of the element in the input sequence
+     * @param input input sequence
+     * @param f     predicate
+     * @return true if the predicate returns true for any element in the input sequence, false otherwise
+     */
+    public static <A> boolean exists(final Iterable<A> input, final Predicate<? super A> f) {
+        if (input instanceof Pipeline<?>)
+            return ((Pipeline<A>) input).exists(f);
+
         for (final A a : input)
-            if (f.apply(a))
+            if (f.test(a))
                 return true;
         return false;
     }
@@ -696,7 +960,21 @@ public final class Functional {
      * @return true if the predicate returns true for all elements in the input sequence, false otherwise
      */
     public static <A> boolean forAll(final Function<A, Boolean> f, final Iterable<? extends A> input) {
-        return !exists(not(f), input);
+        return forAll(input, f::apply);
+    }
+
+    /**
+     * The converse operation to <tt>exists</tt>. If the predicate returns true for all elements in the input sequence then 'forAll'
+     * returns true otherwise return false.
+     * forAll: A list -> (A -> bool) -> bool
+     *
+     * @param <A>   the type of the element in the input sequence
+     * @param input input sequence
+     * @param f     predicate
+     * @return true if the predicate returns true for all elements in the input sequence, false otherwise
+     */
+    public static <A> boolean forAll(final Iterable<? extends A> input, final Predicate<? super A> f) {
+        return !exists(input, f.negate());
     }
 
     /**
@@ -742,21 +1020,29 @@ public final class Functional {
      * @return a pair of lists, the first being the 'true' and the second being the 'false'
      */
     public static <A> Pair<List<A>, List<A>> partition(final Function<? super A, Boolean> f, final Iterable<A> input) {
-        final List<A> left;
-        final List<A> right;
-        if (input instanceof Collection<?>) {
-            left = new ArrayList<>(((Collection) input).size());
-            right = new ArrayList<>(((Collection) input).size());
-        } else {
-            left = new ArrayList<>();
-            right = new ArrayList<>();
-        }
+        return partition(input, f::apply);
+    }
+
+    /**
+     * partition is a group function. Given an input sequence and a predicate, 'partition' returns a pair of lists, the first list
+     * containing those elements from the input sequence for which the predicate returned true, the second list containing those
+     * elements from the input sequence for which the predicate returned false.
+     * partition: A list -> (A -> bool) -> A list * A list
+     *
+     * @param <A>   the type of the element in the input sequence
+     * @param input the input sequence
+     * @param f     predicate used to split the input sequence into two groups
+     * @return a pair of lists, the first being the 'true' and the second being the 'false'
+     */
+    public static <A> Pair<List<A>, List<A>> partition(final Iterable<A> input, final Predicate<? super A> f) {
+        final ImmutableArrayList.Builder<A> left = newBuilder(input);
+        final ImmutableArrayList.Builder<A> right = newBuilder(input);
         for (final A a : input)
-            if (f.apply(a))
+            if (f.test(a))
                 left.add(a);
             else
                 right.add(a);
-        return Pair.of(Collections.unmodifiableList(left), Collections.unmodifiableList(right));
+        return Pair.of(left.build(), right.build());
     }
 
     /**
@@ -788,13 +1074,13 @@ public final class Functional {
      * @return a list of transformed elements, numbering less than or equal to the number of input elements
      */
     public static <A, B> List<B> choose(final Function<? super A, Option<B>> f, final Iterable<A> input) {
-        final List<B> results = input instanceof Collection<?> ? new ArrayList<>(((Collection) input).size()) : new ArrayList<>();
+        final ImmutableArrayList.Builder<B> results = newBuilder(input);
         for (final A a : input) {
             final Option<B> intermediate = f.apply(a);
             if (!intermediate.isNone())
                 results.add(intermediate.Some());
         }
-        return Collections.unmodifiableList(results);
+        return results.build();
     }
 
     /**
@@ -827,6 +1113,9 @@ public final class Functional {
      * @return aggregated value
      */
     public static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> f, final A initialValue, final Iterable<B> input) {
+        if (input instanceof Pipeline<?>)
+            return ((Pipeline<B>) input).fold(f, initialValue);
+
         A state = initialValue;
         for (final B b : input)
             state = f.apply(state, b);
@@ -908,7 +1197,7 @@ public final class Functional {
         if (keyFn == null) throw new IllegalArgumentException("keyFn");
         if (valueFn == null) throw new IllegalArgumentException("valueFn");
 
-        final Map<K, V> output = new HashMap<>();
+        final Map<K, V> output = newHashMap(input);
         for (final T element : input) output.put(keyFn.apply(element), valueFn.apply(element));
         return Collections.unmodifiableMap(output);
     }
@@ -928,7 +1217,7 @@ public final class Functional {
         if (input instanceof Collection<?>)
             return ((Collection<T>) input).toArray();
 
-        final List<T> output = new ArrayList<>();
+        final List<T> output = newArrayList(input);
         for (final T element : input) output.add(element);
 
         return output.toArray(); // this needs to be output.toArray(new T[0]) but that doesn't appear to be allowable Java :-(
@@ -944,7 +1233,10 @@ public final class Functional {
             return output;
         }
 
-        final List<T> output = new ArrayList<>();
+        if (input instanceof Pipeline<?>)
+            return ((Pipeline<T>) input).toMutableList();
+
+        final List<T> output = newArrayList(input);
         for (final T element : input) output.add(element);
 
         return output;
@@ -984,7 +1276,32 @@ public final class Functional {
      */
     public static <T> List<T> toList(final Iterable<T> input) {
         if (input == null) throw new IllegalArgumentException("Functional.toList(Iterable<T>): input is null");
-        return Collections.unmodifiableList(toMutableList(input));
+
+        if (input instanceof Collection<?>)
+            return ImmutableArrayList.copyOf((Collection<T>) input);
+        if (input instanceof Pipeline<?>)
+            return ((Pipeline<T>) input).toImmutableList();
+        return Functional.<T>newBuilder(input).addAll(input).build();
+    }
+
+    /**
+     * copy: the slices returned by <tt>take</tt>, <tt>skip</tt>, <tt>takeWhile</tt> and <tt>skipWhile</tt> from the lists
+     * returned by this library share their input's storage, and the lists of <tt>seq.chunk</tt> and <tt>seq.sliding</tt>
+     * are views of a random-access input. Copy such a list to detach it, so that it does not keep the whole of the input
+     * reachable or, for a view, depend on the input not being structurally modified.
+     *
+     * @param input the input sequence
+     * @param <T>   the type of the element in the input sequence
+     * @return an immutable list containing the elements of 'input' in storage of its own
+     * @throws java.lang.IllegalArgumentException if the input sequence is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> copy(final Iterable<? extends T> input) {
+        if (input == null) throw new IllegalArgumentException("Functional.copy(Iterable<T>): input is null");
+
+        if (input instanceof ImmutableArrayList<?>)
+            return ((ImmutableArrayList<T>) input).copy();
+        return Functional.<T>newBuilder(input).addAll(input).build();
     }
 
     /**
@@ -1011,11 +1328,9 @@ public final class Functional {
     public static <T> T last(final Iterable<T> input) {
         if (input == null) throw new IllegalArgumentException("Functional.last(Iterable<T>): input is null");
 
-        T state = null;
-        for (final T element : input) state = element;
-
-        if (state == null) throw new IllegalArgumentException("Functional.last(Iterable): input is empty");
-        return state;
+        final Object last = lastElement(input);
+        if (last == NOT_FOUND) throw new IllegalArgumentException("Functional.last(Iterable): input is empty");
+        return asElement(last);
     }
 
     /**
@@ -1044,9 +1359,13 @@ public final class Functional {
         if (list1 == null) throw new IllegalArgumentException("Functional.concat(List<T>,List<T>): list1 is null");
         if (list2 == null) throw new IllegalArgumentException("Functional.concat(List<T>,List<T>): list2 is null");
 
-        final List<T> newList = new ArrayList<T>(toList(list1));
-        final boolean didItChange = newList.addAll(toList(list2));
-        return Collections.unmodifiableList(newList);
+        if (list1 instanceof ImmutableArrayList<?> && list2 instanceof ImmutableArrayList<?>)
+            return ImmutableArrayList.concat((ImmutableArrayList<? extends T>) list1, (ImmutableArrayList<? extends T>) list2);
+
+        final int size1 = Pipeline.sizeHint(list1);
+        final int size2 = Pipeline.sizeHint(list2);
+        final ImmutableArrayList.Builder<T> output = newBuilder(size1 >= 0 && size2 >= 0 ? size1 + size2 : -1);
+        return output.addAll(list1).addAll(list2).build();
     }
 
     /**
@@ -1055,16 +1374,24 @@ public final class Functional {
      * @param howMany a positive number of elements to be returned from the input sequence
      * @param list    the input sequence
      * @param <T>     the type of the element in the input sequence
-     * @return a list containing the first 'howMany' elements of 'list'
+     * @return a list containing the first 'howMany' elements of 'list'. If 'list' is one returned by this library then
+     * this shares its storage, which costs O(1); see {@link #copy(Iterable)}
      * @throws java.util.NoSuchElementException if more elements are requested than are present in the input sequence
      */
     public static <T> List<T> take(final int howMany, final Iterable<? extends T> list) {
         if (howMany < 0) throw new IllegalArgumentException("Functional.take(int,Iterable<T>): howMany is negative");
         if (list == null) throw new IllegalArgumentException("Functional.take(int,Iterable<T>): list is null");
 
-        if (howMany == 0) return new ArrayList<>(0);
+        if (howMany == 0) return ImmutableArrayList.empty();
 
-        final List<T> output = new ArrayList<>(howMany);
+        final List<? extends T> input = Pipeline.asRandomAccessList(list);
+        if (input != null) {
+            if (howMany > input.size())
+                throw new java.util.NoSuchElementException("Cannot take " + howMany + " elements from input list with fewer elements");
+            return slice(input, 0, howMany);
+        }
+
+        final ImmutableArrayList.Builder<T> output = newBuilder(atMost(howMany, list));
         final Iterator<? extends T> iterator = list.iterator();
         for (int i = 0; i < howMany; ++i) {
             if (iterator.hasNext())
@@ -1072,7 +1399,7 @@ public final class Functional {
             else
                 throw new java.util.NoSuchElementException("Cannot take " + howMany + " elements from input list with fewer elements");
         }
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -1101,18 +1428,25 @@ public final class Functional {
     public static <T> List<T> takeWhile(final Function<? super T, Boolean> predicate, final List<T> list) {
         if (predicate == null)
             throw new IllegalArgumentException("Functional.take(Func,Iterable<T>): predicate is null");
-        if (list == null) throw new IllegalArgumentException("Functional.take(Func,Iterable<T>): list is null");
 
-        if (list.size() == 0) return new ArrayList<>();
+        return takeWhile(list, predicate::apply);
+    }
 
-        for (int i = 0; i < list.size(); ++i) {
-            final T element = list.get(i);
-            if (!predicate.apply(element)) {
-                if (i == 0) return new ArrayList<>();
-                return Collections.unmodifiableList(list.subList(0, i));
-            }
-        }
-        return Collections.unmodifiableList(list);
+    /**
+     * takeWhile: given a list return another list containing the first elements up and not including the first element for which
+     * the predicate returns false
+     *
+     * @param <T>       the type of the element in the input sequence
+     * @param list      the input sequence
+     * @param predicate the predicate to use
+     * @return a list
+     */
+    public static <T> List<T> takeWhile(final List<T> list, final Predicate<? super T> predicate) {
+        if (predicate == null)
+            throw new IllegalArgumentException("Functional.takeWhile(List<T>,Predicate): predicate is null");
+        if (list == null) throw new IllegalArgumentException("Functional.takeWhile(List<T>,Predicate): list is null");
+
+        return slice(list, 0, countWhile(list, predicate));
     }
 
     /**
@@ -1143,11 +1477,7 @@ public final class Functional {
         if (howMany < 0) throw new IllegalArgumentException("Functional.skip(int,List<T>): howMany is negative");
         if (list == null) throw new IllegalArgumentException("Functional.skip(int,List<T>): list is null");
 
-        if (howMany == 0) return Collections.unmodifiableList(list);
-        final int outputListSize = list.size() - howMany;
-        if (outputListSize <= 0) return new ArrayList<>();
-
-        return Collections.unmodifiableList(list.subList(howMany, list.size()));
+        return slice(list, Math.min(howMany, list.size()), list.size());
     }
 
     /**
@@ -1177,13 +1507,75 @@ public final class Functional {
     public static <T> List<T> skipWhile(final Function<? super T, Boolean> predicate, final List<T> list) {
         if (predicate == null)
             throw new IllegalArgumentException("Functional.skipWhile(Func,List<T>): predicate is null");
-        if (list == null) throw new IllegalArgumentException("Functional.skipWhile(Func,List<T>): list is null");
 
-        for (int counter = 0; counter < list.size(); ++counter)
-            if (!predicate.apply(list.get(counter)))
-                return Collections.unmodifiableList(list.subList(counter, list.size()));
+        return skipWhile(list, predicate::apply);
+    }
+
+    /**
+     * skipWhile: the converse of <tt>takeWhile</tt>. Given a list return another list containing all those elements from,
+     * and including, the first element for which the predicate returns false.
+     *
+     * @param <T>       the type of the element in the input sequence
+     * @param list      the input sequence
+     * @param predicate ignore elements in the input while the predicate is true.
+     * @return a list containing the remaining elements after and including the first element for which the predicate returns false
+     */
+    public static <T> List<T> skipWhile(final List<T> list, final Predicate<? super T> predicate) {
+        if (predicate == null)
+            throw new IllegalArgumentException("Functional.skipWhile(List<T>,Predicate): predicate is null");
+        if (list == null) throw new IllegalArgumentException("Functional.skipWhile(List<T>,Predicate): list is null");
+
+        return slice(list, countWhile(list, predicate), list.size());
+    }
+
+    /**
+     * @return the number of elements at the start of 'list' for which the predicate holds. Lists which are not random-access
+     * are traversed by their iterator rather than by index.
+     */
+    private static <T> int countWhile(final List<T> list, final Predicate<? super T> predicate) {
+        int counter = 0;
+        if (list instanceof RandomAccess) {
+            final int size = list.size();
+            while (counter < size && predicate.test(list.get(counter))) ++counter;
+        } else {
+            final Iterator<T> iterator = list.iterator();
+            while (iterator.hasNext() && predicate.test(iterator.next())) ++counter;
+        }
+        return counter;
+    }
+
+    /**
+     * @return an immutable list of the elements of 'list' at positions [fromIndex, toIndex). Slices of the lists returned
+     * by this library share their storage, which costs O(1). Other lists may be modified by their owner, which would
+     * invalidate a view, so their elements are copied.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> slice(final List<? extends T> list, final int fromIndex, final int toIndex) {
+        if (list instanceof ImmutableArrayList<?>)
+            return ((ImmutableArrayList<T>) list).subList(fromIndex, toIndex);
+        return fromIndex == toIndex ? ImmutableArrayList.<T>empty() : ImmutableArrayList.copyOf(list.subList(fromIndex, toIndex));
+    }
+
+    /**
+     * @return a read-only view of the elements of 'list' at positions [fromIndex, toIndex), which costs O(1) to create.
+     * Views of the lists returned by this library share their storage; views of other lists are only valid while those
+     * lists are not structurally modified.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> view(final List<? extends T> list, final int fromIndex, final int toIndex) {
+        if (list instanceof ImmutableArrayList<?>)
+            return ((ImmutableArrayList<T>) list).subList(fromIndex, toIndex);
+        return fromIndex == toIndex ? ImmutableArrayList.<T>empty() : Collections.unmodifiableList(list.subList(fromIndex, toIndex));
+    }
 
-        return Collections.unmodifiableList(new ArrayList<T>(0));
+    /**
+     * @return 'howMany' or, if it is known to be smaller, the number of elements in 'input'. If the number of elements is
+     * not known then the result is capped, so that asking for a great many elements of a short sequence does not allocate
+     * a great deal of memory. This is only suitable for presizing.
+     */
+    private static int atMost(final int howMany, final Iterable<?> input) {
+        final int sizeHint = Pipeline.sizeHint(input);
+        return sizeHint >= 0 ? Math.min(howMany, sizeHint) : Math.min(howMany, 1024);
     }
 
     /**
@@ -1244,13 +1636,10 @@ public final class Functional {
         if (l1 == null) throw new IllegalArgumentException("Functional.zip(Iterable<A>,Iterable<B>): l1 is null");
         if (l2 == null) throw new IllegalArgumentException("Functional.zip(Iterable<A>,Iterable<B>): l2 is null");
 
-        final List<Pair<A, B>> output;
-        if (l1 instanceof Collection<?> && l2 instanceof Collection<?>) {
-            if (((Collection) l1).size() != ((Collection) l2).size())
-                throw new IllegalArgumentException("Functional.zip(Iterable<A>,Iterable<B>): l1 and l2 have differing numbers of elements");
+        if (l1 instanceof Collection<?> && l2 instanceof Collection<?> && ((Collection) l1).size() != ((Collection) l2).size())
+            throw new IllegalArgumentException("Functional.zip(Iterable<A>,Iterable<B>): l1 and l2 have differing numbers of elements");
 
-            output = new ArrayList<>(((Collection) l1).size());
-        } else output = new ArrayList<>();
+        final ImmutableArrayList.Builder<Pair<A, B>> output = newBuilder(Math.max(Pipeline.sizeHint(l1), Pipeline.sizeHint(l2)));
         final Iterator<? extends A> l1_it = l1.iterator();
         final Iterator<? extends B> l2_it = l2.iterator();
 
@@ -1258,7 +1647,7 @@ public final class Functional {
         if (l1_it.hasNext() || l2_it.hasNext())
             throw new IllegalArgumentException("Functional.zip(Iterable<A>,Iterable<B>): l1 and l2 have differing numbers of elements");
 
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -1283,13 +1672,10 @@ public final class Functional {
         if (l3 == null)
             throw new IllegalArgumentException("Functional.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l3 is null");
 
-        final List<Triple<A, B, C>> output;
-        if (l1 instanceof Collection<?> && l2 instanceof Collection<?> && l3 instanceof Collection<?>) {
-            if (((Collection) l1).size() != ((Collection) l2).size())
-                throw new IllegalArgumentException("Functional.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l1, l2 and l3 have differing numbers of elements");
+        if (l1 instanceof Collection<?> && l2 instanceof Collection<?> && l3 instanceof Collection<?> && ((Collection) l1).size() != ((Collection) l2).size())
+            throw new IllegalArgumentException("Functional.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l1, l2 and l3 have differing numbers of elements");
 
-            output = new ArrayList<>(((Collection) l1).size());
-        } else output = new ArrayList<>();
+        final ImmutableArrayList.Builder<Triple<A, B, C>> output = newBuilder(Math.max(Pipeline.sizeHint(l1), Math.max(Pipeline.sizeHint(l2), Pipeline.sizeHint(l3))));
         final Iterator<? extends A> l1_it = l1.iterator();
         final Iterator<? extends B> l2_it = l2.iterator();
         final Iterator<? extends C> l3_it = l3.iterator();
@@ -1299,7 +1685,7 @@ public final class Functional {
         if (l1_it.hasNext() || l2_it.hasNext() || l3_it.hasNext())
             throw new IllegalArgumentException("Functional.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l1, l2 and l3 have differing numbers of elements");
 
-        return Collections.unmodifiableList(output);
+        return output.build();
     }
 
     /**
@@ -1316,22 +1702,14 @@ public final class Functional {
     public static <A, B> Pair<List<A>, List<B>> unzip(final Iterable<Pair<A, B>> input) {
         if (input == null) throw new IllegalArgumentException("Functional.unzip(Iterable<Pair<A,B>>): input is null");
 
-        final List<A> l1;
-        final List<B> l2;
-        if (input instanceof Collection<?>) {
-            final int size = ((Collection) input).size();
-            l1 = new ArrayList<>(size);
-            l2 = new ArrayList<>(size);
-        } else {
-            l1 = new ArrayList<>();
-            l2 = new ArrayList<>();
-        }
+        final ImmutableArrayList.Builder<A> l1 = newBuilder(input);
+        final ImmutableArrayList.Builder<B> l2 = newBuilder(input);
         for (final Pair<A, B> pair : input) {
             l1.add(pair.getLeft());
             l2.add(pair.getRight());
         }
 
-        return Pair.of(Collections.unmodifiableList(l1), Collections.unmodifiableList(l2));
+        return Pair.of(l1.build(), l2.build());
     }
 
     /**
@@ -1349,19 +1727,12 @@ public final class Functional {
     public static <A, B, C> Triple<List<A>, List<B>, List<C>> unzip3(final Iterable<Triple<A, B, C>> input) {
         if (input == null) throw new IllegalArgumentException("Functional.unzip(Iterable<Pair<A,B>>): input is null");
 
-        final List<A> l1;
-        final List<B> l2;
-        final List<C> l3;
-        if (input instanceof Collection<?>) {
-            final int size = ((Collection) input).size();
-            l1 = new ArrayList<>(size);
-            l2 = new ArrayList<>(size);
-            l3 = new ArrayList<>(size);
-        } else {
-            l1 = new ArrayList<>();
-            l2 = new ArrayList<>();
-            l3 = new ArrayList<>();
-        }
+        final ImmutableArrayList.Builder<A> l1;
+        final ImmutableArrayList.Builder<B> l2;
+        final ImmutableArrayList.Builder<C> l3;
+        l1 = newBuilder(input);
+        l2 = newBuilder(input);
+        l3 = newBuilder(input);
 
         for (final Triple<A, B, C> triplet : input) {
             l1.add(triplet.getLeft());
@@ -1369,7 +1740,7 @@ public final class Functional {
             l3.add(triplet.getRight());
         }
 
-        return Triple.of(Collections.unmodifiableList(l1), Collections.unmodifiableList(l2), Collections.unmodifiableList(l3));
+        return Triple.of(l1.build(), l2.build(), l3.build());
     }
 
     /**
@@ -1385,10 +1756,10 @@ public final class Functional {
      * @return a list of type U containing the concatenated sequences of transformed values.
      */
     public static <T, U> List<U> collect(final Function<? super T, ? extends Iterable<U>> f, final Iterable<T> input) {
-        List<U> output = input instanceof Collection<?> ? new ArrayList<>(((Collection) input).size()) : new ArrayList<>();
+        final ImmutableArrayList.Builder<U> output = newBuilder(input);
         for (final T element : input)
-            output = Functional.concat(output, Functional.toList(f.apply(element)));
-        return Collections.unmodifiableList(output);
+            output.addAll(f.apply(element));
+        return output.build();
     }
 
     /**
@@ -1497,44 +1868,290 @@ public final class Functional {
         if (keyFn == null) throw new IllegalArgumentException("Functional.groupBy(Func,Iterable): keyFn is null");
         if (input == null) throw new IllegalArgumentException("Functional.groupBy(Func,Iterable): input is null");
 
-        final Map<U, List<T>> intermediateResults = new HashMap<>();
-        for (final T element : input) {
-            final U key = keyFn.apply(element);
-            if (intermediateResults.containsKey(key))
-                intermediateResults.get(key).add(element);
-            else {
-                final List<T> list = new ArrayList<>();
-                list.add(element);
-                intermediateResults.put(key, list);
-            }
-        }
-        final Map<U, List<T>> output = new HashMap<>(intermediateResults.size());
-        for (final Map.Entry<U, List<T>> entry : intermediateResults.entrySet())
-            output.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        final Map<U, List<T>> output = new HashMap<>();
+        for (final T element : input)
+            output.computeIfAbsent(keyFn.apply(element), key -> new ArrayList<>()).add(element);
+        for (final Map.Entry<U, List<T>> entry : output.entrySet())
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
         return Collections.unmodifiableMap(output);
     }
 
     /**
-     * The Range class holds an inclusive lower bound and an exclusive upper bound. That is lower <= pos < upper
+     * groupFold: group the input by key, as <tt>groupBy</tt> does, but fold the elements of each group into an accumulator
+     * as they are encountered instead of collecting them into a list. This makes a single pass over the input with one
+     * hash lookup per element, and holds only one accumulator per key.
+     * groupFold: (T -> U) -> A -> (A -> T -> A) -> T list -> map U A
+     *
+     * @param keyFn        the grouping function. Given an element return the key of its group
+     * @param initialValue the accumulator with which each group starts
+     * @param folder       given the accumulator of a group and the next element of that group, return the new accumulator,
+     *                     which must not be null
+     * @param input        the input sequence
+     * @param <T>          the type of the element in the input sequence
+     * @param <U>          the type of the key
+     * @param <A>          the type of the accumulator
+     * @return an immutable map containing the final accumulator for each key
+     * @throws java.lang.IllegalArgumentException if any of the arguments other than 'initialValue' is null or if 'folder'
+     *                                            returns null
+     * @see #groupFoldInto(Map, Function, Object, BiFunction, Iterable)
      */
-    public static class Range<T> {
-        private final T lowerBound;
-        private final T upperExBound;
-
-        /**
-         * Create a new Range object
-         *
-         * @param lower   the inclusive lower bound of the Range
-         * @param upperEx the exclusive upper bound of the Range
-         */
-        public Range(final T lower, final T upperEx) {
-            this.lowerBound = lower;
-            this.upperExBound = upperEx;
-        }
+    public static <T, U, A> Map<U, A> groupFold(final Function<? super T, ? extends U> keyFn, final A initialValue,
+                                                final BiFunction<? super A, ? super T, ? extends A> folder, final Iterable<T> input) {
+        return Collections.unmodifiableMap(groupFoldInto(new HashMap<U, A>(), keyFn, initialValue, folder, input));
+    }
 
-        /**
-         * Return the inclusive lower bound
-         *
+    /**
+     * groupFoldInto: as <tt>groupFold</tt> but the accumulators are stored in, and the result is, the map supplied. No
+     * other map is created, so the result is mutable and is of whichever type the caller chooses. A key which is already
+     * in the map continues to accumulate from the value stored for it.
+     *
+     * @param output       the map in which to accumulate
+     * @param keyFn        the grouping function. Given an element return the key of its group
+     * @param initialValue the accumulator with which each new group starts
+     * @param folder       given the accumulator of a group and the next element of that group, return the new accumulator,
+     *                     which must not be null
+     * @param input        the input sequence
+     * @param <T>          the type of the element in the input sequence
+     * @param <U>          the type of the key
+     * @param <A>          the type of the accumulator
+     * @param <M>          the type of the map
+     * @return 'output'
+     * @throws java.lang.IllegalArgumentException if any of the arguments other than 'initialValue' is null or if 'folder'
+     *                                            returns null
+     */
+    public static <T, U, A, M extends Map<U, A>> M groupFoldInto(final M output, final Function<? super T, ? extends U> keyFn, final A initialValue,
+                                                                 final BiFunction<? super A, ? super T, ? extends A> folder, final Iterable<T> input) {
+        if (output == null) throw new IllegalArgumentException("Functional.groupFoldInto(Map,Function,A,BiFunction,Iterable): output is null");
+        if (keyFn == null) throw new IllegalArgumentException("Functional.groupFoldInto(Map,Function,A,BiFunction,Iterable): keyFn is null");
+        if (folder == null) throw new IllegalArgumentException("Functional.groupFoldInto(Map,Function,A,BiFunction,Iterable): folder is null");
+        if (input == null) throw new IllegalArgumentException("Functional.groupFoldInto(Map,Function,A,BiFunction,Iterable): input is null");
+
+        Pipeline.push(input, t -> {
+            // Map.compute would remove the group if its accumulator were null, so a null accumulator is rejected
+            output.compute(keyFn.apply(t), (key, accumulator) -> {
+                final A next = folder.apply(accumulator == null ? initialValue : accumulator, t);
+                if (next == null)
+                    throw new IllegalArgumentException("Functional.groupFoldInto(Map,Function,A,BiFunction,Iterable): folder returned null");
+                return next;
+            });
+            return true;
+        });
+        return output;
+    }
+
+    /**
+     * countBy: the number of elements of the input in each group. The counts are kept in primitive form while the input is
+     * traversed, so that there is no boxing per element.
+     * countBy: (T -> U) -> T list -> map U int
+     *
+     * @param keyFn the grouping function. Given an element return the key of its group
+     * @param input the input sequence
+     * @param <T>   the type of the element in the input sequence
+     * @param <U>   the type of the key
+     * @return an immutable map containing the number of elements with each key
+     * @throws java.lang.IllegalArgumentException if either argument is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> Map<U, Integer> countBy(final Function<? super T, ? extends U> keyFn, final Iterable<T> input) {
+        if (keyFn == null) throw new IllegalArgumentException("Functional.countBy(Function,Iterable): keyFn is null");
+        if (input == null) throw new IllegalArgumentException("Functional.countBy(Function,Iterable): input is null");
+
+        final HashMap<U, Object> counts = new HashMap<>();
+        Pipeline.push(input, t -> {
+            ++((int[]) counts.computeIfAbsent(keyFn.apply(t), key -> new int[1]))[0];
+            return true;
+        });
+        counts.replaceAll((key, count) -> ((int[]) count)[0]);
+        return Collections.unmodifiableMap((Map<U, Integer>) (Map<U, ?>) counts);
+    }
+
+    /**
+     * sumBy: the sum of 'valueFn' over the elements of the input in each group. The sums are kept in primitive form while
+     * the input is traversed, so that there is no boxing per element.
+     * sumBy: (T -> U) -> (T -> long) -> T list -> map U long
+     *
+     * @param keyFn   the grouping function. Given an element return the key of its group
+     * @param valueFn the quantity to be summed
+     * @param input   the input sequence
+     * @param <T>     the type of the element in the input sequence
+     * @param <U>     the type of the key
+     * @return an immutable map containing the sum for each key
+     * @throws java.lang.IllegalArgumentException if any of the arguments is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> Map<U, Long> sumBy(final Function<? super T, ? extends U> keyFn, final ToLongFunction<? super T> valueFn, final Iterable<T> input) {
+        if (keyFn == null) throw new IllegalArgumentException("Functional.sumBy(Function,ToLongFunction,Iterable): keyFn is null");
+        if (valueFn == null) throw new IllegalArgumentException("Functional.sumBy(Function,ToLongFunction,Iterable): valueFn is null");
+        if (input == null) throw new IllegalArgumentException("Functional.sumBy(Function,ToLongFunction,Iterable): input is null");
+
+        final HashMap<U, Object> sums = new HashMap<>();
+        Pipeline.push(input, t -> {
+            ((long[]) sums.computeIfAbsent(keyFn.apply(t), key -> new long[1]))[0] += valueFn.applyAsLong(t);
+            return true;
+        });
+        sums.replaceAll((key, sum) -> ((long[]) sum)[0]);
+        return Collections.unmodifiableMap((Map<U, Long>) (Map<U, ?>) sums);
+    }
+
+    /**
+     * sumByDouble: as <tt>sumBy</tt> for a quantity which is not integral.
+     * sumByDouble: (T -> U) -> (T -> double) -> T list -> map U double
+     *
+     * @param keyFn   the grouping function. Given an element return the key of its group
+     * @param valueFn the quantity to be summed
+     * @param input   the input sequence
+     * @param <T>     the type of the element in the input sequence
+     * @param <U>     the type of the key
+     * @return an immutable map containing the sum for each key
+     * @throws java.lang.IllegalArgumentException if any of the arguments is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> Map<U, Double> sumByDouble(final Function<? super T, ? extends U> keyFn, final ToDoubleFunction<? super T> valueFn, final Iterable<T> input) {
+        if (keyFn == null) throw new IllegalArgumentException("Functional.sumByDouble(Function,ToDoubleFunction,Iterable): keyFn is null");
+        if (valueFn == null) throw new IllegalArgumentException("Functional.sumByDouble(Function,ToDoubleFunction,Iterable): valueFn is null");
+        if (input == null) throw new IllegalArgumentException("Functional.sumByDouble(Function,ToDoubleFunction,Iterable): input is null");
+
+        final HashMap<U, Object> sums = new HashMap<>();
+        Pipeline.push(input, t -> {
+            ((double[]) sums.computeIfAbsent(keyFn.apply(t), key -> new double[1]))[0] += valueFn.applyAsDouble(t);
+            return true;
+        });
+        sums.replaceAll((key, sum) -> ((double[]) sum)[0]);
+        return Collections.unmodifiableMap((Map<U, Double>) (Map<U, ?>) sums);
+    }
+
+    /**
+     * innerJoin: pair each element of 'left' with each element of 'right' that has an equal key and combine each such
+     * pair using 'resultSelector'. The join hashes whichever input is known to be the smaller, or 'right' if neither size is
+     * known, and then makes a single pass over the other. The output follows the order of the input which was not hashed.
+     * innerJoin: L list -> R list -> (L -> K) -> (R -> K) -> (L -> R -> O) -> O list
+     *
+     * @param left           the first input sequence
+     * @param right          the second input sequence
+     * @param leftKey        the key of an element of 'left'
+     * @param rightKey       the key of an element of 'right'
+     * @param resultSelector combines a pair of elements which have equal keys
+     * @param <L>            the type of the element in the first input sequence
+     * @param <R>            the type of the element in the second input sequence
+     * @param <K>            the type of the key
+     * @param <O>            the type of the element in the output sequence
+     * @return a list containing the combined pairs
+     * @throws java.lang.IllegalArgumentException if any of the arguments is null
+     * @see Functional.seq#innerJoin(Iterable, Iterable, Function, Function, BiFunction)
+     */
+    public static <L, R, K, O> List<O> innerJoin(final Iterable<? extends L> left, final Iterable<? extends R> right, final Function<? super L, ? extends K> leftKey,
+                                                 final Function<? super R, ? extends K> rightKey, final BiFunction<? super L, ? super R, ? extends O> resultSelector) {
+        return toList(seq.innerJoin(left, right, leftKey, rightKey, resultSelector));
+    }
+
+    /**
+     * leftJoin: as <tt>innerJoin</tt> except that an element of 'left' for which there is no element of 'right' with an
+     * equal key is passed to 'resultSelector' once, with <tt>None</tt>. The join hashes 'right' and then makes a single
+     * pass over 'left', so the output follows the order of 'left'.
+     * leftJoin: L list -> R list -> (L -> K) -> (R -> K) -> (L -> R option -> O) -> O list
+     *
+     * @param left           the first input sequence, every element of which contributes to the output
+     * @param right          the second input sequence
+     * @param leftKey        the key of an element of 'left'
+     * @param rightKey       the key of an element of 'right'
+     * @param resultSelector combines an element of 'left' with a matching element of 'right', or with <tt>None</tt>
+     * @param <L>            the type of the element in the first input sequence
+     * @param <R>            the type of the element in the second input sequence
+     * @param <K>            the type of the key
+     * @param <O>            the type of the element in the output sequence
+     * @return a list containing the combined elements
+     * @throws java.lang.IllegalArgumentException if any of the arguments is null
+     * @see Functional.seq#leftJoin(Iterable, Iterable, Function, Function, BiFunction)
+     */
+    public static <L, R, K, O> List<O> leftJoin(final Iterable<? extends L> left, final Iterable<? extends R> right, final Function<? super L, ? extends K> leftKey,
+                                                final Function<? super R, ? extends K> rightKey, final BiFunction<? super L, Option<R>, ? extends O> resultSelector) {
+        return toList(seq.leftJoin(left, right, leftKey, rightKey, resultSelector));
+    }
+
+    /**
+     * groupJoin: combine each element of 'left' with the list, possibly empty, of the elements of 'right' which have an
+     * equal key. This replaces a <tt>groupBy</tt> of 'right' followed by a lookup for each element of 'left'. The join
+     * hashes 'right' and then makes a single pass over 'left', so the output follows the order of 'left'.
+     * groupJoin: L list -> R list -> (L -> K) -> (R -> K) -> (L -> R list -> O) -> O list
+     *
+     * @param left           the first input sequence
+     * @param right          the second input sequence
+     * @param leftKey        the key of an element of 'left'
+     * @param rightKey       the key of an element of 'right'
+     * @param resultSelector combines an element of 'left' with the immutable list of matching elements of 'right'
+     * @param <L>            the type of the element in the first input sequence
+     * @param <R>            the type of the element in the second input sequence
+     * @param <K>            the type of the key
+     * @param <O>            the type of the element in the output sequence
+     * @return a list containing one combined element for each element of 'left'
+     * @throws java.lang.IllegalArgumentException if any of the arguments is null
+     * @see Functional.seq#groupJoin(Iterable, Iterable, Function, Function, BiFunction)
+     */
+    public static <L, R, K, O> List<O> groupJoin(final Iterable<? extends L> left, final Iterable<? extends R> right, final Function<? super L, ? extends K> leftKey,
+                                                 final Function<? super R, ? extends K> rightKey, final BiFunction<? super L, ? super List<R>, ? extends O> resultSelector) {
+        return toList(seq.groupJoin(left, right, leftKey, rightKey, resultSelector));
+    }
+
+    /**
+     * mergeJoin: as <tt>innerJoin</tt> but for inputs which are both sorted by key, in the order defined by 'comparator'.
+     * Neither input is hashed: the two are traversed together in a single pass, and only the run of elements of 'right'
+     * which share the current key is held in memory. The output follows the order of the keys.
+     * mergeJoin: L list -> R list -> (L -> K) -> (R -> K) -> (K -> K -> int) -> (L -> R -> O) -> O list
+     *
+     * @param left           the first input sequence, sorted by key
+     * @param right          the second input sequence, sorted by key
+     * @param leftKey        the key of an element of 'left'
+     * @param rightKey       the key of an element of 'right'
+     * @param comparator     the order of the keys
+     * @param resultSelector combines a pair of elements which have equal keys
+     * @param <L>            the type of the element in the first input sequence
+     * @param <R>            the type of the element in the second input sequence
+     * @param <K>            the type of the key
+     * @param <O>            the type of the element in the output sequence
+     * @return a list containing the combined pairs
+     * @throws java.lang.IllegalArgumentException if any of the arguments is null, or if either input is found not to be sorted
+     * @see Functional.seq#mergeJoin(Iterable, Iterable, Function, Function, Comparator, BiFunction)
+     */
+    public static <L, R, K, O> List<O> mergeJoin(final Iterable<? extends L> left, final Iterable<? extends R> right, final Function<? super L, ? extends K> leftKey,
+                                                 final Function<? super R, ? extends K> rightKey, final Comparator<? super K> comparator,
+                                                 final BiFunction<? super L, ? super R, ? extends O> resultSelector) {
+        return toList(seq.mergeJoin(left, right, leftKey, rightKey, comparator, resultSelector));
+    }
+
+    /**
+     * @return the elements of 'input' grouped by key, each group in the order of 'input'. The map is not presized from the
+     * size of 'input', as there may be far fewer keys than elements.
+     */
+    private static <K, T> HashMap<K, ArrayList<T>> hashIndex(final Iterable<? extends T> input, final Function<? super T, ? extends K> keyFn) {
+        final HashMap<K, ArrayList<T>> index = new HashMap<>();
+        Pipeline.push(input, t -> {
+            index.computeIfAbsent(keyFn.apply(t), key -> new ArrayList<>(2)).add(t);
+            return true;
+        });
+        return index;
+    }
+
+    /**
+     * The Range class holds an inclusive lower bound and an exclusive upper bound. That is lower <= pos < upper
+     */
+    public static class Range<T> {
+        private final T lowerBound;
+        private final T upperExBound;
+
+        /**
+         * Create a new Range object
+         *
+         * @param lower   the inclusive lower bound of the Range
+         * @param upperEx the exclusive upper bound of the Range
+         */
+        public Range(final T lower, final T upperEx) {
+            this.lowerBound = lower;
+            this.upperExBound = upperEx;
+        }
+
+        /**
+         * Return the inclusive lower bound
+         *
          * @return the inclusive lower bound
          */
         public T from() {
@@ -1635,6 +2252,9 @@ public final class Functional {
      * Note that these functions do not generally expose a restartable sequence. If you want to restart the iteration
      * then you should make the convert the sequence (the Iterable) to a concrete collection before accessing the
      * iterator.
+     * A chain of these sequences passed to <tt>fold</tt>, <tt>toList</tt>, <tt>exists</tt> or <tt>find</tt> is not
+     * iterated stage by stage; instead the source is traversed once and each element is pushed through all of the
+     * stages in turn.
      */
     public static class seq {
         private seq() {
@@ -1656,30 +2276,38 @@ public final class Functional {
             if (f == null) throw new IllegalArgumentException("f");
             if (input == null) throw new IllegalArgumentException("input");
 
-            return new Iterable<U>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<U>() {
+                protected Iterator<U> createIterator() {
+                    return new Iterator<U>() {
+                        private final Iterator<T> _input = input.iterator();
+                        private final Function<? super T, ? extends U> _f = f;
+
+                        public final boolean hasNext() {
+                            return _input.hasNext();
+                        }
 
-                public final Iterator<U> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<U>() {
-                            private final Iterator<T> _input = input.iterator();
-                            private final Function<? super T, ? extends U> _f = f;
 
-                            public final boolean hasNext() {
-                                return _input.hasNext();
-                            }
+                        public final U next() {
+                            return _f.apply(_input.next());
+                        }
 
 
-                            public final U next() {
-                                return _f.apply(_input.next());
-                            }
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.map(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
+                        }
+                    };
+                }
 
+                protected boolean pushInto(final Sink<? super U> sink) {
+                    return Pipeline.push(input, t -> sink.accept(f.apply(t)));
+                }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.map(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                protected long knownSize() {
+                    return Pipeline.sizeOf(input);
+                }
+
+                protected Spliterator<U> createSpliterator() {
+                    return new Mapped<>(input.spliterator(), f);
                 }
             };
         }
@@ -1717,31 +2345,48 @@ public final class Functional {
             if (f == null) throw new IllegalArgumentException("f");
             if (input == null) throw new IllegalArgumentException("input");
 
-            return new Iterable<U>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<U>() {
+                protected Iterator<U> createIterator() {
+                    return new Iterator<U>() {
+                        private final Iterator<T> _input = input.iterator();
+                        private final BiFunction<Integer, ? super T, ? extends U> _f = f;
+                        private int counter = 0;
+
+                        public final boolean hasNext() {
+                            return _input.hasNext();
+                        }
 
-                public final Iterator<U> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<U>() {
-                            private final Iterator<T> _input = input.iterator();
-                            private final BiFunction<Integer, ? super T, ? extends U> _f = f;
-                            private int counter = 0;
 
-                            public final boolean hasNext() {
-                                return _input.hasNext();
-                            }
+                        public final U next() {
+                            return _f.apply(counter++, _input.next());
+                        }
 
 
-                            public final U next() {
-                                return _f.apply(counter++, _input.next());
-                            }
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.map(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
+                        }
+                    };
+                }
 
+                protected boolean pushInto(final Sink<? super U> sink) {
+                    return Pipeline.push(input, new Sink<T>() {
+                        private int counter = 0;
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.map(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                        public boolean accept(final T t) {
+                            return sink.accept(f.apply(counter++, t));
+                        }
+                    });
+                }
+
+                protected long knownSize() {
+                    return Pipeline.sizeOf(input);
+                }
+
+                protected Spliterator<U> createSpliterator() {
+                    final List<T> list = Pipeline.asRandomAccessList(input);
+                    return list == null
+                            ? super.createSpliterator()
+                            : new Indexed<>(i -> f.apply(i, list.get(i)), 0, list.size());
                 }
             };
         }
@@ -1778,30 +2423,35 @@ public final class Functional {
             if (list2 == null)
                 throw new IllegalArgumentException("Functional.seq.concat(Iterable<T>,Iterable<T>): list2 is null");
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<T>() {
+                protected Iterator<T> createIterator() {
+                    return new Iterator<T>() {
+                        private final Iterator<? extends T> _s1 = list1.iterator();
+                        private final Iterator<? extends T> _s2 = list2.iterator();
+
+                        public boolean hasNext() {
+                            return _s1.hasNext() || _s2.hasNext();
+                        }
 
-                public Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private final Iterator<? extends T> _s1 = list1.iterator();
-                            private final Iterator<? extends T> _s2 = list2.iterator();
 
-                            public boolean hasNext() {
-                                return _s1.hasNext() || _s2.hasNext();
-                            }
+                        public T next() {
+                            return _s1.hasNext() ? _s1.next() : _s2.next();
+                        }
 
 
-                            public T next() {
-                                return _s1.hasNext() ? _s1.next() : _s2.next();
-                            }
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.concat(Iterable<T>,Iterable<T>): remove is not supported");
+                        }
+                    };
+                }
 
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    return Pipeline.push(list1, sink) && Pipeline.push(list2, sink);
+                }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.concat(Iterable<T>,Iterable<T>): remove is not supported");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                protected long knownSize() {
+                    final long size1 = Pipeline.sizeOf(list1), size2 = Pipeline.sizeOf(list2);
+                    return size1 < 0 || size2 < 0 ? -1 : size1 + size2;
                 }
             };
         }
@@ -1820,46 +2470,63 @@ public final class Functional {
         public static <T> Iterable<T> filter(final Function<? super T, Boolean> f, final Iterable<T> input) //throws NoSuchElementException, IllegalArgumentException, UnsupportedOperationException
         {
             if (f == null) throw new IllegalArgumentException("f");
+
+            return seq.filter(input, f::apply);
+        }
+
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+         *
+         * @param <T>   the type of the element in the input sequence
+         * @param input a sequence of objects
+         * @param f     a filter predicate. This is passed each input element in turn and returns either true or false. If true then
+         *              the input element is passed through to the output otherwise it is ignored.
+         * @return a lazily-evaluated sequence which contains zero or more of the elements of the input sequence. Each element is included only if
+         * the filter predicate returns true for the element.
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<T> filter(final Iterable<T> input, final Predicate<? super T> f) {
+            if (f == null) throw new IllegalArgumentException("f");
             if (input == null) throw new IllegalArgumentException("input");
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
-
-                public final Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private final Iterator<T> _input = input.iterator();
-                            private final Function<? super T, Boolean> _f = f;
-                            private T _next = null;
-
-                            public final boolean hasNext() {
-                                while (_next == null && // ie we haven't already read the next element
-                                        _input.hasNext()) {
-                                    final T next = _input.next();
-                                    if (_f.apply(next)) {
-                                        _next = next;
-                                        return true;
-                                    }
+            return new Pipeline<T>() {
+                protected Iterator<T> createIterator() {
+                    return new Iterator<T>() {
+                        private final Iterator<T> _input = input.iterator();
+                        private final Predicate<? super T> _f = f;
+                        private T _next = null;
+
+                        public final boolean hasNext() {
+                            while (_next == null && // ie we haven't already read the next element
+                                    _input.hasNext()) {
+                                final T next = _input.next();
+                                if (_f.test(next)) {
+                                    _next = next;
+                                    return true;
                                 }
-                                return _next != null;
                             }
+                            return _next != null;
+                        }
 
 
-                            public final T next() {
-                                if (hasNext()) {
-                                    final T next = _next;
-                                    _next = null;
-                                    return next;
-                                }
-                                throw new java.util.NoSuchElementException();
+                        public final T next() {
+                            if (hasNext()) {
+                                final T next = _next;
+                                _next = null;
+                                return next;
                             }
+                            throw new java.util.NoSuchElementException();
+                        }
 
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.filter(Function<T,Boolean>,Iterable<T>): Removing elements is strictly prohibited");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.filter(Iterable<T>,Predicate): Removing elements is strictly prohibited");
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    return Pipeline.push(input, t -> !f.test(t) || sink.accept(t));
                 }
             };
         }
@@ -1895,50 +2562,53 @@ public final class Functional {
             if (f == null) throw new IllegalArgumentException("f");
             if (input == null) throw new IllegalArgumentException("input");
 
-            return new Iterable<U>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
-
-                public final Iterator<U> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<U>() {
-                            private final Iterator<T> _input = input.iterator();
-                            private final Function<? super T, Option<U>> _f = f;
-                            private Option<U> _next = Option.None();
-
-                            public final boolean hasNext() {
-                                while (_next.isNone() && // ie we haven't already read the next element
-                                        _input.hasNext()) {
-                                    final Option<U> next = _f.apply(_input.next());
-                                    if (next.isSome()) {
-                                        _next = next;
-                                        return true;
-                                    }
+            return new Pipeline<U>() {
+                protected Iterator<U> createIterator() {
+                    return new Iterator<U>() {
+                        private final Iterator<T> _input = input.iterator();
+                        private final Function<? super T, Option<U>> _f = f;
+                        private Option<U> _next = Option.None();
+
+                        public final boolean hasNext() {
+                            while (_next.isNone() && // ie we haven't already read the next element
+                                    _input.hasNext()) {
+                                final Option<U> next = _f.apply(_input.next());
+                                if (next.isSome()) {
+                                    _next = next;
+                                    return true;
                                 }
-                                return _next.isSome();
                             }
+                            return _next.isSome();
+                        }
 
 
-                            public final U next() {
-                                if (hasNext()) {
-                                    final Option<U> next = _next;
-                                    _next = Option.None();
-                                    // this exception is only possible (on the grounds that we have already called hasNext())
-                                    // if next() is called on two separate threads for the same iterator, which shouldn't be possible.
-                                    try {
-                                        return next.Some();
-                                    } catch (final OptionNoValueAccessException e) {
-                                        throw new java.util.NoSuchElementException();
-                                    }
+                        public final U next() {
+                            if (hasNext()) {
+                                final Option<U> next = _next;
+                                _next = Option.None();
+                                // this exception is only possible (on the grounds that we have already called hasNext())
+                                // if next() is called on two separate threads for the same iterator, which shouldn't be possible.
+                                try {
+                                    return next.Some();
+                                } catch (final OptionNoValueAccessException e) {
+                                    throw new java.util.NoSuchElementException();
                                 }
-                                throw new java.util.NoSuchElementException();
                             }
+                            throw new java.util.NoSuchElementException();
+                        }
 
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.choose(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.choose(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super U> sink) {
+                    return Pipeline.push(input, t -> {
+                        final Option<U> next = f.apply(t);
+                        return next.isNone() || sink.accept(next.Some());
+                    });
                 }
             };
         }
@@ -1977,32 +2647,44 @@ public final class Functional {
             if (f == null) throw new IllegalArgumentException("f");
             if (howMany < 1) throw new IllegalArgumentException("howMany");
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<T>() {
+                protected Iterator<T> createIterator() {
+                    return new Iterator<T>() {
+                        private int _counter = 1;
+                        private final Function<Integer, ? extends T> _f = f;
 
-                public Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private int _counter = 1;
-                            private final Function<Integer, ? extends T> _f = f;
+                        public boolean hasNext() {
+                            return _counter <= howMany;
+                        }
 
-                            public boolean hasNext() {
-                                return _counter <= howMany;
-                            }
 
+                        public T next() {
+                            if (!hasNext())
+                                throw new NoSuchElementException();
+                            return _f.apply(_counter++);
+                        }
 
-                            public T next() {
-                                if (!hasNext())
-                                    throw new NoSuchElementException();
-                                return _f.apply(_counter++);
-                            }
 
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.init(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    for (int counter = 0; counter < howMany; ++counter)
+                        if (!sink.accept(f.apply(counter + 1)))
+                            return false;
+                    return true;
+                }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.init(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                protected long knownSize() {
+                    return howMany;
+                }
+
+                protected Spliterator<T> createSpliterator() {
+                    // Indexed from zero so that the fence cannot overflow when howMany is Integer.MAX_VALUE
+                    return new Indexed<>(i -> f.apply(i + 1), 0, howMany);
                 }
             };
         }
@@ -2023,30 +2705,32 @@ public final class Functional {
         public static <T> Iterable<T> init(final Function<Integer, ? extends T> f) {
             if (f == null) throw new IllegalArgumentException("f");
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<T>() {
+                protected Iterator<T> createIterator() {
+                    return new Iterator<T>() {
+                        private int _counter = 1;
+                        private final Function<Integer, ? extends T> _f = f;
 
-                public Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private int _counter = 1;
-                            private final Function<Integer, ? extends T> _f = f;
+                        public boolean hasNext() {
+                            return true;
+                        }
 
-                            public boolean hasNext() {
-                                return true;
-                            }
 
+                        public T next() {
+                            return _f.apply(_counter++);
+                        }
 
-                            public T next() {
-                                return _f.apply(_counter++);
-                            }
 
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.init(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
+                        }
+                    };
+                }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.init(Function<T,U>,Iterable<T>): Removing elements is strictly prohibited");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    for (int counter = 1; ; ++counter)
+                        if (!sink.accept(f.apply(counter)))
+                            return false;
                 }
             };
         }
@@ -2068,34 +2752,34 @@ public final class Functional {
             if (f == null) throw new IllegalArgumentException("Functional.seq.collect: f is null");
             if (input == null) throw new IllegalArgumentException("Functional.seq.collect: input is null");
 
-            return new Iterable<U>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<U>() {
+                protected Iterator<U> createIterator() {
+                    return new Iterator<U>() {
+                        private final Iterator<T> it = input.iterator();
+                        private List<U> cache = new ArrayList<>();
+                        private Iterator<U> cacheIterator = cache.iterator();
 
-                public Iterator<U> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<U>() {
-                            private final Iterator<T> it = input.iterator();
-                            private List<U> cache = new ArrayList<>();
-                            private Iterator<U> cacheIterator = cache.iterator();
+                        public boolean hasNext() {
+                            return it.hasNext() || cacheIterator.hasNext();
+                        }
 
-                            public boolean hasNext() {
-                                return it.hasNext() || cacheIterator.hasNext();
-                            }
 
+                        public U next() {
+                            if (cacheIterator.hasNext()) return cacheIterator.next();
+                            cache = toList(f.apply(it.next()));
+                            cacheIterator = cache.iterator();
+                            return cacheIterator.next();
+                        }
 
-                            public U next() {
-                                if (cacheIterator.hasNext()) return cacheIterator.next();
-                                cache = toList(f.apply(it.next()));
-                                cacheIterator = cache.iterator();
-                                return cacheIterator.next();
-                            }
 
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.collect: remove is not supported");
+                        }
+                    };
+                }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.collect: remove is not supported");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                protected boolean pushInto(final Sink<? super U> sink) {
+                    return Pipeline.push(input, t -> Pipeline.push(f.apply(t), sink));
                 }
             };
         }
@@ -2132,38 +2816,60 @@ public final class Functional {
                 throw new IllegalArgumentException("Functional.skip(int,Iterable<T>): howMany is negative");
             if (input == null) throw new IllegalArgumentException("Functional.skip(int,Iterable<T>): input is null");
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<T>() {
+                protected Iterator<T> createIterator() {
+                    return new Iterator<T>() {
+                        private final Iterator<T> it = input.iterator();
+                        private boolean haveWeSkipped = false;
+
 
-                public Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private final Iterator<T> it = input.iterator();
-                            private boolean haveWeSkipped = false;
+                        public boolean hasNext() {
+                            if (haveWeSkipped && it.hasNext()) return true;
+                            if (haveWeSkipped) return false;
+                            for (int i = 0; i < howMany; ++i)
+                                if (it.hasNext()) it.next();
+                                else return false;
+                            haveWeSkipped = true;
+                            return it.hasNext();
+                        }
 
 
-                            public boolean hasNext() {
-                                if (haveWeSkipped && it.hasNext()) return true;
-                                if (haveWeSkipped) return false;
-                                for (int i = 0; i < howMany; ++i)
-                                    if (it.hasNext()) it.next();
-                                    else return false;
-                                haveWeSkipped = true;
-                                return it.hasNext();
-                            }
+                        public T next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            return it.next();
+                        }
 
 
-                            public T next() {
-                                if (!hasNext()) throw new NoSuchElementException();
-                                return it.next();
-                            }
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.skip: remove is not supported");
+                        }
+                    };
+                }
 
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    return Pipeline.push(input, new Sink<T>() {
+                        private int howManyHaveWeSkipped = 0;
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.skip: remove is not supported");
+                        public boolean accept(final T t) {
+                            if (howManyHaveWeSkipped < howMany) {
+                                ++howManyHaveWeSkipped;
+                                return true;
                             }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                            return sink.accept(t);
+                        }
+                    });
+                }
+
+                protected long knownSize() {
+                    final long size = Pipeline.sizeOf(input);
+                    return size < 0 ? -1 : Math.max(0, size - howMany);
+                }
+
+                protected Spliterator<T> createSpliterator() {
+                    final List<T> list = Pipeline.asRandomAccessList(input);
+                    return list == null
+                            ? super.createSpliterator()
+                            : new Indexed<>(list::get, Math.min(howMany, list.size()), list.size());
                 }
             };
         }
@@ -2196,57 +2902,85 @@ public final class Functional {
         public static <T> Iterable<T> skipWhile(final Function<? super T, Boolean> predicate, final Iterable<T> input) {
             if (predicate == null)
                 throw new IllegalArgumentException("Functional.skipWhile(Func,Iterable<T>): predicate is null");
-            if (input == null)
-                throw new IllegalArgumentException("Functional.skipWhile(Func,Iterable<T>): input is null");
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return seq.skipWhile(input, predicate::apply);
+        }
+
+        /**
+         * skipWhile: the converse of <tt>takeWhile</tt>. Given a sequence return another sequence containing all those elements from,
+         * and including, the first element for which the predicate returns false.
+         *
+         * @param <T>       the type of the element in the input sequence
+         * @param input     the input sequence
+         * @param predicate ignore elements in the input while the predicate is true.
+         * @return a lazily-evaluated sequence containing the remaining elements after and including the first element for which
+         * the predicate returns false
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<T> skipWhile(final Iterable<T> input, final Predicate<? super T> predicate) {
+            if (predicate == null)
+                throw new IllegalArgumentException("Functional.skipWhile(Iterable<T>,Predicate): predicate is null");
+            if (input == null)
+                throw new IllegalArgumentException("Functional.skipWhile(Iterable<T>,Predicate): input is null");
 
-                public Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private final Iterator<T> it = input.iterator();
-                            private boolean haveWeSkipped = false;
-                            private boolean haveWeReadFirstValue = false;
-                            private T firstValue = null;
+            return new Pipeline<T>() {
+                protected Iterator<T> createIterator() {
+                    return new Iterator<T>() {
+                        private final Iterator<T> it = input.iterator();
+                        private boolean haveWeSkipped = false;
+                        private boolean haveWeReadFirstValue = false;
+                        private T firstValue = null;
 
 
-                            public boolean hasNext() {
-                                if (haveWeSkipped && it.hasNext()) return true;
-                                if (haveWeSkipped) return false;
-                                while (true) {
-                                    if (it.hasNext()) {
-                                        final T next = it.next();
-                                        if (!predicate.apply(next)) {
-                                            haveWeSkipped = true;
-                                            firstValue = next;
-                                            return true;
-                                        }
-                                    } else {
+                        public boolean hasNext() {
+                            if (haveWeSkipped && it.hasNext()) return true;
+                            if (haveWeSkipped) return false;
+                            while (true) {
+                                if (it.hasNext()) {
+                                    final T next = it.next();
+                                    if (!predicate.test(next)) {
                                         haveWeSkipped = true;
-                                        return false;
+                                        firstValue = next;
+                                        return true;
                                     }
+                                } else {
+                                    haveWeSkipped = true;
+                                    return false;
                                 }
                             }
+                        }
 
 
-                            public T next() {
-                                if (haveWeSkipped && !haveWeReadFirstValue && firstValue != null) {
-                                    haveWeReadFirstValue = true;
-                                    return firstValue;
-                                }
-                                if (haveWeSkipped && !haveWeReadFirstValue) throw new NoSuchElementException();
-                                if (haveWeSkipped) return it.next();
-                                final boolean another = hasNext();
-                                return next();
+                        public T next() {
+                            if (haveWeSkipped && !haveWeReadFirstValue && firstValue != null) {
+                                haveWeReadFirstValue = true;
+                                return firstValue;
                             }
+                            if (haveWeSkipped && !haveWeReadFirstValue) throw new NoSuchElementException();
+                            if (haveWeSkipped) return it.next();
+                            final boolean another = hasNext();
+                            return next();
+                        }
 
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.skipWhile(Func,Iterable): it is not possible to remove elements from this sequence");
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.skipWhile(Func,Iterable): it is not possible to remove elements from this sequence");
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    return Pipeline.push(input, new Sink<T>() {
+                        private boolean haveWeSkipped = false;
+
+                        public boolean accept(final T t) {
+                            if (!haveWeSkipped) {
+                                if (predicate.test(t)) return true;
+                                haveWeSkipped = true;
                             }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                            return sink.accept(t);
+                        }
+                    });
                 }
             };
         }
@@ -2281,34 +3015,58 @@ public final class Functional {
 
             if (howMany == 0) return new ArrayList<>(0);
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<T>() {
+                protected Iterator<T> createIterator() {
+                    return new Iterator<T>() {
+                        private final Iterator<? extends T> it = list.iterator();
+                        private int howManyHaveWeRetrievedAlready = 0;
 
-                public Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private final Iterator<? extends T> it = list.iterator();
-                            private int howManyHaveWeRetrievedAlready = 0;
+                        public boolean hasNext() {
+                            return howManyHaveWeRetrievedAlready < howMany && it.hasNext();
+                        }
 
-                            public boolean hasNext() {
-                                return howManyHaveWeRetrievedAlready < howMany && it.hasNext();
-                            }
 
+                        public T next() {
+                            if (howManyHaveWeRetrievedAlready >= howMany)
+                                throw new java.util.NoSuchElementException("Cannot request additional elements from input");
+                            final T next = it.next();
+                            howManyHaveWeRetrievedAlready++;
+                            return next;
+                        }
 
-                            public T next() {
-                                if (howManyHaveWeRetrievedAlready >= howMany)
-                                    throw new java.util.NoSuchElementException("Cannot request additional elements from input");
-                                final T next = it.next();
-                                howManyHaveWeRetrievedAlready++;
-                                return next;
-                            }
 
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.take: remove is not supported");
+                        }
+                    };
+                }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.take: remove is not supported");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    final Limit<T> limit = new Limit<T>(sink) {
+                        private int howManyHaveWeRetrievedAlready = 0;
+
+                        protected boolean admit(final T t) {
+                            return howManyHaveWeRetrievedAlready++ < howMany;
+                        }
+
+                        protected boolean wantMore() {
+                            return howManyHaveWeRetrievedAlready < howMany;
+                        }
+                    };
+                    Pipeline.push(list, limit);
+                    return !limit.hasDownstreamStopped();
+                }
+
+                protected long knownSize() {
+                    final long size = Pipeline.sizeOf(list);
+                    return size < 0 ? -1 : Math.min(size, howMany);
+                }
+
+                protected Spliterator<T> createSpliterator() {
+                    final List<? extends T> input = Pipeline.asRandomAccessList(list);
+                    return input == null
+                            ? super.createSpliterator()
+                            : new Indexed<>(input::get, 0, Math.min(howMany, input.size()));
                 }
             };
         }
@@ -2339,63 +3097,86 @@ public final class Functional {
         public static <T> Iterable<T> takeWhile(final Function<? super T, Boolean> predicate, final Iterable<T> input) {
             if (predicate == null)
                 throw new IllegalArgumentException("Functional.takeWhile(Func,Iterable<T>): predicate is null");
-            if (input == null)
-                throw new IllegalArgumentException("Functional.takeWhile(Func,Iterable<T>): input is null");
 
-            return new Iterable<T>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return seq.takeWhile(input, predicate::apply);
+        }
 
-                public Iterator<T> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<T>() {
-                            private final Iterator<T> it = input.iterator();
-                            private boolean haveWeFinished = false;
-                            private T next = null;
-                            private boolean haveWeCheckedTheCurrentElement = false;
+        /**
+         * takeWhile: given a sequence return another sequence containing the first elements up to but not including the first
+         * element for which the predicate returns false
+         *
+         * @param <T>       the type of the element in the input sequence
+         * @param input     the input sequence
+         * @param predicate return elements from the input while the predicate is true.
+         * @return a lazily-evaluated sequence containing the elements before the first element for which the predicate returns false
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<T> takeWhile(final Iterable<T> input, final Predicate<? super T> predicate) {
+            if (predicate == null)
+                throw new IllegalArgumentException("Functional.takeWhile(Iterable<T>,Predicate): predicate is null");
+            if (input == null)
+                throw new IllegalArgumentException("Functional.takeWhile(Iterable<T>,Predicate): input is null");
 
+            return new Pipeline<T>() {
+                protected Iterator<T> createIterator() {
+                    return new Iterator<T>() {
+                        private final Iterator<T> it = input.iterator();
+                        private boolean haveWeFinished = false;
+                        private T next = null;
+                        private boolean haveWeCheckedTheCurrentElement = false;
 
-                            public boolean hasNext() {
-                                if (!haveWeFinished) {
-                                    if (!haveWeCheckedTheCurrentElement) {
-                                        if (it.hasNext()) {
-                                            next = it.next();
-                                            if (predicate.apply(next)) {
-                                                haveWeCheckedTheCurrentElement = true;
-                                                return true;
-                                            } else {
-                                                haveWeCheckedTheCurrentElement = true;
-                                                haveWeFinished = true;
-                                                return false;
-                                            }
+
+                        public boolean hasNext() {
+                            if (!haveWeFinished) {
+                                if (!haveWeCheckedTheCurrentElement) {
+                                    if (it.hasNext()) {
+                                        next = it.next();
+                                        if (predicate.test(next)) {
+                                            haveWeCheckedTheCurrentElement = true;
+                                            return true;
                                         } else {
+                                            haveWeCheckedTheCurrentElement = true;
                                             haveWeFinished = true;
                                             return false;
                                         }
                                     } else {
-                                        return true;
+                                        haveWeFinished = true;
+                                        return false;
                                     }
                                 } else {
-                                    return false;
+                                    return true;
                                 }
+                            } else {
+                                return false;
                             }
+                        }
 
 
-                            public T next() {
-                                if (!haveWeFinished) {
-                                    if (hasNext()) {
-                                        haveWeCheckedTheCurrentElement = false;
-                                        return next;
-                                    } else throw new NoSuchElementException();
-                                }
-                                throw new NoSuchElementException();
+                        public T next() {
+                            if (!haveWeFinished) {
+                                if (hasNext()) {
+                                    haveWeCheckedTheCurrentElement = false;
+                                    return next;
+                                } else throw new NoSuchElementException();
                             }
+                            throw new NoSuchElementException();
+                        }
 
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.takeWhile(Func,Iterable): it is not possible to remove elements from this sequence");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.takeWhile(Func,Iterable): it is not possible to remove elements from this sequence");
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    final Limit<T> limit = new Limit<T>(sink) {
+                        protected boolean admit(final T t) {
+                            return predicate.test(t);
+                        }
+                    };
+                    Pipeline.push(input, limit);
+                    return !limit.hasDownstreamStopped();
                 }
             };
         }
@@ -2424,32 +3205,38 @@ public final class Functional {
             if (unspool == null) throw new IllegalArgumentException("unspool");
             if (finished == null) throw new IllegalArgumentException("finished");
 
-            return new Iterable<A>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<A>() {
+                protected Iterator<A> createIterator() {
+                    return new Iterator<A>() {
+                        B next = seed;
 
-                public Iterator<A> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<A>() {
-                            B next = seed;
+                        public boolean hasNext() {
+                            return !finished.apply(next);
+                        }
 
-                            public boolean hasNext() {
-                                return !finished.apply(next);
-                            }
 
+                        public A next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            final Pair<A, B> t = unspool.apply(next);
+                            next = t.getRight();
+                            return t.getLeft();
+                        }
 
-                            public A next() {
-                                if (!hasNext()) throw new NoSuchElementException();
-                                final Pair<A, B> t = unspool.apply(next);
-                                next = t.getRight();
-                                return t.getLeft();
-                            }
 
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.unfold(Func,Func,B): it is not possible to remove elements from this sequence");
+                        }
+                    };
+                }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.unfold(Func,Func,B): it is not possible to remove elements from this sequence");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+                protected boolean pushInto(final Sink<? super A> sink) {
+                    B next = seed;
+                    while (!finished.apply(next)) {
+                        final Pair<A, B> t = unspool.apply(next);
+                        next = t.getRight();
+                        if (!sink.accept(t.getLeft())) return false;
+                    }
+                    return true;
                 }
             };
         }
@@ -2463,290 +3250,1572 @@ public final class Functional {
         public static <A, B> Iterable<A> unfold(final Function<? super B, Option<Pair<A, B>>> unspool, final B seed) {
             if (unspool == null) throw new IllegalArgumentException("unspool");
 
-            return new Iterable<A>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+            return new Pipeline<A>() {
+                protected Iterator<A> createIterator() {
+                    return new Iterator<A>() {
+                        B next = seed;
 
-                public Iterator<A> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<A>() {
-                            B next = seed;
+                        public boolean hasNext() {
+                            return unspool.apply(next).isSome();
+                        }
 
-                            public boolean hasNext() {
-                                return unspool.apply(next).isSome();
-                            }
 
+                        public A next() {
+                            final Option<Pair<A, B>> temp = unspool.apply(next);
+                            if (temp.isNone()) throw new NoSuchElementException();
+                            next = temp.Some().getRight();
+                            return temp.Some().getLeft();
+                        }
 
-                            public A next() {
-                                final Option<Pair<A, B>> temp = unspool.apply(next);
-                                if (temp.isNone()) throw new NoSuchElementException();
-                                next = temp.Some().getRight();
-                                return temp.Some().getLeft();
-                            }
 
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.unfold(Func,B): it is not possible to remove elements from this sequence");
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super A> sink) {
+                    B next = seed;
+                    for (Option<Pair<A, B>> temp = unspool.apply(next); temp.isSome(); temp = unspool.apply(next)) {
+                        next = temp.Some().getRight();
+                        if (!sink.accept(temp.Some().getLeft())) return false;
+                    }
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * This sequence generator returns a list of Range objects which split the interval [1-'howManyElements') into 'howManyPartitions' Range objects.
+         * If the interval cannot be divided exactly then the remainder is allocated evenly across the first
+         * 'howManyElements' % 'howManyPartitions' Range objects.
+         *
+         * @param howManyElements   defines the exclusive upper bound of the interval to be split
+         * @param howManyPartitions defines the number of Range objects to generate to cover the interval
+         * @return a list of Range objects
+         */
+        public static Iterable<Range<Integer>> partition(final int howManyElements, final int howManyPartitions) {
+            return partition(Functional.range(0), howManyElements, howManyPartitions);
+        }
+
+        /**
+         * This sequence generator returns a sequence of Range objects which split the interval [1-'howManyElements') into 'howManyPartitions'
+         * Range objects. If the interval cannot be divided exactly then the remainder is allocated evenly across the first
+         * 'howManyElements' % 'howManyPartitions' Range objects.
+         *
+         * @param generator         a function which generates members of the input sequence
+         * @param howManyElements   defines the exclusive upper bound of the interval to be split
+         * @param howManyPartitions defines the number of Range objects to generate to cover the interval
+         * @return a list of Range objects
+         */
+        public static <T> Iterable<Range<T>> partition(final Function<Integer, T> generator, final int howManyElements, final int howManyPartitions) {
+            if (howManyElements <= 0)
+                throw new IllegalArgumentException("Functional.partition() howManyElements cannot be non-positive");
+            if (howManyPartitions <= 0)
+                throw new IllegalArgumentException("Functional.partition() howManyPartitions cannot be non-positive");
+
+            final int size = howManyElements / howManyPartitions;
+            final int remainder = howManyElements % howManyPartitions;
+
+            assert size * howManyPartitions + remainder == howManyElements;
+
+            final Integer seed = 0;
+            final Function<Integer, Pair<T, Integer>> boundsCalculator = integer -> Pair.of(
+                    generator.apply(1 + (integer * size + (integer <= remainder ? integer : remainder))),
+                    integer + 1);
+            final Function<Integer, Boolean> finished = integer -> integer > howManyPartitions;
+
+            final Iterable<T> output = Functional.seq.unfold(boundsCalculator, finished, seed);
+
+            return new Pipeline<Range<T>>() {
+                protected Iterator<Range<T>> createIterator() {
+                    return new Iterator<Range<T>>() {
+                        final Iterator<T> iterator = output.iterator();
+                        T last = iterator.next();
+
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+
+                        public Range<T> next() {
+                            final T next = iterator.next();
+                            final Range<T> retval = new Range(last, next);
+                            last = next;
+                            return retval;
+                        }
+
+
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.partition(Func,int,int): it is not possible to remove elements from this sequence");
+                        }
+                    };
+                }
+            };
+        }
+
+        /**
+         * The Convolution operator
+         * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+         *
+         * @param l1  input sequence
+         * @param l2  input sequence
+         * @param <A> the type of the element in the first input sequence
+         * @param <B> the type of the element in the second input sequence
+         * @return list of pairs; the first element from each of the two input sequences is the first pair in the output sequence and so on,
+         * in order. If the sequences do not have the same number of elements then an exception is thrown.
+         * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+         */
+        public static <A, B> Iterable<Pair<A, B>> zip(final Iterable<? extends A> l1, final Iterable<? extends B> l2) {
+            if (l1 == null)
+                throw new IllegalArgumentException("Functional.seq.zip(Iterable<A>,Iterable<B>): l1 is null");
+            if (l2 == null)
+                throw new IllegalArgumentException("Functional.seq.zip(Iterable<A>,Iterable<B>): l2 is null");
+
+            return new Pipeline<Pair<A, B>>() {
+                protected Iterator<Pair<A, B>> createIterator() {
+                    return new Iterator<Pair<A, B>>() {
+                        private final Iterator<? extends A> l1_it = l1.iterator();
+                        private final Iterator<? extends B> l2_it = l2.iterator();
+
+                        public boolean hasNext() {
+                            final boolean l1_it_hasNext = l1_it.hasNext();
+                            final boolean l2_it_hasNext = l2_it.hasNext();
+                            if (l1_it_hasNext != l2_it_hasNext)
+                                throw new IllegalArgumentException("Functional.seq.zip(Iterable<A>,Iterable<B>): l1 and l2 have differing numbers of elements");
+                            return l1_it_hasNext && l2_it_hasNext;
+                        }
+
+
+                        public Pair<A, B> next() {
+                            return Pair.of(l1_it.next(), l2_it.next());
+                        }
+
+
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.zip(Iterable,Iterable): it is not possible to remove elements from this sequence");
+                        }
+
+                        //
+                        //                        public void forEachRemaining(Consumer<? super Pair<A, B>> action) {
+                        //
+                        //                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super Pair<A, B>> sink) {
+                    final Iterator<? extends B> l2_it = l2.iterator();
+                    final boolean completed = Pipeline.push(l1, a -> {
+                        if (!l2_it.hasNext())
+                            throw new IllegalArgumentException("Functional.seq.zip(Iterable<A>,Iterable<B>): l1 and l2 have differing numbers of elements");
+                        return sink.accept(Pair.of(a, l2_it.next()));
+                    });
+                    if (completed && l2_it.hasNext())
+                        throw new IllegalArgumentException("Functional.seq.zip(Iterable<A>,Iterable<B>): l1 and l2 have differing numbers of elements");
+                    return completed;
+                }
+
+                protected long knownSize() {
+                    final long size = Pipeline.sizeOf(l1);
+                    return size == Pipeline.sizeOf(l2) ? size : -1;
+                }
+
+                protected Spliterator<Pair<A, B>> createSpliterator() {
+                    final List<? extends A> list1 = Pipeline.asRandomAccessList(l1);
+                    final List<? extends B> list2 = Pipeline.asRandomAccessList(l2);
+                    return list1 == null || list2 == null || list1.size() != list2.size()
+                            ? super.createSpliterator()
+                            : new Indexed<>(i -> Pair.of(list1.get(i), list2.get(i)), 0, list1.size());
+                }
+            };
+        }
+
+        public static <A, B> Function<Iterable<B>, Iterable<Pair<A, B>>> zip(final Iterable<? extends A> l1) {
+            return l2 -> seq.zip(l1, l2);
+        }
+
+        /**
+         * The Convolution operator
+         * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+         *
+         * @param l1  input sequence
+         * @param l2  input sequence
+         * @param l3  input sequence
+         * @param <A> the type of the element in the first input sequence
+         * @param <B> the type of the element in the second input sequence
+         * @param <C> the type of the element in the third input sequence
+         * @return list of pairs; the first element from each of the two input sequences is the first pair in the output sequence and so on,
+         * in order. If the sequences do not have the same number of elements then an exception is thrown.
+         * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+         */
+        public static <A, B, C> Iterable<Triple<A, B, C>> zip3(final Iterable<? extends A> l1, final Iterable<? extends B> l2, final Iterable<? extends C> l3) {
+            if (l1 == null)
+                throw new IllegalArgumentException("Functional.seq.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l1 is null");
+            if (l2 == null)
+                throw new IllegalArgumentException("Functional.seq.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l2 is null");
+            if (l3 == null)
+                throw new IllegalArgumentException("Functional.seq.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l3 is null");
+
+            return new Pipeline<Triple<A, B, C>>() {
+                protected Iterator<Triple<A, B, C>> createIterator() {
+                    return new Iterator<Triple<A, B, C>>() {
+                        private final Iterator<? extends A> l1_it = l1.iterator();
+                        private final Iterator<? extends B> l2_it = l2.iterator();
+                        private final Iterator<? extends C> l3_it = l3.iterator();
+
+                        public boolean hasNext() {
+                            final boolean l1_it_hasNext = l1_it.hasNext();
+                            final boolean l2_it_hasNext = l2_it.hasNext();
+                            final boolean l3_it_hasNext = l3_it.hasNext();
+                            if (l1_it_hasNext != l2_it_hasNext || l1_it_hasNext != l3_it_hasNext)
+                                throw new IllegalArgumentException("Functional.seq.zip3(Iterable<A>,Iterable<B>,Iterable<C>): the input sequences have differing numbers of elements");
+                            return l1_it_hasNext && l2_it_hasNext && l3_it_hasNext;
+                        }
+
+
+                        public Triple<A, B, C> next() {
+                            return Triple.of(l1_it.next(), l2_it.next(), l3_it.next());
+                        }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.unfold(Func,B): it is not possible to remove elements from this sequence");
+
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.zip3(Iterable,Iterable,Iterable): it is not possible to remove elements from this sequence");
+                        }
+
+                        //
+                        //                        public void forEachRemaining(Consumer<? super Pair<A, B>> action) {
+                        //
+                        //                        }
+                    };
+                }
+            };
+        }
+
+        public static <A, B, C> Function<Iterable<C>, Iterable<Triple<A, B, C>>> zip3(final Iterable<? extends A> l1, final Iterable<? extends B> l2) {
+            return l3 -> seq.zip3(l1, l2, l3);
+        }
+
+        /**
+         * Convolution of functions
+         * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+         *
+         * @param <A>   the type of the input sequence
+         * @param <B>   the result type of the first transformation
+         * @param <C>   the result type of the second transformation
+         * @param f     the first transformation function
+         * @param g     the second transformation function
+         * @param input the input sequence
+         * @return a sequence of pairs. The first value of the pair is the result of the first transformation and the seocnd value of the
+         * pair of the result of the second transformation.
+         */
+        public static <A, B, C> Iterable<Pair<B, C>> zip(final Function<? super A, B> f, final Function<? super A, C> g, final Iterable<? extends A> input) {
+            return new Pipeline<Pair<B, C>>() {
+                protected Iterator<Pair<B, C>> createIterator() {
+                    return new Iterator<Pair<B, C>>() {
+                        private final Iterator<? extends A> iterator = input.iterator();
+
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+
+                        public Pair<B, C> next() {
+                            final A next = iterator.next();
+                            return Pair.of(f.apply(next), g.apply(next));
+                        }
+
+
+                        public void remove() {
+                            throw new UnsupportedOperationException("Functional.seq.zip(Func,Func): it is not possible to remove elements from this sequence");
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super Pair<B, C>> sink) {
+                    return Pipeline.push(input, a -> sink.accept(Pair.of(f.apply(a), g.apply(a))));
+                }
+
+                protected long knownSize() {
+                    return Pipeline.sizeOf(input);
+                }
+
+                protected Spliterator<Pair<B, C>> createSpliterator() {
+                    return new Mapped<>(input.spliterator(), a -> Pair.of(f.apply(a), g.apply(a)));
+                }
+            };
+        }
+
+        /**
+         * Wrap a sequence in a <tt>java.util.stream.Stream</tt>. The sequences returned by the other functions in <tt>seq</tt>
+         * supply a spliterator which knows the size of the sequence where that can be determined in advance, for example
+         * <tt>map</tt> over a collection, <tt>take</tt>, <tt>zip</tt> of equal-sized lists or <tt>init</tt> with a count, and which
+         * splits evenly by position where the source is a random-access list, so that a parallel stream can divide the work.
+         *
+         * @param input    the sequence
+         * @param parallel true for a parallel stream, false for a sequential one
+         * @param <T>      the type of the element in the sequence
+         * @return a stream over the elements of the sequence
+         */
+        public static <T> Stream<T> toStream(final Iterable<T> input, final boolean parallel) {
+            if (input == null) throw new IllegalArgumentException("Functional.seq.toStream(Iterable<T>,boolean): input is null");
+
+            return StreamSupport.stream(input.spliterator(), parallel);
+        }
+
+        /**
+         * Wrap a sequence in a sequential <tt>java.util.stream.Stream</tt>.
+         *
+         * @param input the sequence
+         * @param <T>   the type of the element in the sequence
+         * @return a stream over the elements of the sequence
+         * @see #toStream(Iterable, boolean)
+         */
+        public static <T> Stream<T> toStream(final Iterable<T> input) {
+            return toStream(input, false);
+        }
+
+        /**
+         * The sequences returned by the other functions in <tt>seq</tt> can only be iterated once. <tt>reiterable</tt> returns a
+         * sequence which can be iterated any number of times, by calling 'source' afresh for each iteration. Typically 'source'
+         * rebuilds a chain of lazily-evaluated sequences from a collection, for example
+         * <pre>
+         * final Iterable&lt;Integer&gt; evens = Functional.seq.reiterable(() -&gt; Functional.seq.filter(Functional.isEven, list));
+         * </pre>
+         * so each pass re-reads the collection without it ever being copied.
+         *
+         * @param source a function which returns a new sequence each time it is called
+         * @param <T>    the type of the element in the sequence
+         * @return a lazily-evaluated sequence which may be iterated more than once
+         * @see #memoise(Iterable)
+         */
+        public static <T> Iterable<T> reiterable(final Supplier<? extends Iterable<T>> source) {
+            if (source == null) throw new IllegalArgumentException("Functional.seq.reiterable(Supplier): source is null");
+
+            return new Pipeline<T>(false) {
+                private Iterable<T> freshSource() {
+                    final Iterable<T> iterable = source.get();
+                    if (iterable == null)
+                        throw new IllegalStateException("Functional.seq.reiterable(Supplier): source returned null");
+                    return iterable;
+                }
+
+                protected Iterator<T> createIterator() {
+                    return freshSource().iterator();
+                }
+
+                protected boolean pushInto(final Sink<? super T> sink) {
+                    return Pipeline.push(freshSource(), sink);
+                }
+
+                protected Spliterator<T> createSpliterator() {
+                    return freshSource().spliterator();
+                }
+            };
+        }
+
+        /**
+         * Return a sequence which can be iterated any number of times but which reads 'input' only once, and only as far as
+         * has been asked for. Each element is cached the first time that any iterator reaches it and is then served from the
+         * cache to every other iterator. Use this in preference to {@link #reiterable(Supplier)} when the source is
+         * expensive to evaluate or can only be read once; use <tt>reiterable</tt> when the source is cheap to re-read, as it
+         * holds no elements in memory.
+         * The returned sequence may be iterated by several threads at once.
+         *
+         * @param input the input sequence, which may be infinite
+         * @param <T>   the type of the element in the sequence
+         * @return a lazily-evaluated, caching sequence which may be iterated more than once
+         */
+        public static <T> Iterable<T> memoise(final Iterable<? extends T> input) {
+            if (input == null) throw new IllegalArgumentException("Functional.seq.memoise(Iterable<T>): input is null");
+
+            return new Memoised<>(input);
+        }
+
+        /**
+         * chunk: split a sequence into consecutive lists of 'size' elements. The last list holds whatever elements remain and
+         * so may be shorter. Each list is exactly sized and immutable; if 'input' is a random-access list then each is a
+         * read-only view of it, which costs O(1) to create, and 'input' must not be structurally modified while the
+         * lists are in use.
+         * chunk: int -> T list -> T list list
+         *
+         * @param size  the number of elements in each list; must be positive
+         * @param input the input sequence, which may be infinite
+         * @param <T>   the type of the element in the input sequence
+         * @return a lazily-evaluated sequence of lists
+         * @throws java.lang.IllegalArgumentException if size is not positive or if the input sequence is null
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<List<T>> chunk(final int size, final Iterable<? extends T> input) {
+            if (size <= 0) throw new IllegalArgumentException("Functional.seq.chunk(int,Iterable<T>): size is not positive");
+            if (input == null) throw new IllegalArgumentException("Functional.seq.chunk(int,Iterable<T>): input is null");
+
+            return new Pipeline<List<T>>() {
+                protected Iterator<List<T>> createIterator() {
+                    return new Batches<>(size, input, false);
+                }
+
+                protected boolean pushInto(final Sink<? super List<T>> sink) {
+                    final List<? extends T> list = Pipeline.asRandomAccessList(input);
+                    if (list != null) {
+                        for (int from = 0; from < list.size(); from += size)
+                            if (!sink.accept(view(list, from, (int) Math.min((long) from + size, list.size()))))
+                                return false;
+                        return true;
+                    }
+
+                    final Chunks<T> chunks = new Chunks<>(size, atMost(size, input), sink);
+                    return Pipeline.push(input, chunks) && chunks.flush();
+                }
+
+                protected long knownSize() {
+                    final long n = Pipeline.sizeOf(input);
+                    return n < 0 ? -1 : n / size + (n % size == 0 ? 0 : 1);
+                }
+            };
+        }
+
+        /**
+         * chunk: split a sequence into consecutive lists of 'size' elements.
+         * This is the curried implementation
+         *
+         * @param size the number of elements in each list; must be positive
+         * @param <T>  the type of the element in the input sequence
+         * @return a function returning a lazily-evaluated sequence of lists
+         * @see #chunk(int, Iterable)
+         * @see <a href="http://en.wikipedia.org/wiki/Currying">Currying</a>
+         */
+        public static <T> Function<Iterable<? extends T>, Iterable<List<T>>> chunk(final int size) {
+            return input -> seq.chunk(size, input);
+        }
+
+        /**
+         * sliding: the windows of 'size' consecutive elements which start at every 'step'th element of the input. Windows
+         * overlap if 'step' is less than 'size' and elements are passed over if it is greater. Trailing elements which are
+         * too few to fill a window are discarded, so every window holds exactly 'size' elements. Each window is immutable;
+         * if 'input' is a random-access list then each is a read-only view of it, which costs O(1) to create, and 'input'
+         * must not be structurally modified while the windows are in use.
+         * That is, sliding(3,1,[1,2,3,4]) is [[1,2,3],[2,3,4]] and sliding(2,3,[1,2,3,4,5,6]) is [[1,2],[4,5]]
+         *
+         * @param size  the number of elements in each window; must be positive
+         * @param step  the distance between the first elements of successive windows; must be positive
+         * @param input the input sequence, which may be infinite
+         * @param <T>   the type of the element in the input sequence
+         * @return a lazily-evaluated sequence of windows
+         * @throws java.lang.IllegalArgumentException if size or step is not positive or if the input sequence is null
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T> Iterable<List<T>> sliding(final int size, final int step, final Iterable<? extends T> input) {
+            if (size <= 0) throw new IllegalArgumentException("Functional.seq.sliding(int,int,Iterable<T>): size is not positive");
+            if (step <= 0) throw new IllegalArgumentException("Functional.seq.sliding(int,int,Iterable<T>): step is not positive");
+            if (input == null) throw new IllegalArgumentException("Functional.seq.sliding(int,int,Iterable<T>): input is null");
+
+            return new Pipeline<List<T>>() {
+                protected Iterator<List<T>> createIterator() {
+                    final List<? extends T> list = Pipeline.asRandomAccessList(input);
+                    if (list != null)
+                        return new Iterator<List<T>>() {
+                            private long from = 0;
+
+                            public boolean hasNext() {
+                                return from + size <= list.size();
+                            }
+
+                            public List<T> next() {
+                                if (!hasNext()) throw new NoSuchElementException();
+                                final List<T> window = view(list, (int) from, (int) (from + size));
+                                from += step;
+                                return window;
                             }
                         };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+
+                    final Iterator<? extends T> iterator = input.iterator();
+                    return new Iterator<List<T>>() {
+                        private final Window<T> window = new Window<>(size, step);
+                        private List<T> next = null;
+
+                        public boolean hasNext() {
+                            while (next == null && iterator.hasNext())
+                                next = window.offer(iterator.next());
+                            return next != null;
+                        }
+
+                        public List<T> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            final List<T> result = next;
+                            next = null;
+                            return result;
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super List<T>> sink) {
+                    final List<? extends T> list = Pipeline.asRandomAccessList(input);
+                    if (list != null) {
+                        for (long from = 0; from + size <= list.size(); from += step)
+                            if (!sink.accept(view(list, (int) from, (int) (from + size))))
+                                return false;
+                        return true;
+                    }
+
+                    final Window<T> window = new Window<>(size, step);
+                    return Pipeline.push(input, t -> {
+                        final List<T> full = window.offer(t);
+                        return full == null || sink.accept(full);
+                    });
+                }
+
+                protected long knownSize() {
+                    final long n = Pipeline.sizeOf(input);
+                    return n < 0 ? -1 : n < size ? 0 : (n - size) / step + 1;
+                }
+            };
+        }
+
+        /**
+         * sliding: the windows of 'size' consecutive elements which start at every 'step'th element of the input.
+         * This is the curried implementation
+         *
+         * @param size the number of elements in each window; must be positive
+         * @param step the distance between the first elements of successive windows; must be positive
+         * @param <T>  the type of the element in the input sequence
+         * @return a function returning a lazily-evaluated sequence of windows
+         * @see #sliding(int, int, Iterable)
+         * @see <a href="http://en.wikipedia.org/wiki/Currying">Currying</a>
+         */
+        public static <T> Function<Iterable<? extends T>, Iterable<List<T>>> sliding(final int size, final int step) {
+            return input -> seq.sliding(size, step, input);
+        }
+
+        /**
+         * batchMap: apply 'f' to consecutive batches of 'size' elements of the input, the last of which may be shorter, and
+         * concatenate the results. Use this to amortise the cost of a call, for example a database write or a remote call,
+         * over many elements.
+         * Unlike <tt>chunk</tt>, batchMap does not allocate a list for each batch: unless 'input' is a random-access list,
+         * in which case each batch is a read-only view of it, a single buffer is refilled for every batch. A batch is
+         * therefore only valid until the elements of the sequence that 'f' returns for it have been consumed; use
+         * {@link Functional#copy(Iterable)} to keep it for longer.
+         * batchMap: int -> (T list -> U list) -> T list -> U list
+         *
+         * @param size  the number of elements in each batch; must be positive
+         * @param f     the transformation, which is called once per batch
+         * @param input the input sequence, which may be infinite
+         * @param <T>   the type of the element in the input sequence
+         * @param <U>   the type of the element in the output sequence
+         * @return a lazily-evaluated sequence containing the concatenated results of applying 'f' to each batch
+         * @throws java.lang.IllegalArgumentException if size is not positive or if f or the input sequence is null
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <T, U> Iterable<U> batchMap(final int size, final Function<? super List<T>, ? extends Iterable<? extends U>> f, final Iterable<? extends T> input) {
+            if (size <= 0) throw new IllegalArgumentException("Functional.seq.batchMap(int,Function,Iterable<T>): size is not positive");
+            if (f == null) throw new IllegalArgumentException("Functional.seq.batchMap(int,Function,Iterable<T>): f is null");
+            if (input == null) throw new IllegalArgumentException("Functional.seq.batchMap(int,Function,Iterable<T>): input is null");
+
+            return new Pipeline<U>() {
+                protected Iterator<U> createIterator() {
+                    final Iterator<List<T>> batches = new Batches<>(size, input, true);
+                    return new Iterator<U>() {
+                        private Iterator<? extends U> current = Collections.emptyIterator();
+
+                        public boolean hasNext() {
+                            while (!current.hasNext() && batches.hasNext())
+                                current = f.apply(batches.next()).iterator();
+                            return current.hasNext();
+                        }
+
+                        public U next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            return current.next();
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super U> sink) {
+                    final List<? extends T> list = Pipeline.asRandomAccessList(input);
+                    if (list != null) {
+                        for (int from = 0; from < list.size(); from += size)
+                            if (!Pipeline.push(f.apply(view(list, from, (int) Math.min((long) from + size, list.size()))), sink))
+                                return false;
+                        return true;
+                    }
+
+                    final ArrayList<T> buffer = newArrayList(atMost(size, input));
+                    final List<T> batch = Collections.unmodifiableList(buffer);
+                    final boolean completed = Pipeline.push(input, t -> {
+                        buffer.add(t);
+                        if (buffer.size() < size) return true;
+                        final boolean more = Pipeline.push(f.apply(batch), sink);
+                        buffer.clear();
+                        return more;
+                    });
+                    return completed && (buffer.isEmpty() || Pipeline.push(f.apply(batch), sink));
+                }
+            };
+        }
+
+        /**
+         * batchMap: apply 'f' to consecutive batches of 'size' elements of the input and concatenate the results.
+         * This is the curried implementation
+         *
+         * @param size the number of elements in each batch; must be positive
+         * @param f    the transformation, which is called once per batch
+         * @param <T>  the type of the element in the input sequence
+         * @param <U>  the type of the element in the output sequence
+         * @return a function returning a lazily-evaluated sequence containing the concatenated results
+         * @see #batchMap(int, Function, Iterable)
+         * @see <a href="http://en.wikipedia.org/wiki/Currying">Currying</a>
+         */
+        public static <T, U> Function<Iterable<? extends T>, Iterable<U>> batchMap(final int size, final Function<? super List<T>, ? extends Iterable<? extends U>> f) {
+            return input -> seq.batchMap(size, f, input);
+        }
+
+        /**
+         * innerJoin: pair each element of 'left' with each element of 'right' that has an equal key and combine each such
+         * pair using 'resultSelector'. When the sequence is evaluated, the join hashes whichever input is known to be the
+         * smaller, or 'right' if neither size is known, and then streams the other, so the input which is not hashed may
+         * be infinite. The output follows the order of the streamed input.
+         *
+         * @param left           the first input sequence
+         * @param right          the second input sequence
+         * @param leftKey        the key of an element of 'left'
+         * @param rightKey       the key of an element of 'right'
+         * @param resultSelector combines a pair of elements which have equal keys
+         * @param <L>            the type of the element in the first input sequence
+         * @param <R>            the type of the element in the second input sequence
+         * @param <K>            the type of the key
+         * @param <O>            the type of the element in the output sequence
+         * @return a lazily-evaluated sequence containing the combined pairs
+         * @throws java.lang.IllegalArgumentException if any of the arguments is null
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <L, R, K, O> Iterable<O> innerJoin(final Iterable<? extends L> left, final Iterable<? extends R> right, final Function<? super L, ? extends K> leftKey,
+                                                         final Function<? super R, ? extends K> rightKey, final BiFunction<? super L, ? super R, ? extends O> resultSelector) {
+            if (left == null) throw new IllegalArgumentException("Functional.seq.innerJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): left is null");
+            if (right == null) throw new IllegalArgumentException("Functional.seq.innerJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): right is null");
+            if (leftKey == null) throw new IllegalArgumentException("Functional.seq.innerJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): leftKey is null");
+            if (rightKey == null) throw new IllegalArgumentException("Functional.seq.innerJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): rightKey is null");
+            if (resultSelector == null) throw new IllegalArgumentException("Functional.seq.innerJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): resultSelector is null");
+
+            final long leftSize = Pipeline.sizeOf(left);
+            final long rightSize = Pipeline.sizeOf(right);
+            if (leftSize >= 0 && (rightSize < 0 || leftSize < rightSize))
+                return new HashJoin<R, L, K, O>(right, rightKey, left, leftKey, (r, l) -> resultSelector.apply(l, r), null);
+            return new HashJoin<L, R, K, O>(left, leftKey, right, rightKey, resultSelector, null);
+        }
+
+        /**
+         * leftJoin: as <tt>innerJoin</tt> except that an element of 'left' for which there is no element of 'right' with an
+         * equal key is passed to 'resultSelector' once, with <tt>None</tt>. When the sequence is evaluated, the join hashes
+         * 'right' and then streams 'left', which may be infinite. The output follows the order of 'left'.
+         *
+         * @param left           the first input sequence, every element of which contributes to the output
+         * @param right          the second input sequence
+         * @param leftKey        the key of an element of 'left'
+         * @param rightKey       the key of an element of 'right'
+         * @param resultSelector combines an element of 'left' with a matching element of 'right', or with <tt>None</tt>
+         * @param <L>            the type of the element in the first input sequence
+         * @param <R>            the type of the element in the second input sequence
+         * @param <K>            the type of the key
+         * @param <O>            the type of the element in the output sequence
+         * @return a lazily-evaluated sequence containing the combined elements
+         * @throws java.lang.IllegalArgumentException if any of the arguments is null
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <L, R, K, O> Iterable<O> leftJoin(final Iterable<? extends L> left, final Iterable<? extends R> right, final Function<? super L, ? extends K> leftKey,
+                                                        final Function<? super R, ? extends K> rightKey, final BiFunction<? super L, Option<R>, ? extends O> resultSelector) {
+            if (left == null) throw new IllegalArgumentException("Functional.seq.leftJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): left is null");
+            if (right == null) throw new IllegalArgumentException("Functional.seq.leftJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): right is null");
+            if (leftKey == null) throw new IllegalArgumentException("Functional.seq.leftJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): leftKey is null");
+            if (rightKey == null) throw new IllegalArgumentException("Functional.seq.leftJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): rightKey is null");
+            if (resultSelector == null) throw new IllegalArgumentException("Functional.seq.leftJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): resultSelector is null");
+
+            return new HashJoin<L, R, K, O>(left, leftKey, right, rightKey, (l, r) -> resultSelector.apply(l, Option.toOption(r)),
+                    l -> resultSelector.apply(l, Option.<R>None()));
+        }
+
+        /**
+         * groupJoin: combine each element of 'left' with the list, possibly empty, of the elements of 'right' which have an
+         * equal key. When the sequence is evaluated, the join hashes 'right' and then streams 'left', which may be infinite.
+         * The output follows the order of 'left'.
+         *
+         * @param left           the first input sequence
+         * @param right          the second input sequence
+         * @param leftKey        the key of an element of 'left'
+         * @param rightKey       the key of an element of 'right'
+         * @param resultSelector combines an element of 'left' with the immutable list of matching elements of 'right'
+         * @param <L>            the type of the element in the first input sequence
+         * @param <R>            the type of the element in the second input sequence
+         * @param <K>            the type of the key
+         * @param <O>            the type of the element in the output sequence
+         * @return a lazily-evaluated sequence containing one combined element for each element of 'left'
+         * @throws java.lang.IllegalArgumentException if any of the arguments is null
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <L, R, K, O> Iterable<O> groupJoin(final Iterable<? extends L> left, final Iterable<? extends R> right, final Function<? super L, ? extends K> leftKey,
+                                                         final Function<? super R, ? extends K> rightKey, final BiFunction<? super L, ? super List<R>, ? extends O> resultSelector) {
+            if (left == null) throw new IllegalArgumentException("Functional.seq.groupJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): left is null");
+            if (right == null) throw new IllegalArgumentException("Functional.seq.groupJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): right is null");
+            if (leftKey == null) throw new IllegalArgumentException("Functional.seq.groupJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): leftKey is null");
+            if (rightKey == null) throw new IllegalArgumentException("Functional.seq.groupJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): rightKey is null");
+            if (resultSelector == null) throw new IllegalArgumentException("Functional.seq.groupJoin(Iterable<L>,Iterable<R>,Function,Function,BiFunction): resultSelector is null");
+
+            return new Pipeline<O>() {
+                private Function<L, O> combine() {
+                    final Map<K, List<R>> groups = new HashMap<>();
+                    for (final Map.Entry<K, ArrayList<R>> entry : Functional.<K, R>hashIndex(right, rightKey).entrySet())
+                        groups.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+                    return l -> resultSelector.apply(l, groups.getOrDefault(leftKey.apply(l), Collections.<R>emptyList()));
+                }
+
+                protected Iterator<O> createIterator() {
+                    final Function<L, O> combine = combine();
+                    final Iterator<? extends L> iterator = left.iterator();
+                    return new Iterator<O>() {
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        public O next() {
+                            return combine.apply(iterator.next());
+                        }
+                    };
+                }
+
+                protected boolean pushInto(final Sink<? super O> sink) {
+                    final Function<L, O> combine = combine();
+                    return Pipeline.push(left, l -> sink.accept(combine.apply(l)));
+                }
+
+                protected long knownSize() {
+                    return Pipeline.sizeOf(left);
                 }
             };
         }
 
         /**
-         * This sequence generator returns a list of Range objects which split the interval [1-'howManyElements') into 'howManyPartitions' Range objects.
-         * If the interval cannot be divided exactly then the remainder is allocated evenly across the first
-         * 'howManyElements' % 'howManyPartitions' Range objects.
-         *
-         * @param howManyElements   defines the exclusive upper bound of the interval to be split
-         * @param howManyPartitions defines the number of Range objects to generate to cover the interval
-         * @return a list of Range objects
+         * mergeJoin: as <tt>innerJoin</tt> but for inputs which are both sorted by key, in the order defined by 'comparator'.
+         * Neither input is hashed: the two are streamed together, and only the run of elements of 'right' which share the
+         * current key is held in memory, so both inputs may be infinite. The output follows the order of the keys.
+         *
+         * @param left           the first input sequence, sorted by key
+         * @param right          the second input sequence, sorted by key
+         * @param leftKey        the key of an element of 'left'
+         * @param rightKey       the key of an element of 'right'
+         * @param comparator     the order of the keys
+         * @param resultSelector combines a pair of elements which have equal keys
+         * @param <L>            the type of the element in the first input sequence
+         * @param <R>            the type of the element in the second input sequence
+         * @param <K>            the type of the key
+         * @param <O>            the type of the element in the output sequence
+         * @return a lazily-evaluated sequence containing the combined pairs. Evaluating it throws IllegalArgumentException
+         * if either input is found not to be sorted.
+         * @throws java.lang.IllegalArgumentException if any of the arguments is null
+         * @see <a href="http://en.wikipedia.org/wiki/Lazy_evaluation">Lazy evaluation</a>
+         */
+        public static <L, R, K, O> Iterable<O> mergeJoin(final Iterable<? extends L> left, final Iterable<? extends R> right, final Function<? super L, ? extends K> leftKey,
+                                                         final Function<? super R, ? extends K> rightKey, final Comparator<? super K> comparator,
+                                                         final BiFunction<? super L, ? super R, ? extends O> resultSelector) {
+            if (left == null) throw new IllegalArgumentException("Functional.seq.mergeJoin(Iterable<L>,Iterable<R>,Function,Function,Comparator,BiFunction): left is null");
+            if (right == null) throw new IllegalArgumentException("Functional.seq.mergeJoin(Iterable<L>,Iterable<R>,Function,Function,Comparator,BiFunction): right is null");
+            if (leftKey == null) throw new IllegalArgumentException("Functional.seq.mergeJoin(Iterable<L>,Iterable<R>,Function,Function,Comparator,BiFunction): leftKey is null");
+            if (rightKey == null) throw new IllegalArgumentException("Functional.seq.mergeJoin(Iterable<L>,Iterable<R>,Function,Function,Comparator,BiFunction): rightKey is null");
+            if (comparator == null) throw new IllegalArgumentException("Functional.seq.mergeJoin(Iterable<L>,Iterable<R>,Function,Function,Comparator,BiFunction): comparator is null");
+            if (resultSelector == null) throw new IllegalArgumentException("Functional.seq.mergeJoin(Iterable<L>,Iterable<R>,Function,Function,Comparator,BiFunction): resultSelector is null");
+
+            return new Pipeline<O>() {
+                protected Iterator<O> createIterator() {
+                    return new MergeJoin<L, R, K, O>(left.iterator(), right.iterator(), leftKey, rightKey, comparator, resultSelector);
+                }
+            };
+        }
+
+        /**
+         * A hash join which hashes the 'build' input by key when it is evaluated and then streams the 'probe' input, combining
+         * each element of it with each element of 'build' which has an equal key. If 'unmatched' is not null then it is
+         * applied to each element of 'probe' which has no match, making this an outer join.
+         */
+        private static final class HashJoin<P, B, K, O> extends Pipeline<O> {
+            private final Iterable<? extends P> probe;
+            private final Function<? super P, ? extends K> probeKey;
+            private final Iterable<? extends B> build;
+            private final Function<? super B, ? extends K> buildKey;
+            private final BiFunction<? super P, ? super B, ? extends O> matched;
+            private final Function<? super P, ? extends O> unmatched;
+
+            HashJoin(final Iterable<? extends P> probe, final Function<? super P, ? extends K> probeKey,
+                     final Iterable<? extends B> build, final Function<? super B, ? extends K> buildKey,
+                     final BiFunction<? super P, ? super B, ? extends O> matched, final Function<? super P, ? extends O> unmatched) {
+                this.probe = probe;
+                this.probeKey = probeKey;
+                this.build = build;
+                this.buildKey = buildKey;
+                this.matched = matched;
+                this.unmatched = unmatched;
+            }
+
+            protected Iterator<O> createIterator() {
+                final HashMap<K, ArrayList<B>> index = hashIndex(build, buildKey);
+                final Iterator<? extends P> iterator = probe.iterator();
+                return new Iterator<O>() {
+                    private P current;
+                    private ArrayList<B> matches;
+                    private int position;
+                    private boolean pendingUnmatched = false;
+
+                    public boolean hasNext() {
+                        while (!pendingUnmatched && (matches == null || position >= matches.size())) {
+                            if (!iterator.hasNext()) return false;
+                            current = iterator.next();
+                            matches = index.get(probeKey.apply(current));
+                            position = 0;
+                            pendingUnmatched = matches == null && unmatched != null;
+                        }
+                        return true;
+                    }
+
+                    public O next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        if (pendingUnmatched) {
+                            pendingUnmatched = false;
+                            return unmatched.apply(current);
+                        }
+                        return matched.apply(current, matches.get(position++));
+                    }
+                };
+            }
+
+            protected boolean pushInto(final Sink<? super O> sink) {
+                final HashMap<K, ArrayList<B>> index = hashIndex(build, buildKey);
+                return Pipeline.push(probe, p -> {
+                    final ArrayList<B> matches = index.get(probeKey.apply(p));
+                    if (matches == null)
+                        return unmatched == null || sink.accept(unmatched.apply(p));
+                    for (int i = 0, size = matches.size(); i < size; ++i)
+                        if (!sink.accept(matched.apply(p, matches.get(i))))
+                            return false;
+                    return true;
+                });
+            }
+        }
+
+        /**
+         * The iterator of <tt>mergeJoin</tt>. It holds the current element of 'left' and the run of elements of 'right'
+         * whose key equals that element's key. The run is kept while successive elements of 'left' share the key.
+         */
+        private static final class MergeJoin<L, R, K, O> implements Iterator<O> {
+            private final Iterator<? extends L> lefts;
+            private final Iterator<? extends R> rights;
+            private final Function<? super L, ? extends K> leftKey;
+            private final Function<? super R, ? extends K> rightKey;
+            private final Comparator<? super K> comparator;
+            private final BiFunction<? super L, ? super R, ? extends O> resultSelector;
+
+            private final ArrayList<R> run = new ArrayList<>();
+            private K runKey;
+            private L current;
+            private K currentKey;
+            private boolean haveCurrent = false;
+            private int position;
+            private R nextRight;
+            private K nextRightKey;
+            private boolean haveNextRight = false;
+            private boolean havePulledRight = false;
+
+            MergeJoin(final Iterator<? extends L> lefts, final Iterator<? extends R> rights, final Function<? super L, ? extends K> leftKey,
+                      final Function<? super R, ? extends K> rightKey, final Comparator<? super K> comparator,
+                      final BiFunction<? super L, ? super R, ? extends O> resultSelector) {
+                this.lefts = lefts;
+                this.rights = rights;
+                this.leftKey = leftKey;
+                this.rightKey = rightKey;
+                this.comparator = comparator;
+                this.resultSelector = resultSelector;
+            }
+
+            public boolean hasNext() {
+                while (!haveCurrent || position >= run.size()) {
+                    if (!lefts.hasNext()) return false;
+                    final L l = lefts.next();
+                    final K key = leftKey.apply(l);
+                    if (haveCurrent && comparator.compare(currentKey, key) > 0)
+                        throw new IllegalArgumentException("Functional.seq.mergeJoin: left is not sorted");
+                    current = l;
+                    currentKey = key;
+                    haveCurrent = true;
+                    position = 0;
+                    if (!run.isEmpty() && comparator.compare(runKey, key) == 0) continue;
+
+                    run.clear();
+                    while (pullRight()) {
+                        final int c = comparator.compare(nextRightKey, key);
+                        if (c > 0) break;
+                        if (c == 0) {
+                            runKey = nextRightKey;
+                            run.add(nextRight);
+                        }
+                        haveNextRight = false;
+                    }
+                    if (run.isEmpty() && !haveNextRight) return false;
+                }
+                return true;
+            }
+
+            /**
+             * @return false if 'right' is exhausted, otherwise true with its next element in 'nextRight'
+             */
+            private boolean pullRight() {
+                if (haveNextRight) return true;
+                if (!rights.hasNext()) return false;
+                final R r = rights.next();
+                final K key = rightKey.apply(r);
+                if (havePulledRight && comparator.compare(nextRightKey, key) > 0)
+                    throw new IllegalArgumentException("Functional.seq.mergeJoin: right is not sorted");
+                nextRight = r;
+                nextRightKey = key;
+                haveNextRight = true;
+                havePulledRight = true;
+                return true;
+            }
+
+            public O next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return resultSelector.apply(current, run.get(position++));
+            }
+        }
+
+        /**
+         * The batches of <tt>chunk</tt> and <tt>batchMap</tt>, pulled from the input. Random-access lists are sliced; other
+         * sequences are copied either into a new list per batch or, if 'reuseBuffer', into a single buffer which is
+         * refilled for each batch.
+         */
+        private static final class Batches<T> implements Iterator<List<T>> {
+            private final int size;
+            private final List<? extends T> list;
+            private final Iterator<? extends T> iterator;
+            private final ArrayList<T> buffer;
+            private final List<T> batch;
+            private int from = 0;
+
+            Batches(final int size, final Iterable<? extends T> input, final boolean reuseBuffer) {
+                this.size = size;
+                this.list = Pipeline.asRandomAccessList(input);
+                this.iterator = list == null ? input.iterator() : null;
+                this.buffer = list == null && reuseBuffer ? Functional.<T>newArrayList(atMost(size, input)) : null;
+                this.batch = buffer == null ? null : Collections.unmodifiableList(buffer);
+            }
+
+            public boolean hasNext() {
+                return list != null ? from < list.size() : iterator.hasNext();
+            }
+
+            public List<T> next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (list != null) {
+                    final int to = (int) Math.min((long) from + size, list.size());
+                    final List<T> slice = view(list, from, to);
+                    from = to;
+                    return slice;
+                }
+                if (buffer != null) {
+                    buffer.clear();
+                    while (buffer.size() < size && iterator.hasNext()) buffer.add(iterator.next());
+                    return batch;
+                }
+                final ImmutableArrayList.Builder<T> chunk = newBuilder(Math.min(size, 1024));
+                while (chunk.size() < size && iterator.hasNext()) chunk.add(iterator.next());
+                return chunk.build();
+            }
+        }
+
+        /**
+         * The sink through which <tt>chunk</tt> pushes a sequence which is not a random-access list. Each chunk is collected
+         * in a builder of its own, so that the list it builds never changes afterwards.
          */
-        public static Iterable<Range<Integer>> partition(final int howManyElements, final int howManyPartitions) {
-            return partition(Functional.range(0), howManyElements, howManyPartitions);
+        private static final class Chunks<T> implements Pipeline.Sink<T> {
+            private final int size;
+            private final int sizeHint;
+            private final Pipeline.Sink<? super List<T>> downstream;
+            private ImmutableArrayList.Builder<T> chunk;
+
+            Chunks(final int size, final int sizeHint, final Pipeline.Sink<? super List<T>> downstream) {
+                this.size = size;
+                this.sizeHint = sizeHint;
+                this.downstream = downstream;
+                this.chunk = newBuilder(sizeHint);
+            }
+
+            public boolean accept(final T t) {
+                chunk.add(t);
+                if (chunk.size() < size) return true;
+                final List<T> full = chunk.build();
+                chunk = newBuilder(sizeHint);
+                return downstream.accept(full);
+            }
+
+            /**
+             * @return false if the downstream sink declined the final, short, chunk
+             */
+            boolean flush() {
+                return chunk.size() == 0 || downstream.accept(chunk.build());
+            }
         }
 
         /**
-         * This sequence generator returns a sequence of Range objects which split the interval [1-'howManyElements') into 'howManyPartitions'
-         * Range objects. If the interval cannot be divided exactly then the remainder is allocated evenly across the first
-         * 'howManyElements' % 'howManyPartitions' Range objects.
-         *
-         * @param generator         a function which generates members of the input sequence
-         * @param howManyElements   defines the exclusive upper bound of the interval to be split
-         * @param howManyPartitions defines the number of Range objects to generate to cover the interval
-         * @return a list of Range objects
+         * The state of <tt>sliding</tt> over a sequence which is not a random-access list: the elements of the window
+         * being filled and the number of elements still to be passed over before the next window starts.
          */
-        public static <T> Iterable<Range<T>> partition(final Function<Integer, T> generator, final int howManyElements, final int howManyPartitions) {
-            if (howManyElements <= 0)
-                throw new IllegalArgumentException("Functional.partition() howManyElements cannot be non-positive");
-            if (howManyPartitions <= 0)
-                throw new IllegalArgumentException("Functional.partition() howManyPartitions cannot be non-positive");
-
-            final int size = howManyElements / howManyPartitions;
-            final int remainder = howManyElements % howManyPartitions;
+        private static final class Window<T> {
+            private final int size;
+            private final int step;
+            private final ArrayDeque<T> elements;
+            private int toSkip = 0;
+
+            Window(final int size, final int step) {
+                this.size = size;
+                this.step = step;
+                this.elements = new ArrayDeque<>(Math.min(size, 1024));
+            }
 
-            assert size * howManyPartitions + remainder == howManyElements;
+            /**
+             * @return the window which 't' completes, or null if it does not complete one
+             */
+            List<T> offer(final T t) {
+                if (toSkip > 0) {
+                    --toSkip;
+                    return null;
+                }
+                elements.addLast(t);
+                if (elements.size() < size) return null;
+
+                final List<T> window = ImmutableArrayList.copyOf(elements);
+                if (step >= size) {
+                    elements.clear();
+                    toSkip = step - size;
+                } else
+                    for (int i = 0; i < step; ++i) elements.removeFirst();
+                return window;
+            }
+        }
+    }
 
-            final Integer seed = 0;
-            final Function<Integer, Pair<T, Integer>> boundsCalculator = integer -> Pair.of(
-                    generator.apply(1 + (integer * size + (integer <= remainder ? integer : remainder))),
-                    integer + 1);
-            final Function<Integer, Boolean> finished = integer -> integer > howManyPartitions;
+    /**
+     * Parallel implementations of some of the algorithms. The input is split into contiguous index ranges using
+     * {@link Functional#partition(int, int)} and each range is processed as a separate task on a {@link ForkJoinPool},
+     * either the one supplied or {@link ForkJoinPool#commonPool()}. The partial results are combined in range order, so
+     * the output is the same as that of the corresponding serial function.
+     * The input must be a java.util.List or an array. Lists that do not implement {@link RandomAccess} are copied before
+     * being split. Inputs that are too small to be worth splitting are processed on the calling thread.
+     * The functions supplied to these algorithms are called concurrently and so must be thread-safe.
+     */
+    public static class parallel {
+        private parallel() {
+        }
 
-            final Iterable<T> output = Functional.seq.unfold(boundsCalculator, finished, seed);
+        /**
+         * The smallest number of elements that will be given to a task of its own
+         */
+        static final int MINIMUM_PARTITION_SIZE = 1024;
 
-            return new Iterable<Range<T>>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+        /**
+         * The number of tasks created per worker thread in the pool, so that threads which finish early can take up slack
+         */
+        static final int PARTITIONS_PER_THREAD = 4;
 
-                public Iterator<Range<T>> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<Range<T>>() {
-                            final Iterator<T> iterator = output.iterator();
-                            T last = iterator.next();
+        static int howManyPartitions(final ForkJoinPool pool, final int howManyElements) {
+            return Math.max(1, Math.min(howManyElements / MINIMUM_PARTITION_SIZE, pool.getParallelism() * PARTITIONS_PER_THREAD));
+        }
 
-                            public boolean hasNext() {
-                                return iterator.hasNext();
-                            }
+        private static <A> List<A> randomAccess(final List<A> input) {
+            return input instanceof RandomAccess ? input : new ArrayList<>(input);
+        }
 
+        /**
+         * Apply 'work' to each of the ranges covering [0,howManyElements) and return the results in range order.
+         */
+        private static <R> List<R> forEachRange(final ForkJoinPool pool, final int howManyElements, final Function<Range<Integer>, R> work) {
+            final int howManyPartitions = howManyPartitions(pool, howManyElements);
+            if (howManyPartitions == 1)
+                return Collections.singletonList(work.apply(new Range<>(0, howManyElements)));
+
+            final List<Range<Integer>> ranges = Functional.partition(howManyElements, howManyPartitions);
+            final List<ForkJoinTask<R>> tasks = new ArrayList<>(ranges.size());
+            for (final Range<Integer> range : ranges)
+                tasks.add(pool.submit(() -> work.apply(range)));
+            final List<R> results = new ArrayList<>(tasks.size());
+            for (final ForkJoinTask<R> task : tasks)
+                results.add(task.join());
+            return results;
+        }
 
-                            public Range<T> next() {
-                                final T next = iterator.next();
-                                final Range<T> retval = new Range(last, next);
-                                last = next;
-                                return retval;
-                            }
+        private static <A> List<A> concat(final List<List<A>> partialResults) {
+            int size = 0;
+            for (final List<A> partialResult : partialResults) size += partialResult.size();
+            final ImmutableArrayList.Builder<A> output = newBuilder(size);
+            for (final List<A> partialResult : partialResults) output.addAll(partialResult);
+            return output.build();
+        }
 
+        /**
+         * How the partial maps built by <tt>groupBy</tt> and <tt>toDictionary</tt> for each range of the input are combined
+         */
+        public enum MergeOrder {
+            /**
+             * The partial maps are merged pairwise, in range order, on the pool. The result is the same as that of the
+             * serial function: the elements in each group are in input order and, where two elements generate the same key,
+             * the value generated from the later element is the one retained.
+             */
+            ORDERED,
+            /**
+             * Each task merges its partial map into a single shared {@link ConcurrentHashMap} as soon as it has built it,
+             * so there is no separate merge phase and a key is only contended for once per task rather than once per
+             * element. The elements in each group are in input order within each range but the ranges are in no particular
+             * order and, where two elements generate the same key, which value is retained is unspecified. Neither the keys
+             * nor the values may be null.
+             */
+            UNORDERED
+        }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.partition(Func,int,int): it is not possible to remove elements from this sequence");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+        /**
+         * Merge adjacent pairs of partial results on the pool, round by round, until only one remains. 'merge' is given an
+         * earlier partial result and the one that follows it.
+         */
+        private static <M> M mergeInOrder(final ForkJoinPool pool, final List<M> partialResults, final BinaryOperator<M> merge) {
+            List<M> round = partialResults;
+            while (round.size() > 1) {
+                final List<ForkJoinTask<M>> tasks = new ArrayList<>(round.size() / 2);
+                for (int i = 0; i + 1 < round.size(); i += 2) {
+                    final M earlier = round.get(i);
+                    final M later = round.get(i + 1);
+                    tasks.add(pool.submit(() -> merge.apply(earlier, later)));
                 }
-            };
+                final List<M> next = new ArrayList<>(tasks.size() + 1);
+                for (final ForkJoinTask<M> task : tasks)
+                    next.add(task.join());
+                if (round.size() % 2 == 1)
+                    next.add(round.get(round.size() - 1));
+                round = next;
+            }
+            return round.get(0);
         }
 
         /**
-         * The Convolution operator
-         * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
-         *
-         * @param l1  input sequence
-         * @param l2  input sequence
-         * @param <A> the type of the element in the first input sequence
-         * @param <B> the type of the element in the second input sequence
-         * @return list of pairs; the first element from each of the two input sequences is the first pair in the output sequence and so on,
-         * in order. If the sequences do not have the same number of elements then an exception is thrown.
-         * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+         * Merge two partial groupings, iterating over whichever has fewer keys. The result is whichever map was the larger.
          */
-        public static <A, B> Iterable<Pair<A, B>> zip(final Iterable<? extends A> l1, final Iterable<? extends B> l2) {
-            if (l1 == null)
-                throw new IllegalArgumentException("Functional.seq.zip(Iterable<A>,Iterable<B>): l1 is null");
-            if (l2 == null)
-                throw new IllegalArgumentException("Functional.seq.zip(Iterable<A>,Iterable<B>): l2 is null");
+        private static <U, T> HashMap<U, ArrayList<T>> mergeGroups(final HashMap<U, ArrayList<T>> earlier, final HashMap<U, ArrayList<T>> later) {
+            if (earlier.size() >= later.size()) {
+                for (final Map.Entry<U, ArrayList<T>> entry : later.entrySet()) {
+                    final ArrayList<T> group = earlier.putIfAbsent(entry.getKey(), entry.getValue());
+                    if (group != null) group.addAll(entry.getValue());
+                }
+                return earlier;
+            }
+            for (final Map.Entry<U, ArrayList<T>> entry : earlier.entrySet()) {
+                final ArrayList<T> group = later.put(entry.getKey(), entry.getValue());
+                if (group != null) entry.getValue().addAll(group);
+            }
+            return later;
+        }
 
-            return new Iterable<Pair<A, B>>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+        /**
+         * Merge two partial dictionaries, iterating over whichever has fewer keys. The result is whichever map was the
+         * larger; where both contain a key the value from 'later' is retained.
+         */
+        private static <K, V> HashMap<K, V> mergeDictionaries(final HashMap<K, V> earlier, final HashMap<K, V> later) {
+            if (earlier.size() >= later.size()) {
+                earlier.putAll(later);
+                return earlier;
+            }
+            for (final Map.Entry<K, V> entry : earlier.entrySet())
+                later.putIfAbsent(entry.getKey(), entry.getValue());
+            return later;
+        }
 
-                public Iterator<Pair<A, B>> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<Pair<A, B>>() {
-                            private final Iterator<? extends A> l1_it = l1.iterator();
-                            private final Iterator<? extends B> l2_it = l2.iterator();
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+         * map: (A -> B) -> A list -> B list
+         *
+         * @param <A>   the type of the element in the input sequence
+         * @param <B>   the type of the element in the output sequence
+         * @param pool  the fork/join pool on which the transformation will be run
+         * @param f     a transformation function which takes a object of type A and returns an object, presumably related, of type B
+         * @param input a list to be fed into f
+         * @return a list of type B containing the transformed values, in the same order as the input
+         */
+        @SuppressWarnings("unchecked")
+        public static <A, B> List<B> map(final ForkJoinPool pool, final Function<? super A, ? extends B> f, final List<A> input) {
+            if (pool == null) throw new IllegalArgumentException("Functional.parallel.map(ForkJoinPool,Function,List<A>): pool is null");
+            if (f == null) throw new IllegalArgumentException("Functional.parallel.map(ForkJoinPool,Function,List<A>): f is null");
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.map(ForkJoinPool,Function,List<A>): input is null");
+
+            final List<A> source = randomAccess(input);
+            final Object[] output = new Object[source.size()];
+            forEachRange(pool, output.length, range -> {
+                for (int i = range.from(); i < range.to(); ++i)
+                    output[i] = f.apply(source.get(i));
+                return null;
+            });
+            return ImmutableArrayList.adopt(output, output.length);
+        }
 
-                            public boolean hasNext() {
-                                final boolean l1_it_hasNext = l1_it.hasNext();
-                                final boolean l2_it_hasNext = l2_it.hasNext();
-                                if (l1_it_hasNext != l2_it_hasNext)
-                                    throw new IllegalArgumentException("Functional.seq.zip(Iterable<A>,Iterable<B>): l1 and l2 have differing numbers of elements");
-                                return l1_it_hasNext && l2_it_hasNext;
-                            }
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * As {@link #map(ForkJoinPool, Function, List)} using the common fork/join pool.
+         */
+        public static <A, B> List<B> map(final Function<? super A, ? extends B> f, final List<A> input) {
+            return map(ForkJoinPool.commonPool(), f, input);
+        }
 
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * As {@link #map(ForkJoinPool, Function, List)} using the common fork/join pool.
+         */
+        public static <A, B> List<B> map(final Function<? super A, ? extends B> f, final A[] input) {
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.map(Function,A[]): input is null");
+            return map(ForkJoinPool.commonPool(), f, Arrays.asList(input));
+        }
 
-                            public Pair<A, B> next() {
-                                return Pair.of(l1_it.next(), l2_it.next());
-                            }
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+         *
+         * @param <A>   the type of the element in the input sequence
+         * @param pool  the fork/join pool on which the filter will be run
+         * @param pred  a filter function. This is passed each input element in turn and returns either true or false. If true then
+         *              the input element is passed through to the output otherwise it is ignored.
+         * @param input a list of objects
+         * @return a list which contains zero or more of the elements of the input list, in the same order as the input
+         */
+        public static <A> List<A> filter(final ForkJoinPool pool, final Function<? super A, Boolean> pred, final List<A> input) {
+            if (pool == null) throw new IllegalArgumentException("Functional.parallel.filter(ForkJoinPool,Function,List<A>): pool is null");
+            if (pred == null) throw new IllegalArgumentException("Functional.parallel.filter(ForkJoinPool,Function,List<A>): pred is null");
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.filter(ForkJoinPool,Function,List<A>): input is null");
+
+            final List<A> source = randomAccess(input);
+            return concat(forEachRange(pool, source.size(), range -> {
+                final List<A> output = new ArrayList<>();
+                for (int i = range.from(); i < range.to(); ++i) {
+                    final A element = source.get(i);
+                    if (pred.apply(element))
+                        output.add(element);
+                }
+                return output;
+            }));
+        }
 
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+         * As {@link #filter(ForkJoinPool, Function, List)} using the common fork/join pool.
+         */
+        public static <A> List<A> filter(final Function<? super A, Boolean> pred, final List<A> input) {
+            return filter(ForkJoinPool.commonPool(), pred, input);
+        }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.zip(Iterable,Iterable): it is not possible to remove elements from this sequence");
-                            }
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+         * As {@link #filter(ForkJoinPool, Function, List)} using the common fork/join pool.
+         */
+        public static <A> List<A> filter(final Function<? super A, Boolean> pred, final A[] input) {
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.filter(Function,A[]): input is null");
+            return filter(ForkJoinPool.commonPool(), pred, Arrays.asList(input));
+        }
 
-                            //
-                            //                        public void forEachRemaining(Consumer<? super Pair<A, B>> action) {
-                            //
-                            //                        }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+        /**
+         * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+         * be between zero and the number of elements in the input sequence.
+         * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+         * choose: (A -> B option) -> A list -> B list
+         *
+         * @param <A>   the type of the element in the input sequence
+         * @param <B>   the type of the element in the output sequence
+         * @param pool  the fork/join pool on which the transformation will be run
+         * @param f     map function. This transforms the input element into an Option
+         * @param input input list
+         * @return a list of transformed elements, numbering less than or equal to the number of input elements, in the same order as the input
+         */
+        public static <A, B> List<B> choose(final ForkJoinPool pool, final Function<? super A, Option<B>> f, final List<A> input) {
+            if (pool == null) throw new IllegalArgumentException("Functional.parallel.choose(ForkJoinPool,Function,List<A>): pool is null");
+            if (f == null) throw new IllegalArgumentException("Functional.parallel.choose(ForkJoinPool,Function,List<A>): f is null");
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.choose(ForkJoinPool,Function,List<A>): input is null");
+
+            final List<A> source = randomAccess(input);
+            return concat(forEachRange(pool, source.size(), range -> {
+                final List<B> output = new ArrayList<>();
+                for (int i = range.from(); i < range.to(); ++i) {
+                    final Option<B> intermediate = f.apply(source.get(i));
+                    if (!intermediate.isNone())
+                        output.add(intermediate.Some());
                 }
-            };
+                return output;
+            }));
         }
 
-        public static <A, B> Function<Iterable<B>, Iterable<Pair<A, B>>> zip(final Iterable<? extends A> l1) {
-            return l2 -> seq.zip(l1, l2);
+        /**
+         * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+         * be between zero and the number of elements in the input sequence.
+         * As {@link #choose(ForkJoinPool, Function, List)} using the common fork/join pool.
+         */
+        public static <A, B> List<B> choose(final Function<? super A, Option<B>> f, final List<A> input) {
+            return choose(ForkJoinPool.commonPool(), f, input);
         }
 
         /**
-         * The Convolution operator
-         * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
-         *
-         * @param l1  input sequence
-         * @param l2  input sequence
-         * @param l3  input sequence
-         * @param <A> the type of the element in the first input sequence
-         * @param <B> the type of the element in the second input sequence
-         * @param <C> the type of the element in the third input sequence
-         * @return list of pairs; the first element from each of the two input sequences is the first pair in the output sequence and so on,
-         * in order. If the sequences do not have the same number of elements then an exception is thrown.
-         * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+         * choose: this is a map transformation with the difference being that the number of elements in the output sequence may
+         * be between zero and the number of elements in the input sequence.
+         * As {@link #choose(ForkJoinPool, Function, List)} using the common fork/join pool.
          */
-        public static <A, B, C> Iterable<Triple<A, B, C>> zip3(final Iterable<? extends A> l1, final Iterable<? extends B> l2, final Iterable<? extends C> l3) {
-            if (l1 == null)
-                throw new IllegalArgumentException("Functional.seq.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l1 is null");
-            if (l2 == null)
-                throw new IllegalArgumentException("Functional.seq.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l2 is null");
-            if (l3 == null)
-                throw new IllegalArgumentException("Functional.seq.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l3 is null");
+        public static <A, B> List<B> choose(final Function<? super A, Option<B>> f, final A[] input) {
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.choose(Function,A[]): input is null");
+            return choose(ForkJoinPool.commonPool(), f, Arrays.asList(input));
+        }
 
-            return new Iterable<Triple<A, B, C>>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+         * fold: aggregate the elements of the input sequence given a seed and an aggregation function.
+         * Each range of the input is folded separately, starting from 'initialValue', and the partial results are then
+         * combined, in order, using 'combiner'. Therefore 'initialValue' must be an identity for 'combiner' and 'combiner'
+         * must be associative, otherwise the result will depend upon how the input was split.
+         * fold: (A -> B -> A) -> (A -> A -> A) -> A -> B list -> A
+         *
+         * @param <A>          the type of the initialValue / seed
+         * @param <B>          the type of the element in the input sequence
+         * @param pool         the fork/join pool on which the aggregation will be run
+         * @param f            aggregation function
+         * @param combiner     function used to combine the results of two adjacent ranges
+         * @param initialValue seed for the algorithm
+         * @param input        input list
+         * @return aggregated value
+         */
+        public static <A, B> A fold(final ForkJoinPool pool, final BiFunction<? super A, ? super B, ? extends A> f, final BinaryOperator<A> combiner, final A initialValue, final List<B> input) {
+            if (pool == null) throw new IllegalArgumentException("Functional.parallel.fold(ForkJoinPool,BiFunction,BinaryOperator,A,List<B>): pool is null");
+            if (f == null) throw new IllegalArgumentException("Functional.parallel.fold(ForkJoinPool,BiFunction,BinaryOperator,A,List<B>): f is null");
+            if (combiner == null) throw new IllegalArgumentException("Functional.parallel.fold(ForkJoinPool,BiFunction,BinaryOperator,A,List<B>): combiner is null");
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.fold(ForkJoinPool,BiFunction,BinaryOperator,A,List<B>): input is null");
+
+            final List<B> source = randomAccess(input);
+            final List<A> partialResults = forEachRange(pool, source.size(), range -> {
+                A state = initialValue;
+                for (int i = range.from(); i < range.to(); ++i)
+                    state = f.apply(state, source.get(i));
+                return state;
+            });
+            A state = partialResults.get(0);
+            for (int i = 1; i < partialResults.size(); ++i)
+                state = combiner.apply(state, partialResults.get(i));
+            return state;
+        }
 
-                public Iterator<Triple<A, B, C>> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<Triple<A, B, C>>() {
-                            private final Iterator<? extends A> l1_it = l1.iterator();
-                            private final Iterator<? extends B> l2_it = l2.iterator();
-                            private final Iterator<? extends C> l3_it = l3.iterator();
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+         * As {@link #fold(ForkJoinPool, BiFunction, BinaryOperator, Object, List)} using the common fork/join pool.
+         */
+        public static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> f, final BinaryOperator<A> combiner, final A initialValue, final List<B> input) {
+            return fold(ForkJoinPool.commonPool(), f, combiner, initialValue, input);
+        }
 
-                            public boolean hasNext() {
-                                final boolean l1_it_hasNext = l1_it.hasNext();
-                                final boolean l2_it_hasNext = l2_it.hasNext();
-                                final boolean l3_it_hasNext = l3_it.hasNext();
-                                if (l1_it_hasNext != l2_it_hasNext || l1_it_hasNext != l3_it_hasNext)
-                                    throw new IllegalArgumentException("Functional.seq.zip3(Iterable<A>,Iterable<B>,Iterable<C>): the input sequences have differing numbers of elements");
-                                return l1_it_hasNext && l2_it_hasNext && l3_it_hasNext;
-                            }
+        /**
+         * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+         * As {@link #fold(ForkJoinPool, BiFunction, BinaryOperator, Object, List)} using the common fork/join pool.
+         */
+        public static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> f, final BinaryOperator<A> combiner, final A initialValue, final B[] input) {
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.fold(BiFunction,BinaryOperator,A,B[]): input is null");
+            return fold(ForkJoinPool.commonPool(), f, combiner, initialValue, Arrays.asList(input));
+        }
 
+        /**
+         * groupBy: the input is grouped according to a function. See {@link Functional#groupBy(Function, Iterable)}.
+         * Each range of the input is grouped separately and the groups are then merged in range order, so the elements in
+         * each output group are in the same order as they were in the input.
+         *
+         * @param <T>   the type of the element in the input sequence
+         * @param <U>   the type of the element in the key
+         * @param pool  the fork/join pool on which the grouping will be run
+         * @param keyFn the grouping function. Given an element return the key to be used when storing this element in the dictionary
+         * @param input the input list
+         * @return a java.util.Map containing a list of elements for each key
+         */
+        public static <T, U> Map<U, List<T>> groupBy(final ForkJoinPool pool, final Function<? super T, ? extends U> keyFn, final List<T> input) {
+            return groupBy(pool, keyFn, input, MergeOrder.ORDERED);
+        }
 
-                            public Triple<A, B, C> next() {
-                                return Triple.of(l1_it.next(), l2_it.next(), l3_it.next());
-                            }
+        /**
+         * groupBy: the input is grouped according to a function. See {@link Functional#groupBy(Function, Iterable)}.
+         * Each range of the input is grouped into a partial map of its own and the partial maps are then combined as
+         * 'order' directs.
+         *
+         * @param <T>   the type of the element in the input sequence
+         * @param <U>   the type of the element in the key
+         * @param pool  the fork/join pool on which the grouping will be run
+         * @param keyFn the grouping function. Given an element return the key to be used when storing this element in the dictionary
+         * @param input the input list
+         * @param order how the partial maps are combined
+         * @return a java.util.Map containing a list of elements for each key
+         */
+        public static <T, U> Map<U, List<T>> groupBy(final ForkJoinPool pool, final Function<? super T, ? extends U> keyFn, final List<T> input, final MergeOrder order) {
+            if (pool == null) throw new IllegalArgumentException("Functional.parallel.groupBy(ForkJoinPool,Function,List<T>,MergeOrder): pool is null");
+            if (keyFn == null) throw new IllegalArgumentException("Functional.parallel.groupBy(ForkJoinPool,Function,List<T>,MergeOrder): keyFn is null");
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.groupBy(ForkJoinPool,Function,List<T>,MergeOrder): input is null");
+            if (order == null) throw new IllegalArgumentException("Functional.parallel.groupBy(ForkJoinPool,Function,List<T>,MergeOrder): order is null");
+
+            final List<T> source = randomAccess(input);
+            final Function<Range<Integer>, HashMap<U, ArrayList<T>>> group = range -> {
+                final HashMap<U, ArrayList<T>> groups = new HashMap<>();
+                for (int i = range.from(); i < range.to(); ++i) {
+                    final T element = source.get(i);
+                    groups.computeIfAbsent(keyFn.apply(element), key -> new ArrayList<>()).add(element);
+                }
+                return groups;
+            };
 
+            final Map<U, List<T>> merged;
+            if (order == MergeOrder.ORDERED) {
+                @SuppressWarnings("unchecked")
+                final Map<U, List<T>> groups = (Map<U, List<T>>) (Map<U, ?>) mergeInOrder(pool, forEachRange(pool, source.size(), group), parallel::mergeGroups);
+                merged = groups;
+            } else {
+                final ConcurrentHashMap<U, List<T>> shared = new ConcurrentHashMap<>();
+                forEachRange(pool, source.size(), range -> {
+                    for (final Map.Entry<U, ArrayList<T>> entry : group.apply(range).entrySet())
+                        shared.merge(entry.getKey(), entry.getValue(), (groupSoFar, more) -> {
+                            groupSoFar.addAll(more);
+                            return groupSoFar;
+                        });
+                    return null;
+                });
+                merged = shared;
+            }
+            merged.replaceAll((key, elements) -> Collections.unmodifiableList(elements));
+            return Collections.unmodifiableMap(merged);
+        }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.zip3(Iterable,Iterable,Iterable): it is not possible to remove elements from this sequence");
-                            }
+        /**
+         * groupBy: the input is grouped according to a function. See {@link Functional#groupBy(Function, Iterable)}.
+         * As {@link #groupBy(ForkJoinPool, Function, List)} using the common fork/join pool.
+         */
+        public static <T, U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn, final List<T> input) {
+            return groupBy(ForkJoinPool.commonPool(), keyFn, input);
+        }
 
-                            //
-                            //                        public void forEachRemaining(Consumer<? super Pair<A, B>> action) {
-                            //
-                            //                        }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
-                }
-            };
+        /**
+         * groupBy: the input is grouped according to a function. See {@link Functional#groupBy(Function, Iterable)}.
+         * As {@link #groupBy(ForkJoinPool, Function, List, MergeOrder)} using the common fork/join pool.
+         */
+        public static <T, U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn, final List<T> input, final MergeOrder order) {
+            return groupBy(ForkJoinPool.commonPool(), keyFn, input, order);
         }
 
-        public static <A, B, C> Function<Iterable<C>, Iterable<Triple<A, B, C>>> zip3(final Iterable<? extends A> l1, final Iterable<? extends B> l2) {
-            return l3 -> seq.zip3(l1, l2, l3);
+        /**
+         * groupBy: the input is grouped according to a function. See {@link Functional#groupBy(Function, Iterable)}.
+         * As {@link #groupBy(ForkJoinPool, Function, List)} using the common fork/join pool.
+         */
+        public static <T, U> Map<U, List<T>> groupBy(final Function<? super T, ? extends U> keyFn, final T[] input) {
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.groupBy(Function,T[]): input is null");
+            return groupBy(ForkJoinPool.commonPool(), keyFn, Arrays.asList(input));
         }
 
         /**
-         * Convolution of functions
-         * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+         * toDictionary: given each element from the input sequence apply the keyFn and valueFn to generate a (key,value) pair.
+         * See {@link Functional#toDictionary(Function, Function, Iterable)}. Each range of the input is processed separately
+         * and the partial dictionaries are then merged in range order so that, as in the serial version, when two elements
+         * generate the same key the value generated from the later element is the one retained.
          *
-         * @param <A>   the type of the input sequence
-         * @param <B>   the result type of the first transformation
-         * @param <C>   the result type of the second transformation
-         * @param f     the first transformation function
-         * @param g     the second transformation function
-         * @param input the input sequence
-         * @return a sequence of pairs. The first value of the pair is the result of the first transformation and the seocnd value of the
-         * pair of the result of the second transformation.
+         * @param <T>     the type of the element in the input sequence
+         * @param <K>     the type of the key elements
+         * @param <V>     the type of the value elements
+         * @param pool    the fork/join pool on which the transformation will be run
+         * @param keyFn   function used to generate the key
+         * @param valueFn function used to generate the value
+         * @param input   input list
+         * @return a java.util.Map containing the transformed input sequence
          */
-        public static <A, B, C> Iterable<Pair<B, C>> zip(final Function<? super A, B> f, final Function<? super A, C> g, final Iterable<? extends A> input) {
-            return new Iterable<Pair<B, C>>() {
-                private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+        public static <T, K, V> Map<K, V> toDictionary(final ForkJoinPool pool, final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn, final List<T> input) {
+            return toDictionary(pool, keyFn, valueFn, input, MergeOrder.ORDERED);
+        }
 
-                public Iterator<Pair<B, C>> iterator() {
-                    if (haveCreatedIterator.compareAndSet(false, true))
-                        return new Iterator<Pair<B, C>>() {
-                            private final Iterator<? extends A> iterator = input.iterator();
+        /**
+         * toDictionary: given each element from the input sequence apply the keyFn and valueFn to generate a (key,value) pair.
+         * See {@link Functional#toDictionary(Function, Function, Iterable)}. Each range of the input is processed into a
+         * partial dictionary of its own and the partial dictionaries are then combined as 'order' directs.
+         *
+         * @param <T>     the type of the element in the input sequence
+         * @param <K>     the type of the key elements
+         * @param <V>     the type of the value elements
+         * @param pool    the fork/join pool on which the transformation will be run
+         * @param keyFn   function used to generate the key
+         * @param valueFn function used to generate the value
+         * @param input   input list
+         * @param order   how the partial dictionaries are combined
+         * @return a java.util.Map containing the transformed input sequence
+         */
+        public static <T, K, V> Map<K, V> toDictionary(final ForkJoinPool pool, final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn,
+                                                       final List<T> input, final MergeOrder order) {
+            if (pool == null) throw new IllegalArgumentException("Functional.parallel.toDictionary(ForkJoinPool,Function,Function,List<T>,MergeOrder): pool is null");
+            if (keyFn == null) throw new IllegalArgumentException("Functional.parallel.toDictionary(ForkJoinPool,Function,Function,List<T>,MergeOrder): keyFn is null");
+            if (valueFn == null) throw new IllegalArgumentException("Functional.parallel.toDictionary(ForkJoinPool,Function,Function,List<T>,MergeOrder): valueFn is null");
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.toDictionary(ForkJoinPool,Function,Function,List<T>,MergeOrder): input is null");
+            if (order == null) throw new IllegalArgumentException("Functional.parallel.toDictionary(ForkJoinPool,Function,Function,List<T>,MergeOrder): order is null");
+
+            final List<T> source = randomAccess(input);
+            final Function<Range<Integer>, HashMap<K, V>> build = range -> {
+                final HashMap<K, V> output = new HashMap<>();
+                for (int i = range.from(); i < range.to(); ++i) {
+                    final T element = source.get(i);
+                    output.put(keyFn.apply(element), valueFn.apply(element));
+                }
+                return output;
+            };
 
-                            public boolean hasNext() {
-                                return iterator.hasNext();
-                            }
+            if (order == MergeOrder.ORDERED)
+                return Collections.unmodifiableMap(mergeInOrder(pool, forEachRange(pool, source.size(), build), parallel::mergeDictionaries));
 
+            final ConcurrentHashMap<K, V> shared = new ConcurrentHashMap<>();
+            forEachRange(pool, source.size(), range -> {
+                shared.putAll(build.apply(range));
+                return null;
+            });
+            return Collections.unmodifiableMap(shared);
+        }
 
-                            public Pair<B, C> next() {
-                                final A next = iterator.next();
-                                return Pair.of(f.apply(next), g.apply(next));
-                            }
+        /**
+         * toDictionary: given each element from the input sequence apply the keyFn and valueFn to generate a (key,value) pair.
+         * As {@link #toDictionary(ForkJoinPool, Function, Function, List)} using the common fork/join pool.
+         */
+        public static <T, K, V> Map<K, V> toDictionary(final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn, final List<T> input) {
+            return toDictionary(ForkJoinPool.commonPool(), keyFn, valueFn, input);
+        }
 
+        /**
+         * toDictionary: given each element from the input sequence apply the keyFn and valueFn to generate a (key,value) pair.
+         * As {@link #toDictionary(ForkJoinPool, Function, Function, List, MergeOrder)} using the common fork/join pool.
+         */
+        public static <T, K, V> Map<K, V> toDictionary(final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn,
+                                                       final List<T> input, final MergeOrder order) {
+            return toDictionary(ForkJoinPool.commonPool(), keyFn, valueFn, input, order);
+        }
 
-                            public void remove() {
-                                throw new UnsupportedOperationException("Functional.seq.zip(Func,Func): it is not possible to remove elements from this sequence");
-                            }
-                        };
-                    else throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
-                }
-            };
+        /**
+         * toDictionary: given each element from the input sequence apply the keyFn and valueFn to generate a (key,value) pair.
+         * As {@link #toDictionary(ForkJoinPool, Function, Function, List)} using the common fork/join pool.
+         */
+        public static <T, K, V> Map<K, V> toDictionary(final Function<? super T, ? extends K> keyFn, final Function<? super T, ? extends V> valueFn, final T[] input) {
+            if (input == null) throw new IllegalArgumentException("Functional.parallel.toDictionary(Function,Function,T[]): input is null");
+            return toDictionary(ForkJoinPool.commonPool(), keyFn, valueFn, Arrays.asList(input));
         }
     }
 
     /**
      * See <a href="http://en.wikipedia.org/wiki/Recursion_(computer_science)">Recursion</a>
-     * Recursive implementations of (some of) the algorithms contained herein
+     * Recursive implementations of (some of) the algorithms contained herein. Each recursive step is returned as a
+     * {@link Trampoline} rather than called directly, so that these run in constant stack space whatever the size of the input.
      */
     public static class rec {
         private rec() {
         }
 
-        private static <A> Iterable<A> filter(final Function<? super A, Boolean> f, final Iterator<A> input, final Collection<A> accumulator) {
+        private static <A> Trampoline<Iterable<A>> filter(final Function<? super A, Boolean> f, final Iterator<A> input, final Collection<A> accumulator) {
             if (input.hasNext()) {
                 A next = input.next();
                 if (f.apply(next)) accumulator.add(next);
-                return filter(f, input, accumulator);
-            } else return accumulator;
+                return Trampoline.more(() -> filter(f, input, accumulator));
+            } else return Trampoline.done(accumulator);
         }
 
         /**
@@ -2761,14 +4830,14 @@ public final class Functional {
          * the filter function returns true for the element.
          */
         public static <A> Iterable<A> filter(final Function<? super A, Boolean> f, final Iterable<A> input) {
-            return filter(f, input.iterator(), input instanceof Collection<?> ? new ArrayList<>(((Collection) input).size()) : new ArrayList<>());
+            return filter(f, input.iterator(), newArrayList(input)).run();
         }
 
-        private static <A, B> Iterable<B> map(final Function<? super A, ? extends B> f, final Iterator<A> input, final Collection<B> accumulator) {
+        private static <A, B> Trampoline<Iterable<B>> map(final Function<? super A, ? extends B> f, final Iterator<A> input, final Collection<B> accumulator) {
             if (input.hasNext()) {
                 accumulator.add(f.apply(input.next()));
-                return map(f, input, accumulator);
-            } else return accumulator;
+                return Trampoline.more(() -> map(f, input, accumulator));
+            } else return Trampoline.done(accumulator);
         }
 
         /**
@@ -2785,14 +4854,15 @@ public final class Functional {
          * @return a seq of type B containing the transformed values.
          */
         public static <A, B> Iterable<B> map(final Function<? super A, ? extends B> f, final Iterable<A> input) {
-            return map(f, input.iterator(), input instanceof Collection<?> ? new ArrayList<>(((Collection) input).size()) : new ArrayList<>());
+            return Functional.rec.<A, B>map(f, input.iterator(), newArrayList(input)).run();
         }
 
-        private static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> f, final A initialValue, final Iterator<B> input) {
+        private static <A, B> Trampoline<A> fold(final BiFunction<? super A, ? super B, ? extends A> f, final A initialValue, final Iterator<B> input) {
             if (input.hasNext()) {
                 B next = input.next();
-                return fold(f, f.apply(initialValue, next), input);
-            } else return initialValue;
+                final A state = f.apply(initialValue, next);
+                return Trampoline.more(() -> fold(f, state, input));
+            } else return Trampoline.done(initialValue);
         }
 
         /**
@@ -2808,14 +4878,14 @@ public final class Functional {
          * @return the aggregated value
          */
         public static <A, B> A fold(final BiFunction<? super A, ? super B, ? extends A> f, final A initialValue, final Iterable<B> input) {
-            return fold(f, initialValue, input.iterator());
+            return fold(f, initialValue, input.iterator()).run();
         }
 
-        private static <A, B> List<A> unfold(final Function<? super B, Pair<A, B>> unspool, final Function<? super B, Boolean> finished, final B seed, final List<A> accumulator) {
-            if (finished.apply(seed)) return accumulator;
+        private static <A, B> Trampoline<List<A>> unfold(final Function<? super B, Pair<A, B>> unspool, final Function<? super B, Boolean> finished, final B seed, final List<A> accumulator) {
+            if (finished.apply(seed)) return Trampoline.done(accumulator);
             final Pair<A, B> p = unspool.apply(seed);
             accumulator.add(p.getLeft());
-            return unfold(unspool, finished, p.getRight(), accumulator);
+            return Trampoline.more(() -> unfold(unspool, finished, p.getRight(), accumulator));
         }
 
         /**
@@ -2826,14 +4896,14 @@ public final class Functional {
          * See <a href="http://en.wikipedia.org/wiki/Recursion_(computer_science)">Recursion</a>
          */
         public static <A, B> List<A> unfold(final Function<? super B, Pair<A, B>> unspool, final Function<? super B, Boolean> finished, final B seed) {
-            return unfold(unspool, finished, seed, new ArrayList<>());
+            return unfold(unspool, finished, seed, new ArrayList<>()).run();
         }
 
-        private static <A, B> List<A> unfold(final Function<? super B, Option<Pair<A, B>>> unspool, final B seed, final List<A> accumulator) {
+        private static <A, B> Trampoline<List<A>> unfold(final Function<? super B, Option<Pair<A, B>>> unspool, final B seed, final List<A> accumulator) {
             final Option<Pair<A, B>> p = unspool.apply(seed);
-            if (p.isNone()) return accumulator;
+            if (p.isNone()) return Trampoline.done(accumulator);
             accumulator.add(p.Some().getLeft());
-            return unfold(unspool, p.Some().getRight(), accumulator);
+            return Trampoline.more(() -> unfold(unspool, p.Some().getRight(), accumulator));
         }
 
         /**
@@ -2844,7 +4914,7 @@ public final class Functional {
          * See <a href="http://en.wikipedia.org/wiki/Recursion_(computer_science)">Recursion</a>
          */
         public static <A, B> List<A> unfold(final Function<? super B, Option<Pair<A, B>>> unspool, final B seed) {
-            return unfold(unspool, seed, new ArrayList<>());
+            return unfold(unspool, seed, new ArrayList<>()).run();
         }
     }
         /*
@@ -3011,7 +5081,7 @@ public final class Functional {
             final List<T> l2 = Functional.fold((BiFunction<List<T>, U, List<T>>) (state, o2) -> {
                 state.add(f.apply(o2));
                 return state;
-            }, l instanceof Collection<?> ? new ArrayList<>(((Collection) l).size()) : new ArrayList<>(), l);
+            }, newArrayList(l), l);
             return l2;
         }
 
@@ -3030,7 +5100,7 @@ public final class Functional {
             final List<T> l2 = Functional.fold((BiFunction<List<T>, T, List<T>>) (ts, o) -> {
                 if (predicate.apply(o)) ts.add(o);
                 return ts;
-            }, l instanceof Collection<?> ? new ArrayList<>(((Collection) l).size()) : new ArrayList<>(), l);
+            }, newArrayList(l), l);
             return l2;
         }
 
@@ -3097,12 +5167,8 @@ public final class Functional {
             if (f == null) throw new IllegalArgumentException("f");
             if (input == null) throw new IllegalArgumentException("input");
 
-            int pos = 0;
-            for (final A a : input)
-                if (f.apply(a))
-                    return Option.toOption(pos);
-                else pos++;
-            return Option.None();
+            final int pos = indexOfFirstMatch(input, f::apply);
+            return pos >= 0 ? Option.toOption(pos) : Option.None();
         }
 
         /**
@@ -3120,13 +5186,8 @@ public final class Functional {
             if (f == null) throw new IllegalArgumentException("f");
             if (input == null) throw new IllegalArgumentException("input");
 
-            final Pair<List<A>, Iterable<A>> p = takeNAndYield(input, 1);
-            if (p.getLeft().isEmpty()) return Option.None();
-            final Pair<A, Boolean> seed = Pair.of(p.getLeft().get(0), f.apply(p.getLeft().get(0)));
-            final Pair<A, Boolean> result = fold((state, item) -> f.apply(item) ? Pair.of(item, true) : state, seed, p.getRight());
-
-            if (result.getRight()) return Option.toOption(result.getLeft());
-            return Option.None();
+            final Object found = lastMatch(input, f::apply);
+            return found == NOT_FOUND ? Option.None() : Option.toOption(asElement(found));
         }
 
         /**
@@ -3144,11 +5205,8 @@ public final class Functional {
             if (f == null) throw new IllegalArgumentException("f");
             if (input == null) throw new IllegalArgumentException("input");
 
-            if (input.isEmpty()) return Option.None();
-            for (final A a : Iterators.reverse(input))
-                if (f.apply(a))
-                    return Option.toOption(a);
-            return Option.None();
+            final Object found = lastMatch(input, f::apply);
+            return found == NOT_FOUND ? Option.None() : Option.toOption(asElement(found));
         }
 
         /**
@@ -3162,10 +5220,8 @@ public final class Functional {
         public static <T> Option<T> last(final Iterable<T> input) {
             if (input == null) throw new IllegalArgumentException("Functional.last(Iterable<T>): input is null");
 
-            T state = null;
-            for (final T element : input) state = element;
-
-            return state == null ? Option.None() : Option.toOption(state);
+            final Object last = lastElement(input);
+            return last == NOT_FOUND ? Option.None() : Option.toOption(asElement(last));
         }
 
         /**
@@ -3231,16 +5287,21 @@ public final class Functional {
          * @param howMany a positive upper bound for the number of elements to be returned from the input sequence
          * @param list    the input sequence
          * @param <T>     the type of the element in the input sequence
-         * @return a list containing the first 'howMany' elements of 'list'
+         * @return a list containing the first 'howMany' elements of 'list'. If 'list' is one returned by this library then
+         * this shares its storage
          */
         public static <T> List<T> take(final int howMany, final Iterable<? extends T> list) {
             if (howMany < 0)
                 throw new IllegalArgumentException("Functional.take(int,Iterable<T>): howMany is negative");
             if (list == null) throw new IllegalArgumentException("Functional.take(int,Iterable<T>): list is null");
 
-            if (howMany == 0) return new ArrayList<>(0);
+            if (howMany == 0) return ImmutableArrayList.empty();
+
+            final List<? extends T> input = Pipeline.asRandomAccessList(list);
+            if (input != null)
+                return slice(input, 0, Math.min(howMany, input.size()));
 
-            final List<T> output = new ArrayList<>(howMany);
+            final ImmutableArrayList.Builder<T> output = newBuilder(atMost(howMany, list));
             final Iterator<? extends T> iterator = list.iterator();
             for (int i = 0; i < howMany; ++i) {
                 if (iterator.hasNext())
@@ -3248,7 +5309,7 @@ public final class Functional {
                 else
                     break;
             }
-            return Collections.unmodifiableList(output);
+            return output.build();
         }
 
         /**
@@ -3267,15 +5328,13 @@ public final class Functional {
             if (l1 == null) throw new IllegalArgumentException("Functional.zip(Iterable<A>,Iterable<B>): l1 is null");
             if (l2 == null) throw new IllegalArgumentException("Functional.zip(Iterable<A>,Iterable<B>): l2 is null");
 
-            final List<Pair<A, B>> output = (l1 instanceof Collection<?> && l2 instanceof Collection<?>)
-                    ? new ArrayList<>(((Collection) l1).size())
-                    : new ArrayList<>();
+            final ImmutableArrayList.Builder<Pair<A, B>> output = newBuilder(minSizeHint(l1, l2));
             final Iterator<? extends A> l1_it = l1.iterator();
             final Iterator<? extends B> l2_it = l2.iterator();
 
             while (l1_it.hasNext() && l2_it.hasNext()) output.add(Pair.of(l1_it.next(), l2_it.next()));
 
-            return Collections.unmodifiableList(output);
+            return output.build();
         }
 
         /**
@@ -3300,9 +5359,7 @@ public final class Functional {
             if (l3 == null)
                 throw new IllegalArgumentException("Functional.zip3(Iterable<A>,Iterable<B>,Iterable<C>): l3 is null");
 
-            final List<Triple<A, B, C>> output = (l1 instanceof Collection<?> && l2 instanceof Collection<?> && l3 instanceof Collection<?>)
-                    ? new ArrayList<>(((Collection) l1).size())
-                    : new ArrayList<>();
+            final ImmutableArrayList.Builder<Triple<A, B, C>> output = newBuilder(Math.min(minSizeHint(l1, l2), minSizeHint(l2, l3)));
             final Iterator<? extends A> l1_it = l1.iterator();
             final Iterator<? extends B> l2_it = l2.iterator();
             final Iterator<? extends C> l3_it = l3.iterator();
@@ -3310,7 +5367,7 @@ public final class Functional {
             while (l1_it.hasNext() && l2_it.hasNext() && l3_it.hasNext())
                 output.add(Triple.of(l1_it.next(), l2_it.next(), l3_it.next()));
 
-            return Collections.unmodifiableList(output);
+            return output.build();
         }
     }
 
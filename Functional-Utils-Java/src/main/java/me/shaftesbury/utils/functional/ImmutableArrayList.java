@@ -0,0 +1,191 @@
+package me.shaftesbury.utils.functional;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * The list returned by the eager functions in <tt>Functional</tt>. It is an immutable view of the range
+ * [offset, offset + size) of an array which no-one else writes to, so a single object stands in for the
+ * <tt>Collections.unmodifiableList(ArrayList)</tt> pair, <tt>get</tt> is a single array access and sublists share the
+ * array. <tt>Functional</tt> recognises these lists on input and shares rather than copies them where it can.
+ *
+ * @param <T> the type of the element in the list
+ */
+final class ImmutableArrayList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableArrayList<Object> EMPTY = new ImmutableArrayList<>(new Object[0], 0, 0);
+
+    private final Object[] elements;
+    private final int offset;
+    private final int size;
+
+    private ImmutableArrayList(final Object[] elements, final int offset, final int size) {
+        this.elements = elements;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ImmutableArrayList<T> empty() {
+        return (ImmutableArrayList<T>) EMPTY;
+    }
+
+    /**
+     * Adopt the first 'size' elements of 'elements' without copying them. The caller must not modify those elements afterwards.
+     */
+    static <T> ImmutableArrayList<T> adopt(final Object[] elements, final int size) {
+        return size == 0 ? ImmutableArrayList.<T>empty() : new ImmutableArrayList<>(elements, 0, size);
+    }
+
+    /**
+     * @return an immutable copy of 'input', or 'input' itself if it is already immutable
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ImmutableArrayList<T> copyOf(final Collection<? extends T> input) {
+        if (input instanceof ImmutableArrayList<?>) return (ImmutableArrayList<T>) input;
+        final Object[] elements = input.toArray();
+        return adopt(elements, elements.length);
+    }
+
+    /**
+     * @return a list containing the elements of 'first' followed by those of 'second', copied once into an exactly-sized array
+     * unless one of them is empty, in which case the other is returned
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ImmutableArrayList<T> concat(final ImmutableArrayList<? extends T> first, final ImmutableArrayList<? extends T> second) {
+        if (first.size == 0) return (ImmutableArrayList<T>) second;
+        if (second.size == 0) return (ImmutableArrayList<T>) first;
+        final Object[] elements = new Object[first.size + second.size];
+        System.arraycopy(first.elements, first.offset, elements, 0, first.size);
+        System.arraycopy(second.elements, second.offset, elements, first.size, second.size);
+        return adopt(elements, elements.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return (T) elements[offset + index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public ImmutableArrayList<T> subList(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        if (fromIndex == 0 && toIndex == size) return this;
+        return toIndex == fromIndex ? ImmutableArrayList.<T>empty() : new ImmutableArrayList<>(elements, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * @return a list containing the same elements in an array of its own, so that it no longer keeps alive the whole of
+     * the array of which this list may be a view
+     */
+    ImmutableArrayList<T> copy() {
+        return size == elements.length ? this : new ImmutableArrayList<>(toArray(), 0, size);
+    }
+
+    public Object[] toArray() {
+        return Arrays.copyOfRange(elements, offset, offset + size, Object[].class);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> U[] toArray(final U[] a) {
+        if (a.length < size)
+            return (U[]) Arrays.copyOfRange(elements, offset, offset + size, a.getClass());
+        System.arraycopy(elements, offset, a, 0, size);
+        if (a.length > size) a[size] = null;
+        return a;
+    }
+
+    public int indexOf(final Object o) {
+        for (int i = 0; i < size; ++i)
+            if (Objects.equals(o, elements[offset + i]))
+                return i;
+        return -1;
+    }
+
+    public int lastIndexOf(final Object o) {
+        for (int i = size - 1; i >= 0; --i)
+            if (Objects.equals(o, elements[offset + i]))
+                return i;
+        return -1;
+    }
+
+    public boolean contains(final Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(final Consumer<? super T> action) {
+        for (int i = offset, end = offset + size; i < end; ++i)
+            action.accept((T) elements[i]);
+    }
+
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elements, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Collects elements into an array which is then adopted, without a copy, by the list it builds. The builder must not
+     * be used after {@link #build()}.
+     *
+     * @param <T> the type of the element in the list
+     */
+    static final class Builder<T> {
+        private static final int DEFAULT_CAPACITY = 10;
+
+        private Object[] elements;
+        private int size;
+
+        /**
+         * @param sizeHint the number of elements expected, or a negative number if that is unknown
+         */
+        Builder(final int sizeHint) {
+            elements = new Object[sizeHint >= 0 ? sizeHint : DEFAULT_CAPACITY];
+        }
+
+        Builder<T> add(final T t) {
+            if (size == elements.length)
+                elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size + (size >> 1) + 1));
+            elements[size++] = t;
+            return this;
+        }
+
+        Builder<T> addAll(final Iterable<? extends T> input) {
+            if (input instanceof List<?> && input instanceof RandomAccess) {
+                final List<? extends T> list = (List<? extends T>) input;
+                final int howMany = list.size();
+                if (elements.length - size < howMany)
+                    elements = Arrays.copyOf(elements, Math.max(size + howMany, size + (size >> 1) + 1));
+                for (int i = 0; i < howMany; ++i)
+                    elements[size++] = list.get(i);
+            } else
+                for (final T t : input) add(t);
+            return this;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * @return the list of the elements added so far. If more than half of the array is unused then it is trimmed first.
+         */
+        ImmutableArrayList<T> build() {
+            if (elements.length - size > size && size > 0)
+                elements = Arrays.copyOf(elements, size);
+            return adopt(elements, size);
+        }
+    }
+}
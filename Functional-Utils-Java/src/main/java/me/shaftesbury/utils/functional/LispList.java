@@ -1,58 +1,175 @@
 package me.shaftesbury.utils.functional;
 
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+/**
+ * A singly-linked, immutable list in the style of Lisp. Lists share structure, so that <tt>cons</tt>ing onto an existing
+ * list is O(1) and does not copy it.
+ * All the functions below traverse the list with loops rather than recursion, so that they run in constant stack space
+ * whatever the length of the list.
+ */
 public final class LispList
 {
-    public interface List<T>
+    public interface List<T> extends Iterable<T>
     {
         T head();
         List<T> tail();
 
         boolean isEmpty();
-    }
 
-    private static <T>List<T> reverse(final List<T> input, final List<T> accumulator)
-    {
-        return input.isEmpty() ? accumulator : reverse(input.tail(),list(input.head(),accumulator));
-    }
+        /**
+         * @return an iterator which walks the list from head to tail
+         */
+        default Iterator<T> iterator()
+        {
+            return new Iterator<T>()
+            {
+                private List<T> current = List.this;
 
-    public static <T>List<T> reverse(final List<T> input)
-    {
-        return reverse(input, nil());
+                public boolean hasNext()
+                {
+                    return !current.isEmpty();
+                }
+
+                public T next()
+                {
+                    if(current.isEmpty()) throw new NoSuchElementException();
+                    final T head = current.head();
+                    current = current.tail();
+                    return head;
+                }
+            };
+        }
     }
 
-    private static <T>List<T> filter(final Function<T, Boolean> f, final List<T> input, final List<T> accumulator)
+    public static <T>List<T> reverse(final List<T> input)
     {
-        return input.isEmpty()
-                ? accumulator
-                : filter(f,input.tail(),f.apply(input.head())?list(input.head(), accumulator):accumulator);
+        List<T> output = nil();
+        for(List<T> l = input; !l.isEmpty(); l = l.tail())
+            output = list(l.head(), output);
+        return output;
     }
 
     public static <T>List<T> filter(final Function<T, Boolean> f, final List<T> input)
     {
-        return reverse(filter(f, input, nil()));
+        final Appender<T> output = new Appender<>();
+        for(List<T> l = input; !l.isEmpty(); l = l.tail())
+            if(f.apply(l.head())) output.add(l.head());
+        return output.build(nil());
     }
 
     public static <T,R>List<R> map(final Function<T, R> f, final List<T> input)
     {
-        return input.isEmpty()
-               ? (List<R>)nil()
-               : list(f.apply(input.head()),map(f,input.tail()));
+        final Appender<R> output = new Appender<>();
+        for(List<T> l = input; !l.isEmpty(); l = l.tail())
+            output.add(f.apply(l.head()));
+        return output.build(nil());
     }
 
     public static <T,R>R fold(final BiFunction<R,T,R> f, final R initialValue, final List<T> input)
     {
-        return input.isEmpty()
-                ? initialValue
-                : fold(f,f.apply(initialValue,input.head()),input.tail());
+        R state = initialValue;
+        for(List<T> l = input; !l.isEmpty(); l = l.tail())
+            state = f.apply(state, l.head());
+        return state;
     }
+
     public static <T,R>R foldRight(final BiFunction<T,R,R> f, final R initialValue, final List<T> input)
     {
-        return input.isEmpty()
-                ? initialValue
-                : f.apply(input.head(),foldRight(f,initialValue,input.tail()));
+        R state = initialValue;
+        for(List<T> l = reverse(input); !l.isEmpty(); l = l.tail())
+            state = f.apply(l.head(), state);
+        return state;
+    }
+
+    /**
+     * @param input the list
+     * @param <T> the type of the element in the list
+     * @return the number of elements in the list
+     */
+    public static <T>int length(final List<T> input)
+    {
+        int length = 0;
+        for(List<T> l = input; !l.isEmpty(); l = l.tail())
+            ++length;
+        return length;
+    }
+
+    /**
+     * @param first the list whose elements come first. Its elements are copied.
+     * @param second the list whose elements follow. It is shared, not copied, by the output list.
+     * @param <T> the type of the element in the lists
+     * @return a list containing the elements of 'first' followed by those of 'second'
+     */
+    public static <T>List<T> append(final List<T> first, final List<T> second)
+    {
+        final Appender<T> output = new Appender<>();
+        for(List<T> l = first; !l.isEmpty(); l = l.tail())
+            output.add(l.head());
+        return output.build(second);
+    }
+
+    /**
+     * @param l1 input list
+     * @param l2 input list
+     * @param <A> the type of the element in the first input list
+     * @param <B> the type of the element in the second input list
+     * @return a list of pairs; the first element of each of the input lists is the first pair in the output list and so on
+     * @throws java.lang.IllegalArgumentException if the lists have differing lengths
+     */
+    public static <A,B>List<Pair<A,B>> zip(final List<A> l1, final List<B> l2)
+    {
+        final Appender<Pair<A,B>> output = new Appender<>();
+        List<A> a = l1;
+        List<B> b = l2;
+        for(; !a.isEmpty() && !b.isEmpty(); a = a.tail(), b = b.tail())
+            output.add(Pair.of(a.head(), b.head()));
+        if(!a.isEmpty() || !b.isEmpty())
+            throw new IllegalArgumentException("LispList.zip(List<A>,List<B>): l1 and l2 have differing numbers of elements");
+        return output.build(nil());
+    }
+
+    /**
+     * @param howMany a non-negative number of elements to be returned from the input list
+     * @param input the input list
+     * @param <T> the type of the element in the list
+     * @return a new list containing the first 'howMany' elements of 'input'
+     * @throws java.util.NoSuchElementException if more elements are requested than are present in the input list
+     */
+    public static <T>List<T> take(final int howMany, final List<T> input)
+    {
+        if(howMany<0) throw new IllegalArgumentException("LispList.take(int,List<T>): howMany is negative");
+        final Appender<T> output = new Appender<>();
+        List<T> l = input;
+        for(int i = 0; i < howMany; ++i, l = l.tail())
+        {
+            if(l.isEmpty()) throw new NoSuchElementException("Cannot take " + howMany + " elements from input list with fewer elements");
+            output.add(l.head());
+        }
+        return output.build(nil());
+    }
+
+    /**
+     * @param howMany a non-negative number of elements to be discarded from the input list
+     * @param input the input list
+     * @param <T> the type of the element in the list
+     * @return the list which follows the first 'howMany' elements of 'input', which is shared rather than copied, or an
+     * empty list if 'input' has no more than 'howMany' elements
+     */
+    public static <T>List<T> drop(final int howMany, final List<T> input)
+    {
+        if(howMany<0) throw new IllegalArgumentException("LispList.drop(int,List<T>): howMany is negative");
+        List<T> l = input;
+        for(int i = 0; i < howMany && !l.isEmpty(); ++i)
+            l = l.tail();
+        return l;
     }
 
     public static <T>List<T> cons(final T t, final List<T> l) { return list(t,l); }
@@ -95,47 +212,112 @@ public final class LispList
         public boolean equals(Object o)
         {
             if(o==null) return false;
-            if(o instanceof NonEmptyList<?>)
-                return ((NonEmptyList<?>)o).head().equals(head()) && ((NonEmptyList<?>)o).tail().equals(tail());
-            else return false;
+            if(!(o instanceof NonEmptyList<?>)) return false;
+            List<?> a = this;
+            List<?> b = (List<?>)o;
+            while(a instanceof NonEmptyList<?> && b instanceof NonEmptyList<?>)
+            {
+                if(a == b) return true;
+                if(!Objects.equals(a.head(), b.head())) return false;
+                a = a.tail();
+                b = b.tail();
+            }
+            if(a instanceof NonEmptyList<?> || b instanceof NonEmptyList<?>) return false;
+            return a.equals(b);
+        }
+
+        public int hashCode()
+        {
+            int hashCode = 1;
+            for(final T t : this)
+                hashCode = 31 * hashCode + Objects.hashCode(t);
+            return hashCode;
         }
 
         public String toString()
         {
-            return "( "+head()+", "+tail().toString()+" )";
+            final StringBuilder sb = new StringBuilder();
+            List<T> l = this;
+            int depth = 0;
+            for(; !l.isEmpty(); l = l.tail(), ++depth)
+                sb.append("( ").append(l.head()).append(", ");
+            sb.append(l.toString());
+            for(int i = 0; i < depth; ++i)
+                sb.append(" )");
+            return sb.toString();
         }
     }
 
-    public static <T>List<T> nil()
+    /**
+     * Collects elements in order and then conses them onto the tail from the last to the first, so that functions such
+     * as <tt>map</tt> need neither recursion nor a final <tt>reverse</tt>, and no node is modified once it is created.
+     */
+    private static final class Appender<T>
     {
-        return new List<T>(){
+        private final ArrayList<T> elements = new ArrayList<>();
 
-            public T head() {
-                throw new EmptyListHasNoHead();
-            }
+        void add(final T t)
+        {
+            elements.add(t);
+        }
 
+        List<T> build(final List<T> tail)
+        {
+            List<T> output = tail;
+            for(int i = elements.size() - 1; i >= 0; --i)
+                output = list(elements.get(i), output);
+            return output;
+        }
+    }
 
-            public List<T> tail() {
-                throw new EmptyListHasNoTail();
-            }
+    private static final List<Object> NIL = new List<Object>(){
 
+        public Object head() {
+            throw new EmptyListHasNoHead();
+        }
 
-            public boolean isEmpty() {
-                return true;
-            }
 
-            public boolean equals(final Object o)
-            {
-                if(o==null) return false;
-                return o instanceof List<?> && ((List<?>)o).isEmpty();
-            }
+        public List<Object> tail() {
+            throw new EmptyListHasNoTail();
+        }
 
-            public String toString() { return "( )";}
-        };
+
+        public boolean isEmpty() {
+            return true;
+        }
+
+        public boolean equals(final Object o)
+        {
+            if(o==null) return false;
+            return o instanceof List<?> && ((List<?>)o).isEmpty();
+        }
+
+        public int hashCode() { return 1; }
+
+        public String toString() { return "( )";}
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <T>List<T> nil()
+    {
+        return (List<T>)NIL;
     }
 
     public static <T>List<T> list(final T head, final List<T> tail)
     {
         return ll.new NonEmptyList<>(head, tail);
     }
+
+    /**
+     * @param input the input sequence
+     * @param <T> the type of the element in the sequence
+     * @return a list containing the elements of 'input', in order
+     */
+    public static <T>List<T> list(final Iterable<? extends T> input)
+    {
+        final Appender<T> output = new Appender<>();
+        for(final T t : input)
+            output.add(t);
+        return output.build(nil());
+    }
 }
@@ -3,16 +3,130 @@ package me.shaftesbury.utils.functional;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * MException captures the result of a computation or the RuntimeException which it threw, together with the stack at the
+ * point of failure. How much of the stack is recorded is governed by the {@link StackTracePolicy}, which can be changed
+ * using {@link #setStackTracePolicy(StackTracePolicy)}. Once an MException has failed, binding or mapping it returns the
+ * same failure without allocating.
+ */
 public class MException<U>
 {
     private Supplier<U> fn;
     private U state = null;
     private RuntimeException exception = null;
-    private StackTraceElement[] stacktrace = null;
+    private CapturedStackTrace stacktrace = null;
+
+    private static volatile StackTracePolicy stackTracePolicy = StackTracePolicy.lazy(Integer.MAX_VALUE);
+
+    /**
+     * Governs how much of the stack is recorded when an MException fails.
+     */
+    public static final class StackTracePolicy
+    {
+        private static final StackTracePolicy NONE = new StackTracePolicy(0, false);
+        private static final StackTracePolicy FULL = new StackTracePolicy(Integer.MAX_VALUE, true);
+
+        private final int maxFrames;
+        private final boolean isEager;
+
+        private StackTracePolicy(final int maxFrames, final boolean isEager)
+        {
+            this.maxFrames = maxFrames;
+            this.isEager = isEager;
+        }
+
+        /**
+         * @return a policy which records no stack at all. {@link #getExceptionWithStackTrace()} returns an empty stack.
+         */
+        public static StackTracePolicy none()
+        {
+            return NONE;
+        }
+
+        /**
+         * Only the conversion of the stack to StackTraceElements is deferred. The stack itself is still walked when the
+         * failure occurs, by constructing a Throwable, so a failure costs about as much as creating an exception; use
+         * {@link #none()} to avoid that cost altogether.
+         * @param maxFrames the maximum number of frames, from the top of the stack, to be returned
+         * @return a policy which records the native stack when the failure occurs but only converts it to
+         * StackTraceElements if {@link #getExceptionWithStackTrace()} is called
+         */
+        public static StackTracePolicy lazy(final int maxFrames)
+        {
+            if(maxFrames<0) throw new IllegalArgumentException("MException.StackTracePolicy.lazy(int): maxFrames is negative");
+            return new StackTracePolicy(maxFrames, false);
+        }
+
+        /**
+         * @return a policy which converts the whole stack to StackTraceElements when the failure occurs
+         */
+        public static StackTracePolicy full()
+        {
+            return FULL;
+        }
+
+        CapturedStackTrace capture()
+        {
+            if(maxFrames==0) return CapturedStackTrace.EMPTY;
+            final CapturedStackTrace captured = new CapturedStackTrace(new Throwable(), maxFrames);
+            if(isEager) captured.get();
+            return captured;
+        }
+    }
+
+    private static final class CapturedStackTrace
+    {
+        private static final CapturedStackTrace EMPTY = new CapturedStackTrace(null, 0);
+
+        private Throwable throwable;
+        private final int maxFrames;
+        private StackTraceElement[] frames;
+
+        CapturedStackTrace(final Throwable throwable, final int maxFrames)
+        {
+            this.throwable = throwable;
+            this.maxFrames = maxFrames;
+            this.frames = throwable==null ? new StackTraceElement[0] : null;
+        }
+
+        synchronized StackTraceElement[] get()
+        {
+            if(frames==null)
+            {
+                final StackTraceElement[] all = throwable.getStackTrace();
+                // the first frame is StackTracePolicy.capture itself
+                frames = Arrays.copyOfRange(all, Math.min(1, all.length), (int) Math.min(all.length, 1L + maxFrames));
+                throwable = null;
+            }
+            return frames;
+        }
+    }
+
+    /**
+     * @param policy the policy to be applied to all subsequent failures
+     */
+    public static void setStackTracePolicy(final StackTracePolicy policy)
+    {
+        if(policy==null) throw new IllegalArgumentException("MException.setStackTracePolicy(StackTracePolicy): policy is null");
+        stackTracePolicy = policy;
+    }
+
+    /**
+     * @return the policy currently applied to failures
+     */
+    public static StackTracePolicy getStackTracePolicy()
+    {
+        return stackTracePolicy;
+    }
 
     // this is 'return'
     public static <B>MException<B> toMException(final Supplier<B> f)
@@ -27,15 +141,68 @@ public class MException<U>
             try {
                 return f.apply(state);
             } catch(final RuntimeException ex) {
-                return new MException<>(ex, new Throwable().getStackTrace());
+                return new MException<>(ex, stackTracePolicy.capture());
             }
         else
-            return new MException<>(exception, stacktrace);
+            return failure();
+    }
+
+    /**
+     * Apply a function to the value of this MException if it has one
+     * @param f the function to be applied
+     * @param <B> the type of the result of <tt>f</tt>
+     * @return an MException containing either the result of <tt>f</tt> or the exception which was thrown by this MException
+     * or by <tt>f</tt>
+     */
+    public final <B>MException<B> map(final Function<? super U, ? extends B> f)
+    {
+        if(f==null) throw new IllegalArgumentException("f");
+        if(hasException()) return failure();
+        try {
+            final B result = f.apply(state);
+            return new MException<>(() -> result);
+        } catch(final RuntimeException ex) {
+            return new MException<>(ex, stackTracePolicy.capture());
+        }
+    }
+
+    /**
+     * Replace the exception, if there is one, with a value
+     * @param f a function which is passed the exception and returns the replacement value
+     * @return this MException if it has no exception, otherwise an MException containing the result of <tt>f</tt>
+     */
+    public final MException<U> recover(final Function<? super RuntimeException, ? extends U> f)
+    {
+        if(f==null) throw new IllegalArgumentException("f");
+        if(!hasException()) return this;
+        final RuntimeException ex = exception;
+        return new MException<>(() -> f.apply(ex));
+    }
+
+    /**
+     * Turn a sequence of MExceptions into an MException of a sequence
+     * @param input the sequence of MExceptions
+     * @param <T> the type of the value in each MException
+     * @return the first MException in <tt>input</tt> which has an exception, or, if none has, an MException containing a
+     * list of their values, in order
+     */
+    public static <T>MException<List<T>> sequence(final Iterable<? extends MException<? extends T>> input)
+    {
+        if(input==null) throw new IllegalArgumentException("input");
+        final List<T> output = input instanceof Collection<?> ? new ArrayList<>(((Collection<?>) input).size()) : new ArrayList<>();
+        for(final MException<? extends T> m : input)
+        {
+            if(m.hasException()) return m.failure();
+            output.add(m.state);
+        }
+        final List<T> result = Collections.unmodifiableList(output);
+        return new MException<>(() -> result);
     }
 
-    private static <C>MException<C> toMException(final Pair<RuntimeException,StackTraceElement[]> exc)
+    @SuppressWarnings("unchecked")
+    private <B>MException<B> failure()
     {
-        return new MException(exc.getLeft(),exc.getRight());
+        return (MException<B>) this; // a failed MException has no value so it can stand for a failure of any type
     }
 
     public static <A,B,C>MException<C> lift(final BiFunction<A, B, C> f, final MException<A> a, final MException<B> b)
@@ -44,9 +211,9 @@ public class MException<U>
         if(a==null) throw new IllegalArgumentException("a");
         if(b==null) throw new IllegalArgumentException("b");
 
-        if(a.hasException()) return toMException(a.getExceptionWithStackTrace());
-        if(b.hasException()) return toMException(b.getExceptionWithStackTrace());
-        return new MException(BinaryFunction.delay(f, a.read(), b.read()));
+        if(a.hasException()) return a.failure();
+        if(b.hasException()) return b.failure();
+        return new MException<>(BinaryFunction.delay(f, a.read(), b.read()));
     }
 
     private MException(final Supplier<U> f)
@@ -55,7 +222,7 @@ public class MException<U>
         fn = f;
     }
 
-    private MException(final RuntimeException ex, final StackTraceElement[] stack)
+    private MException(final RuntimeException ex, final CapturedStackTrace stack)
     {
         exception = ex;
         stacktrace = stack;
@@ -63,27 +230,29 @@ public class MException<U>
 
     public boolean hasException()
     {
-        if(exception!=null) return true;
-        if(state==null)
+        if(fn!=null)
         {
             try {
                 state = fn.get();
             } catch(final RuntimeException ex) {
                 exception = ex;
-                stacktrace = new Throwable().getStackTrace();
+                stacktrace = stackTracePolicy.capture();
             }
+            fn = null;
         }
         return exception!=null;
     }
 
     public RuntimeException getException()
     {
+        hasException();
         return exception; // what happens if exception==null?
     }
 
     public Pair<RuntimeException,StackTraceElement[]> getExceptionWithStackTrace()
     {
-        return Pair.of(exception, stacktrace); // what happens if exception==null?
+        hasException();
+        return Pair.of(exception, stacktrace==null ? null : stacktrace.get()); // what happens if exception==null?
     }
 
     public final U read()
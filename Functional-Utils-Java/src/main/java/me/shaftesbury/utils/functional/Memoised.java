@@ -0,0 +1,92 @@
+package me.shaftesbury.utils.functional;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A sequence which reads its source at most once, however many times it is iterated. Elements are pulled from the
+ * source only when an iterator first asks for them and are kept in fixed-size chunks, so that the cache never has to be
+ * copied as it grows. Any number of iterators, on any number of threads, may read the sequence at the same time.
+ *
+ * @param <T> the type of the element in the sequence
+ */
+final class Memoised<T> extends Pipeline<T> {
+    static final int CHUNK_SIZE = 256;
+
+    private final Iterable<? extends T> source;
+    private Iterator<? extends T> sourceIterator;
+    private volatile Object[][] chunks = new Object[4][];
+    private volatile int count = 0;
+    private volatile boolean isExhausted = false;
+
+    Memoised(final Iterable<? extends T> source) {
+        super(false);
+        this.source = source;
+    }
+
+    /**
+     * @param index the position of the element required
+     * @return true if the element is in the cache, having read as far as it from the source if necessary, or false if
+     * the source has fewer elements
+     */
+    private boolean fill(final int index) {
+        if (index < count) return true;
+        synchronized (this) {
+            while (count <= index) {
+                if (isExhausted) return false;
+                if (sourceIterator == null) sourceIterator = source.iterator();
+                if (!sourceIterator.hasNext()) {
+                    isExhausted = true;
+                    return false;
+                }
+                final T t = sourceIterator.next();
+                final int position = count;
+                final int chunk = position / CHUNK_SIZE;
+                if (position % CHUNK_SIZE == 0) {
+                    final Object[][] grown = chunk == chunks.length ? Arrays.copyOf(chunks, chunk * 2) : chunks;
+                    grown[chunk] = new Object[CHUNK_SIZE];
+                    chunks = grown;
+                }
+                chunks[chunk][position % CHUNK_SIZE] = t;
+                count = position + 1;
+            }
+            return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T get(final int index) {
+        return (T) chunks[index / CHUNK_SIZE][index % CHUNK_SIZE];
+    }
+
+    protected Iterator<T> createIterator() {
+        return new Iterator<T>() {
+            private int position = 0;
+
+            public boolean hasNext() {
+                return fill(position);
+            }
+
+            public T next() {
+                if (!fill(position)) throw new NoSuchElementException();
+                return get(position++);
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException("Functional.seq.memoise(Iterable<T>): it is not possible to remove elements from this sequence");
+            }
+        };
+    }
+
+    protected boolean pushInto(final Sink<? super T> sink) {
+        for (int position = 0; fill(position); ++position)
+            if (!sink.accept(get(position)))
+                return false;
+        return true;
+    }
+
+    protected long knownSize() {
+        return isExhausted ? count : -1;
+    }
+}
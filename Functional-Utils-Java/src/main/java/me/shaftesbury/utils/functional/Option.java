@@ -1,15 +1,22 @@
 package me.shaftesbury.utils.functional;
 
+import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Option is an implementation of the <tt>option monad</tt>.
  * See http://en.wikipedia.org/wiki/Option_type
  * {@see http://en.wikipedia.org/wiki/Monad_(functional_programming)}
+ * There is a single None, shared by every type, so neither {@link #None()} nor {@link #toOption(Object)} of null allocates.
  */
 public final class Option<T>
 {
+    private static final Option<?> NONE = new Option<>();
+
     private final T _t;
     private Option()
     {
@@ -42,7 +49,7 @@ public final class Option<T>
     public static <U>Option<U> Some(final U t)
     {
         if(t==null) throw new OptionNoValueAccessException();
-        return toOption(t);
+        return new Option<>(t);
     }
 
     /**
@@ -50,9 +57,10 @@ public final class Option<T>
      * @param <U> the type of the underlying data, had there been any.
      * @return the Option None
      */
+    @SuppressWarnings("unchecked")
     public static <U>Option<U> None()
     {
-        return new Option<>();
+        return (Option<U>)NONE;
     }
 
     /**
@@ -84,19 +92,10 @@ public final class Option<T>
      */
     public boolean equals(final Object o)
     {
-        if(o instanceof Option<?>)
-        {
-            final Option<?> other = (Option<?>)o;
-            try
-            {
-                return isSome()==other.isSome() && Some().equals(other.Some());
-            }
-            catch(final OptionNoValueAccessException ex)
-            {
-                return isNone() && other.isNone(); // every None is considered to be the same
-            }
-        }
-        else return false;
+        if(this==o) return true;
+        if(!(o instanceof Option<?>)) return false;
+        final Option<?> other = (Option<?>)o;
+        return isNone() ? other.isNone() : _t.equals(other._t); // every None is considered to be the same
     }
 
     /**
@@ -127,7 +126,7 @@ public final class Option<T>
      */
     public static <U>Option<U> toOption(final U t)
     {
-        return new Option<>(t);
+        return t==null ? Option.<U>None() : new Option<>(t);
     }
 
     /**
@@ -139,10 +138,67 @@ public final class Option<T>
      */
     public <U>Option<U> bind(final Function<T, Option<U>> f)
     {
-        if(isSome()) return f.apply(Some());
+        if(isSome()) return f.apply(_t);
         else return Option.None();
     }
 
+    /**
+     * Apply a function to the underlying data if {@link #isSome()} and wrap the result, otherwise return {@link #None()}
+     * @param <U> the type of the resulting Option type
+     * @param f the function to be applied
+     * @return an Option containing the result of the function <tt>f</tt>, or {@link #None()} if either this Option is None or
+     * <tt>f</tt> returns null
+     */
+    public <U>Option<U> map(final Function<? super T, ? extends U> f)
+    {
+        if(isNone()) return Option.None();
+        return toOption(f.apply(_t));
+    }
+
+    /**
+     * @param f the predicate to be applied to the underlying data
+     * @return this Option if it {@link #isSome()} and its value satisfies <tt>f</tt>, otherwise {@link #None()}
+     */
+    public Option<T> filter(final Predicate<? super T> f)
+    {
+        return isSome() && f.test(_t) ? this : Option.<T>None();
+    }
+
+    /**
+     * @param other the value to return if this Option is None
+     * @return the underlying value if {@link #isSome()}, otherwise <tt>other</tt>
+     */
+    public T orElse(final T other)
+    {
+        return isSome() ? _t : other;
+    }
+
+    /**
+     * @param other the supplier of the value to return if this Option is None. It is only called if required.
+     * @return the underlying value if {@link #isSome()}, otherwise the result of <tt>other</tt>
+     */
+    public T orElseGet(final Supplier<? extends T> other)
+    {
+        return isSome() ? _t : other.get();
+    }
+
+    /**
+     * Pass the underlying value to the consumer if {@link #isSome()}, otherwise do nothing
+     * @param f the consumer
+     */
+    public void ifSome(final Consumer<? super T> f)
+    {
+        if(isSome()) f.accept(_t);
+    }
+
+    /**
+     * @return the equivalent {@link java.util.Optional}
+     */
+    public Optional<T> toOptional()
+    {
+        return Optional.ofNullable(_t);
+    }
+
     /**
      * Given two monadic Options apply the supplied binary function to them if they are both {@link #isSome()} and return
      * a wrapped Option containing the result or {@link #None()}.
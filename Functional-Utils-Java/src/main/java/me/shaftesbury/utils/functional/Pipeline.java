@@ -0,0 +1,385 @@
+package me.shaftesbury.utils.functional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * The lazily-evaluated sequences returned by <tt>Functional.seq</tt>. Each stage holds a reference to its input, so a
+ * chain of stages records the whole pipeline back to its source. A pipeline can be evaluated in one of two ways:
+ * <ul>
+ * <li>pulled, through {@link #iterator()}, in which case every stage contributes a <tt>hasNext()</tt>/<tt>next()</tt>
+ * pair per element, or</li>
+ * <li>pushed, through {@link #evaluate(Sink)}, in which case the source is traversed by a single loop and each element
+ * is handed down through the stages as a chain of direct calls. The terminal operations <tt>fold</tt>, <tt>toList</tt>,
+ * <tt>exists</tt> and <tt>find</tt> in <tt>Functional</tt> use this route.</li>
+ * </ul>
+ * A pipeline can also be handed to <tt>java.util.stream</tt> through {@link #spliterator()}. Stages whose size can be
+ * known in advance report it, and stages over random-access lists split by index, so that parallel streams divide the
+ * work evenly.
+ * Whichever way it is done, a pipeline may only be evaluated once, unless it was created with <tt>isOneShot</tt> false.
+ *
+ * @param <T> the type of the element in the sequence
+ */
+abstract class Pipeline<T> implements Iterable<T> {
+    private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+    private final boolean isOneShot;
+
+    Pipeline() {
+        this(true);
+    }
+
+    /**
+     * @param isOneShot false if this stage may be evaluated any number of times, in which case it is the responsibility
+     *                  of the stage to restart from its source each time
+     */
+    Pipeline(final boolean isOneShot) {
+        this.isOneShot = isOneShot;
+    }
+
+    /**
+     * The receiving end of a push-mode evaluation
+     *
+     * @param <T> the type of the element being pushed
+     */
+    interface Sink<T> {
+        /**
+         * @param t the next element of the sequence
+         * @return true if the sink will accept further elements, false if the evaluation should stop
+         */
+        boolean accept(T t);
+    }
+
+    public final Iterator<T> iterator() {
+        claim();
+        return createIterator();
+    }
+
+    public final Spliterator<T> spliterator() {
+        claim();
+        return createSpliterator();
+    }
+
+    /**
+     * Push every element of this sequence, in order, into the sink until either the sequence is exhausted or the sink
+     * declines to accept any more.
+     *
+     * @param sink the receiver
+     * @return false if the sink stopped the evaluation, true otherwise
+     */
+    final boolean evaluate(final Sink<? super T> sink) {
+        claim();
+        return pushInto(sink);
+    }
+
+    private void claim() {
+        if (isOneShot && !haveCreatedIterator.compareAndSet(false, true))
+            throw new UnsupportedOperationException("This Iterable does not allow multiple Iterators");
+    }
+
+    /**
+     * @return a new iterator over the elements of this stage
+     */
+    protected abstract Iterator<T> createIterator();
+
+    /**
+     * @return the number of elements in this stage if it can be determined without evaluating the pipeline, otherwise -1
+     */
+    protected long knownSize() {
+        return -1;
+    }
+
+    /**
+     * @return a new spliterator over the elements of this stage. By default this wraps {@link #createIterator()} and is
+     * SIZED if {@link #knownSize()} is. Stages which can split their input more cleverly override this.
+     */
+    protected Spliterator<T> createSpliterator() {
+        final long size = knownSize();
+        return size >= 0
+                ? Spliterators.spliterator(createIterator(), size, Spliterator.ORDERED)
+                : Spliterators.spliteratorUnknownSize(createIterator(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Push the elements of this stage into the sink. Stages which can do better than draining their own iterator override this.
+     *
+     * @param sink the receiver
+     * @return false if the sink stopped the evaluation, true otherwise
+     */
+    protected boolean pushInto(final Sink<? super T> sink) {
+        final Iterator<T> iterator = createIterator();
+        while (iterator.hasNext())
+            if (!sink.accept(iterator.next()))
+                return false;
+        return true;
+    }
+
+    /**
+     * Push the elements of an arbitrary sequence into the sink. Upstream pipeline stages are evaluated in push mode,
+     * random-access lists are traversed by index and anything else by its iterator.
+     *
+     * @param source the sequence
+     * @param sink   the receiver
+     * @param <T>    the type of the element in the sequence
+     * @return false if the sink stopped the evaluation, true otherwise
+     */
+    @SuppressWarnings("unchecked")
+    static <T> boolean push(final Iterable<? extends T> source, final Sink<? super T> sink) {
+        if (source instanceof Pipeline<?>)
+            return ((Pipeline<? extends T>) source).evaluate(sink);
+        if (source instanceof SizeHinted<?>)
+            return push(((SizeHinted<? extends T>) source).input, sink);
+        if (source instanceof RandomAccess && source instanceof List<?>) {
+            final List<? extends T> list = (List<? extends T>) source;
+            for (int i = 0, size = list.size(); i < size; ++i)
+                if (!sink.accept(list.get(i)))
+                    return false;
+            return true;
+        }
+        for (final T t : source)
+            if (!sink.accept(t))
+                return false;
+        return true;
+    }
+
+    /**
+     * @param source the sequence
+     * @return the number of elements in the sequence if it can be determined without evaluating it, otherwise -1
+     */
+    static long sizeOf(final Iterable<?> source) {
+        if (source instanceof Pipeline<?>)
+            return ((Pipeline<?>) source).knownSize();
+        if (source instanceof Collection<?>)
+            return ((Collection<?>) source).size();
+        return -1;
+    }
+
+    /**
+     * The most elements expected from a hint supplied through <tt>Functional.withSizeHint</tt>. Such a hint may
+     * overestimate, so output which is larger than this grows as it is filled instead. Known sizes are not capped.
+     */
+    static final int MAX_HINTED_SIZE = 1 << 16;
+
+    /**
+     * @param source the sequence
+     * @return the number of elements the sequence is expected to contain, taken from its size if that is known, otherwise
+     * from a hint supplied through <tt>Functional.withSizeHint</tt>, at most {@link #MAX_HINTED_SIZE}, otherwise -1.
+     * This is only suitable for presizing.
+     */
+    static int sizeHint(final Iterable<?> source) {
+        if (source instanceof SizeHinted<?>)
+            return Math.min(((SizeHinted<?>) source).sizeHint, MAX_HINTED_SIZE);
+        final long size = sizeOf(source);
+        return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+    }
+
+    /**
+     * @param source the sequence
+     * @param <T>    the type of the element in the sequence
+     * @return the sequence as a list if it is a random-access list, otherwise null
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> asRandomAccessList(final Iterable<T> source) {
+        return source instanceof RandomAccess && source instanceof List<?> ? (List<T>) source : null;
+    }
+
+    final <A> A fold(final BiFunction<? super A, ? super T, ? extends A> f, final A initialValue) {
+        final Folder<A, T> folder = new Folder<>(f, initialValue);
+        evaluate(folder);
+        return folder.state;
+    }
+
+    final List<T> toMutableList() {
+        final long size = knownSize();
+        final List<T> output = size >= 0 && size <= Integer.MAX_VALUE ? new ArrayList<>((int) size) : new ArrayList<>();
+        evaluate(output::add);
+        return output;
+    }
+
+    final ImmutableArrayList<T> toImmutableList() {
+        final long size = knownSize();
+        final ImmutableArrayList.Builder<T> output = new ImmutableArrayList.Builder<>(size <= Integer.MAX_VALUE ? (int) size : -1);
+        evaluate(t -> {
+            output.add(t);
+            return true;
+        });
+        return output.build();
+    }
+
+    final boolean exists(final Predicate<? super T> f) {
+        return !evaluate(t -> !f.test(t));
+    }
+
+    final T find(final Predicate<? super T> f) {
+        final FirstMatch<T> match = new FirstMatch<>(f);
+        if (evaluate(match)) throw new NoSuchElementException();
+        return match.found;
+    }
+
+    /**
+     * A sink for stages such as <tt>take</tt> and <tt>takeWhile</tt> which end the sequence early. Ending the sequence
+     * stops the upstream evaluation but, unlike a stop requested by the downstream sink, must not stop any enclosing
+     * evaluation, for example the second half of a <tt>concat</tt>.
+     *
+     * @param <T> the type of the element being pushed
+     */
+    abstract static class Limit<T> implements Sink<T> {
+        private final Sink<? super T> downstream;
+        private boolean downstreamStopped = false;
+
+        Limit(final Sink<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        /**
+         * @param t the next element of the sequence
+         * @return false if the sequence ends before t
+         */
+        protected abstract boolean admit(final T t);
+
+        /**
+         * @return false if the sequence ends after the element most recently admitted
+         */
+        protected boolean wantMore() {
+            return true;
+        }
+
+        public final boolean accept(final T t) {
+            if (!admit(t)) return false;
+            if (!downstream.accept(t)) {
+                downstreamStopped = true;
+                return false;
+            }
+            return wantMore();
+        }
+
+        final boolean hasDownstreamStopped() {
+            return downstreamStopped;
+        }
+    }
+
+    /**
+     * A spliterator over the elements at positions [origin, fence) of an indexed source, which splits in half by position.
+     *
+     * @param <T> the type of the element
+     */
+    static final class Indexed<T> implements Spliterator<T> {
+        private final IntFunction<? extends T> elementAt;
+        private int index;
+        private final int fence;
+
+        Indexed(final IntFunction<? extends T> elementAt, final int origin, final int fence) {
+            this.elementAt = elementAt;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (index >= fence) return false;
+            action.accept(elementAt.apply(index++));
+            return true;
+        }
+
+        public void forEachRemaining(final Consumer<? super T> action) {
+            final int hi = fence;
+            for (int i = index; i < hi; ++i)
+                action.accept(elementAt.apply(i));
+            index = hi;
+        }
+
+        public Spliterator<T> trySplit() {
+            final int lo = index, mid = (lo + fence) >>> 1;
+            if (lo >= mid) return null;
+            index = mid;
+            return new Indexed<>(elementAt, lo, mid);
+        }
+
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * A spliterator which applies a function to each element of another spliterator, and splits wherever it does.
+     *
+     * @param <T> the type of the element in the source
+     * @param <U> the type of the transformed element
+     */
+    static final class Mapped<T, U> implements Spliterator<U> {
+        private final Spliterator<? extends T> source;
+        private final Function<? super T, ? extends U> f;
+
+        Mapped(final Spliterator<? extends T> source, final Function<? super T, ? extends U> f) {
+            this.source = source;
+            this.f = f;
+        }
+
+        public boolean tryAdvance(final Consumer<? super U> action) {
+            return source.tryAdvance(t -> action.accept(f.apply(t)));
+        }
+
+        public void forEachRemaining(final Consumer<? super U> action) {
+            source.forEachRemaining(t -> action.accept(f.apply(t)));
+        }
+
+        public Spliterator<U> trySplit() {
+            final Spliterator<? extends T> prefix = source.trySplit();
+            return prefix == null ? null : new Mapped<>(prefix, f);
+        }
+
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        public int characteristics() {
+            return source.characteristics() & ~(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+        }
+    }
+
+    private static final class Folder<A, T> implements Sink<T> {
+        private final BiFunction<? super A, ? super T, ? extends A> f;
+        private A state;
+
+        Folder(final BiFunction<? super A, ? super T, ? extends A> f, final A initialValue) {
+            this.f = f;
+            this.state = initialValue;
+        }
+
+        public boolean accept(final T t) {
+            state = f.apply(state, t);
+            return true;
+        }
+    }
+
+    private static final class FirstMatch<T> implements Sink<T> {
+        private final Predicate<? super T> f;
+        private T found;
+
+        FirstMatch(final Predicate<? super T> f) {
+            this.f = f;
+        }
+
+        public boolean accept(final T t) {
+            if (f.test(t)) {
+                found = t;
+                return false;
+            }
+            return true;
+        }
+    }
+}
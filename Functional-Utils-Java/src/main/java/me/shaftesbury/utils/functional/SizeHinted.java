@@ -0,0 +1,34 @@
+package me.shaftesbury.utils.functional;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A sequence annotated with the number of elements it is expected to contain, as returned by
+ * <tt>Functional.withSizeHint</tt>. The eager functions in <tt>Functional</tt> use the hint to presize their output.
+ * Unlike the size of a collection, the hint may be wrong; it affects only performance, never the result.
+ *
+ * @param <T> the type of the element in the sequence
+ */
+final class SizeHinted<T> implements Iterable<T> {
+    final Iterable<T> input;
+    final int sizeHint;
+
+    SizeHinted(final Iterable<T> input, final int sizeHint) {
+        this.input = input;
+        this.sizeHint = sizeHint;
+    }
+
+    public Iterator<T> iterator() {
+        return input.iterator();
+    }
+
+    public Spliterator<T> spliterator() {
+        return input.spliterator();
+    }
+
+    public void forEach(final Consumer<? super T> action) {
+        input.forEach(action);
+    }
+}
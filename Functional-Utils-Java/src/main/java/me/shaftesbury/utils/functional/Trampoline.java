@@ -0,0 +1,104 @@
+package me.shaftesbury.utils.functional;
+
+import java.util.function.Supplier;
+
+/**
+ * A trampoline turns a tail-recursive function into a loop so that it runs in constant stack space. Instead of calling
+ * itself, the function returns {@link #more(Supplier)} wrapping the recursive call, or {@link #done(Object)} wrapping
+ * the result, and {@link #run()} bounces from one step to the next until a result is reached.
+ * See <a href="http://en.wikipedia.org/wiki/Trampoline_(computing)">Trampoline</a>
+ *
+ * @param <T> the type of the result
+ */
+public abstract class Trampoline<T> {
+    private Trampoline() {
+    }
+
+    /**
+     * @return true if this is the final step and holds the result
+     */
+    public abstract boolean isDone();
+
+    /**
+     * @return the result if this is the final step
+     * @throws java.lang.IllegalStateException if this is not the final step
+     */
+    abstract T result();
+
+    /**
+     * @return the next step
+     * @throws java.lang.IllegalStateException if this is the final step
+     */
+    abstract Trampoline<T> next();
+
+    /**
+     * Evaluate the steps in turn until the final step is reached
+     *
+     * @return the result of the final step
+     */
+    public final T run() {
+        Trampoline<T> step = this;
+        while (!step.isDone())
+            step = step.next();
+        return step.result();
+    }
+
+    /**
+     * @param result the result of the computation
+     * @param <T>    the type of the result
+     * @return the final step of a computation
+     */
+    public static <T> Trampoline<T> done(final T result) {
+        return new Done<>(result);
+    }
+
+    /**
+     * @param next a supplier of the next step of the computation, typically the recursive call
+     * @param <T>  the type of the result
+     * @return an intermediate step of a computation
+     */
+    public static <T> Trampoline<T> more(final Supplier<Trampoline<T>> next) {
+        if (next == null) throw new IllegalArgumentException("Trampoline.more(Supplier<Trampoline<T>>): next is null");
+        return new More<>(next);
+    }
+
+    private static final class Done<T> extends Trampoline<T> {
+        private final T result;
+
+        Done(final T result) {
+            this.result = result;
+        }
+
+        public boolean isDone() {
+            return true;
+        }
+
+        T result() {
+            return result;
+        }
+
+        Trampoline<T> next() {
+            throw new IllegalStateException("Trampoline.done(T) has no next step");
+        }
+    }
+
+    private static final class More<T> extends Trampoline<T> {
+        private final Supplier<Trampoline<T>> next;
+
+        More(final Supplier<Trampoline<T>> next) {
+            this.next = next;
+        }
+
+        public boolean isDone() {
+            return false;
+        }
+
+        T result() {
+            throw new IllegalStateException("Trampoline.more(Supplier<Trampoline<T>>) has no result");
+        }
+
+        Trampoline<T> next() {
+            return next.get();
+        }
+    }
+}
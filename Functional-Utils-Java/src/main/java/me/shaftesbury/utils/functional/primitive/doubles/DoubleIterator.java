@@ -0,0 +1,29 @@
+package me.shaftesbury.utils.functional.primitive.doubles;
+
+public interface DoubleIterator
+{
+    boolean hasNext();
+    double next();
+    void remove();
+}
+
+class DoubleIteratorImpl implements DoubleIterator
+{
+    private final double[] backingStore;
+    private int position;
+
+    public DoubleIteratorImpl(final double[]array){backingStore=array;position=0;}
+
+    public boolean hasNext() {
+        return position<backingStore.length;
+    }
+
+    public double next() {
+        if(!hasNext()) throw new java.util.NoSuchElementException();
+        return backingStore[position++];
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
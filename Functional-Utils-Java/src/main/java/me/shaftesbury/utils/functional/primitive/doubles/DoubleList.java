@@ -0,0 +1,76 @@
+package me.shaftesbury.utils.functional.primitive.doubles;
+
+import java.util.Arrays;
+
+/**
+ * An immutable list of primitive doubles backed by an array of exactly the right size. Elements are compared as by
+ * {@link Double#compare(double, double)}, so NaN can be found and 0.0 is distinct from -0.0.
+ */
+public class DoubleList implements DoubleIterable
+{
+    private final double[] backingStore;
+    public DoubleList(){backingStore=new double[0];}
+    public DoubleList(final double[]array) {backingStore = Arrays.copyOf(array, array.length);}
+    public DoubleList(final double[]array, final int size) {backingStore = Arrays.copyOf(array, size);}
+
+    private DoubleList(final double[] array, final boolean copy) {backingStore = copy ? Arrays.copyOf(array, array.length) : array;}
+
+    /**
+     * Create a DoubleList from the first 'size' elements of 'array'. The array is adopted without being copied if it is
+     * exactly the right size, so the caller must not modify it afterwards.
+     */
+    static DoubleList adopt(final double[] array, final int size)
+    {
+        return size==array.length ? new DoubleList(array, false) : new DoubleList(array, size);
+    }
+
+    double[] extractBackingStoreWithoutCopy() { return backingStore; }
+
+    public int size() {
+        return backingStore.length;
+    }
+
+    public boolean isEmpty() {
+        return backingStore.length==0;
+    }
+
+    public boolean contains(final double d) {
+        return indexOf(d)>=0;
+    }
+
+    public DoubleIterator iterator() {
+        return new DoubleIteratorImpl(backingStore);
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(backingStore, backingStore.length);
+    }
+
+    public double get(final int index) {
+        return backingStore[index];
+    }
+
+    public int indexOf(final double d) {
+        for(int i=0;i<backingStore.length;++i)
+            if(Double.compare(backingStore[i], d)==0) return i;
+        return -1;
+    }
+
+    public int lastIndexOf(final double d) {
+        for(int i=backingStore.length-1;i>=0;--i)
+            if(Double.compare(backingStore[i], d)==0) return i;
+        return -1;
+    }
+
+    public boolean equals(final Object o) {
+        return o instanceof DoubleList && Arrays.equals(backingStore, ((DoubleList)o).backingStore);
+    }
+
+    public int hashCode() {
+        return Arrays.hashCode(backingStore);
+    }
+
+    public String toString() {
+        return Arrays.toString(backingStore);
+    }
+}
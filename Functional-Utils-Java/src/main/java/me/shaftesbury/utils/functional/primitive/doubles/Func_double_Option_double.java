@@ -0,0 +1,16 @@
+package me.shaftesbury.utils.functional.primitive.doubles;
+
+/**
+ * The Func interface is designed to represent lambda / anonymous functions which are defined and used in situ. This models
+ * a function that takes one primitive double argument and returns an optional primitive double.
+ * See <a href="http://en.wikipedia.org/wiki/Anonymous_function">Lambda function</a>
+ * @see <a href="http://en.wikipedia.org/wiki/Closure_(computer_programming)">Closure</a>
+ */
+public interface Func_double_Option_double {
+    /**
+     * Call <tt>apply</tt> to evaluate the function object
+     * @param a the input value
+     * @return an Option_double
+     */
+    Option_double apply(double a);
+}
@@ -0,0 +1,20 @@
+package me.shaftesbury.utils.functional.primitive.doubles;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The Func interface is designed to represent lambda / anonymous functions which are defined and used in situ. This models
+ * a function that takes one primitive double argument and returns a primitive double.
+ * See <a href="http://en.wikipedia.org/wiki/Anonymous_function">Lambda function</a>
+ * @see <a href="http://en.wikipedia.org/wiki/Closure_(computer_programming)">Closure</a>
+ */
+public interface Func_double_double extends DoubleUnaryOperator {
+    /**
+     * Call <tt>apply</tt> to evaluate the function object
+     * @param a the input value
+     * @return a double
+     */
+    double apply(double a);
+
+    default double applyAsDouble(double a) { return apply(a); }
+}
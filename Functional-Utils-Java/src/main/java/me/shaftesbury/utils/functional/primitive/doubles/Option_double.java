@@ -0,0 +1,142 @@
+package me.shaftesbury.utils.functional.primitive.doubles;
+
+import me.shaftesbury.utils.functional.OptionNoValueAccessException;
+
+/**
+ * Option is an implementation of the <tt>option monad</tt> for primitive doubles.
+ * See http://en.wikipedia.org/wiki/Option_type
+ * {@see http://en.wikipedia.org/wiki/Monad_(functional_programming)}
+ */
+public final class Option_double
+{
+    private static final Option_double NONE = new Option_double();
+
+    private final double _t;
+    private final boolean isSet;
+    private Option_double()
+    {
+        isSet=false; _t=Double.NaN;
+    }
+    private Option_double(final double t)
+    {
+        isSet = true; _t = t;
+    }
+
+    /**
+     * If this Option has a value then return it otherwise throw an exception. It is not intended that this method is called
+     * without a prior call to {@link #isSome()}
+     * @throws me.shaftesbury.utils.functional.OptionNoValueAccessException
+     * @return the underlying value of the Option
+     */
+    public double Some()
+    {
+        if(isSet) return _t;
+        else throw new OptionNoValueAccessException();
+    }
+
+    /**
+     * Factory method, equivalent to {@link #toOption(double)}
+     * @param t the value which is to be wrapped in an Option
+     * @return the Option containing <tt>t</tt>
+     */
+    public static Option_double Some(final double t)
+    {
+        return toOption(t);
+    }
+
+    /**
+     * Factory method which returns an Option with no underlying value, ie a None
+     * @return the Option None
+     */
+    public static Option_double None()
+    {
+        return NONE;
+    }
+
+    /**
+     * Predicate. Does this Option object have a value?
+     * @return true if this Option has a value, false otherwise
+     */
+    public boolean isSome()
+    {
+        return isSet;
+    }
+
+    /**
+     * Predicate. Does this Option have a value?
+     * @return true if this Option does not have a value, false otherwise.
+     */
+    public boolean isNone()
+    {
+        return !isSet;
+    }
+
+    /**
+     * Equality operator. Two Options are equal if they are both {@link #None()} or if they both have a value and the
+     * values are equal.
+     * @param o the Option which we wish to compare for equality with <tt>this</tt>.
+     * @return true if they compare equally, false otherwise
+     */
+    public boolean equals(final Object o)
+    {
+        if(!(o instanceof Option_double)) return false;
+        final Option_double other = (Option_double)o;
+        return isSet==other.isSet && Double.compare(_t, other._t)==0;
+    }
+
+    /**
+     * Return the hashCode of this Option
+     * @return an integer hashcode
+     */
+    public int hashCode()
+    {
+        return isNone() ? -1 : 3 * Double.hashCode(_t);
+    }
+
+    /**
+     * Return a rendering of this Option as a String. That is, "Option( value )" or "None"
+     * @return the string representation of the Option.
+     */
+    public String toString()
+    {
+        return isSome()
+                ? "Option( "+ _t + " )"
+                : "None";
+    }
+
+    /**
+     * Factory method which wraps the supplied value in an Option
+     * @param t the value which is to be wrapped in an Option
+     * @return the Option containing <tt>t</tt>
+     */
+    public static Option_double toOption(final double t)
+    {
+        return new Option_double(t);
+    }
+
+    /**
+     * Apply a function to the underlying data if {@link #isSome()} and return the result otherwise return {@link #None()}
+     * {@see http://en.wikipedia.org/wiki/Monad_(functional_programming)}
+     * @param f the function to be bound
+     * @return an Option containing either {@link #None()} or the result of the function <tt>f</tt>
+     */
+    public Option_double bind(final Func_double_T<Option_double> f)
+    {
+        if(isSome()) return f.apply(_t);
+        else return None();
+    }
+
+    /**
+     * Given two monadic Options apply the supplied binary function to them if they are both {@link #isSome()} and return
+     * a wrapped Option containing the result or {@link #None()}.
+     * @param f the binary function to be lifted
+     * @param o1 the first Option to be passed to the lift function <tt>f</tt>
+     * @param o2 the second Option to be passed to the lift function <tt>f</tt>
+     * @return an Option containing the result of the lifted function as applied to <tt>o1</tt> and <tt>o2</tt> or {@link #None()}
+     */
+    public static Option_double lift(final Func2_double_double_double f, final Option_double o1, final Option_double o2)
+    {
+        if(o1.isSome() && o2.isSome()) return toOption(f.apply(o1._t,o2._t));
+        else return None();
+    }
+}
@@ -7,12 +7,15 @@ import org.apache.commons.lang3.tuple.Triple;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 import static me.shaftesbury.utils.functional.primitive.integer.Iterators.reverse;
 
 /**
  * Herein are contained some standard algorithms from functional programming tailored for use with Java
  * primitive types.
+ * The functions which accept a predicate can be given either a <tt>Func_int_T&lt;Boolean&gt;</tt>, as the first argument,
+ * or an <tt>IntPredicate</tt>, as the last argument, which avoids boxing the result for every element.
  * See <a href="http://en.wikipedia.org/wiki/Functional_programming">Functional Programming</a>
  * for more information
  */
@@ -67,6 +70,22 @@ public final class Functional
      * @return the first element from the input sequence for which the supplied predicate returns true
      */
     public static int find(final Func_int_T<Boolean> f, final IntList input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+
+        return find(input, f::apply);
+    }
+
+    /**
+     * Find the first element from the input sequence for which the supplied predicate returns true
+     * find: A list -> (A -> bool) -> A
+     * @param input sequence
+     * @param f predicate
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException if no element is found that satisfies the predicate
+     * @return the first element from the input sequence for which the supplied predicate returns true
+     */
+    public static int find(final IntList input, final IntPredicate f)
     {
         if (f == null) throw new IllegalArgumentException("f");
         if (input == null) throw new IllegalArgumentException("input");
@@ -74,7 +93,7 @@ public final class Functional
         final IntIterator iterator = input.iterator();
         while(iterator.hasNext()) {
             final int a = iterator.next();
-            if (f.apply((a)))
+            if (f.test((a)))
                 return a;
         }
         throw new NoSuchElementException();
@@ -91,6 +110,23 @@ public final class Functional
      * returns true
      */
     public static int findIndex(final Func_int_T<Boolean> f, final IntList input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+
+        return findIndex(input, f::apply);
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return the zero-based position in the input sequence of the found element
+     * findIndex: A list -> (A -> bool) -> int
+     * @param input sequence
+     * @param f predicate
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException if no element is found that satisfies the predicate
+     * @return the position in the input sequence of the first element from the input sequence for which the supplied predicate
+     * returns true
+     */
+    public static int findIndex(final IntList input, final IntPredicate f)
     {
         if (f == null) throw new IllegalArgumentException("f");
         if (input == null) throw new IllegalArgumentException("input");
@@ -99,7 +135,7 @@ public final class Functional
         final IntIterator iterator = input.iterator();
         while(iterator.hasNext()) {
             final int a = iterator.next();
-            if (f.apply(a))
+            if (f.test(a))
                 return pos;
             else pos++;
         }
@@ -116,6 +152,22 @@ public final class Functional
      * @return the last element in the input sequence for which the supplied predicate returns true
      */
     public static int findLast(final Func_int_T<Boolean> f, final IntList input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+
+        return findLast(input, f::apply);
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return the last element in the input sequence that satisfies the predicate 'f'
+     * findLast: A list -> (A -> bool) -> A
+     * @param input sequence
+     * @param f predicate
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException if no element is found that satisfies the predicate
+     * @return the last element in the input sequence for which the supplied predicate returns true
+     */
+    public static int findLast(final IntList input, final IntPredicate f)
     {
         if (f == null) throw new IllegalArgumentException("f");
         if (input == null) throw new IllegalArgumentException("input");
@@ -124,7 +176,7 @@ public final class Functional
         final IntIterator iterator = reversed.iterator();
         while (iterator.hasNext()) {
             final int a = iterator.next();
-            if (f.apply(a))
+            if (f.test(a))
                 return a;
         }
         throw new NoSuchElementException();
@@ -333,10 +385,10 @@ public final class Functional
         if (f == null) throw new IllegalArgumentException("f");
         if(howMany<1) throw new IllegalArgumentException("howMany");
 
-        final int[] output = new int[howMany];
+        final IntListBuilder output = new IntListBuilder(howMany);
         for(int i=1; i<=howMany; ++i)
-            output[i-1] = f.apply(i);
-        return new IntList(output);
+            output.add(f.apply(i));
+        return output.build();
     }
 
     /**
@@ -370,12 +422,11 @@ public final class Functional
      */
     public static <B> IntList map(final Func_T_int<? super B> f, final Iterable<B> input)
     {
-        final int[] output = input instanceof Collection<?> ? new int[((Collection<?>) input).size()] : new int[]{};
-        int pos = 0;
+        final IntListBuilder output = input instanceof Collection<?> ? new IntListBuilder(((Collection<?>) input).size()) : new IntListBuilder();
         for(final B b : input)
-            output[pos++] = f.apply(b);
+            output.add(f.apply(b));
 
-        return new IntList(output);
+        return output.build();
     }
 
     /**
@@ -400,6 +451,57 @@ public final class Functional
         return Collections.unmodifiableList(output);
     }
 
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * mapToInt: (int -> int) -> int list -> int list
+     * @param f a transformation function which takes an int and returns an int
+     * @param input a sequence to be fed into f
+     * @return an IntList containing the transformed values.
+     */
+    public static IntList mapToInt(final Func_int_int f, final IntIterable input)
+    {
+        if(f==null) throw new IllegalArgumentException("Functional.mapToInt(Func_int_int,IntIterable): f is null");
+        if(input==null) throw new IllegalArgumentException("Functional.mapToInt(Func_int_int,IntIterable): input is null");
+
+        if(input instanceof IntList)
+        {
+            final IntList list = (IntList) input;
+            final int[] source = list.extractBackingStoreWithoutCopy();
+            final int[] output = new int[list.size()];
+            for(int i=0, j=list.offset(); i<output.length; ++i, ++j)
+                output[i] = f.apply(source[j]);
+            return IntList.adopt(output, output.length);
+        }
+        final IntListBuilder output = new IntListBuilder();
+        final IntIterator iterator = input.iterator();
+        while(iterator.hasNext())
+            output.add(f.apply(iterator.next()));
+        return output.build();
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * mapiToInt: (int -> int -> int) -> int list -> int list
+     * @param f a transformation function which is passed each input element along with its position in the input sequence
+     *          (starting from zero) and returns an int
+     * @param input a sequence to be fed into f
+     * @return an IntList containing the transformed values.
+     */
+    public static IntList mapiToInt(final Func2_int_int_int f, final IntIterable input)
+    {
+        if(f==null) throw new IllegalArgumentException("Functional.mapiToInt(Func2_int_int_int,IntIterable): f is null");
+        if(input==null) throw new IllegalArgumentException("Functional.mapiToInt(Func2_int_int_int,IntIterable): input is null");
+
+        final IntListBuilder output = input instanceof IntList ? new IntListBuilder(((IntList) input).size()) : new IntListBuilder();
+        int pos = 0;
+        final IntIterator iterator = input.iterator();
+        while(iterator.hasNext())
+            output.add(f.apply(pos++, iterator.next()));
+        return output.build();
+    }
+
     /**
      * A transformation function that wraps <tt>Stringify</tt>
      * @return a function that calls <tt>Stringify</tt>
@@ -522,15 +624,37 @@ public final class Functional
      */
     public static IntList filter(final Func_int_T<Boolean> pred, final IntIterable input)
     {
-        final int[] output = input instanceof IntList ? new int[((IntList) input).size()] : new int[]{};
+        return filter(input, pred::apply);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+     * @param input a sequence of ints
+     * @param pred a filter predicate. This is passed each input element in turn and returns either true or false. If true then
+     *             the input element is passed through to the output otherwise it is ignored.
+     * @return a list which contains zero or more of the elements of the input sequence. Each element is included only if the filter
+     *          function returns true for the element.
+     */
+    public static IntList filter(final IntIterable input, final IntPredicate pred)
+    {
+        if(input instanceof IntList)
+        {
+            final IntList list = (IntList) input;
+            final int[] source = list.extractBackingStoreWithoutCopy();
+            final IntListBuilder output = new IntListBuilder(list.size());
+            for(int i=list.offset(), end=list.offset()+list.size(); i<end; ++i)
+                if(pred.test(source[i]))
+                    output.add(source[i]);
+            return output.build();
+        }
+        final IntListBuilder output = new IntListBuilder();
         final IntIterator iterator = input.iterator();
-        int pos=0;
         while(iterator.hasNext()) {
             final int element = iterator.next();
-            if (pred.apply(element))
-                output[pos++]=element;
+            if (pred.test(element))
+                output.add(element);
         }
-        return new IntList(output,pos);
+        return output.build();
     }
 
     /**
@@ -542,11 +666,24 @@ public final class Functional
      * @return true if the predicate returns true for any element in the input sequence, false otherwise
      */
     public static boolean exists(final Func_int_T<Boolean> f, final IntIterable input)
+    {
+        return exists(input, f::apply);
+    }
+
+    /**
+     * The converse operation to <tt>forAll</tt>. If the predicate returns true then 'exists' returns true and halts the traveral of the
+     * input sequence. Otherwise return false.
+     * exists: A list -> (A -> bool) -> bool
+     * @param input input sequence
+     * @param f predicate
+     * @return true if the predicate returns true for any element in the input sequence, false otherwise
+     */
+    public static boolean exists(final IntIterable input, final IntPredicate f)
     {
         final IntIterator iterator = input.iterator();
         while(iterator.hasNext()) {
             final int a = iterator.next();
-            if (f.apply(a))
+            if (f.test(a))
                 return true;
         }
         return false;
@@ -577,6 +714,19 @@ public final class Functional
         return !exists(not(f), input);
     }
 
+    /**
+     * The converse operation to <tt>exists</tt>. If the predicate returns true for all elements in the input sequence then 'forAll'
+     * returns true otherwise return false.
+     * forAll: A list -> (A -> bool) -> bool
+     * @param input input sequence
+     * @param f predicate
+     * @return true if the predicate returns true for all elements in the input sequence, false otherwise
+     */
+    public static boolean forAll(final IntIterable input, final IntPredicate f)
+    {
+        return !exists(input, f.negate());
+    }
+
     /**
      * not2 reverses the result of the applied predicate
      * not2: (A -> B -> bool) -> (A -> B -> bool)
@@ -602,29 +752,43 @@ public final class Functional
      * @param input the input sequence
      * @return a pair of lists, the first being the 'true' and the second being the 'false'
      */
-    public static Pair<List<Integer>,List<Integer>> partition(final Func_int_T<Boolean> f, final IntIterable input)
+    public static Pair<IntList,IntList> partition(final Func_int_T<Boolean> f, final IntIterable input)
     {
-        final List<Integer> left;
-        final List<Integer> right;
+        return partition(input, f::apply);
+    }
+
+    /**
+     * partition is a group function. Given an input sequence and a predicate, 'partition' returns a pair of lists, the first list
+     * containing those elements from the input sequence for which the predicate returned true, the second list containing those
+     * elements from the input sequence for which the predicate returned false.
+     * partition: A list -> (A -> bool) -> A list * A list
+     * @param input the input sequence
+     * @param f predicate used to split the input sequence into two groups
+     * @return a pair of lists, the first being the 'true' and the second being the 'false'
+     */
+    public static Pair<IntList,IntList> partition(final IntIterable input, final IntPredicate f)
+    {
+        final IntListBuilder left;
+        final IntListBuilder right;
         if(input instanceof IntList)
         {
-            left = new ArrayList<Integer>(((IntList) input).size());
-            right = new ArrayList<Integer>(((IntList) input).size());
+            left = new IntListBuilder(((IntList) input).size());
+            right = new IntListBuilder(((IntList) input).size());
         }
         else
         {
-            left = new ArrayList<Integer>();
-            right = new ArrayList<Integer>();
+            left = new IntListBuilder();
+            right = new IntListBuilder();
         }
         final IntIterator iterator = input.iterator();
         while(iterator.hasNext()) {
             final int a = iterator.next();
-            if (f.apply(a))
+            if (f.test(a))
                 left.add(a);
             else
                 right.add(a);
         }
-        return Pair.of(Collections.unmodifiableList(left), Collections.unmodifiableList(right));
+        return Pair.of(left.build(), right.build());
     }
 
     /**
@@ -662,17 +826,16 @@ public final class Functional
      */
     public static IntList choose(final Func_int_Option_int f, final IntIterable input)
     {
-        final int[] results = input instanceof IntList ? new int[(((IntList) input).size())] : new int[]{};
+        final IntListBuilder results = input instanceof IntList ? new IntListBuilder(((IntList) input).size()) : new IntListBuilder();
         final IntIterator iterator = input.iterator();
-        int counter=0;
         while(iterator.hasNext())
         {
             final int a = iterator.next();
             final Option_int intermediate = f.apply(a);
             if (!intermediate.isNone())
-                results[counter++]=intermediate.Some();
+                results.add(intermediate.Some());
         }
-        return new IntList(results,counter);
+        return results.build();
     }
 
     /**
@@ -696,6 +859,175 @@ public final class Functional
         return state;
     }
 
+    /**
+     * sum: the total of the elements of the input, accumulated as a long so that it cannot overflow.
+     * This and the other fixed-function operations below (<tt>min</tt>, <tt>max</tt>, <tt>countLessThan</tt>, <tt>add</tt>,
+     * <tt>multiply</tt>, <tt>dot</tt> and <tt>filterLessThan</tt>) run as tight loops over the backing array, with no
+     * function calls and no boxing per element, so prefer them to the equivalent <tt>fold</tt>, <tt>map</tt> or
+     * <tt>filter</tt> with a lambda.
+     * @param input the input list
+     * @return the sum of the elements
+     */
+    public static long sum(final IntList input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.sum(IntList): input is null");
+        return IntKernels.BULK.sum(input.extractBackingStoreWithoutCopy(), input.offset(), input.size());
+    }
+
+    /**
+     * min: the smallest element of the input. See {@link #sum(IntList)}.
+     * @param input the input list
+     * @throws java.lang.IllegalArgumentException if the input is null or empty
+     * @return the smallest element
+     */
+    public static int min(final IntList input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.min(IntList): input is null");
+        if(input.isEmpty()) throw new IllegalArgumentException("Functional.min(IntList): input is empty");
+        return IntKernels.BULK.min(input.extractBackingStoreWithoutCopy(), input.offset(), input.size());
+    }
+
+    /**
+     * max: the largest element of the input. See {@link #sum(IntList)}.
+     * @param input the input list
+     * @throws java.lang.IllegalArgumentException if the input is null or empty
+     * @return the largest element
+     */
+    public static int max(final IntList input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.max(IntList): input is null");
+        if(input.isEmpty()) throw new IllegalArgumentException("Functional.max(IntList): input is empty");
+        return IntKernels.BULK.max(input.extractBackingStoreWithoutCopy(), input.offset(), input.size());
+    }
+
+    /**
+     * countLessThan: the number of elements of the input which are less than 'threshold'. See {@link #sum(IntList)}.
+     * @param threshold the exclusive upper bound
+     * @param input the input list
+     * @return the number of elements less than the threshold
+     */
+    public static int countLessThan(final int threshold, final IntList input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.countLessThan(int,IntList): input is null");
+        return IntKernels.BULK.countLessThan(threshold, input.extractBackingStoreWithoutCopy(), input.offset(), input.size());
+    }
+
+    /**
+     * add: add a constant to every element of the input. See {@link #sum(IntList)}.
+     * @param constant the value to be added
+     * @param input the input list
+     * @return a list containing each element of the input plus the constant
+     */
+    public static IntList add(final int constant, final IntList input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.add(int,IntList): input is null");
+        return IntList.adopt(IntKernels.BULK.add(constant, input.extractBackingStoreWithoutCopy(), input.offset(), input.size()), input.size());
+    }
+
+    /**
+     * multiply: multiply every element of the input by a constant. See {@link #sum(IntList)}.
+     * @param factor the value by which each element is to be multiplied
+     * @param input the input list
+     * @return a list containing each element of the input multiplied by the factor
+     */
+    public static IntList multiply(final int factor, final IntList input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.multiply(int,IntList): input is null");
+        return IntList.adopt(IntKernels.BULK.multiply(factor, input.extractBackingStoreWithoutCopy(), input.offset(), input.size()), input.size());
+    }
+
+    /**
+     * dot: the sum of the products of corresponding elements of the two inputs, accumulated as a long. See {@link #sum(IntList)}.
+     * @param l1 input list
+     * @param l2 input list
+     * @throws java.lang.IllegalArgumentException if either input is null or if the lists have differing lengths.
+     * @return the dot product of the two lists
+     */
+    public static long dot(final IntList l1, final IntList l2)
+    {
+        if(l1==null) throw new IllegalArgumentException("Functional.dot(IntList,IntList): l1 is null");
+        if(l2==null) throw new IllegalArgumentException("Functional.dot(IntList,IntList): l2 is null");
+        if(l1.size()!=l2.size()) throw new IllegalArgumentException("Functional.dot(IntList,IntList): l1 and l2 have differing numbers of elements");
+        return IntKernels.BULK.dot(l1.extractBackingStoreWithoutCopy(), l1.offset(), l2.extractBackingStoreWithoutCopy(), l2.offset(), l1.size());
+    }
+
+    /**
+     * filterLessThan: the elements of the input which are less than 'threshold', in input order. The selection is
+     * branch-free, so it runs at the same speed however the elements are distributed. See {@link #sum(IntList)}.
+     * @param threshold the exclusive upper bound
+     * @param input the input list
+     * @return a list containing the elements less than the threshold
+     */
+    public static IntList filterLessThan(final int threshold, final IntList input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.filterLessThan(int,IntList): input is null");
+        return IntKernels.BULK.filterLessThan(threshold, input.extractBackingStoreWithoutCopy(), input.offset(), input.size());
+    }
+
+    /**
+     * sort: the elements of the input in ascending order. The list returned knows that it is sorted, so its
+     * <tt>contains</tt>, <tt>indexOf</tt> and <tt>lastIndexOf</tt> use binary search and it can be passed straight to
+     * {@link #union(IntList, IntList)}, {@link #intersect(IntList, IntList)} and {@link #difference(IntList, IntList)}.
+     * The sort is a radix sort, which runs in linear time; an input which is already sorted is returned as it is.
+     * @param input the input list
+     * @return a sorted list containing the elements of the input
+     */
+    public static IntList sort(final IntList input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.sort(IntList): input is null");
+        if(input.isSorted()) return input;
+        return IntList.adoptSorted(IntKernels.radixSort(input.extractBackingStoreWithoutCopy(), input.offset(), input.size()), input.size());
+    }
+
+    /**
+     * union: the elements found in either of two sorted lists, by a single merge of the two
+     * @param l1 a sorted input list
+     * @param l2 a sorted input list
+     * @throws java.lang.IllegalArgumentException if either input is null or not sorted. See {@link #sort(IntList)}.
+     * @return a sorted list containing, once each, the elements found in either input
+     */
+    public static IntList union(final IntList l1, final IntList l2)
+    {
+        if(l1==null) throw new IllegalArgumentException("Functional.union(IntList,IntList): l1 is null");
+        if(l2==null) throw new IllegalArgumentException("Functional.union(IntList,IntList): l2 is null");
+        if(!l1.isSorted()) throw new IllegalArgumentException("Functional.union(IntList,IntList): l1 is not sorted");
+        if(!l2.isSorted()) throw new IllegalArgumentException("Functional.union(IntList,IntList): l2 is not sorted");
+        return IntKernels.union(l1.extractBackingStoreWithoutCopy(), l1.offset(), l1.size(), l2.extractBackingStoreWithoutCopy(), l2.offset(), l2.size());
+    }
+
+    /**
+     * intersect: the elements found in both of two sorted lists, by a single merge of the two or, if one list is much
+     * the shorter, by galloping search of the longer for each of its elements
+     * @param l1 a sorted input list
+     * @param l2 a sorted input list
+     * @throws java.lang.IllegalArgumentException if either input is null or not sorted. See {@link #sort(IntList)}.
+     * @return a sorted list containing, once each, the elements found in both inputs
+     */
+    public static IntList intersect(final IntList l1, final IntList l2)
+    {
+        if(l1==null) throw new IllegalArgumentException("Functional.intersect(IntList,IntList): l1 is null");
+        if(l2==null) throw new IllegalArgumentException("Functional.intersect(IntList,IntList): l2 is null");
+        if(!l1.isSorted()) throw new IllegalArgumentException("Functional.intersect(IntList,IntList): l1 is not sorted");
+        if(!l2.isSorted()) throw new IllegalArgumentException("Functional.intersect(IntList,IntList): l2 is not sorted");
+        return IntKernels.intersect(l1.extractBackingStoreWithoutCopy(), l1.offset(), l1.size(), l2.extractBackingStoreWithoutCopy(), l2.offset(), l2.size());
+    }
+
+    /**
+     * difference: the elements of the first sorted list which are not in the second, by a single merge of the two
+     * @param l1 a sorted input list
+     * @param l2 a sorted input list, the elements to be excluded
+     * @throws java.lang.IllegalArgumentException if either input is null or not sorted. See {@link #sort(IntList)}.
+     * @return a sorted list containing, once each, the elements of l1 which are not in l2
+     */
+    public static IntList difference(final IntList l1, final IntList l2)
+    {
+        if(l1==null) throw new IllegalArgumentException("Functional.difference(IntList,IntList): l1 is null");
+        if(l2==null) throw new IllegalArgumentException("Functional.difference(IntList,IntList): l2 is null");
+        if(!l1.isSorted()) throw new IllegalArgumentException("Functional.difference(IntList,IntList): l1 is not sorted");
+        if(!l2.isSorted()) throw new IllegalArgumentException("Functional.difference(IntList,IntList): l2 is not sorted");
+        return IntKernels.difference(l1.extractBackingStoreWithoutCopy(), l1.offset(), l1.size(), l2.extractBackingStoreWithoutCopy(), l2.offset(), l2.size());
+    }
+
     /**
      * See <a href="http://en.wikipedia.org/wiki/Unfold_(higher-order_function)">Unfold</a> and
      * <a href="http://en.wikipedia.org/wiki/Anamorphism">Anamorphism</a>
@@ -777,6 +1109,57 @@ public final class Functional
         return Collections.unmodifiableMap(output);
     }
 
+    /**
+     * toIntIntMap: given each element from the input sequence apply the keyFn and valueFn to generate a (key,value) pair.
+     * The resulting {@link IntIntMap} contains all these pairs; where two elements generate the same key the later value is retained.
+     * Neither the keys nor the values are boxed.
+     * @param keyFn function used to generate the key
+     * @param valueFn function used to generate the value
+     * @param input input sequence
+     * @return an IntIntMap containing the transformed input sequence
+     */
+    public static IntIntMap toIntIntMap(final Func_int_int keyFn, final Func_int_int valueFn, final IntIterable input)
+    {
+        if(keyFn==null) throw new IllegalArgumentException("Functional.toIntIntMap(Func_int_int,Func_int_int,IntIterable): keyFn is null");
+        if(valueFn==null) throw new IllegalArgumentException("Functional.toIntIntMap(Func_int_int,Func_int_int,IntIterable): valueFn is null");
+        if(input==null) throw new IllegalArgumentException("Functional.toIntIntMap(Func_int_int,Func_int_int,IntIterable): input is null");
+
+        final IntIntMap output = new IntIntMap();
+        final IntIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            final int element = iterator.next();
+            output.put(keyFn.apply(element), valueFn.apply(element));
+        }
+        return output;
+    }
+
+    /**
+     * toIntObjMap: given each element from the input sequence apply the keyFn and valueFn to generate a (key,value) pair.
+     * The resulting {@link IntObjMap} contains all these pairs; where two elements generate the same key the later value is retained.
+     * The keys are not boxed.
+     * @param keyFn function used to generate the key
+     * @param valueFn function used to generate the value
+     * @param input input sequence
+     * @param <V> the type of the value elements
+     * @return an IntObjMap containing the transformed input sequence
+     */
+    public static <V>IntObjMap<V> toIntObjMap(final Func_int_int keyFn, final Func_int_T<? extends V> valueFn, final IntIterable input)
+    {
+        if(keyFn==null) throw new IllegalArgumentException("Functional.toIntObjMap(Func_int_int,Func_int_T,IntIterable): keyFn is null");
+        if(valueFn==null) throw new IllegalArgumentException("Functional.toIntObjMap(Func_int_int,Func_int_T,IntIterable): valueFn is null");
+        if(input==null) throw new IllegalArgumentException("Functional.toIntObjMap(Func_int_int,Func_int_T,IntIterable): input is null");
+
+        final IntObjMap<V> output = new IntObjMap<V>();
+        final IntIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            final int element = iterator.next();
+            output.put(keyFn.apply(element), valueFn.apply(element));
+        }
+        return output;
+    }
+
     /**
      * toArray: create an array containing all the objects in the input sequence
      * @param input input sequence
@@ -915,9 +1298,7 @@ public final class Functional
         if(list1==null) throw new IllegalArgumentException("Functional.concat(List<T>,List<T>): list1 is null");
         if(list2==null) throw new IllegalArgumentException("Functional.concat(List<T>,List<T>): list2 is null");
 
-        final int[] first = list1.extractBackingStoreWithoutCopy();
-        final int[] second = list2.extractBackingStoreWithoutCopy();
-        return new IntList(first,second);
+        return new IntListBuilder(list1.size()+list2.size()).addAll(list1).addAll(list2).build();
     }
 
     /**
@@ -1091,6 +1472,78 @@ public final class Functional
         };
     }
 
+    /**
+     * take: given a list return another list containing the first 'howMany' elements. The result is a view of 'list' and
+     * costs O(1) to create; use {@link IntList#copy()} to detach it.
+     * @param howMany a positive number of elements to be returned from the input sequence
+     * @param list the input sequence
+     * @return a list containing the first 'howMany' elements of 'list'
+     * @throws java.util.NoSuchElementException if more elements are requested than are present in the input sequence
+     */
+    public static IntList take(final int howMany, final IntList list)
+    {
+        if(howMany<0) throw new IllegalArgumentException("Functional.take(int,IntList): howMany is negative");
+        if(list==null) throw new IllegalArgumentException("Functional.take(int,IntList): list is null");
+
+        if(howMany>list.size())
+            throw new java.util.NoSuchElementException("Cannot take "+howMany+" elements from input list with fewer elements");
+        return list.subList(0,howMany);
+    }
+
+    /**
+     * takeWhile: given a list return another list containing the first elements up and not including the first element for which
+     * the predicate returns false. The result is a view of 'list' and costs O(1) to create.
+     * @param list the input sequence
+     * @param predicate the predicate to use
+     * @return a list
+     */
+    public static IntList takeWhile(final IntList list, final IntPredicate predicate)
+    {
+        if(predicate==null) throw new IllegalArgumentException("Functional.takeWhile(IntList,IntPredicate): predicate is null");
+        if(list==null) throw new IllegalArgumentException("Functional.takeWhile(IntList,IntPredicate): list is null");
+
+        return list.subList(0,countWhile(list,predicate));
+    }
+
+    /**
+     * skip: the converse of <tt>take</tt>. Given a list return another list containing those elements that follow the
+     * first 'howMany' elements. The result is a view of 'list' and costs O(1) to create.
+     * @param howMany a non-negative number of elements to be discarded from the input sequence
+     * @param list the input sequence
+     * @return a list containing the remaining elements after the first 'howMany' elements of 'list' or an empty list if more elements
+     * are skipped than are present in the 'list'
+     */
+    public static IntList skip(final int howMany, final IntList list)
+    {
+        if(howMany<0) throw new IllegalArgumentException("Functional.skip(int,IntList): howMany is negative");
+        if(list==null) throw new IllegalArgumentException("Functional.skip(int,IntList): list is null");
+
+        return list.subList(Math.min(howMany,list.size()),list.size());
+    }
+
+    /**
+     * skipWhile: the converse of <tt>takeWhile</tt>. Given a list return another list containing all those elements from,
+     * and including, the first element for which the predicate returns false. The result is a view of 'list' and costs
+     * O(1) to create.
+     * @param list the input sequence
+     * @param predicate ignore elements in the input while the predicate is true.
+     * @return a list containing the remaining elements after and including the first element for which the predicate returns false
+     */
+    public static IntList skipWhile(final IntList list, final IntPredicate predicate)
+    {
+        if(predicate==null) throw new IllegalArgumentException("Functional.skipWhile(IntList,IntPredicate): predicate is null");
+        if(list==null) throw new IllegalArgumentException("Functional.skipWhile(IntList,IntPredicate): list is null");
+
+        return list.subList(countWhile(list,predicate),list.size());
+    }
+
+    private static int countWhile(final IntList list, final IntPredicate predicate)
+    {
+        int counter=0;
+        while(counter<list.size() && predicate.test(list.get(counter))) ++counter;
+        return counter;
+    }
+
     /**
      * constant: a function that returns a map function f(n) that returns the supplied 'constant'. Typically this would be
      * used in <tt>init</tt>
@@ -1229,6 +1682,66 @@ public final class Functional
         return Pair.of(Collections.unmodifiableList(l1),Collections.unmodifiableList(l2));
     }
 
+    /**
+     * The Convolution operator for sequences of ints. Rather than a list of pairs, the output is a pair of parallel lists:
+     * the i'th element of the first list and the i'th element of the second list together form the i'th pair. Nothing is boxed
+     * and, when both inputs are already IntLists, nothing is copied.
+     * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+     * @param l1 input sequence
+     * @param l2 input sequence
+     * @throws java.lang.IllegalArgumentException if either input sequence is null or if the sequences have differing lengths.
+     * @return a pair of IntLists of equal length containing the elements of l1 and l2 respectively
+     */
+    public static Pair<IntList,IntList> zip(final IntIterable l1, final IntIterable l2)
+    {
+        if(l1==null) throw new IllegalArgumentException("Functional.zip(IntIterable,IntIterable): l1 is null");
+        if(l2==null) throw new IllegalArgumentException("Functional.zip(IntIterable,IntIterable): l2 is null");
+
+        if(l1 instanceof IntList && l2 instanceof IntList)
+        {
+            if(((IntList) l1).size()!=((IntList) l2).size())
+                throw new IllegalArgumentException("Functional.zip(IntIterable,IntIterable): l1 and l2 have differing numbers of elements");
+            return Pair.of((IntList) l1, (IntList) l2);
+        }
+
+        final IntListBuilder left = new IntListBuilder();
+        final IntListBuilder right = new IntListBuilder();
+        final IntIterator l1_it = l1.iterator();
+        final IntIterator l2_it = l2.iterator();
+        while(l1_it.hasNext() && l2_it.hasNext())
+        {
+            left.add(l1_it.next());
+            right.add(l2_it.next());
+        }
+        if(l1_it.hasNext() || l2_it.hasNext()) throw new IllegalArgumentException("Functional.zip(IntIterable,IntIterable): l1 and l2 have differing numbers of elements");
+
+        return Pair.of(left.build(), right.build());
+    }
+
+    /**
+     * The converse of the Convolution operator for pairs of ints
+     * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+     * @param input sequence of pairs
+     * @throws java.lang.IllegalArgumentException if the input sequence is null
+     * @return pair of IntLists; the first element from each of the two output sequences is the first pair in the input sequence and so on,
+     *          in order.
+     */
+    public static Pair<IntList,IntList> unzipInts(final Iterable<IntIntPair> input)
+    {
+        if(input==null) throw new IllegalArgumentException("Functional.unzipInts(Iterable<IntIntPair>): input is null");
+
+        final int size = input instanceof Collection<?> ? ((Collection<?>) input).size() : 10;
+        final IntListBuilder l1 = new IntListBuilder(size);
+        final IntListBuilder l2 = new IntListBuilder(size);
+        for(final IntIntPair pair:input)
+        {
+            l1.add(pair.getLeft());
+            l2.add(pair.getRight());
+        }
+
+        return Pair.of(l1.build(), l2.build());
+    }
+
     /**
      * The converse of the Convolution operator
      * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
@@ -1419,6 +1932,63 @@ public final class Functional
         return Collections.unmodifiableMap(output);
     }
 
+    /**
+     * groupBy: the input is grouped according to a function. See {@link #groupBy(Function, Iterable)}. Neither the keys
+     * nor the elements are boxed.
+     * @param keyFn the grouping function. Given an element return the key to be used when storing this element in the dictionary
+     * @param input the input sequence
+     * @return an IntObjMap containing, for each key, the list of the elements which generated it in input order
+     */
+    public static IntObjMap<IntList> groupBy(final Func_int_int keyFn, final IntIterable input)
+    {
+        if (keyFn == null) throw new IllegalArgumentException("Functional.groupBy(Func_int_int,IntIterable): keyFn is null");
+        if (input == null) throw new IllegalArgumentException("Functional.groupBy(Func_int_int,IntIterable): input is null");
+
+        final IntObjMap<IntListBuilder> groups = new IntObjMap<IntListBuilder>();
+        final IntIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            final int element = iterator.next();
+            groups.computeIfAbsent(keyFn.apply(element), key -> new IntListBuilder(4)).add(element);
+        }
+        return groups.transformValues(IntListBuilder::build);
+    }
+
+    /**
+     * countBy: count the elements of the input which generate each key. This is equivalent to, but much cheaper than, taking
+     * the size of each group returned by {@link #groupBy(Func_int_int, IntIterable)}. Neither the keys nor the counts are boxed.
+     * @param keyFn the grouping function. Given an element return the key whose count it should increment
+     * @param input the input sequence
+     * @return an IntIntMap containing the number of elements which generated each key
+     */
+    public static IntIntMap countBy(final Func_int_int keyFn, final IntIterable input)
+    {
+        if (keyFn == null) throw new IllegalArgumentException("Functional.countBy(Func_int_int,IntIterable): keyFn is null");
+        if (input == null) throw new IllegalArgumentException("Functional.countBy(Func_int_int,IntIterable): input is null");
+
+        final IntIntMap output = new IntIntMap();
+        final IntIterator iterator = input.iterator();
+        while(iterator.hasNext())
+            output.addTo(keyFn.apply(iterator.next()), 1);
+        return output;
+    }
+
+    /**
+     * distinct: the set of the elements of the input sequence
+     * @param input the input sequence
+     * @return an IntSet containing each element of the input sequence once
+     */
+    public static IntSet distinct(final IntIterable input)
+    {
+        if (input == null) throw new IllegalArgumentException("Functional.distinct(IntIterable): input is null");
+
+        final IntSet output = new IntSet();
+        final IntIterator iterator = input.iterator();
+        while(iterator.hasNext())
+            output.add(iterator.next());
+        return output;
+    }
+
     /**
      * The Range class holds an inclusive lower bound and an exclusive upper bound. That is lower <= pos < upper
      */
@@ -1545,6 +2115,6 @@ public final class Functional
         final int[] ints = new int[howMany];
         Arrays.fill(ints, constant);
 
-        return new IntList(ints);
+        return IntList.adopt(ints, howMany);
     }
 }
@@ -0,0 +1,51 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+/**
+ * The element-wise and reducing operations over the range [from, from + length) of an <tt>int[]</tt> which back the
+ * fixed-function operations in {@link Functional} such as <tt>sum</tt> and <tt>filterLessThan</tt>. The implementation
+ * in use is {@link IntKernels#BULK}: <tt>VectorIntKernels</tt>, which uses the Vector API, if it can be loaded, otherwise
+ * {@link ScalarIntKernels}. Every implementation must return exactly the same results as <tt>ScalarIntKernels</tt>.
+ */
+interface IntBulkKernels
+{
+    /**
+     * @return the sum of the elements, which cannot overflow
+     */
+    long sum(int[] a, int from, int length);
+
+    /**
+     * @return the least element, or Integer.MAX_VALUE if the range is empty
+     */
+    int min(int[] a, int from, int length);
+
+    /**
+     * @return the greatest element, or Integer.MIN_VALUE if the range is empty
+     */
+    int max(int[] a, int from, int length);
+
+    /**
+     * @return the number of elements less than 'threshold'
+     */
+    int countLessThan(int threshold, int[] a, int from, int length);
+
+    /**
+     * @return a new array of 'length' elements, each 'constant' more than the corresponding element of the range
+     */
+    int[] add(int constant, int[] a, int from, int length);
+
+    /**
+     * @return a new array of 'length' elements, each 'factor' times the corresponding element of the range
+     */
+    int[] multiply(int factor, int[] a, int from, int length);
+
+    /**
+     * @return the sum of the products of the corresponding elements of the two ranges, each of 'length' elements, with
+     * each product computed as a long
+     */
+    long dot(int[] a, int aFrom, int[] b, int bFrom, int length);
+
+    /**
+     * @return the elements less than 'threshold', in their original order
+     */
+    IntList filterLessThan(int threshold, int[] a, int from, int length);
+}
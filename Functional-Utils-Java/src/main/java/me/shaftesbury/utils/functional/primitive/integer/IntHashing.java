@@ -0,0 +1,50 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+/**
+ * The arithmetic shared by the open-addressing tables in {@link IntSet}, {@link IntIntMap} and {@link IntObjMap}.
+ * The tables probe linearly, are always a power of two in length and are kept at most half full. The key 0 marks a free
+ * slot, so each table stores a 0 key, if it has one, outside the array.
+ */
+final class IntHashing
+{
+    static final int FREE = 0;
+
+    private static final int MINIMUM_CAPACITY = 4;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private IntHashing() {}
+
+    /**
+     * Spread the bits of 'key' so that keys which differ only in their high bits, or which are multiples of a power of
+     * two, still fall into different slots once masked.
+     */
+    static int mix(final int key)
+    {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return the length of table which can hold 'expectedSize' keys without being rehashed
+     */
+    static int capacityFor(final int expectedSize)
+    {
+        if(expectedSize<0) throw new IllegalArgumentException("expectedSize is negative");
+        if(expectedSize>=MAXIMUM_CAPACITY/2) return MAXIMUM_CAPACITY;
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize*2-1))<<1);
+    }
+
+    /**
+     * @return the number of keys the table may hold before it must be doubled in length
+     */
+    static int resizeThreshold(final int capacity)
+    {
+        return capacity==MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY-1 : capacity/2;
+    }
+
+    static int doubled(final int capacity)
+    {
+        if(capacity==MAXIMUM_CAPACITY) throw new IllegalStateException("Table is full");
+        return capacity*2;
+    }
+}
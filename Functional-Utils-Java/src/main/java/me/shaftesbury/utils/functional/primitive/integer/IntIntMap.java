@@ -0,0 +1,204 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+/**
+ * A map from primitive int to primitive int held in a pair of parallel open-addressing arrays, so that neither keys nor
+ * values are boxed and adding an entry allocates nothing unless the table has to grow. Iteration order is unspecified.
+ */
+public final class IntIntMap
+{
+    /**
+     * Receives each entry of the map in turn
+     */
+    public interface EntryConsumer
+    {
+        void accept(int key, int value);
+    }
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int resizeAt;
+    private boolean hasZeroKey;
+    private int zeroValue;
+    private int size;
+
+    public IntIntMap() {this(0);}
+
+    /**
+     * @param expectedSize the number of entries that can be added before the table needs to grow
+     */
+    public IntIntMap(final int expectedSize)
+    {
+        if(expectedSize<0) throw new IllegalArgumentException("IntIntMap(int): expectedSize is negative");
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    private void allocate(final int capacity)
+    {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity-1;
+        resizeAt = IntHashing.resizeThreshold(capacity);
+    }
+
+    /**
+     * @return the number of entries in the map
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size==0;
+    }
+
+    /**
+     * @return the slot holding 'key' if there is one, otherwise -(the free slot at which it would be inserted)-1
+     */
+    private int slot(final int key)
+    {
+        int i = IntHashing.mix(key)&mask;
+        for(int k; (k=keys[i])!=IntHashing.FREE; i=(i+1)&mask)
+            if(k==key) return i;
+        return -i-1;
+    }
+
+    public boolean containsKey(final int key)
+    {
+        return key==IntHashing.FREE ? hasZeroKey : slot(key)>=0;
+    }
+
+    /**
+     * @param key the key
+     * @param defaultValue the value to return if the map does not contain the key
+     * @return the value associated with the key, or 'defaultValue'
+     */
+    public int getOrDefault(final int key, final int defaultValue)
+    {
+        if(key==IntHashing.FREE) return hasZeroKey ? zeroValue : defaultValue;
+        final int i = slot(key);
+        return i>=0 ? values[i] : defaultValue;
+    }
+
+    /**
+     * Associate 'value' with 'key', replacing any value which was associated with it before
+     * @param key the key
+     * @param value the value
+     */
+    public void put(final int key, final int value)
+    {
+        if(key==IntHashing.FREE)
+        {
+            if(!hasZeroKey) ++size;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        final int i = slot(key);
+        if(i>=0) values[i] = value;
+        else insert(-i-1, key, value);
+    }
+
+    /**
+     * Add 'delta' to the value associated with 'key', treating a key which is not in the map as if it were associated with 0
+     * @param key the key
+     * @param delta the amount to add
+     * @return the value now associated with the key
+     */
+    public int addTo(final int key, final int delta)
+    {
+        if(key==IntHashing.FREE)
+        {
+            if(!hasZeroKey)
+            {
+                ++size;
+                hasZeroKey = true;
+                zeroValue = 0;
+            }
+            return zeroValue += delta;
+        }
+        final int i = slot(key);
+        if(i>=0) return values[i] += delta;
+        insert(-i-1, key, delta);
+        return delta;
+    }
+
+    private void insert(final int i, final int key, final int value)
+    {
+        keys[i] = key;
+        values[i] = value;
+        if(++size>resizeAt) rehash(IntHashing.doubled(keys.length));
+    }
+
+    private void rehash(final int capacity)
+    {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        for(int j=0; j<oldKeys.length; ++j)
+            if(oldKeys[j]!=IntHashing.FREE)
+            {
+                int i = IntHashing.mix(oldKeys[j])&mask;
+                while(keys[i]!=IntHashing.FREE) i=(i+1)&mask;
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+    }
+
+    /**
+     * Pass each entry of the map to 'consumer'
+     * @param consumer the action to be performed on each entry
+     */
+    public void forEach(final EntryConsumer consumer)
+    {
+        if(consumer==null) throw new IllegalArgumentException("IntIntMap.forEach(EntryConsumer): consumer is null");
+        if(hasZeroKey) consumer.accept(0, zeroValue);
+        for(int i=0; i<keys.length; ++i)
+            if(keys[i]!=IntHashing.FREE) consumer.accept(keys[i], values[i]);
+    }
+
+    /**
+     * @return the keys of the map, in iteration order
+     */
+    public IntList keys()
+    {
+        final IntListBuilder output = new IntListBuilder(size);
+        forEach((key, value) -> output.add(key));
+        return output.build();
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if(o==this) return true;
+        if(!(o instanceof IntIntMap)) return false;
+        final IntIntMap other = (IntIntMap) o;
+        if(other.size!=size || other.hasZeroKey!=hasZeroKey || (hasZeroKey && other.zeroValue!=zeroValue)) return false;
+        for(int i=0; i<keys.length; ++i)
+            if(keys[i]!=IntHashing.FREE)
+            {
+                final int j = other.slot(keys[i]);
+                if(j<0 || other.values[j]!=values[i]) return false;
+            }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int h = hasZeroKey ? zeroValue : 0;
+        for(int i=0; i<keys.length; ++i)
+            if(keys[i]!=IntHashing.FREE) h += keys[i] ^ values[i];
+        return h;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> sb.append(sb.length()>1 ? ", " : "").append(key).append('=').append(value));
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,57 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+/**
+ * An immutable pair of primitive ints, the primitive counterpart of <tt>Pair&lt;Integer,Integer&gt;</tt>
+ */
+public final class IntIntPair
+{
+    private final int left;
+    private final int right;
+
+    private IntIntPair(final int left, final int right)
+    {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * @param left the first element
+     * @param right the second element
+     * @return a pair containing the two elements
+     */
+    public static IntIntPair of(final int left, final int right)
+    {
+        return new IntIntPair(left, right);
+    }
+
+    public int getLeft()
+    {
+        return left;
+    }
+
+    public int getRight()
+    {
+        return right;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if(o==this) return true;
+        if(!(o instanceof IntIntPair)) return false;
+        final IntIntPair other = (IntIntPair) o;
+        return left==other.left && right==other.right;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31*left + right;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "(" + left + "," + right + ")";
+    }
+}
@@ -10,13 +10,15 @@ public interface IntIterator
 class IntIteratorImpl implements IntIterator
 {
     private final int[] backingStore;
+    private final int fence;
     private int position;
 
-    private IntIteratorImpl(){backingStore=new int[0];position=0;}
-    public IntIteratorImpl(final int[]array){backingStore=array;position=0;}
+    private IntIteratorImpl(){this(new int[0]);}
+    public IntIteratorImpl(final int[]array){this(array,0,array.length);}
+    IntIteratorImpl(final int[]array, final int origin, final int fence){backingStore=array;this.fence=fence;position=origin;}
 
     public boolean hasNext() {
-        return position<backingStore.length;
+        return position<fence;
     }
 
     public int next() {
@@ -0,0 +1,191 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import java.util.Arrays;
+
+/**
+ * Bulk operations over ranges of <tt>int[]</tt>s, backing the fixed-function operations in {@link Functional}: the
+ * choice of implementation of the element-wise and reducing operations, and the sorting and sorted-set operations.
+ */
+final class IntKernels
+{
+    private IntKernels() {}
+
+    /**
+     * Set this system property to <tt>false</tt> to use {@link ScalarIntKernels} even where the Vector API is available
+     */
+    static final String USE_VECTOR_API_PROPERTY = "me.shaftesbury.utils.functional.primitive.integer.useVectorApi";
+
+    private static final String VECTOR_KERNELS = "me.shaftesbury.utils.functional.primitive.integer.VectorIntKernels";
+
+    /**
+     * The element-wise and reducing operations. <tt>VectorIntKernels</tt> is compiled only when the library is built on
+     * Java 17 or later, and can only be loaded when the JVM has been started with
+     * <tt>--add-modules jdk.incubator.vector</tt> on hardware with vectors of at least four ints. Where any of those
+     * does not hold, or the system property {@link #USE_VECTOR_API_PROPERTY} is <tt>false</tt>, the scalar loops are used.
+     */
+    static final IntBulkKernels BULK = loadBulkKernels();
+
+    private static IntBulkKernels loadBulkKernels()
+    {
+        if(!Boolean.parseBoolean(System.getProperty(USE_VECTOR_API_PROPERTY, "true")))
+            return ScalarIntKernels.INSTANCE;
+        try
+        {
+            return (IntBulkKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        }
+        catch(final ReflectiveOperationException | LinkageError | RuntimeException e)
+        {
+            // Absent, compiled for a later Java, missing the jdk.incubator.vector module or declined the hardware
+            return ScalarIntKernels.INSTANCE;
+        }
+    }
+
+    private static final int RADIX_SORT_THRESHOLD = 256;
+
+    /**
+     * Sort a copy of the range by least-significant-digit radix sort, a byte at a time. One pass over the input counts
+     * all four bytes; then each byte is scattered in turn, skipping any byte which is the same in every element. The sign
+     * bit is flipped in the most significant byte so that negative numbers sort before positive ones. Short ranges are
+     * sorted by <tt>Arrays.sort</tt> instead, which is quicker below a few hundred elements.
+     */
+    static int[] radixSort(final int[] a, final int from, final int length)
+    {
+        int[] source = Arrays.copyOfRange(a, from, from+length);
+        if(length<RADIX_SORT_THRESHOLD)
+        {
+            Arrays.sort(source);
+            return source;
+        }
+        final int[][] counts = new int[4][256];
+        for(final int element : source)
+        {
+            ++counts[0][element & 0xFF];
+            ++counts[1][(element >>> 8) & 0xFF];
+            ++counts[2][(element >>> 16) & 0xFF];
+            ++counts[3][(element >>> 24) ^ 0x80];
+        }
+        int[] target = new int[length];
+        for(int digit=0; digit<4; ++digit)
+        {
+            final int shift = digit*8;
+            final int flip = digit==3 ? 0x80 : 0;
+            final int[] offsets = counts[digit];
+            if(offsets[((source[0] >>> shift) & 0xFF) ^ flip]==length) continue;
+            for(int b=0, total=0; b<256; ++b)
+            {
+                final int count = offsets[b];
+                offsets[b] = total;
+                total += count;
+            }
+            for(final int element : source)
+                target[offsets[((element >>> shift) & 0xFF) ^ flip]++] = element;
+            final int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        return source;
+    }
+
+    /**
+     * @return the distinct elements found in either of two sorted ranges, in ascending order
+     */
+    static IntList union(final int[] a, final int aFrom, final int aLength, final int[] b, final int bFrom, final int bLength)
+    {
+        final int[] output = new int[aLength+bLength];
+        int n = 0, i = aFrom, j = bFrom;
+        final int aEnd = aFrom+aLength, bEnd = bFrom+bLength;
+        while(i<aEnd && j<bEnd)
+        {
+            final int x = a[i], y = b[j];
+            final int next = x<=y ? x : y;
+            if(x<=y) ++i;
+            if(y<=x) ++j;
+            if(n==0 || output[n-1]!=next) output[n++] = next;
+        }
+        for(; i<aEnd; ++i)
+            if(n==0 || output[n-1]!=a[i]) output[n++] = a[i];
+        for(; j<bEnd; ++j)
+            if(n==0 || output[n-1]!=b[j]) output[n++] = b[j];
+        return IntList.adoptSorted(n<output.length/2 ? Arrays.copyOf(output, n) : output, n);
+    }
+
+    /**
+     * @return the distinct elements found in both of two sorted ranges, in ascending order. If one range is much the
+     * shorter, each of its elements is located in the other by galloping forward from the last match rather than by
+     * stepping through every element in between.
+     */
+    static IntList intersect(final int[] a, final int aFrom, final int aLength, final int[] b, final int bFrom, final int bLength)
+    {
+        if(aLength>bLength) return intersect(b, bFrom, bLength, a, aFrom, aLength);
+        final int[] output = new int[aLength];
+        int n = 0;
+        final int aEnd = aFrom+aLength, bEnd = bFrom+bLength;
+        if((long) aLength*32<bLength)
+        {
+            for(int i=aFrom, j=bFrom; i<aEnd && j<bEnd; ++i)
+            {
+                final int x = a[i];
+                j = gallop(x, b, j, bEnd);
+                if(j<bEnd && b[j]==x && (n==0 || output[n-1]!=x)) output[n++] = x;
+            }
+        }
+        else
+        {
+            // Branch-free, since which list advances is unpredictable: the candidate is always written and kept only if it matches
+            int i = aFrom, j = bFrom;
+            long last = Long.MIN_VALUE;
+            while(i<aEnd && j<bEnd)
+            {
+                final int x = a[i], y = b[j];
+                output[n] = x;
+                final boolean keep = x==y & x!=last;
+                n += keep ? 1 : 0;
+                last = keep ? x : last;
+                i += x<=y ? 1 : 0;
+                j += y<=x ? 1 : 0;
+            }
+        }
+        return IntList.adoptSorted(n<output.length/2 ? Arrays.copyOf(output, n) : output, n);
+    }
+
+    /**
+     * @return the distinct elements of the first sorted range which are not in the second, in ascending order
+     */
+    static IntList difference(final int[] a, final int aFrom, final int aLength, final int[] b, final int bFrom, final int bLength)
+    {
+        final int[] output = new int[aLength];
+        int n = 0, j = bFrom;
+        final int aEnd = aFrom+aLength, bEnd = bFrom+bLength;
+        for(int i=aFrom; i<aEnd; ++i)
+        {
+            final int x = a[i];
+            while(j<bEnd && b[j]<x) ++j;
+            if((j==bEnd || b[j]!=x) && (n==0 || output[n-1]!=x)) output[n++] = x;
+        }
+        return IntList.adoptSorted(n<output.length/2 ? Arrays.copyOf(output, n) : output, n);
+    }
+
+    /**
+     * @return the position of the first element of the sorted range [from, end) which is not less than 'x', or 'end' if
+     * there is none, found by doubling the step from 'from' until it passes 'x' and then binary searching the last step
+     */
+    private static int gallop(final int x, final int[] a, final int from, final int end)
+    {
+        int low = from;
+        int high = from;
+        long step = 1;
+        while(high<end && a[high]<x)
+        {
+            low = high+1;
+            high = (int) Math.min(end, from+step);
+            step <<= 1;
+        }
+        while(low<high)
+        {
+            final int mid = (low+high)>>>1;
+            if(a[mid]<x) low = mid+1;
+            else high = mid;
+        }
+        return low;
+    }
+}
@@ -2,58 +2,114 @@ package me.shaftesbury.utils.functional.primitive.integer;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
 import java.util.ListIterator;
 
 public class IntList implements IntIterable
 {
+    private static final byte UNKNOWN = 0, SORTED = 1, UNSORTED = 2;
+
     private final int[] backingStore;
-    public IntList(){backingStore=new int[0];}
-    public IntList(final int size) {backingStore=new int[size];}
-    public IntList(final int[]array) {backingStore = Arrays.copyOf(array, array.length);}
-    public IntList(final int[]array, final int size) {backingStore = Arrays.copyOf(array, size);}
+    private final int offset;
+    private final int length;
+    /**
+     * Whether the elements are in ascending order. This is set when the list is known to be sorted on creation and is
+     * otherwise worked out, and cached, the first time it is needed.
+     */
+    private byte sortedness;
+    public IntList(){this(new int[0]);}
+    public IntList(final int size) {backingStore=new int[size];offset=0;length=size;}
+    public IntList(final int[]array) {backingStore = Arrays.copyOf(array, array.length);offset=0;length=array.length;}
+    public IntList(final int[]array, final int size) {backingStore = Arrays.copyOf(array, size);offset=0;length=size;}
+
+    private IntList(final int[] array, final int offset, final int length)
+    {
+        this(array, offset, length, UNKNOWN);
+    }
+
+    private IntList(final int[] array, final int offset, final int length, final byte sortedness)
+    {
+        backingStore = array;
+        this.offset = offset;
+        this.length = length;
+        this.sortedness = sortedness;
+    }
 
-    IntList(final int[] array1, final int[] array2)
+    /**
+     * Adopt the first 'length' elements of 'array' without copying them. The caller must not modify those elements afterwards.
+     */
+    static IntList adopt(final int[] array, final int length)
     {
-        backingStore = new int[array1.length + array2.length];
-        System.arraycopy(array1,0,backingStore,0,array1.length);
-        System.arraycopy(array2,0,backingStore,array1.length,array2.length);
+        return new IntList(array, 0, length);
     }
 
+    /**
+     * As {@link #adopt(int[], int)} for an array whose first 'length' elements the caller knows to be in ascending order
+     */
+    static IntList adoptSorted(final int[] array, final int length)
+    {
+        return new IntList(array, 0, length, SORTED);
+    }
+
+    /**
+     * @return the backing array, of which only the {@link #size()} elements from {@link #offset()} onwards belong to this list
+     */
     int[] extractBackingStoreWithoutCopy() { return backingStore; }
 
+    /**
+     * @return the position in the backing array of the first element of this list
+     */
+    int offset() { return offset; }
+
     public int size() {
-        return backingStore.length;
+        return length;
     }
 
     public boolean isEmpty() {
-        return backingStore.length==0;
+        return length==0;
+    }
+
+    /**
+     * @return true if the elements are in ascending order. The answer is cached, so only the first call on a list which
+     * was not created sorted has to examine the elements.
+     */
+    public boolean isSorted() {
+        if(sortedness==UNKNOWN)
+        {
+            byte answer = SORTED;
+            for(int i=offset+1, end=offset+length; i<end; ++i)
+                if(backingStore[i-1]>backingStore[i]) { answer = UNSORTED; break; }
+            sortedness = answer;
+        }
+        return sortedness==SORTED;
     }
 
+    /**
+     * @return true if the list contains 'i'. This is a binary search if the list is sorted and a linear scan otherwise.
+     */
     public boolean contains(final int i) {
-        return Arrays.binarySearch(backingStore,i)>=0;
+        return indexOf(i)>=0;
     }
 
 
     public IntIterator iterator() {
-        return new IntIteratorImpl(backingStore);
+        return new IntIteratorImpl(backingStore, offset, offset+length);
     }
 
     public int[] toArray() {
-        return Arrays.copyOf(backingStore, backingStore.length);
+        return Arrays.copyOfRange(backingStore, offset, offset+length);
     }
 
     @SuppressWarnings("unchecked")
     public <T>T[] toArray(T[] a) {
-        if (a.length < backingStore.length) {
+        if (a.length < length) {
             // Make a new array of a's runtime type, but my contents:
-            final Integer[] temp = new Integer[backingStore.length];
-            for(int i=0;i<backingStore.length;++i) temp[i]=backingStore[i];
-            return (T[]) Arrays.copyOf(temp, backingStore.length, a.getClass());
+            final Integer[] temp = new Integer[length];
+            for(int i=0;i<length;++i) temp[i]=backingStore[offset+i];
+            return (T[]) Arrays.copyOf(temp, length, a.getClass());
         }
-        System.arraycopy(backingStore, 0, a, 0, backingStore.length);
-        if (a.length > backingStore.length)
-            a[backingStore.length] = null;
+        for(int i=0;i<length;++i) a[i]=(T)Integer.valueOf(backingStore[offset+i]);
+        if (a.length > length)
+            a[length] = null;
         return a;
     }
 
@@ -90,7 +146,8 @@ public class IntList implements IntIterable
     }
 
     public int get(final int index) {
-        return backingStore[index];
+        if(index<0 || index>=length) throw new IndexOutOfBoundsException("Index: "+index+", Size: "+length);
+        return backingStore[offset+index];
     }
 
     public int set(final int index, final int element) {
@@ -105,12 +162,49 @@ public class IntList implements IntIterable
         throw new UnsupportedOperationException();
     }
 
-    public int indexOf(Object o) {
-        return 0;
-    }
-
-    public int lastIndexOf(Object o) {
-        return 0;
+    /**
+     * @return the position of the first occurrence of 'i' in the list, or -1 if there is none. This is a binary search if
+     * the list is sorted and a linear scan otherwise.
+     */
+    public int indexOf(final int i) {
+        if(isSorted())
+        {
+            final int position = lowerBound(i);
+            return position<length && backingStore[offset+position]==i ? position : -1;
+        }
+        for(int j=0;j<length;++j)
+            if(backingStore[offset+j]==i) return j;
+        return -1;
+    }
+
+    /**
+     * @return the position of the last occurrence of 'i' in the list, or -1 if there is none. This is a binary search if
+     * the list is sorted and a linear scan otherwise.
+     */
+    public int lastIndexOf(final int i) {
+        if(isSorted())
+        {
+            final int position = i==Integer.MAX_VALUE ? length-1 : lowerBound(i+1)-1;
+            return position>=0 && backingStore[offset+position]==i ? position : -1;
+        }
+        for(int j=length-1;j>=0;--j)
+            if(backingStore[offset+j]==i) return j;
+        return -1;
+    }
+
+    /**
+     * @return the position of the first element not less than 'i', or size() if there is none. The list must be sorted.
+     */
+    private int lowerBound(final int i) {
+        int low = 0;
+        int high = length;
+        while(low<high)
+        {
+            final int mid = (low+high)>>>1;
+            if(backingStore[offset+mid]<i) low = mid+1;
+            else high = mid;
+        }
+        return low;
     }
 
     public ListIterator<Integer> listIterator() {
@@ -121,7 +215,22 @@ public class IntList implements IntIterable
         return null;
     }
 
-    public List<Integer> subList(int fromIndex, int toIndex) {
-        return null;
+    /**
+     * @return a view of the elements at positions [fromIndex, toIndex). The view shares this list's backing array, so it
+     * costs O(1) to create whatever its size; use {@link #copy()} to detach it.
+     */
+    public IntList subList(final int fromIndex, final int toIndex) {
+        if(fromIndex<0 || toIndex>length || fromIndex>toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: "+fromIndex+", toIndex: "+toIndex+", Size: "+length);
+        if(fromIndex==0 && toIndex==length) return this;
+        return new IntList(backingStore, offset+fromIndex, toIndex-fromIndex, sortedness==SORTED ? SORTED : UNKNOWN);
+    }
+
+    /**
+     * @return a list containing the same elements in an array of its own, so that it no longer keeps alive the whole of
+     * the array of which this list may be a view
+     */
+    public IntList copy() {
+        return offset==0 && length==backingStore.length ? this : new IntList(toArray(), 0, length, sortedness);
     }
 }
@@ -0,0 +1,109 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of primitive ints from which an immutable {@link IntList} can be built without copying.
+ * Appending is amortised O(1): when the buffer is full its capacity is doubled.
+ *
+ * Calling {@link #build()} hands the buffer to the new IntList, unless more than half of it is unused, in which case the
+ * IntList gets an exactly-sized copy instead. The builder may still be used afterwards: it only ever writes beyond the
+ * elements it has already added, so lists which have already been built are never modified.
+ */
+public final class IntListBuilder
+{
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    public IntListBuilder() {this(DEFAULT_CAPACITY);}
+
+    /**
+     * @param initialCapacity the number of elements that can be added before the buffer needs to grow
+     */
+    public IntListBuilder(final int initialCapacity)
+    {
+        if(initialCapacity<0) throw new IllegalArgumentException("IntListBuilder(int): initialCapacity is negative");
+        elements = new int[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * @return the number of elements added so far
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Grow the buffer, if necessary, so that it can hold at least 'minCapacity' elements without growing again
+     * @param minCapacity the required capacity
+     * @return this builder
+     */
+    public IntListBuilder ensureCapacity(final int minCapacity)
+    {
+        if(minCapacity>elements.length)
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, newCapacity()));
+        return this;
+    }
+
+    /**
+     * Append a single element
+     * @param i the element
+     * @return this builder
+     */
+    public IntListBuilder add(final int i)
+    {
+        if(size==elements.length)
+            elements = Arrays.copyOf(elements, newCapacity());
+        elements[size++] = i;
+        return this;
+    }
+
+    /**
+     * Append every element of the array
+     * @param array the elements to append
+     * @return this builder
+     */
+    public IntListBuilder addAll(final int[] array)
+    {
+        if(array==null) throw new IllegalArgumentException("IntListBuilder.addAll(int[]): array is null");
+        return addAll(array, 0, array.length);
+    }
+
+    /**
+     * Append every element of the list
+     * @param list the elements to append
+     * @return this builder
+     */
+    public IntListBuilder addAll(final IntList list)
+    {
+        if(list==null) throw new IllegalArgumentException("IntListBuilder.addAll(IntList): list is null");
+        return addAll(list.extractBackingStoreWithoutCopy(), list.offset(), list.size());
+    }
+
+    private IntListBuilder addAll(final int[] array, final int from, final int howMany)
+    {
+        ensureCapacity(size+howMany);
+        System.arraycopy(array, from, elements, size, howMany);
+        size += howMany;
+        return this;
+    }
+
+    /**
+     * @return an immutable IntList containing the elements added so far. The buffer is not copied unless more than half of
+     * it is unused, so that a list built from a generously presized builder does not keep the whole buffer alive.
+     */
+    public IntList build()
+    {
+        return IntList.adopt(size<elements.length/2 ? Arrays.copyOf(elements, size) : elements, size);
+    }
+
+    private int newCapacity()
+    {
+        final int doubled = elements.length * 2;
+        return doubled < 0 ? Integer.MAX_VALUE - 8 : Math.max(DEFAULT_CAPACITY, doubled);
+    }
+}
@@ -0,0 +1,259 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * A map from primitive int to object held in a pair of parallel open-addressing arrays, so that the keys are not boxed
+ * and adding an entry allocates nothing unless the table has to grow. Values may be null. Iteration order is unspecified.
+ *
+ * @param <V> the type of the values
+ */
+public final class IntObjMap<V>
+{
+    /**
+     * Receives each entry of the map in turn
+     *
+     * @param <V> the type of the values
+     */
+    public interface EntryConsumer<V>
+    {
+        void accept(int key, V value);
+    }
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private boolean hasZeroKey;
+    private V zeroValue;
+    private int size;
+
+    public IntObjMap() {this(0);}
+
+    /**
+     * @param expectedSize the number of entries that can be added before the table needs to grow
+     */
+    public IntObjMap(final int expectedSize)
+    {
+        if(expectedSize<0) throw new IllegalArgumentException("IntObjMap(int): expectedSize is negative");
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    private void allocate(final int capacity)
+    {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity-1;
+        resizeAt = IntHashing.resizeThreshold(capacity);
+    }
+
+    /**
+     * @return the number of entries in the map
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size==0;
+    }
+
+    /**
+     * @return the slot holding 'key' if there is one, otherwise -(the free slot at which it would be inserted)-1
+     */
+    private int slot(final int key)
+    {
+        int i = IntHashing.mix(key)&mask;
+        for(int k; (k=keys[i])!=IntHashing.FREE; i=(i+1)&mask)
+            if(k==key) return i;
+        return -i-1;
+    }
+
+    public boolean containsKey(final int key)
+    {
+        return key==IntHashing.FREE ? hasZeroKey : slot(key)>=0;
+    }
+
+    /**
+     * @param key the key
+     * @return the value associated with the key, or null if there is none
+     */
+    public V get(final int key)
+    {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * @param key the key
+     * @param defaultValue the value to return if the map does not contain the key
+     * @return the value associated with the key, or 'defaultValue'
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final int key, final V defaultValue)
+    {
+        if(key==IntHashing.FREE) return hasZeroKey ? zeroValue : defaultValue;
+        final int i = slot(key);
+        return i>=0 ? (V) values[i] : defaultValue;
+    }
+
+    /**
+     * Associate 'value' with 'key', replacing any value which was associated with it before
+     * @param key the key
+     * @param value the value
+     * @return the value which was associated with the key, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final int key, final V value)
+    {
+        if(key==IntHashing.FREE)
+        {
+            final V previous = zeroValue;
+            if(!hasZeroKey) ++size;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+        final int i = slot(key);
+        if(i<0)
+        {
+            insert(-i-1, key, value);
+            return null;
+        }
+        final V previous = (V) values[i];
+        values[i] = value;
+        return previous;
+    }
+
+    /**
+     * @param key the key
+     * @param mappingFunction given a key which is not in the map, generate the value to be associated with it
+     * @return the value associated with the key, which is generated and added if the map did not contain the key
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(final int key, final IntFunction<? extends V> mappingFunction)
+    {
+        if(key==IntHashing.FREE)
+        {
+            if(!hasZeroKey)
+            {
+                zeroValue = mappingFunction.apply(key);
+                hasZeroKey = true;
+                ++size;
+            }
+            return zeroValue;
+        }
+        final int i = slot(key);
+        if(i>=0) return (V) values[i];
+        final V value = mappingFunction.apply(key);
+        insert(-i-1, key, value);
+        return value;
+    }
+
+    private void insert(final int i, final int key, final V value)
+    {
+        keys[i] = key;
+        values[i] = value;
+        if(++size>resizeAt) rehash(IntHashing.doubled(keys.length));
+    }
+
+    private void rehash(final int capacity)
+    {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for(int j=0; j<oldKeys.length; ++j)
+            if(oldKeys[j]!=IntHashing.FREE)
+            {
+                int i = IntHashing.mix(oldKeys[j])&mask;
+                while(keys[i]!=IntHashing.FREE) i=(i+1)&mask;
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+    }
+
+    /**
+     * Replace every value in the map with the result of applying 'f' to it. The map is modified in place and returned
+     * retyped, so the caller must not use it at its old type afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    <W> IntObjMap<W> transformValues(final Function<? super V, ? extends W> f)
+    {
+        if(hasZeroKey) zeroValue = (V) f.apply(zeroValue);
+        for(int i=0; i<keys.length; ++i)
+            if(keys[i]!=IntHashing.FREE) values[i] = f.apply((V) values[i]);
+        return (IntObjMap<W>) this;
+    }
+
+    /**
+     * Pass each entry of the map to 'consumer'
+     * @param consumer the action to be performed on each entry
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final EntryConsumer<? super V> consumer)
+    {
+        if(consumer==null) throw new IllegalArgumentException("IntObjMap.forEach(EntryConsumer): consumer is null");
+        if(hasZeroKey) consumer.accept(0, zeroValue);
+        for(int i=0; i<keys.length; ++i)
+            if(keys[i]!=IntHashing.FREE) consumer.accept(keys[i], (V) values[i]);
+    }
+
+    /**
+     * @return the keys of the map, in iteration order
+     */
+    public IntList keys()
+    {
+        final IntListBuilder output = new IntListBuilder(size);
+        forEach((key, value) -> output.add(key));
+        return output.build();
+    }
+
+    /**
+     * @return the values of the map, in iteration order
+     */
+    public List<V> values()
+    {
+        final List<V> output = new ArrayList<V>(size);
+        forEach((key, value) -> output.add(value));
+        return Collections.unmodifiableList(output);
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if(o==this) return true;
+        if(!(o instanceof IntObjMap<?>)) return false;
+        final IntObjMap<?> other = (IntObjMap<?>) o;
+        if(other.size!=size || other.hasZeroKey!=hasZeroKey || (hasZeroKey && !Objects.equals(zeroValue, other.zeroValue))) return false;
+        for(int i=0; i<keys.length; ++i)
+            if(keys[i]!=IntHashing.FREE)
+            {
+                final int j = other.slot(keys[i]);
+                if(j<0 || !Objects.equals(values[i], other.values[j])) return false;
+            }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int h = hasZeroKey ? Objects.hashCode(zeroValue) : 0;
+        for(int i=0; i<keys.length; ++i)
+            if(keys[i]!=IntHashing.FREE) h += keys[i] ^ Objects.hashCode(values[i]);
+        return h;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> sb.append(sb.length()>1 ? ", " : "").append(key).append('=').append(value));
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,163 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The lazily-evaluated sequences of ints returned by {@link IntSeq}; the primitive counterpart of the pipelines behind
+ * <tt>Functional.seq</tt>. Each stage holds a reference to its input, so a chain of stages records the whole pipeline
+ * back to its source. A pipeline can be evaluated in one of two ways:
+ * <ul>
+ * <li>pulled, through {@link #iterator()}, in which case every stage contributes a <tt>hasNext()</tt>/<tt>next()</tt>
+ * pair per element, or</li>
+ * <li>pushed, through {@link #evaluate(IntSink)}, in which case the source is traversed by a single loop and each
+ * element is handed down through the stages as a chain of direct calls. The terminal operations in <tt>IntSeq</tt> use
+ * this route.</li>
+ * </ul>
+ * Either way, no element is boxed and nothing is allocated per element. A pipeline may only be evaluated once.
+ */
+abstract class IntPipeline implements IntIterable
+{
+    private final AtomicBoolean haveCreatedIterator = new AtomicBoolean(false);
+
+    /**
+     * The receiving end of a push-mode evaluation
+     */
+    interface IntSink
+    {
+        /**
+         * @param i the next element of the sequence
+         * @return true if the sink will accept further elements, false if the evaluation should stop
+         */
+        boolean accept(int i);
+    }
+
+    public final IntIterator iterator()
+    {
+        claim();
+        return createIterator();
+    }
+
+    /**
+     * Push every element of this sequence, in order, into the sink until either the sequence is exhausted or the sink
+     * declines to accept any more.
+     * @param sink the receiver
+     * @return false if the sink stopped the evaluation, true otherwise
+     */
+    final boolean evaluate(final IntSink sink)
+    {
+        claim();
+        return pushInto(sink);
+    }
+
+    private void claim()
+    {
+        if(!haveCreatedIterator.compareAndSet(false, true))
+            throw new UnsupportedOperationException("This IntIterable does not allow multiple IntIterators");
+    }
+
+    /**
+     * @return a new iterator over the elements of this stage
+     */
+    protected abstract IntIterator createIterator();
+
+    /**
+     * Push the elements of this stage into the sink
+     * @param sink the receiver
+     * @return false if the sink stopped the evaluation, true otherwise
+     */
+    protected abstract boolean pushInto(IntSink sink);
+
+    /**
+     * @return the number of elements in this stage if it can be determined without evaluating the pipeline, otherwise -1
+     */
+    protected int knownSize()
+    {
+        return -1;
+    }
+
+    /**
+     * Push the elements of an arbitrary sequence into the sink. Upstream pipeline stages are evaluated in push mode,
+     * IntLists are traversed through their backing array and anything else by its iterator.
+     * @param source the sequence
+     * @param sink the receiver
+     * @return false if the sink stopped the evaluation, true otherwise
+     */
+    static boolean push(final IntIterable source, final IntSink sink)
+    {
+        if(source instanceof IntPipeline)
+            return ((IntPipeline) source).evaluate(sink);
+        if(source instanceof IntList)
+        {
+            final IntList list = (IntList) source;
+            final int[] array = list.extractBackingStoreWithoutCopy();
+            for(int i=list.offset(), end=list.offset()+list.size(); i<end; ++i)
+                if(!sink.accept(array[i]))
+                    return false;
+            return true;
+        }
+        final IntIterator iterator = source.iterator();
+        while(iterator.hasNext())
+            if(!sink.accept(iterator.next()))
+                return false;
+        return true;
+    }
+
+    /**
+     * @param source the sequence
+     * @return the number of elements in the sequence if it can be determined without evaluating it, otherwise -1
+     */
+    static int sizeOf(final IntIterable source)
+    {
+        if(source instanceof IntPipeline)
+            return ((IntPipeline) source).knownSize();
+        if(source instanceof IntList)
+            return ((IntList) source).size();
+        return -1;
+    }
+
+    /**
+     * A sink for stages such as <tt>take</tt> and <tt>takeWhile</tt> which end the sequence early. Ending the sequence
+     * stops the upstream evaluation but is not a stop requested by the downstream sink, so the stage still reports that
+     * it ran to completion.
+     */
+    abstract static class Limit implements IntSink
+    {
+        private final IntSink downstream;
+        private boolean downstreamStopped = false;
+
+        Limit(final IntSink downstream)
+        {
+            this.downstream = downstream;
+        }
+
+        /**
+         * @param i the next element of the sequence
+         * @return false if the sequence ends before i
+         */
+        protected abstract boolean admit(int i);
+
+        /**
+         * @return false if the sequence ends after the element most recently admitted
+         */
+        protected boolean wantMore()
+        {
+            return true;
+        }
+
+        public final boolean accept(final int i)
+        {
+            if(!admit(i)) return false;
+            if(!downstream.accept(i))
+            {
+                downstreamStopped = true;
+                return false;
+            }
+            return wantMore();
+        }
+
+        final boolean hasDownstreamStopped()
+        {
+            return downstreamStopped;
+        }
+    }
+}
@@ -0,0 +1,662 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+/**
+ * Lazily-evaluated sequences of primitive ints; the counterpart of <tt>Functional.seq</tt> for {@link IntIterable}.
+ * Nothing is computed until the sequence is iterated or passed to one of the terminal operations here (<tt>sum</tt>,
+ * <tt>count</tt>, <tt>fold</tt> and <tt>toList</tt>), which push the elements through the whole chain of stages in a
+ * single loop. No element is boxed and nothing is allocated per element, so <tt>sum(map(f, filter(p, range(0, n))))</tt>
+ * runs as one loop over the range.
+ * Adjacent stages are fused where they can be: a map of a map applies the composed function, a filter of a filter tests
+ * both predicates in one stage, and <tt>take</tt> and <tt>skip</tt> of a range or an IntList narrow the range or slice
+ * the list instead of adding a stage.
+ * As with <tt>Functional.seq</tt>, each sequence may only be evaluated once.
+ * The functions which accept a predicate can be given either a <tt>Func_int_T&lt;Boolean&gt;</tt>, as the first argument,
+ * or an <tt>IntPredicate</tt>, as the last argument, which avoids boxing the result for every element.
+ */
+public final class IntSeq
+{
+    private IntSeq() {}
+
+    /**
+     * range: the ints from 'from', inclusive, to 'to', exclusive, in ascending order
+     * @param from the first element
+     * @param to one more than the last element
+     * @return a lazily-evaluated sequence of the ints in [from, to), which is empty if 'to' is not greater than 'from'
+     */
+    public static IntIterable range(final int from, final int to)
+    {
+        return new Range(from, Math.max(from, to));
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * @param f a transformation function which takes an int and returns an int
+     * @param input a sequence to be fed into f
+     * @return a lazily-evaluated sequence containing the transformed values
+     */
+    public static IntIterable map(final Func_int_int f, final IntIterable input)
+    {
+        if(f==null) throw new IllegalArgumentException("IntSeq.map(Func_int_int,IntIterable): f is null");
+        if(input==null) throw new IllegalArgumentException("IntSeq.map(Func_int_int,IntIterable): input is null");
+
+        if(input instanceof Mapped)
+        {
+            final Mapped upstream = (Mapped) input;
+            return new Mapped(i -> f.apply(upstream.f.apply(i)), upstream.input);
+        }
+        return new Mapped(f, input);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+     * @param pred a filter function. This is passed each input element in turn and returns either true or false. If true then
+     *             the input element is passed through to the output otherwise it is ignored.
+     * @param input a sequence of ints
+     * @return a lazily-evaluated sequence which contains zero or more of the elements of the input sequence
+     */
+    public static IntIterable filter(final Func_int_T<Boolean> pred, final IntIterable input)
+    {
+        if(pred==null) throw new IllegalArgumentException("IntSeq.filter(Func_int_T<Boolean>,IntIterable): pred is null");
+        return filter(input, pred::apply);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+     * @param input a sequence of ints
+     * @param pred a filter predicate. This is passed each input element in turn and returns either true or false. If true then
+     *             the input element is passed through to the output otherwise it is ignored.
+     * @return a lazily-evaluated sequence which contains zero or more of the elements of the input sequence
+     */
+    public static IntIterable filter(final IntIterable input, final IntPredicate pred)
+    {
+        if(input==null) throw new IllegalArgumentException("IntSeq.filter(IntIterable,IntPredicate): input is null");
+        if(pred==null) throw new IllegalArgumentException("IntSeq.filter(IntIterable,IntPredicate): pred is null");
+
+        if(input instanceof Filtered)
+        {
+            final Filtered upstream = (Filtered) input;
+            return new Filtered(upstream.input, i -> upstream.pred.test(i) && pred.test(i));
+        }
+        return new Filtered(input, pred);
+    }
+
+    /**
+     * take: given a sequence return another sequence containing the first 'howMany' elements
+     * @param howMany a non-negative number of elements to be returned from the input sequence
+     * @param input the input sequence
+     * @return a lazily-evaluated sequence containing the first 'howMany' elements of 'input', or all of them if there are fewer
+     */
+    public static IntIterable take(final int howMany, final IntIterable input)
+    {
+        if(howMany<0) throw new IllegalArgumentException("IntSeq.take(int,IntIterable): howMany is negative");
+        if(input==null) throw new IllegalArgumentException("IntSeq.take(int,IntIterable): input is null");
+
+        if(input instanceof Range)
+        {
+            final Range range = (Range) input;
+            return new Range(range.from, (int) Math.min(range.to, (long) range.from + howMany));
+        }
+        if(input instanceof IntList)
+        {
+            final IntList list = (IntList) input;
+            return list.subList(0, Math.min(howMany, list.size()));
+        }
+        if(input instanceof Taken)
+        {
+            final Taken upstream = (Taken) input;
+            return new Taken(Math.min(howMany, upstream.howMany), upstream.input);
+        }
+        return new Taken(howMany, input);
+    }
+
+    /**
+     * skip: the converse of <tt>take</tt>. Given a sequence return another sequence containing those elements that follow
+     * the first 'howMany' elements.
+     * @param howMany a non-negative number of elements to be discarded from the input sequence
+     * @param input the input sequence
+     * @return a lazily-evaluated sequence containing the remaining elements after the first 'howMany' elements of 'input',
+     * which is empty if more elements are skipped than are present
+     */
+    public static IntIterable skip(final int howMany, final IntIterable input)
+    {
+        if(howMany<0) throw new IllegalArgumentException("IntSeq.skip(int,IntIterable): howMany is negative");
+        if(input==null) throw new IllegalArgumentException("IntSeq.skip(int,IntIterable): input is null");
+
+        if(input instanceof Range)
+        {
+            final Range range = (Range) input;
+            return new Range((int) Math.min(range.to, (long) range.from + howMany), range.to);
+        }
+        if(input instanceof IntList)
+        {
+            final IntList list = (IntList) input;
+            return list.subList(Math.min(howMany, list.size()), list.size());
+        }
+        if(input instanceof Skipped)
+        {
+            final Skipped upstream = (Skipped) input;
+            return new Skipped((int) Math.min(Integer.MAX_VALUE, (long) howMany + upstream.howMany), upstream.input);
+        }
+        return new Skipped(howMany, input);
+    }
+
+    /**
+     * takeWhile: given a sequence return another sequence containing all those elements up to, but excluding, the first
+     * element for which the predicate returns false
+     * @param predicate take elements from the input while the predicate is true
+     * @param input the input sequence
+     * @return a lazily-evaluated sequence containing the leading elements for which the predicate is true
+     */
+    public static IntIterable takeWhile(final Func_int_T<Boolean> predicate, final IntIterable input)
+    {
+        if(predicate==null) throw new IllegalArgumentException("IntSeq.takeWhile(Func_int_T<Boolean>,IntIterable): predicate is null");
+        return takeWhile(input, predicate::apply);
+    }
+
+    /**
+     * takeWhile: given a sequence return another sequence containing all those elements up to, but excluding, the first
+     * element for which the predicate returns false
+     * @param input the input sequence
+     * @param predicate take elements from the input while the predicate is true
+     * @return a lazily-evaluated sequence containing the leading elements for which the predicate is true
+     */
+    public static IntIterable takeWhile(final IntIterable input, final IntPredicate predicate)
+    {
+        if(input==null) throw new IllegalArgumentException("IntSeq.takeWhile(IntIterable,IntPredicate): input is null");
+        if(predicate==null) throw new IllegalArgumentException("IntSeq.takeWhile(IntIterable,IntPredicate): predicate is null");
+
+        return new IntPipeline() {
+            protected IntIterator createIterator()
+            {
+                return new IntIterator() {
+                    private final IntIterator it = input.iterator();
+                    private boolean haveLookahead = false;
+                    private boolean finished = false;
+                    private int lookahead;
+
+                    public boolean hasNext()
+                    {
+                        if(haveLookahead) return true;
+                        if(finished || !it.hasNext()) return false;
+                        lookahead = it.next();
+                        if(!predicate.test(lookahead))
+                        {
+                            finished = true;
+                            return false;
+                        }
+                        return haveLookahead = true;
+                    }
+
+                    public int next()
+                    {
+                        if(!hasNext()) throw new NoSuchElementException();
+                        haveLookahead = false;
+                        return lookahead;
+                    }
+
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException("IntSeq.takeWhile: remove is not supported");
+                    }
+                };
+            }
+
+            protected boolean pushInto(final IntSink sink)
+            {
+                final Limit limit = new Limit(sink) {
+                    protected boolean admit(final int i)
+                    {
+                        return predicate.test(i);
+                    }
+                };
+                push(input, limit);
+                return !limit.hasDownstreamStopped();
+            }
+        };
+    }
+
+    /**
+     * The Convolution operator, combining each pair of corresponding elements with a function rather than boxing them into a pair
+     * See <a href="http://en.wikipedia.org/wiki/Zip_(higher-order_function)">Zip</a>
+     * @param f the function which combines an element of l1 with the corresponding element of l2
+     * @param l1 input sequence
+     * @param l2 input sequence
+     * @throws java.lang.IllegalArgumentException if any argument is null or, when the output is evaluated, if the sequences
+     * have differing lengths
+     * @return a lazily-evaluated sequence containing f applied to the first element of each input, then to the second, and so on
+     */
+    public static IntIterable zip(final Func2_int_int_int f, final IntIterable l1, final IntIterable l2)
+    {
+        if(f==null) throw new IllegalArgumentException("IntSeq.zip(Func2_int_int_int,IntIterable,IntIterable): f is null");
+        if(l1==null) throw new IllegalArgumentException("IntSeq.zip(Func2_int_int_int,IntIterable,IntIterable): l1 is null");
+        if(l2==null) throw new IllegalArgumentException("IntSeq.zip(Func2_int_int_int,IntIterable,IntIterable): l2 is null");
+
+        return new IntPipeline() {
+            protected IntIterator createIterator()
+            {
+                return new IntIterator() {
+                    private final IntIterator l1_it = l1.iterator();
+                    private final IntIterator l2_it = l2.iterator();
+
+                    public boolean hasNext()
+                    {
+                        final boolean l1_it_hasNext = l1_it.hasNext();
+                        if(l1_it_hasNext != l2_it.hasNext())
+                            throw new IllegalArgumentException("IntSeq.zip(Func2_int_int_int,IntIterable,IntIterable): l1 and l2 have differing numbers of elements");
+                        return l1_it_hasNext;
+                    }
+
+                    public int next()
+                    {
+                        if(!hasNext()) throw new NoSuchElementException();
+                        return f.apply(l1_it.next(), l2_it.next());
+                    }
+
+                    public void remove()
+                    {
+                        throw new UnsupportedOperationException("IntSeq.zip: remove is not supported");
+                    }
+                };
+            }
+
+            protected boolean pushInto(final IntSink sink)
+            {
+                final IntIterator l2_it = l2.iterator();
+                final boolean completed = push(l1, i -> {
+                    if(!l2_it.hasNext())
+                        throw new IllegalArgumentException("IntSeq.zip(Func2_int_int_int,IntIterable,IntIterable): l1 and l2 have differing numbers of elements");
+                    return sink.accept(f.apply(i, l2_it.next()));
+                });
+                if(completed && l2_it.hasNext())
+                    throw new IllegalArgumentException("IntSeq.zip(Func2_int_int_int,IntIterable,IntIterable): l1 and l2 have differing numbers of elements");
+                return completed;
+            }
+
+            protected int knownSize()
+            {
+                final int size = sizeOf(l1);
+                return size == sizeOf(l2) ? size : -1;
+            }
+        };
+    }
+
+    /**
+     * sum: the total of the elements of the input, accumulated as a long so that it cannot overflow
+     * @param input the input sequence
+     * @return the sum of the elements
+     */
+    public static long sum(final IntIterable input)
+    {
+        if(input==null) throw new IllegalArgumentException("IntSeq.sum(IntIterable): input is null");
+        if(input instanceof IntList) return Functional.sum((IntList) input);
+
+        final Summer summer = new Summer();
+        IntPipeline.push(input, summer);
+        return summer.sum;
+    }
+
+    /**
+     * count: the number of elements in the input
+     * @param input the input sequence
+     * @return the number of elements
+     */
+    public static int count(final IntIterable input)
+    {
+        if(input==null) throw new IllegalArgumentException("IntSeq.count(IntIterable): input is null");
+        final int size = IntPipeline.sizeOf(input);
+        if(size>=0 && !(input instanceof IntPipeline)) return size;
+
+        final Counter counter = new Counter();
+        IntPipeline.push(input, counter);
+        return counter.count;
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+     * fold: aggregate the elements of the input sequence given a seed and an aggregation function, without boxing the state
+     * @param f aggregation function
+     * @param initialValue seed for the algorithm
+     * @param input input sequence
+     * @return aggregated value
+     */
+    public static int fold(final Func2_int_int_int f, final int initialValue, final IntIterable input)
+    {
+        if(f==null) throw new IllegalArgumentException("IntSeq.fold(Func2_int_int_int,int,IntIterable): f is null");
+        if(input==null) throw new IllegalArgumentException("IntSeq.fold(Func2_int_int_int,int,IntIterable): input is null");
+
+        final Folder folder = new Folder(f, initialValue);
+        IntPipeline.push(input, folder);
+        return folder.state;
+    }
+
+    /**
+     * toList: evaluate the sequence into an IntList
+     * @param input the input sequence
+     * @return an IntList containing the elements of the sequence
+     */
+    public static IntList toList(final IntIterable input)
+    {
+        if(input==null) throw new IllegalArgumentException("IntSeq.toList(IntIterable): input is null");
+        if(input instanceof IntList) return (IntList) input;
+
+        final int size = IntPipeline.sizeOf(input);
+        final IntListBuilder output = size>=0 ? new IntListBuilder(size) : new IntListBuilder();
+        IntPipeline.push(input, i -> {
+            output.add(i);
+            return true;
+        });
+        return output.build();
+    }
+
+    private static final class Range extends IntPipeline
+    {
+        private final int from;
+        private final int to;
+
+        Range(final int from, final int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        protected IntIterator createIterator()
+        {
+            return new IntIterator() {
+                private long next = from;
+
+                public boolean hasNext()
+                {
+                    return next<to;
+                }
+
+                public int next()
+                {
+                    if(!hasNext()) throw new NoSuchElementException();
+                    return (int) next++;
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException("IntSeq.range: remove is not supported");
+                }
+            };
+        }
+
+        protected boolean pushInto(final IntSink sink)
+        {
+            for(int i=from; i<to; ++i)
+                if(!sink.accept(i))
+                    return false;
+            return true;
+        }
+
+        protected int knownSize()
+        {
+            final long size = (long) to - from;
+            return size>Integer.MAX_VALUE ? -1 : (int) size;
+        }
+    }
+
+    private static final class Mapped extends IntPipeline
+    {
+        private final Func_int_int f;
+        private final IntIterable input;
+
+        Mapped(final Func_int_int f, final IntIterable input)
+        {
+            this.f = f;
+            this.input = input;
+        }
+
+        protected IntIterator createIterator()
+        {
+            return new IntIterator() {
+                private final IntIterator it = input.iterator();
+
+                public boolean hasNext()
+                {
+                    return it.hasNext();
+                }
+
+                public int next()
+                {
+                    return f.apply(it.next());
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException("IntSeq.map: remove is not supported");
+                }
+            };
+        }
+
+        protected boolean pushInto(final IntSink sink)
+        {
+            return push(input, i -> sink.accept(f.apply(i)));
+        }
+
+        protected int knownSize()
+        {
+            return sizeOf(input);
+        }
+    }
+
+    private static final class Filtered extends IntPipeline
+    {
+        private final IntIterable input;
+        private final IntPredicate pred;
+
+        Filtered(final IntIterable input, final IntPredicate pred)
+        {
+            this.input = input;
+            this.pred = pred;
+        }
+
+        protected IntIterator createIterator()
+        {
+            return new IntIterator() {
+                private final IntIterator it = input.iterator();
+                private boolean haveLookahead = false;
+                private int lookahead;
+
+                public boolean hasNext()
+                {
+                    while(!haveLookahead && it.hasNext())
+                    {
+                        lookahead = it.next();
+                        haveLookahead = pred.test(lookahead);
+                    }
+                    return haveLookahead;
+                }
+
+                public int next()
+                {
+                    if(!hasNext()) throw new NoSuchElementException();
+                    haveLookahead = false;
+                    return lookahead;
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException("IntSeq.filter: remove is not supported");
+                }
+            };
+        }
+
+        protected boolean pushInto(final IntSink sink)
+        {
+            return push(input, i -> !pred.test(i) || sink.accept(i));
+        }
+    }
+
+    private static final class Taken extends IntPipeline
+    {
+        private final int howMany;
+        private final IntIterable input;
+
+        Taken(final int howMany, final IntIterable input)
+        {
+            this.howMany = howMany;
+            this.input = input;
+        }
+
+        protected IntIterator createIterator()
+        {
+            return new IntIterator() {
+                private final IntIterator it = input.iterator();
+                private int howManyHaveWeRetrievedAlready = 0;
+
+                public boolean hasNext()
+                {
+                    return howManyHaveWeRetrievedAlready<howMany && it.hasNext();
+                }
+
+                public int next()
+                {
+                    if(howManyHaveWeRetrievedAlready>=howMany) throw new NoSuchElementException("Cannot request additional elements from input");
+                    final int next = it.next();
+                    ++howManyHaveWeRetrievedAlready;
+                    return next;
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException("IntSeq.take: remove is not supported");
+                }
+            };
+        }
+
+        protected boolean pushInto(final IntSink sink)
+        {
+            if(howMany==0) return true;
+            final Limit limit = new Limit(sink) {
+                private int howManyHaveWeRetrievedAlready = 0;
+
+                protected boolean admit(final int i)
+                {
+                    return howManyHaveWeRetrievedAlready++<howMany;
+                }
+
+                protected boolean wantMore()
+                {
+                    return howManyHaveWeRetrievedAlready<howMany;
+                }
+            };
+            push(input, limit);
+            return !limit.hasDownstreamStopped();
+        }
+
+        protected int knownSize()
+        {
+            final int size = sizeOf(input);
+            return size<0 ? -1 : Math.min(size, howMany);
+        }
+    }
+
+    private static final class Skipped extends IntPipeline
+    {
+        private final int howMany;
+        private final IntIterable input;
+
+        Skipped(final int howMany, final IntIterable input)
+        {
+            this.howMany = howMany;
+            this.input = input;
+        }
+
+        protected IntIterator createIterator()
+        {
+            return new IntIterator() {
+                private final IntIterator it = input.iterator();
+                private boolean haveWeSkipped = false;
+
+                public boolean hasNext()
+                {
+                    if(!haveWeSkipped)
+                    {
+                        for(int i=0; i<howMany && it.hasNext(); ++i) it.next();
+                        haveWeSkipped = true;
+                    }
+                    return it.hasNext();
+                }
+
+                public int next()
+                {
+                    if(!hasNext()) throw new NoSuchElementException();
+                    return it.next();
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException("IntSeq.skip: remove is not supported");
+                }
+            };
+        }
+
+        protected boolean pushInto(final IntSink sink)
+        {
+            return push(input, new IntSink() {
+                private int howManyHaveWeSkipped = 0;
+
+                public boolean accept(final int i)
+                {
+                    if(howManyHaveWeSkipped<howMany)
+                    {
+                        ++howManyHaveWeSkipped;
+                        return true;
+                    }
+                    return sink.accept(i);
+                }
+            });
+        }
+
+        protected int knownSize()
+        {
+            final int size = sizeOf(input);
+            return size<0 ? -1 : Math.max(0, size-howMany);
+        }
+    }
+
+    private static final class Summer implements IntPipeline.IntSink
+    {
+        private long sum = 0;
+
+        public boolean accept(final int i)
+        {
+            sum += i;
+            return true;
+        }
+    }
+
+    private static final class Counter implements IntPipeline.IntSink
+    {
+        private int count = 0;
+
+        public boolean accept(final int i)
+        {
+            ++count;
+            return true;
+        }
+    }
+
+    private static final class Folder implements IntPipeline.IntSink
+    {
+        private final Func2_int_int_int f;
+        private int state;
+
+        Folder(final Func2_int_int_int f, final int initialValue)
+        {
+            this.f = f;
+            this.state = initialValue;
+        }
+
+        public boolean accept(final int i)
+        {
+            state = f.apply(state, i);
+            return true;
+        }
+    }
+}
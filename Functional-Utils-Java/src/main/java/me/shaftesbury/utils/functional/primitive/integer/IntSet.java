@@ -0,0 +1,170 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A set of primitive ints held in a single open-addressing <tt>int[]</tt>, so that adding an element allocates nothing
+ * unless the table has to grow. Iteration order is unspecified.
+ */
+public final class IntSet implements IntIterable
+{
+    private int[] keys;
+    private int mask;
+    private int resizeAt;
+    private boolean hasZero;
+    private int size;
+
+    public IntSet() {this(0);}
+
+    /**
+     * @param expectedSize the number of elements that can be added before the table needs to grow
+     */
+    public IntSet(final int expectedSize)
+    {
+        if(expectedSize<0) throw new IllegalArgumentException("IntSet(int): expectedSize is negative");
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    private void allocate(final int capacity)
+    {
+        keys = new int[capacity];
+        mask = capacity-1;
+        resizeAt = IntHashing.resizeThreshold(capacity);
+    }
+
+    /**
+     * @return the number of elements in the set
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size==0;
+    }
+
+    /**
+     * @param key the element
+     * @return true if the set contains the element
+     */
+    public boolean contains(final int key)
+    {
+        if(key==IntHashing.FREE) return hasZero;
+        for(int i=IntHashing.mix(key)&mask, k; (k=keys[i])!=IntHashing.FREE; i=(i+1)&mask)
+            if(k==key) return true;
+        return false;
+    }
+
+    /**
+     * @param key the element
+     * @return true if the element was added, false if the set already contained it
+     */
+    public boolean add(final int key)
+    {
+        if(key==IntHashing.FREE)
+        {
+            if(hasZero) return false;
+            hasZero = true;
+            ++size;
+            return true;
+        }
+        int i = IntHashing.mix(key)&mask;
+        for(int k; (k=keys[i])!=IntHashing.FREE; i=(i+1)&mask)
+            if(k==key) return false;
+        keys[i] = key;
+        if(++size>resizeAt) rehash(IntHashing.doubled(keys.length));
+        return true;
+    }
+
+    private void rehash(final int capacity)
+    {
+        final int[] oldKeys = keys;
+        allocate(capacity);
+        for(final int key : oldKeys)
+            if(key!=IntHashing.FREE)
+            {
+                int i = IntHashing.mix(key)&mask;
+                while(keys[i]!=IntHashing.FREE) i=(i+1)&mask;
+                keys[i] = key;
+            }
+    }
+
+    /**
+     * @return an array containing the elements of the set in iteration order
+     */
+    public int[] toArray()
+    {
+        final int[] output = new int[size];
+        int n = 0;
+        if(hasZero) output[n++] = 0;
+        for(final int key : keys)
+            if(key!=IntHashing.FREE) output[n++] = key;
+        return output;
+    }
+
+    public IntIterator iterator()
+    {
+        return new IntIterator() {
+            private int position = hasZero ? -1 : advance(0);
+
+            private int advance(int from)
+            {
+                while(from<keys.length && keys[from]==IntHashing.FREE) ++from;
+                return from;
+            }
+
+            public boolean hasNext()
+            {
+                return position<keys.length;
+            }
+
+            public int next()
+            {
+                if(!hasNext()) throw new NoSuchElementException();
+                final int key = position<0 ? 0 : keys[position];
+                position = advance(position+1);
+                return key;
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if(o==this) return true;
+        if(!(o instanceof IntSet)) return false;
+        final IntSet other = (IntSet) o;
+        if(other.size!=size || other.hasZero!=hasZero) return false;
+        for(final int key : keys)
+            if(key!=IntHashing.FREE && !other.contains(key)) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int h = 0;
+        for(final int key : keys) h += key;
+        return h;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder("[");
+        final IntIterator it = iterator();
+        while(it.hasNext())
+        {
+            sb.append(it.next());
+            if(it.hasNext()) sb.append(", ");
+        }
+        return sb.append(']').toString();
+    }
+}
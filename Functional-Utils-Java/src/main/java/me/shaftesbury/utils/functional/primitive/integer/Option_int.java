@@ -9,6 +9,8 @@ import me.shaftesbury.utils.functional.OptionNoValueAccessException;
  */
 public final class Option_int
 {
+    private static final Option_int NONE = new Option_int();
+
     private final int _t;
     private final boolean isSet;
     private Option_int()
@@ -50,7 +52,7 @@ public final class Option_int
      */
     public static Option_int None()
     {
-        return new Option_int();
+        return NONE;
     }
 
     /**
@@ -82,19 +84,9 @@ public final class Option_int
      */
     public boolean equals(final Object o)
     {
-        if(o instanceof Option_int)
-        {
-            final Option_int other = (Option_int)o;
-            try
-            {
-                return isSome()==other.isSome() && Some()==other.Some();
-            }
-            catch(final OptionNoValueAccessException ex)
-            {
-                return isNone() && other.isNone(); // every None is considered to be the same
-            }
-        }
-        else return false;
+        if(!(o instanceof Option_int)) return false;
+        final Option_int other = (Option_int)o;
+        return isSet==other.isSet && _t==other._t;
     }
 
     /**
@@ -0,0 +1,136 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import java.util.Arrays;
+
+/**
+ * The portable implementation of {@link IntBulkKernels}, and the one used when the Vector API is not available.
+ *
+ * Each loop is a counted loop over an array with no calls, no boxing and no data-dependent branches. The element-wise
+ * loops are in the form the JIT's superword pass can compile to SIMD instructions. The reductions keep four independent
+ * accumulators, so consecutive additions or comparisons do not wait on each other whether or not the JIT vectorises the
+ * loop. Keep them in these shapes when changing them.
+ */
+final class ScalarIntKernels implements IntBulkKernels
+{
+    static final ScalarIntKernels INSTANCE = new ScalarIntKernels();
+
+    private ScalarIntKernels() {}
+
+    public long sum(final int[] a, final int from, final int length)
+    {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        final int end = from+length;
+        int i = from;
+        for(; i<end-3; i+=4)
+        {
+            s0 += a[i];
+            s1 += a[i+1];
+            s2 += a[i+2];
+            s3 += a[i+3];
+        }
+        for(; i<end; ++i)
+            s0 += a[i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    public int min(final int[] a, final int from, final int length)
+    {
+        int m0 = Integer.MAX_VALUE, m1 = Integer.MAX_VALUE, m2 = Integer.MAX_VALUE, m3 = Integer.MAX_VALUE;
+        final int end = from+length;
+        int i = from;
+        for(; i<end-3; i+=4)
+        {
+            m0 = Math.min(m0, a[i]);
+            m1 = Math.min(m1, a[i+1]);
+            m2 = Math.min(m2, a[i+2]);
+            m3 = Math.min(m3, a[i+3]);
+        }
+        for(; i<end; ++i)
+            m0 = Math.min(m0, a[i]);
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    public int max(final int[] a, final int from, final int length)
+    {
+        int m0 = Integer.MIN_VALUE, m1 = Integer.MIN_VALUE, m2 = Integer.MIN_VALUE, m3 = Integer.MIN_VALUE;
+        final int end = from+length;
+        int i = from;
+        for(; i<end-3; i+=4)
+        {
+            m0 = Math.max(m0, a[i]);
+            m1 = Math.max(m1, a[i+1]);
+            m2 = Math.max(m2, a[i+2]);
+            m3 = Math.max(m3, a[i+3]);
+        }
+        for(; i<end; ++i)
+            m0 = Math.max(m0, a[i]);
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    public int countLessThan(final int threshold, final int[] a, final int from, final int length)
+    {
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        final int end = from+length;
+        int i = from;
+        for(; i<end-3; i+=4)
+        {
+            c0 += a[i] < threshold ? 1 : 0;
+            c1 += a[i+1] < threshold ? 1 : 0;
+            c2 += a[i+2] < threshold ? 1 : 0;
+            c3 += a[i+3] < threshold ? 1 : 0;
+        }
+        for(; i<end; ++i)
+            c0 += a[i] < threshold ? 1 : 0;
+        return (c0 + c1) + (c2 + c3);
+    }
+
+    public int[] add(final int constant, final int[] a, final int from, final int length)
+    {
+        final int[] output = new int[length];
+        for(int i=0; i<length; ++i)
+            output[i] = a[from+i] + constant;
+        return output;
+    }
+
+    public int[] multiply(final int factor, final int[] a, final int from, final int length)
+    {
+        final int[] output = new int[length];
+        for(int i=0; i<length; ++i)
+            output[i] = a[from+i] * factor;
+        return output;
+    }
+
+    public long dot(final int[] a, final int aFrom, final int[] b, final int bFrom, final int length)
+    {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for(; i<length-3; i+=4)
+        {
+            s0 += (long) a[aFrom+i] * b[bFrom+i];
+            s1 += (long) a[aFrom+i+1] * b[bFrom+i+1];
+            s2 += (long) a[aFrom+i+2] * b[bFrom+i+2];
+            s3 += (long) a[aFrom+i+3] * b[bFrom+i+3];
+        }
+        for(; i<length; ++i)
+            s0 += (long) a[aFrom+i] * b[bFrom+i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Compress the elements less than 'threshold' to the front of a new array. Every element is written and the write
+     * position advanced only when the element passes, so there is no branch to mispredict however the elements are
+     * distributed. The array is trimmed if more than half of it is unused.
+     */
+    public IntList filterLessThan(final int threshold, final int[] a, final int from, final int length)
+    {
+        final int[] output = new int[length];
+        int n = 0;
+        for(int i=from, end=from+length; i<end; ++i)
+        {
+            final int element = a[i];
+            output[n] = element;
+            n += element < threshold ? 1 : 0;
+        }
+        return IntList.adopt(n < length/2 ? Arrays.copyOf(output, n) : output, n);
+    }
+}
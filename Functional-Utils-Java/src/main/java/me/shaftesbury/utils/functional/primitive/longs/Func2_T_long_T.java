@@ -0,0 +1,19 @@
+package me.shaftesbury.utils.functional.primitive.longs;
+
+/**
+ * The Func2 interface is designed to represent lambda / anonymous functions which are defined and used in situ. This models
+ * a function that takes two arguments, the second of which is a primitive long.
+ * See <a href="http://en.wikipedia.org/wiki/Anonymous_function">Lambda function</a>
+ * @param <A> the type of the first input value
+ * @param <C> the type of the return value
+ * @see <a href="http://en.wikipedia.org/wiki/Closure_(computer_programming)">Closure</a>
+ */
+public interface Func2_T_long_T<A,C> {
+    /**
+     * Call <tt>apply</tt> to evaluate the function object
+     * @param a the first input value
+     * @param b the second input value
+     * @return an element of type C
+     */
+    C apply(A a, long b);
+}
@@ -0,0 +1,20 @@
+package me.shaftesbury.utils.functional.primitive.longs;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The Func interface is designed to represent lambda / anonymous functions which are defined and used in situ. This models
+ * a function that takes one primitive long argument and returns a primitive long.
+ * See <a href="http://en.wikipedia.org/wiki/Anonymous_function">Lambda function</a>
+ * @see <a href="http://en.wikipedia.org/wiki/Closure_(computer_programming)">Closure</a>
+ */
+public interface Func_long_long extends LongUnaryOperator {
+    /**
+     * Call <tt>apply</tt> to evaluate the function object
+     * @param a the input value
+     * @return a long
+     */
+    long apply(long a);
+
+    default long applyAsLong(long a) { return apply(a); }
+}
@@ -0,0 +1,581 @@
+package me.shaftesbury.utils.functional.primitive.longs;
+
+import me.shaftesbury.utils.functional.Option;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Herein are contained some standard algorithms from functional programming tailored for use with primitive longs.
+ * None of these functions box the elements of their input or output sequences.
+ * See <a href="http://en.wikipedia.org/wiki/Functional_programming">Functional Programming</a>
+ * for more information
+ */
+public final class Functional
+{
+    private Functional() {}
+
+    /**
+     * Concatenate all of the input elements into a single string where each element is separated from the next by the supplied delimiter
+     * @param delimiter used to separate consecutive elements in the output
+     * @param longs input sequence, each element of which will be converted to a string
+     * @return a string containing the string representation of each input element separated by the supplied delimiter
+     */
+    public static String join(final String delimiter, final LongIterable longs)
+    {
+        if(longs==null) return "";
+        final LongIterator it = longs.iterator();
+        final StringBuilder sb = new StringBuilder();
+        boolean isFirst = true;
+        while(it.hasNext())
+        {
+            if(!isFirst) sb.append(delimiter);
+            sb.append(it.next());
+            isFirst=false;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Find the first element from the input sequence for which the supplied predicate returns true
+     * find: (A -> bool) -> A list -> A
+     * @param f predicate
+     * @param input sequence
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException if no element is found that satisfies the predicate
+     * @return the first element from the input sequence for which the supplied predicate returns true
+     */
+    public static long find(final Func_long_T<Boolean> f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext()) {
+            final long a = iterator.next();
+            if (f.apply(a))
+                return a;
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return the zero-based position in the input sequence of the found element
+     * findIndex: (A -> bool) -> A list -> int
+     * @param f predicate
+     * @param input sequence
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException if no element is found that satisfies the predicate
+     * @return the position in the input sequence of the first element from the input sequence for which the supplied predicate
+     * returns true
+     */
+    public static int findIndex(final Func_long_T<Boolean> f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        int pos = 0;
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext()) {
+            if (f.apply(iterator.next()))
+                return pos;
+            else pos++;
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * As <tt>find</tt> except that here we return the last element in the input sequence that satisfies the predicate 'f'.
+     * The list is scanned from the end so the search stops at the first match from the back.
+     * findLast: (A -> bool) -> A list -> A
+     * @param f predicate
+     * @param input sequence
+     * @throws java.lang.IllegalArgumentException if f or input are null
+     * @throws java.util.NoSuchElementException if no element is found that satisfies the predicate
+     * @return the last element in the input sequence for which the supplied predicate returns true
+     */
+    public static long findLast(final Func_long_T<Boolean> f, final LongList input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        for(int i=input.size()-1; i>=0; --i) {
+            final long a = input.get(i);
+            if (f.apply(a))
+                return a;
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * 'pick' is an analogue of <tt>find</tt>. Instead of a predicate, 'pick' is passed a map function which returns an <tt>Option</tt>.
+     * Each element of the input sequence is supplied in turn to the map function 'f' and the first non-None Option to be returned from
+     * the map function is returned by 'pick' to the calling code.
+     * pick: (A -> B option) -> A seq -> B
+     *
+     * @param f the map function.
+     * @param input the input sequence
+     * @param <B> the type of the output element
+     * @return the first non-None transformed element of the input sequence
+     */
+    public static <B>B pick(final Func_long_T<Option<B>> f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            final Option<B> intermediate = f.apply(iterator.next());
+            if (!intermediate.isNone())
+                return intermediate.Some();
+        }
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * <tt>isEven</tt> a function that accepts a long and returns a boolean that indicates whether the passed long
+     * is or is not even
+     */
+    public static final Func_long_T<Boolean> isEven = new Func_long_T<Boolean>()
+    {
+        public Boolean apply(final long l)
+        {
+            return l % 2 == 0;
+        }
+    };
+    /**
+     * <tt>isOdd</tt> a function that accepts a long and returns a boolean that indicates whether the passed long
+     * is or is not odd
+     */
+    public static final Func_long_T<Boolean> isOdd = new Func_long_T<Boolean>()
+    {
+        public Boolean apply(final long l)
+        {
+            return l % 2 != 0;
+        }
+    };
+    /**
+     * <tt>sum</tt> a function that accepts two longs and returns the sum of them
+     */
+    public static final Func2_long_long_long sum = new Func2_long_long_long()
+    {
+        public long apply(final long state, final long l)
+        {
+            return state + l;
+        }
+    };
+
+    /**
+     * The init function, not dissimilar to list comprehensions, which is used to return a new finite list whose contents are
+     * determined by successive calls to the function f.
+     * init: (long -> A) -> int -> A list
+     * @param f generator function used to produce the individual elements of the output list. This function is called by init
+     *          with the unity-based position of the current element in the output list being produced. Therefore, the first time
+     *          f is called it will receive a literal '1' as its argument; the second time '2'; etc.
+     * @param howMany the number of elements in the output list
+     * @return a list of 'howMany' elements of type 'T' which were generated by the function 'f'
+     */
+    public static <T>List<T> init(final Func_long_T<T> f,final int howMany)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if(howMany<1) throw new IllegalArgumentException("howMany");
+
+        final ArrayList<T> output = new ArrayList<T>(howMany);
+        for(int i=1; i<=howMany; ++i)
+            output.add(f.apply(i));
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * As <tt>init</tt> except that the generator function returns a primitive long and so the output is a LongList.
+     * This has a different name from <tt>init</tt> so that an implicitly-typed lambda selects it unambiguously.
+     * initToLong: (long -> long) -> int -> long list
+     * @param f generator function which is called with the unity-based position of the current element in the output list
+     * @param howMany the number of elements in the output list
+     * @return a list of 'howMany' longs which were generated by the function 'f'
+     */
+    public static LongList initToLong(final Func_long_long f,final int howMany)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if(howMany<1) throw new IllegalArgumentException("howMany");
+
+        final long[] output = new long[howMany];
+        for(int i=1; i<=howMany; ++i)
+            output[i-1] = f.apply(i);
+        return LongList.adopt(output, howMany);
+    }
+
+    /**
+     * @param constant the value to be repeated
+     * @param howMany the number of elements in the output list
+     * @return a list of 'howMany' copies of 'constant'
+     */
+    public static LongList init(final long constant, final int howMany)
+    {
+        if(howMany<1) throw new IllegalArgumentException("howMany");
+
+        final long[] output = new long[howMany];
+        Arrays.fill(output, constant);
+        return LongList.adopt(output, howMany);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into an element in the output sequence.
+     * map: (long -> B) -> long list -> B list
+     * @param f a transformation function which takes a long and returns an object, presumably related, of type B
+     * @param input a sequence to be fed into f
+     * @param <B> the type of the element in the output sequence
+     * @return a list of type B containing the transformed values.
+     */
+    public static <B> List<B> map(final Func_long_T<? extends B> f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        final List<B> output = input instanceof LongList ? new ArrayList<B>(((LongList) input).size()) : new ArrayList<B>();
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+            output.add(f.apply(iterator.next()));
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * As <tt>map</tt> except that the transformation function returns a primitive long and so the output is a LongList.
+     * mapToLong: (long -> long) -> long list -> long list
+     * @param f a transformation function which takes a long and returns a long
+     * @param input a sequence to be fed into f
+     * @return a list containing the transformed values.
+     */
+    public static LongList mapToLong(final Func_long_long f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        if(input instanceof LongList)
+        {
+            final long[] in = ((LongList) input).extractBackingStoreWithoutCopy();
+            final long[] output = new long[in.length];
+            for(int i=0; i<in.length; ++i)
+                output[i] = f.apply(in[i]);
+            return LongList.adopt(output, output.length);
+        }
+        long[] output = new long[16];
+        int pos = 0;
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            if(pos==output.length) output = Arrays.copyOf(output, pos*2);
+            output[pos++] = f.apply(iterator.next());
+        }
+        return LongList.adopt(output, pos);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * This is a 1-to-1 transformation. Every element in the input sequence will be transformed into a primitive long.
+     * map: (A -> long) -> A list -> long list
+     * @param f a transformation function which takes a object of type A and returns a long
+     * @param input a sequence to be fed into f
+     * @param <A> the type of the element in the input sequence
+     * @return a list containing the transformed values.
+     */
+    public static <A> LongList map(final Func_T_long<? super A> f, final Iterable<A> input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        long[] output = new long[input instanceof Collection<?> ? ((Collection<?>) input).size() : 16];
+        int pos = 0;
+        for(final A a : input)
+        {
+            if(pos==output.length) output = Arrays.copyOf(output, Math.max(16, pos*2));
+            output[pos++] = f.apply(a);
+        }
+        return LongList.adopt(output, pos);
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+     * filter: (long -> bool) -> long list -> long list
+     * @param pred a filter function. This is passed each input element in turn and returns either true or false. If true then
+     *             the input element is passed through to the output otherwise it is ignored.
+     * @param input a sequence of longs
+     * @return a list which contains zero or more of the elements of the input sequence. Each element is included only if
+     * the filter function returns true for the element.
+     */
+    public static LongList filter(final Func_long_T<Boolean> pred, final LongIterable input)
+    {
+        if (pred == null) throw new IllegalArgumentException("pred");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        long[] output = new long[input instanceof LongList ? ((LongList) input).size() : 16];
+        int pos = 0;
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            final long l = iterator.next();
+            if(pred.apply(l))
+            {
+                if(pos==output.length) output = Arrays.copyOf(output, Math.max(16, pos*2));
+                output[pos++] = l;
+            }
+        }
+        return LongList.adopt(output, pos);
+    }
+
+    /**
+     * The converse of <tt>exists</tt>: returns true if the predicate is satisfied by every element of the input sequence
+     * forAll: (long -> bool) -> long list -> bool
+     * @param f predicate
+     * @param input input sequence
+     * @return true if the predicate 'f' evaluates true for all elements in the input sequence, false otherwise
+     */
+    public static boolean forAll(final Func_long_T<Boolean> f, final LongIterable input)
+    {
+        return !exists(not(f), input);
+    }
+
+    /**
+     * exists: (long -> bool) -> long list -> bool
+     * @param f predicate
+     * @param input input sequence
+     * @return true if any of the elements in the input sequence satisfy the predicate 'f', false otherwise
+     */
+    public static boolean exists(final Func_long_T<Boolean> f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+            if(f.apply(iterator.next()))
+                return true;
+        return false;
+    }
+
+    /**
+     * not reverses the result of the applied predicate
+     * not: (long -> bool) -> (long -> bool)
+     * @param f the input predicate
+     * @return a predicate which returns the logical negation of 'f'
+     */
+    public static Func_long_T<Boolean> not(final Func_long_T<Boolean> f)
+    {
+        return new Func_long_T<Boolean>(){public Boolean apply(final long l) {return !f.apply(l);}};
+    }
+
+    /**
+     * partition is used to divide the input sequence in two according to the predicate
+     * partition: (long -> bool) -> long list -> (long list, long list)
+     * @param f predicate used to split the input sequence into two sequences
+     * @param input the input sequence
+     * @return a pair of lists, the first being the elements for which 'f' returns true and the second those for which it returns false
+     */
+    public static Pair<LongList,LongList> partition(final Func_long_T<Boolean> f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        final int capacity = input instanceof LongList ? ((LongList) input).size() : 16;
+        long[] left = new long[capacity], right = new long[capacity];
+        int nLeft = 0, nRight = 0;
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            final long l = iterator.next();
+            if(f.apply(l))
+            {
+                if(nLeft==left.length) left = Arrays.copyOf(left, Math.max(16, nLeft*2));
+                left[nLeft++] = l;
+            }
+            else
+            {
+                if(nRight==right.length) right = Arrays.copyOf(right, Math.max(16, nRight*2));
+                right[nRight++] = l;
+            }
+        }
+        return Pair.of(LongList.adopt(left, nLeft), LongList.adopt(right, nRight));
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+     * fold: (A -> long -> A) -> A -> long list -> A
+     * @param f the aggregation function
+     * @param initialValue the seed for the aggregation
+     * @param input the input sequence
+     * @param <A> the type of the initialValue / seed
+     * @return the aggregated output
+     */
+    public static <A>A fold(final Func2_T_long_T<A,A> f, final A initialValue, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        A state = initialValue;
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+            state = f.apply(state, iterator.next());
+        return state;
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Fold_(higher-order_function)">Fold</a>
+     * As <tt>fold</tt> except that the state is a primitive long and so is never boxed.
+     * fold: (long -> long -> long) -> long -> long list -> long
+     * @param f the aggregation function
+     * @param initialValue the seed for the aggregation
+     * @param input the input sequence
+     * @return the aggregated output
+     */
+    public static long fold(final Func2_long_long_long f, final long initialValue, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        long state = initialValue;
+        if(input instanceof LongList)
+        {
+            for(final long l : ((LongList) input).extractBackingStoreWithoutCopy())
+                state = f.apply(state, l);
+            return state;
+        }
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+            state = f.apply(state, iterator.next());
+        return state;
+    }
+
+    /**
+     * See <a href="http://en.wikipedia.org/wiki/Map_(higher-order_function)">Map</a>
+     * and <a href="http://en.wikipedia.org/wiki/Filter_(higher-order_function)">Filter</a>
+     * choose: (long -> B option) -> long list -> B list
+     * @param f map function. This transforms the input element into an Option
+     * @param input input sequence
+     * @param <B> the type of the element in the output sequence
+     * @return a list of transformed elements, numbering less than or equal to the number of input elements
+     */
+    public static <B>List<B> choose(final Func_long_T<Option<B>> f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        final List<B> results = input instanceof LongList ? new ArrayList<B>(((LongList) input).size()) : new ArrayList<B>();
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            final Option<B> intermediate = f.apply(iterator.next());
+            if (!intermediate.isNone())
+                results.add(intermediate.Some());
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * As <tt>choose</tt> except that the map function returns an Option_long and so the output is a LongList.
+     * chooseToLong: (long -> long option) -> long list -> long list
+     * @param f map function. This transforms the input element into an Option_long
+     * @param input input sequence
+     * @return a list of transformed elements, numbering less than or equal to the number of input elements
+     */
+    public static LongList chooseToLong(final Func_long_Option_long f, final LongIterable input)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (input == null) throw new IllegalArgumentException("input");
+
+        long[] output = new long[input instanceof LongList ? ((LongList) input).size() : 16];
+        int pos = 0;
+        final LongIterator iterator = input.iterator();
+        while(iterator.hasNext())
+        {
+            final Option_long intermediate = f.apply(iterator.next());
+            if (intermediate.isSome())
+            {
+                if(pos==output.length) output = Arrays.copyOf(output, Math.max(16, pos*2));
+                output[pos++] = intermediate.Some();
+            }
+        }
+        return LongList.adopt(output, pos);
+    }
+
+    /**
+     * The zip function transforms a pair of input lists into a list of objects produced by 'f' from corresponding elements
+     * zip: (long -> long -> C) -> long list -> long list -> C list
+     * @param f the function which combines an element from each input list
+     * @param l1 the first input list
+     * @param l2 the second input list
+     * @param <C> the type of the element in the output list
+     * @throws java.lang.IllegalArgumentException if the input lists are of different lengths
+     * @return a list of the combined elements
+     */
+    public static <C>List<C> zip(final Func2_long_long_T<? extends C> f, final LongList l1, final LongList l2)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (l1 == null) throw new IllegalArgumentException("l1");
+        if (l2 == null) throw new IllegalArgumentException("l2");
+        if (l1.size() != l2.size()) throw new IllegalArgumentException("Functional.zip(f,l1,l2): l1 and l2 differ in length");
+
+        final List<C> output = new ArrayList<C>(l1.size());
+        for(int i=0; i<l1.size(); ++i)
+            output.add(f.apply(l1.get(i), l2.get(i)));
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * As <tt>zip</tt> except that the combining function returns a primitive long and so the output is a LongList.
+     * zipToLong: (long -> long -> long) -> long list -> long list -> long list
+     * @param f the function which combines an element from each input list
+     * @param l1 the first input list
+     * @param l2 the second input list
+     * @throws java.lang.IllegalArgumentException if the input lists are of different lengths
+     * @return a list of the combined elements
+     */
+    public static LongList zipToLong(final Func2_long_long_long f, final LongList l1, final LongList l2)
+    {
+        if (f == null) throw new IllegalArgumentException("f");
+        if (l1 == null) throw new IllegalArgumentException("l1");
+        if (l2 == null) throw new IllegalArgumentException("l2");
+        if (l1.size() != l2.size()) throw new IllegalArgumentException("Functional.zipToLong(f,l1,l2): l1 and l2 differ in length");
+
+        final long[] a1 = l1.extractBackingStoreWithoutCopy(), a2 = l2.extractBackingStoreWithoutCopy();
+        final long[] output = new long[a1.length];
+        for(int i=0; i<a1.length; ++i)
+            output[i] = f.apply(a1[i], a2[i]);
+        return LongList.adopt(output, output.length);
+    }
+
+    /**
+     * Return the final element from the input list
+     * @param input the list
+     * @throws java.lang.IllegalArgumentException if the input is null or empty
+     * @return the last element in the list
+     */
+    public static long last(final LongList input)
+    {
+        if (input == null || input.isEmpty()) throw new IllegalArgumentException("input");
+        return input.get(input.size()-1);
+    }
+
+    /**
+     * Concatenate two lists
+     * @param list1 the first list
+     * @param list2 the second list
+     * @return a list containing the elements of 'list1' followed by the elements of 'list2'
+     */
+    public static LongList concat(final LongList list1, final LongList list2)
+    {
+        if (list1 == null) throw new IllegalArgumentException("list1");
+        if (list2 == null) throw new IllegalArgumentException("list2");
+
+        final long[] a1 = list1.extractBackingStoreWithoutCopy(), a2 = list2.extractBackingStoreWithoutCopy();
+        final long[] output = Arrays.copyOf(a1, a1.length + a2.length);
+        System.arraycopy(a2, 0, output, a1.length, a2.length);
+        return LongList.adopt(output, output.length);
+    }
+}
@@ -0,0 +1,11 @@
+package me.shaftesbury.utils.functional.primitive.longs;
+
+public interface LongIterable
+{
+    /**
+     * Returns an iterator over a set of elements of type long.
+     *
+     * @return an Iterator.
+     */
+    LongIterator iterator();
+}
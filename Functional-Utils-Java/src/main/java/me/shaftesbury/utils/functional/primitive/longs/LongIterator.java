@@ -0,0 +1,29 @@
+package me.shaftesbury.utils.functional.primitive.longs;
+
+public interface LongIterator
+{
+    boolean hasNext();
+    long next();
+    void remove();
+}
+
+class LongIteratorImpl implements LongIterator
+{
+    private final long[] backingStore;
+    private int position;
+
+    public LongIteratorImpl(final long[]array){backingStore=array;position=0;}
+
+    public boolean hasNext() {
+        return position<backingStore.length;
+    }
+
+    public long next() {
+        if(!hasNext()) throw new java.util.NoSuchElementException();
+        return backingStore[position++];
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,75 @@
+package me.shaftesbury.utils.functional.primitive.longs;
+
+import java.util.Arrays;
+
+/**
+ * An immutable list of primitive longs backed by an array of exactly the right size.
+ */
+public class LongList implements LongIterable
+{
+    private final long[] backingStore;
+    public LongList(){backingStore=new long[0];}
+    public LongList(final long[]array) {backingStore = Arrays.copyOf(array, array.length);}
+    public LongList(final long[]array, final int size) {backingStore = Arrays.copyOf(array, size);}
+
+    private LongList(final long[] array, final boolean copy) {backingStore = copy ? Arrays.copyOf(array, array.length) : array;}
+
+    /**
+     * Create a LongList from the first 'size' elements of 'array'. The array is adopted without being copied if it is
+     * exactly the right size, so the caller must not modify it afterwards.
+     */
+    static LongList adopt(final long[] array, final int size)
+    {
+        return size==array.length ? new LongList(array, false) : new LongList(array, size);
+    }
+
+    long[] extractBackingStoreWithoutCopy() { return backingStore; }
+
+    public int size() {
+        return backingStore.length;
+    }
+
+    public boolean isEmpty() {
+        return backingStore.length==0;
+    }
+
+    public boolean contains(final long l) {
+        return indexOf(l)>=0;
+    }
+
+    public LongIterator iterator() {
+        return new LongIteratorImpl(backingStore);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(backingStore, backingStore.length);
+    }
+
+    public long get(final int index) {
+        return backingStore[index];
+    }
+
+    public int indexOf(final long l) {
+        for(int i=0;i<backingStore.length;++i)
+            if(backingStore[i]==l) return i;
+        return -1;
+    }
+
+    public int lastIndexOf(final long l) {
+        for(int i=backingStore.length-1;i>=0;--i)
+            if(backingStore[i]==l) return i;
+        return -1;
+    }
+
+    public boolean equals(final Object o) {
+        return o instanceof LongList && Arrays.equals(backingStore, ((LongList)o).backingStore);
+    }
+
+    public int hashCode() {
+        return Arrays.hashCode(backingStore);
+    }
+
+    public String toString() {
+        return Arrays.toString(backingStore);
+    }
+}
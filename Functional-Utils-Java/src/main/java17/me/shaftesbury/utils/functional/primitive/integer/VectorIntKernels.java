@@ -0,0 +1,159 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The implementation of {@link IntBulkKernels} using the Vector API, in the widest vectors the hardware supports. This
+ * class is compiled for Java 17 and needs the <tt>jdk.incubator.vector</tt> module, so nothing refers to it directly:
+ * {@link IntKernels} loads it by name and falls back to {@link ScalarIntKernels} if that fails.
+ *
+ * Each loop processes whole vectors up to <tt>loopBound</tt> and finishes the remaining elements one at a time.
+ */
+final class VectorIntKernels implements IntBulkKernels
+{
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = INTS.length();
+
+    /**
+     * The number of elements summed in int lanes before the lanes are added into a long. The unsigned low halves of
+     * this many elements total less than 2^31, whichever lanes they fall in, so neither the lanes nor their reduction
+     * can overflow.
+     */
+    private static final int SUM_BLOCK = 1 << 15;
+
+    VectorIntKernels()
+    {
+        // The Vector API is emulated, slowly, where the hardware has no vectors of ints to speak of
+        if(LANES<4 || LONGS.vectorBitSize()!=INTS.vectorBitSize())
+            throw new UnsupportedOperationException("VectorIntKernels: " + INTS + " is too narrow to be worthwhile");
+    }
+
+    /**
+     * Each element is split into its signed high and unsigned low 16 bits, which are summed separately in int lanes and
+     * recombined once per {@link #SUM_BLOCK} elements, so the vectors never need widening to long.
+     */
+    public long sum(final int[] a, final int from, final int length)
+    {
+        final int end = from+length;
+        final int vectorEnd = from+INTS.loopBound(length);
+        long total = 0;
+        int i = from;
+        while(i<vectorEnd)
+        {
+            final int blockEnd = (int) Math.min(vectorEnd, (long) i + SUM_BLOCK);
+            IntVector high = IntVector.zero(INTS);
+            IntVector low = IntVector.zero(INTS);
+            for(; i<blockEnd; i+=LANES)
+            {
+                final IntVector v = IntVector.fromArray(INTS, a, i);
+                high = high.add(v.lanewise(VectorOperators.ASHR, 16));
+                low = low.add(v.and(0xFFFF));
+            }
+            total += ((long) high.reduceLanes(VectorOperators.ADD) << 16) + low.reduceLanes(VectorOperators.ADD);
+        }
+        for(; i<end; ++i)
+            total += a[i];
+        return total;
+    }
+
+    public int min(final int[] a, final int from, final int length)
+    {
+        final int end = from+length;
+        final int vectorEnd = from+INTS.loopBound(length);
+        IntVector m = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = from;
+        for(; i<vectorEnd; i+=LANES)
+            m = m.min(IntVector.fromArray(INTS, a, i));
+        int result = m.reduceLanes(VectorOperators.MIN);
+        for(; i<end; ++i)
+            result = Math.min(result, a[i]);
+        return result;
+    }
+
+    public int max(final int[] a, final int from, final int length)
+    {
+        final int end = from+length;
+        final int vectorEnd = from+INTS.loopBound(length);
+        IntVector m = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = from;
+        for(; i<vectorEnd; i+=LANES)
+            m = m.max(IntVector.fromArray(INTS, a, i));
+        int result = m.reduceLanes(VectorOperators.MAX);
+        for(; i<end; ++i)
+            result = Math.max(result, a[i]);
+        return result;
+    }
+
+    public int countLessThan(final int threshold, final int[] a, final int from, final int length)
+    {
+        final int end = from+length;
+        final int vectorEnd = from+INTS.loopBound(length);
+        IntVector counts = IntVector.zero(INTS);
+        int i = from;
+        for(; i<vectorEnd; i+=LANES)
+            counts = counts.lanewise(VectorOperators.ADD, 1, IntVector.fromArray(INTS, a, i).compare(VectorOperators.LT, threshold));
+        int result = counts.reduceLanes(VectorOperators.ADD);
+        for(; i<end; ++i)
+            result += a[i] < threshold ? 1 : 0;
+        return result;
+    }
+
+    public int[] add(final int constant, final int[] a, final int from, final int length)
+    {
+        final int[] output = new int[length];
+        final int vectorEnd = INTS.loopBound(length);
+        int i = 0;
+        for(; i<vectorEnd; i+=LANES)
+            IntVector.fromArray(INTS, a, from+i).add(constant).intoArray(output, i);
+        for(; i<length; ++i)
+            output[i] = a[from+i] + constant;
+        return output;
+    }
+
+    public int[] multiply(final int factor, final int[] a, final int from, final int length)
+    {
+        final int[] output = new int[length];
+        final int vectorEnd = INTS.loopBound(length);
+        int i = 0;
+        for(; i<vectorEnd; i+=LANES)
+            IntVector.fromArray(INTS, a, from+i).mul(factor).intoArray(output, i);
+        for(; i<length; ++i)
+            output[i] = a[from+i] * factor;
+        return output;
+    }
+
+    /**
+     * Each vector of ints is widened into two vectors of longs, the low and the high half of its lanes, before
+     * multiplying, so that the products are exact.
+     */
+    public long dot(final int[] a, final int aFrom, final int[] b, final int bFrom, final int length)
+    {
+        final int vectorEnd = INTS.loopBound(length);
+        LongVector low = LongVector.zero(LONGS);
+        LongVector high = LongVector.zero(LONGS);
+        int i = 0;
+        for(; i<vectorEnd; i+=LANES)
+        {
+            final IntVector va = IntVector.fromArray(INTS, a, aFrom+i);
+            final IntVector vb = IntVector.fromArray(INTS, b, bFrom+i);
+            low = low.add(((LongVector) va.convertShape(VectorOperators.I2L, LONGS, 0)).mul((LongVector) vb.convertShape(VectorOperators.I2L, LONGS, 0)));
+            high = high.add(((LongVector) va.convertShape(VectorOperators.I2L, LONGS, 1)).mul((LongVector) vb.convertShape(VectorOperators.I2L, LONGS, 1)));
+        }
+        long result = low.add(high).reduceLanes(VectorOperators.ADD);
+        for(; i<length; ++i)
+            result += (long) a[aFrom+i] * b[bFrom+i];
+        return result;
+    }
+
+    /**
+     * Java 17's Vector API has no compress operation, so this is the scalar branch-free compress
+     */
+    public IntList filterLessThan(final int threshold, final int[] a, final int from, final int length)
+    {
+        return ScalarIntKernels.INSTANCE.filterLessThan(threshold, a, from, length);
+    }
+}
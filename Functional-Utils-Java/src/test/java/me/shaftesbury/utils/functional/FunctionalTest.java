@@ -7,8 +7,10 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Created with IntelliJ IDEA.
@@ -4373,4 +4375,1008 @@ public class FunctionalTest {
         } catch(final UnsupportedOperationException e) { Assert.fail("Should not reach this point"); }
         output.iterator();
     }
+
+    @Test
+    public void foldOverSeqPipelineTest()
+    {
+        final Iterable<Integer> pipeline = Functional.seq.map(DoublingGenerator,
+                Functional.seq.filter(Functional.isOdd,
+                        Functional.seq.skip(2,
+                                Functional.seq.take(8, Functional.seq.init(Functional.<Integer>identity())))));
+        // 3,4,5,6,7,8 -> 3,5,7 -> 6,10,14
+        Assert.assertEquals((Integer)30, Functional.fold(Functional.sum, 0, pipeline));
+    }
+
+    @Test
+    public void toListOverSeqPipelineTest()
+    {
+        final Iterable<String> pipeline = Functional.seq.mapi((pos, i) -> pos + ":" + i,
+                Functional.seq.choose(i -> i % 3 == 0 ? Option.toOption(i) : Option.<Integer>None(),
+                        Functional.seq.skipWhile(i -> i < 3,
+                                Functional.seq.takeWhile(i -> i < 12, Functional.seq.init(Functional.<Integer>identity())))));
+        AssertIterable.assertIterableEquals(Arrays.asList("0:3", "1:6", "2:9"), Functional.toList(pipeline));
+    }
+
+    @Test
+    public void pushedPipelineMatchesPulledPipelineTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 20);
+        final Function<Iterable<Integer>, Iterable<Pair<Integer, Integer>>> pipeline = l ->
+                Functional.seq.zip(DoublingGenerator, Functional.<Integer>identity(),
+                        Functional.seq.collect(i -> Functional.init(Functional.constant(i), i % 3 + 1),
+                                Functional.seq.concat(Functional.seq.take(5, l), Functional.seq.skip(15, l))));
+
+        final List<Pair<Integer, Integer>> pulled = new ArrayList<>();
+        for (final Pair<Integer, Integer> p : pipeline.apply(input)) pulled.add(p);
+
+        AssertIterable.assertIterableEquals(pulled, Functional.toList(pipeline.apply(input)));
+    }
+
+    @Test
+    public void existsOverSeqPipelineStopsAtFirstMatchTest()
+    {
+        final List<Integer> seen = new ArrayList<>();
+        final Iterable<Integer> pipeline = Functional.seq.map(i -> { seen.add(i); return i; },
+                Functional.seq.init(Functional.<Integer>identity()));
+        Assert.assertTrue(Functional.exists(i -> i == 3, pipeline));
+        AssertIterable.assertIterableEquals(Arrays.asList(1, 2, 3), seen);
+    }
+
+    @Test
+    public void findOverSeqPipelineTest()
+    {
+        final Iterable<Integer> pipeline = Functional.seq.filter(Functional.isEven,
+                Functional.seq.unfold(i -> Pair.of(i, i + 1), i -> i > 10, 1));
+        Assert.assertEquals((Integer)6, Functional.find(i -> i > 5, pipeline));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void findOverSeqPipelineThrowsWhenNothingMatchesTest()
+    {
+        Functional.find(i -> i > 50, Functional.seq.map(DoublingGenerator, Functional.init(Functional.<Integer>identity(), 5)));
+    }
+
+    @Test
+    public void takeDoesNotEndEnclosingConcatInPipelineTest()
+    {
+        final Iterable<Integer> pipeline = Functional.seq.concat(
+                Functional.seq.take(2, Functional.seq.init(Functional.<Integer>identity())),
+                Functional.seq.takeWhile(i -> i < 3, Arrays.asList(1, 2, 3, 4)));
+        AssertIterable.assertIterableEquals(Arrays.asList(1, 2, 1, 2), Functional.toList(pipeline));
+    }
+
+    @Test
+    public void takeDoesNotReadBeyondTheLastElementRequiredTest()
+    {
+        final List<Integer> seen = new ArrayList<>();
+        final Iterable<Integer> pipeline = Functional.seq.take(3,
+                Functional.seq.map(i -> { seen.add(i); return i; }, Arrays.asList(1, 2, 3, 4, 5)));
+        Assert.assertEquals((Integer)6, Functional.fold(Functional.sum, 0, pipeline));
+        AssertIterable.assertIterableEquals(Arrays.asList(1, 2, 3), seen);
+    }
+
+    @Test
+    public void collectOverSeqPipelineWithEmptyIntermediateSequencesTest()
+    {
+        final Iterable<Integer> pipeline = Functional.seq.collect(i -> i % 2 == 0 ? Arrays.asList(i, i) : Collections.<Integer>emptyList(),
+                Arrays.asList(1, 2, 3, 4, 5));
+        AssertIterable.assertIterableEquals(Arrays.asList(2, 2, 4, 4), Functional.toList(pipeline));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void foldOverSeqZipWithDifferingLengthsTest()
+    {
+        Functional.fold((Integer acc, Pair<Integer, Integer> p) -> acc + p.getLeft(), 0, Functional.seq.zip(Arrays.asList(1, 2, 3), Arrays.asList(1, 2)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cantFoldSeqPipelineTwiceTest()
+    {
+        final Iterable<Integer> pipeline = Functional.seq.map(DoublingGenerator, Arrays.asList(1, 2, 3));
+        try {
+            Functional.fold(Functional.sum, 0, pipeline);
+        } catch(final UnsupportedOperationException e) { Assert.fail("Should not reach this point"); }
+        Functional.fold(Functional.sum, 0, pipeline);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cantIterateSeqPipelineAfterFoldTest()
+    {
+        final Iterable<Integer> pipeline = Functional.seq.filter(Functional.isOdd, Arrays.asList(1, 2, 3));
+        Functional.toList(pipeline);
+        pipeline.iterator();
+    }
+
+    @Test
+    public void parallelMapTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 100000);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AssertIterable.assertIterableEquals(Functional.map(DoublingGenerator, input), Functional.parallel.map(pool, DoublingGenerator, input));
+        } finally { pool.shutdown(); }
+    }
+
+    @Test
+    public void parallelMapOfLinkedListAndArrayTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 10000);
+        final List<String> expected = Functional.map(Functional.<Integer>dStringify(), input);
+        AssertIterable.assertIterableEquals(expected, Functional.parallel.map(Functional.<Integer>dStringify(), new LinkedList<>(input)));
+        AssertIterable.assertIterableEquals(expected, Functional.parallel.map(Functional.<Integer>dStringify(), input.toArray(new Integer[0])));
+    }
+
+    @Test
+    public void parallelMapOfSmallAndEmptyInputTest()
+    {
+        AssertIterable.assertIterableEquals(Arrays.asList(2, 4, 6), Functional.parallel.map(DoublingGenerator, Arrays.asList(1, 2, 3)));
+        Assert.assertTrue(Functional.parallel.map(DoublingGenerator, new ArrayList<Integer>()).isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cantAddToParallelMapOutputTest()
+    {
+        Functional.parallel.map(DoublingGenerator, Arrays.asList(1, 2, 3)).add(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelMapNullInputTest()
+    {
+        Functional.parallel.map(DoublingGenerator, (List<Integer>) null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void parallelMapPropagatesExceptionsTest()
+    {
+        Functional.parallel.map(i -> { if (i == 5000) throw new IllegalStateException(); return i; },
+                Functional.init(Functional.<Integer>identity(), 10000));
+    }
+
+    @Test
+    public void parallelFilterTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 100000);
+        AssertIterable.assertIterableEquals(Functional.filter(Functional.isOdd, input), Functional.parallel.filter(Functional.isOdd, input));
+        AssertIterable.assertIterableEquals(Functional.filter(Functional.isEven, input), Functional.parallel.filter(Functional.isEven, input.toArray(new Integer[0])));
+    }
+
+    @Test
+    public void parallelChooseTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 100000);
+        final Function<Integer, Option<String>> f = i -> i % 3 == 0 ? Option.toOption(i.toString()) : Option.<String>None();
+        AssertIterable.assertIterableEquals(Functional.choose(f, input), Functional.parallel.choose(f, input));
+    }
+
+    @Test
+    public void parallelFoldTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 100000);
+        final Long expected = Functional.fold((Long acc, Integer i) -> acc + i, 0L, input);
+        Assert.assertEquals(expected, Functional.parallel.fold((Long acc, Integer i) -> acc + i, Long::sum, 0L, input));
+    }
+
+    @Test
+    public void parallelFoldPreservesOrderTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 5000);
+        final String expected = Functional.fold((String acc, Integer i) -> acc + i + ",", "", input);
+        Assert.assertEquals(expected, Functional.parallel.fold((String acc, Integer i) -> acc + i + ",", String::concat, "", input));
+    }
+
+    @Test
+    public void parallelFoldOfEmptyInputTest()
+    {
+        Assert.assertEquals((Integer) 7, Functional.parallel.fold(Functional.sum, Integer::sum, 7, new ArrayList<Integer>()));
+    }
+
+    @Test
+    public void parallelGroupByTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 100000);
+        final Map<Integer, List<Integer>> expected = Functional.groupBy(i -> i % 7, input);
+        final Map<Integer, List<Integer>> output = Functional.parallel.groupBy(i -> i % 7, input);
+        Assert.assertEquals(expected.keySet(), output.keySet());
+        for (final Integer key : expected.keySet())
+            AssertIterable.assertIterableEquals(expected.get(key), output.get(key));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cantAddToParallelGroupByGroupTest()
+    {
+        Functional.parallel.groupBy(i -> i % 7, Functional.init(Functional.<Integer>identity(), 10000)).get(0).add(1);
+    }
+
+    @Test
+    public void parallelToDictionaryKeepsLastValueForDuplicateKeysTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 100000);
+        final Map<Integer, Integer> expected = Functional.toDictionary(i -> i % 10, Functional.<Integer>identity(), input);
+        final Map<Integer, Integer> output = Functional.parallel.toDictionary(i -> i % 10, Functional.<Integer>identity(), input);
+        Assert.assertEquals(expected, output);
+    }
+
+    @Test
+    public void parallelOrderedGroupByWithManyKeysMatchesSerialTest()
+    {
+        final List<Integer> input = Functional.map(i -> (i * 7919) % 100000, Functional.init(Functional.<Integer>identity(), 100000));
+        final Map<Integer, List<Integer>> expected = Functional.groupBy(i -> i % 5003, input);
+        final Map<Integer, List<Integer>> output = Functional.parallel.groupBy(new ForkJoinPool(4), i -> i % 5003, input, Functional.parallel.MergeOrder.ORDERED);
+        Assert.assertEquals(expected, output);
+    }
+
+    @Test
+    public void parallelUnorderedGroupByHasSameGroupsTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 100000);
+        final Map<Integer, List<Integer>> expected = Functional.groupBy(i -> i % 7, input);
+        final Map<Integer, List<Integer>> output = Functional.parallel.groupBy(new ForkJoinPool(4), i -> i % 7, input, Functional.parallel.MergeOrder.UNORDERED);
+        Assert.assertEquals(expected.keySet(), output.keySet());
+        for (final Integer key : expected.keySet())
+            Assert.assertEquals(expected.get(key), Functional.sortWith(Integer::compare, output.get(key)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cantAddToParallelUnorderedGroupByGroupTest()
+    {
+        Functional.parallel.groupBy(i -> i % 7, Functional.init(Functional.<Integer>identity(), 10000), Functional.parallel.MergeOrder.UNORDERED).get(0).add(1);
+    }
+
+    @Test
+    public void parallelOrderedToDictionaryWithManyKeysMatchesSerialTest()
+    {
+        final List<Integer> input = Functional.map(i -> (i * 7919) % 100000, Functional.init(Functional.<Integer>identity(), 100000));
+        final Map<Integer, Integer> expected = Functional.toDictionary(i -> i % 5003, Functional.<Integer>identity(), input);
+        final Map<Integer, Integer> output = Functional.parallel.toDictionary(new ForkJoinPool(4), i -> i % 5003, Functional.<Integer>identity(), input, Functional.parallel.MergeOrder.ORDERED);
+        Assert.assertEquals(expected, output);
+    }
+
+    @Test
+    public void parallelUnorderedToDictionaryKeepsOneValuePerKeyTest()
+    {
+        final List<Integer> input = Functional.init(Functional.<Integer>identity(), 100000);
+        final Map<Integer, Integer> output = Functional.parallel.toDictionary(i -> i % 10, Functional.<Integer>identity(), input, Functional.parallel.MergeOrder.UNORDERED);
+        Assert.assertEquals(Functional.toDictionary(i -> i % 10, Functional.<Integer>identity(), input).keySet(), output.keySet());
+        for (final Map.Entry<Integer, Integer> entry : output.entrySet())
+            Assert.assertEquals((int) entry.getKey(), entry.getValue() % 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelGroupByNullMergeOrderTest()
+    {
+        Functional.parallel.groupBy(i -> i % 7, Functional.init(Functional.<Integer>identity(), 10), null);
+    }
+
+
+    @Test
+    public void seqMapOverListHasSizedSpliteratorTest() {
+        final Spliterator<Integer> spliterator = Functional.seq.map(i -> i * 2, Functional.init(Functional.identity(), 100)).spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        Assert.assertEquals(100, spliterator.getExactSizeIfKnown());
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertNotNull(prefix);
+        Assert.assertEquals(100, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void seqInitWithCountHasSizedSpliteratorWhichSplitsInHalfTest() {
+        final Spliterator<Integer> spliterator = Functional.seq.init(Functional.identity(), 10).spliterator();
+        Assert.assertEquals(10, spliterator.getExactSizeIfKnown());
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(5, prefix.getExactSizeIfKnown());
+        final List<Integer> firstHalf = new ArrayList<>();
+        prefix.forEachRemaining(firstHalf::add);
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), firstHalf);
+    }
+
+    @Test
+    public void seqStagesReportSizeWhereItIsKnownTest() {
+        final List<Integer> input = Functional.init(Functional.identity(), 10);
+        Assert.assertEquals(3, Functional.seq.take(3, input).spliterator().getExactSizeIfKnown());
+        Assert.assertEquals(7, Functional.seq.skip(3, input).spliterator().getExactSizeIfKnown());
+        Assert.assertEquals(0, Functional.seq.skip(30, input).spliterator().getExactSizeIfKnown());
+        Assert.assertEquals(10, Functional.seq.zip(input, input).spliterator().getExactSizeIfKnown());
+        Assert.assertEquals(10, Functional.seq.mapi((pos, i) -> pos + i, input).spliterator().getExactSizeIfKnown());
+        Assert.assertEquals(20, Functional.seq.concat(input, input).spliterator().getExactSizeIfKnown());
+        Assert.assertEquals(5, Functional.seq.take(5, Functional.seq.map(i -> i, input)).spliterator().getExactSizeIfKnown());
+        Assert.assertEquals(-1, Functional.seq.filter(Functional.isEven, input).spliterator().getExactSizeIfKnown());
+        Assert.assertEquals(-1, Functional.seq.take(5, Functional.seq.filter(Functional.isEven, input)).spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    public void seqToParallelStreamPreservesOrderTest() {
+        final List<Integer> input = Functional.init(Functional.identity(), 10000);
+        final Iterable<Pair<Integer, Integer>> zipped = Functional.seq.zip(input, Functional.map(i -> i * 2, input));
+        final List<Integer> expected = Functional.map(i -> i * 3, input);
+        final List<Integer> output = Functional.seq.toStream(zipped, true).map(p -> p.getLeft() + p.getRight()).collect(java.util.stream.Collectors.toList());
+        Assert.assertEquals(expected, output);
+    }
+
+    @Test
+    public void seqToStreamOfTakeOverSkipTest() {
+        final List<Integer> input = Functional.init(Functional.identity(), 100);
+        final long sum = Functional.seq.toStream(Functional.seq.take(10, Functional.seq.skip(90, input)), true).mapToLong(i -> i).sum();
+        Assert.assertEquals(955L, sum);
+    }
+
+    @Test
+    public void seqToStreamOfUnsizedSequenceTest() {
+        final List<Integer> output = Functional.seq.toStream(Functional.seq.filter(Functional.isOdd, Functional.seq.init(Functional.identity(), 9))).collect(java.util.stream.Collectors.toList());
+        Assert.assertEquals(Arrays.asList(1, 3, 5, 7, 9), output);
+    }
+
+    @Test
+    public void seqToStreamOfLongestInitTest() {
+        final List<Integer> output = Functional.seq.toStream(Functional.seq.init(Functional.identity(), Integer.MAX_VALUE)).limit(3).collect(java.util.stream.Collectors.toList());
+        Assert.assertEquals(Arrays.asList(1, 2, 3), output);
+        Assert.assertEquals(Integer.MAX_VALUE, Functional.seq.toStream(Functional.seq.init(Functional.identity(), Integer.MAX_VALUE)).spliterator().getExactSizeIfKnown());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cantStreamSeqPipelineTwiceTest() {
+        final Iterable<Integer> output = Functional.seq.map(i -> i, Functional.init(Functional.identity(), 3));
+        Functional.seq.toStream(output).count();
+        Functional.seq.toStream(output).count();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void seqToStreamNullTest() {
+        Functional.seq.toStream(null, true);
+    }
+
+
+    @Test
+    public void predicateFormsMatchFunctionFormsTest() {
+        final List<Integer> input = Functional.init(Functional.identity(), 10);
+        final Iterable<Integer> iterable = () -> input.iterator();
+        Assert.assertEquals(Functional.filter(Functional.isEven, input), Functional.filter(input, i -> i % 2 == 0));
+        Assert.assertEquals(Functional.partition(Functional.isEven, input), Functional.partition(input, i -> i % 2 == 0));
+        Assert.assertTrue(Functional.exists(input, i -> i > 9));
+        Assert.assertFalse(Functional.exists(input, i -> i > 10));
+        Assert.assertTrue(Functional.forAll(input, i -> i > 0));
+        Assert.assertFalse(Functional.forAll(input, i -> i > 1));
+        Assert.assertEquals(Integer.valueOf(4), Functional.find(input, i -> i > 3));
+        Assert.assertEquals(3, Functional.findIndex(input, i -> i > 3));
+        Assert.assertEquals(Integer.valueOf(3), Functional.findLast(input, i -> i < 4));
+        Assert.assertEquals(Integer.valueOf(3), Functional.findLast(iterable, i -> i < 4));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), Functional.takeWhile(input, i -> i < 4));
+        Assert.assertEquals(Arrays.asList(8, 9, 10), Functional.skipWhile(input, i -> i < 8));
+    }
+
+    @Test
+    public void predicateFormAcceptsPredicateObjectsTest() {
+        final java.util.function.Predicate<Object> nonNull = Objects::nonNull;
+        final List<String> input = Arrays.asList("a", null, "b");
+        Assert.assertEquals(Arrays.asList("a", "b"), Functional.filter(input, nonNull));
+        Assert.assertEquals(Arrays.asList("a", null, "b"), Functional.filter(input, nonNull.negate().or(nonNull)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void findWithPredicateNoMatchTest() {
+        Functional.find(Arrays.asList(1, 2), i -> i > 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findWithNullPredicateTest() {
+        Functional.find(Arrays.asList(1, 2), (java.util.function.Predicate<Integer>) null);
+    }
+
+    @Test
+    public void seqPredicateFormsTest() {
+        final List<Integer> input = Functional.init(Functional.identity(), 10);
+        AssertIterable.assertIterableEquals(Arrays.asList(2, 4, 6, 8, 10), Functional.seq.filter(input, i -> i % 2 == 0));
+        AssertIterable.assertIterableEquals(Arrays.asList(1, 2, 3), Functional.seq.takeWhile(input, i -> i < 4));
+        AssertIterable.assertIterableEquals(Arrays.asList(8, 9, 10), Functional.seq.skipWhile(input, i -> i < 8));
+        Assert.assertEquals(Integer.valueOf(30), Functional.fold((a, b) -> a + b, 0, Functional.seq.filter(input, i -> i % 2 == 0)));
+        Assert.assertTrue(Functional.exists(Functional.seq.filter(input, i -> i % 2 == 0), i -> i == 10));
+        Assert.assertEquals(Integer.valueOf(6), Functional.find(Functional.seq.filter(input, i -> i % 2 == 0), i -> i > 5));
+    }
+
+
+    @Test
+    public void seqReiterableCanBeIteratedMoreThanOnceTest() {
+        final List<Integer> input = Functional.init(Functional.identity(), 10);
+        final Iterable<Integer> evens = Functional.seq.reiterable(() -> Functional.seq.filter(Functional.isEven, input));
+        AssertIterable.assertIterableEquals(Arrays.asList(2, 4, 6, 8, 10), evens);
+        AssertIterable.assertIterableEquals(Arrays.asList(2, 4, 6, 8, 10), evens);
+        Assert.assertEquals(Integer.valueOf(30), Functional.fold((a, b) -> a + b, 0, evens));
+        Assert.assertEquals(Arrays.asList(2, 4, 6, 8, 10), Functional.toList(evens));
+        Assert.assertEquals(5, Functional.seq.toStream(evens).count());
+    }
+
+    @Test
+    public void seqReiterableRestartsFromTheSourceTest() {
+        final List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3));
+        final Iterable<Integer> reversed = Functional.seq.reiterable(() -> Iterators.reverse(input));
+        AssertIterable.assertIterableEquals(Arrays.asList(3, 2, 1), reversed);
+        input.add(4);
+        AssertIterable.assertIterableEquals(Arrays.asList(4, 3, 2, 1), reversed);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void seqReiterableNullSourceTest() {
+        Functional.seq.reiterable(null);
+    }
+
+    @Test
+    public void seqMemoiseReadsTheSourceOnlyOnceTest() {
+        final int[] calls = {0};
+        final Iterable<Integer> memoised = Functional.seq.memoise(Functional.seq.map(i -> {
+            ++calls[0];
+            return i * 2;
+        }, Functional.init(Functional.identity(), 1000)));
+        Assert.assertEquals(0, calls[0]);
+        Assert.assertEquals(Integer.valueOf(1001000), Functional.fold((a, b) -> a + b, 0, memoised));
+        AssertIterable.assertIterableEquals(Functional.init(i -> i * 2, 1000), memoised);
+        Assert.assertEquals(1000, calls[0]);
+    }
+
+    @Test
+    public void seqMemoiseReadsOnlyAsFarAsRequiredTest() {
+        final int[] calls = {0};
+        final Iterable<Integer> memoised = Functional.seq.memoise(Functional.seq.init(i -> {
+            ++calls[0];
+            return i;
+        }));
+        AssertIterable.assertIterableEquals(Arrays.asList(1, 2, 3), Functional.seq.take(3, memoised));
+        Assert.assertEquals(3, calls[0]);
+        AssertIterable.assertIterableEquals(Arrays.asList(1, 2, 3, 4, 5), Functional.seq.take(5, memoised));
+        Assert.assertEquals(5, calls[0]);
+    }
+
+    @Test
+    public void seqMemoiseInterleavedIteratorsTest() {
+        final Iterable<Integer> memoised = Functional.seq.memoise(Functional.seq.init(Functional.identity(), 600));
+        final Iterator<Integer> first = memoised.iterator();
+        final Iterator<Integer> second = memoised.iterator();
+        for (int i = 1; i <= 300; ++i)
+            Assert.assertEquals(Integer.valueOf(i), first.next());
+        for (int i = 1; i <= 600; ++i)
+            Assert.assertEquals(Integer.valueOf(i), second.next());
+        for (int i = 301; i <= 600; ++i)
+            Assert.assertEquals(Integer.valueOf(i), first.next());
+        Assert.assertFalse(first.hasNext());
+        Assert.assertFalse(second.hasNext());
+        Assert.assertEquals(600, memoised.spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    public void seqMemoiseConcurrentIteratorsTest() throws Exception {
+        final Iterable<Integer> memoised = Functional.seq.memoise(Functional.seq.init(Functional.identity(), 100000));
+        final List<Integer> expected = Functional.init(Functional.identity(), 100000);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<java.util.concurrent.Future<List<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; ++i)
+                results.add(pool.submit(() -> Functional.toList(memoised)));
+            for (final java.util.concurrent.Future<List<Integer>> result : results)
+                Assert.assertEquals(expected, result.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void seqMemoiseOfEmptySequenceTest() {
+        final Iterable<Integer> memoised = Functional.seq.memoise(new ArrayList<Integer>());
+        Assert.assertFalse(memoised.iterator().hasNext());
+        Assert.assertFalse(memoised.iterator().hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void seqMemoiseNextBeyondTheEndTest() {
+        final Iterator<Integer> iterator = Functional.seq.memoise(Arrays.asList(1)).iterator();
+        iterator.next();
+        iterator.next();
+    }
+
+
+    @Test
+    public void recIsStackSafeTest() {
+        final int howMany = 1000000;
+        final List<Integer> input = Functional.init(Functional.identity(), howMany);
+        Assert.assertEquals(howMany / 2, Functional.toList(Functional.rec.filter(Functional.isEven, input)).size());
+        final List<Integer> doubled = Functional.toList(Functional.rec.map(i -> 2 * i, input));
+        Assert.assertEquals(howMany, doubled.size());
+        Assert.assertEquals(Integer.valueOf(2 * howMany), doubled.get(howMany - 1));
+        Assert.assertEquals(Long.valueOf(500000500000L), Functional.rec.fold((Long acc, Integer i) -> acc + i, 0L, input));
+        Assert.assertEquals(howMany, Functional.rec.unfold(i -> Pair.of(i, i + 1), i -> i >= howMany, 0).size());
+        Assert.assertEquals(howMany, Functional.rec.unfold((Integer i) -> i >= howMany ? Option.<Pair<Integer, Integer>>None() : Option.toOption(Pair.of(i, i + 1)), 0).size());
+    }
+
+
+    @Test
+    public void findLastScansListsFromTheEndTest() {
+        final int[] calls = {0};
+        final Predicate<Integer> isEven = i -> {
+            ++calls[0];
+            return i % 2 == 0;
+        };
+        final List<Integer> input = Functional.init(Functional.identity(), 1000);
+        Assert.assertEquals(Integer.valueOf(1000), Functional.findLast(input, isEven));
+        Assert.assertEquals(1, calls[0]);
+        calls[0] = 0;
+        Assert.assertEquals(Integer.valueOf(1000), Functional.findLast(new LinkedList<>(input), isEven));
+        Assert.assertEquals(1, calls[0]);
+        calls[0] = 0;
+        Assert.assertEquals(Integer.valueOf(1000), Functional.findLast((Iterable<Integer>) new ArrayDeque<>(input), isEven));
+        Assert.assertEquals(1, calls[0]);
+        calls[0] = 0;
+        Assert.assertEquals(Integer.valueOf(1000), Functional.findLast((Iterable<Integer>) new TreeSet<>(input), isEven));
+        Assert.assertEquals(1, calls[0]);
+        calls[0] = 0;
+        Assert.assertEquals(Integer.valueOf(1000), Functional.findLast(Functional.seq.map(Functional.identity(), input), isEven));
+        Assert.assertEquals(1000, calls[0]);
+    }
+
+    @Test
+    public void findLastOfEmptyOrNullElementsTest() {
+        Assert.assertTrue(Functional.noException.findLast(Functional.isEven, new ArrayList<Integer>()).isNone());
+        Assert.assertTrue(Functional.noException.findLast(Functional.isEven, (Iterable<Integer>) new ArrayDeque<Integer>()).isNone());
+        Assert.assertNull(Functional.findLast(Arrays.asList("a", null, "b"), Objects::isNull));
+        Assert.assertEquals(Integer.valueOf(4), Functional.noException.findLast(Functional.isEven, Functional.seq.init(Functional.identity(), 5)).Some());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void findLastOfEmptyListTest() {
+        Functional.findLast(new ArrayList<Integer>(), i -> true);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void findLastOfEmptyIterableTest() {
+        Functional.findLast(Functional.seq.filter(i -> false, Arrays.asList(1, 2)), i -> true);
+    }
+
+    @Test
+    public void lastOfCollectionTypesTest() {
+        final List<Integer> input = Arrays.asList(3, 1, 2);
+        Assert.assertEquals(Integer.valueOf(2), Functional.last(new LinkedList<>(input)));
+        Assert.assertEquals(Integer.valueOf(2), Functional.last(new ArrayDeque<>(input)));
+        Assert.assertEquals(Integer.valueOf(3), Functional.last(new TreeSet<>(input)));
+        Assert.assertEquals(Integer.valueOf(2), Functional.last(Functional.seq.map(Functional.identity(), input)));
+        Assert.assertTrue(Functional.noException.last(new ArrayDeque<Integer>()).isNone());
+        Assert.assertEquals(Integer.valueOf(3), Functional.noException.last(new TreeSet<>(input)).Some());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lastOfEmptyDequeTest() {
+        Functional.last(new ArrayDeque<Integer>());
+    }
+
+    @Test
+    public void findIndexOfCollectionTypesTest() {
+        final List<Integer> input = Arrays.asList(1, 3, 4, 5, 6);
+        Assert.assertEquals(2, Functional.findIndex(input, i -> i % 2 == 0));
+        Assert.assertEquals(2, Functional.findIndex(new LinkedList<>(input), i -> i % 2 == 0));
+        Assert.assertEquals(Integer.valueOf(2), Functional.noException.findIndex(Functional.isEven, input).Some());
+        Assert.assertTrue(Functional.noException.findIndex(i -> i > 6, input).isNone());
+    }
+
+
+    @Test
+    public void withSizeHintTest() {
+        final Iterable<Integer> input = Functional.withSizeHint(10, Functional.seq.init(Functional.identity(), 5));
+        Assert.assertEquals(Arrays.asList(2, 4), Functional.filter(Functional.isEven, input));
+        Assert.assertEquals(Arrays.asList(2, 4, 6), Functional.map(i -> 2 * i, Functional.withSizeHint(0, Arrays.asList(1, 2, 3))));
+        Assert.assertEquals(Integer.valueOf(15), Functional.fold((a, b) -> a + b, 0, Functional.withSizeHint(1, Functional.seq.init(Functional.identity(), 5))));
+        AssertIterable.assertIterableEquals(Arrays.asList(1, 2), Functional.withSizeHint(100, Arrays.asList(1, 2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withSizeHintNegativeTest() {
+        Functional.withSizeHint(-1, Arrays.asList(1, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withSizeHintNullTest() {
+        Functional.withSizeHint(1, null);
+    }
+
+    @Test
+    public void withAbsurdSizeHintTest() {
+        final Iterable<Integer> input = Functional.withSizeHint(Integer.MAX_VALUE, Arrays.asList(1, 2));
+        Assert.assertEquals(Arrays.asList(1, 2), Functional.toList(input));
+        Assert.assertEquals(Arrays.asList(2, 4), Functional.map(i -> 2 * i, input));
+        Assert.assertEquals(Arrays.asList(2), Functional.filter(Functional.isEven, input));
+        Assert.assertEquals(Arrays.asList(1, 2, 1, 2), Functional.concat(input, input));
+        Assert.assertEquals(2, Functional.toDictionary(Functional.identity(), Functional.identity(), input).size());
+        Assert.assertEquals(Arrays.asList(1), Functional.groupBy(Functional.isEven, input).get(false));
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2)), Functional.toList(Functional.seq.chunk(Integer.MAX_VALUE, input)));
+    }
+
+    /**
+     * A list which fills an array of exactly its own size is its own copy
+     */
+    private static void assertExactlySized(final int expectedSize, final List<?> l) {
+        Assert.assertEquals(expectedSize, l.size());
+        Assert.assertSame(l, ((ImmutableArrayList<?>) l).copy());
+    }
+
+    @Test
+    public void largeKnownSizesArePresizedExactlyTest() {
+        final int size = 100000;
+        final List<Integer> input = new ArrayList<>(Functional.init(Functional.identity(), size));
+        assertExactlySized(size, Functional.map(i -> i + 1, input));
+        assertExactlySized(size, Functional.filter(i -> i > 0, input));
+        assertExactlySized(size, Functional.zip(input, input));
+        assertExactlySized(2 * size, Functional.concat(input, input));
+        assertExactlySized(size, Functional.toList(Functional.seq.map(i -> i + 1, input)));
+    }
+
+    @Test
+    public void presizedOutputsOfSequencesTest() {
+        final Iterable<Integer> input = Functional.seq.map(Functional.identity(), Functional.init(Functional.identity(), 1000));
+        final Pair<List<Integer>, List<Integer>> partitioned = Functional.partition(input, i -> i <= 10);
+        Assert.assertEquals(10, partitioned.getLeft().size());
+        Assert.assertEquals(990, partitioned.getRight().size());
+        Assert.assertEquals(Arrays.asList(1, 1, 2, 2, 3, 3), Functional.collect(i -> Arrays.asList(i, i), Arrays.asList(1, 2, 3)));
+        final Map<Boolean, List<Integer>> grouped = Functional.groupBy(Functional.isEven, Functional.withSizeHint(6, Functional.seq.init(Functional.identity(), 6)));
+        Assert.assertEquals(Arrays.asList(2, 4, 6), grouped.get(true));
+        Assert.assertEquals(Arrays.asList(1, 3, 5), grouped.get(false));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void groupByListsAreUnmodifiableTest() {
+        Functional.groupBy(Functional.isEven, Arrays.asList(1, 2, 3)).get(true).add(4);
+    }
+
+
+    @Test
+    public void eagerResultsAreImmutableRandomAccessListsTest() {
+        final List<Integer> input = Arrays.asList(1, 2, 3, 4, 5, 6);
+        final List<List<Integer>> results = Arrays.asList(
+                Functional.map(i -> i * 2, input),
+                Functional.filter(i -> i % 2 == 0, input),
+                Functional.choose(i -> i > 3 ? Option.toOption(i) : Option.<Integer>None(), input),
+                Functional.collect(i -> Arrays.asList(i, i), input),
+                Functional.toList(Functional.seq.map(i -> i + 1, input)),
+                Functional.sortWith((a, b) -> b - a, input),
+                Functional.init(i -> i, 3));
+        for (final List<Integer> result : results) {
+            Assert.assertTrue(result instanceof RandomAccess);
+            try {
+                result.add(1);
+                Assert.fail("Expected UnsupportedOperationException");
+            } catch (final UnsupportedOperationException e) {
+            }
+        }
+        Assert.assertEquals(Arrays.asList(6, 5, 4, 3, 2, 1), results.get(5));
+        Assert.assertEquals(new ArrayList<>(Arrays.asList(2, 4, 6)), results.get(1));
+        Assert.assertEquals(new ArrayList<>(Arrays.asList(2, 4, 6)).hashCode(), results.get(1).hashCode());
+    }
+
+    @Test
+    public void libraryListsAreSharedOnInputTest() {
+        final List<Integer> mapped = Functional.map(i -> i * 10, Arrays.asList(1, 2, 3, 4, 5));
+        Assert.assertSame(mapped, Functional.toList(mapped));
+        Assert.assertSame(mapped, Functional.concat(mapped, Functional.filter(i -> false, mapped)));
+
+        final List<Integer> taken = Functional.take(3, mapped);
+        Assert.assertEquals(Arrays.asList(10, 20, 30), taken);
+        final List<Integer> skipped = Functional.skip(3, mapped);
+        Assert.assertEquals(Arrays.asList(40, 50), skipped);
+        Assert.assertEquals(Arrays.asList(), Functional.skip(10, mapped));
+        Assert.assertEquals(Arrays.asList(10, 20), Functional.takeWhile(mapped, i -> i < 30));
+        Assert.assertEquals(Arrays.asList(30, 40, 50), Functional.skipWhile(mapped, i -> i < 30));
+        Assert.assertEquals(Arrays.asList(10, 20, 30, 40, 50), Functional.concat(taken, skipped));
+        Assert.assertEquals(Arrays.asList(10, 20), Functional.noException.take(2, mapped));
+        Assert.assertEquals(mapped, Functional.noException.take(10, mapped));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void takeTooManyFromLibraryListTest() {
+        Functional.take(4, Functional.map(i -> i, Arrays.asList(1, 2, 3)));
+    }
+
+
+    @Test
+    public void slicesOfRandomAccessListsAreReadOnlyTest() {
+        final List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5));
+        final List<List<Integer>> slices = Arrays.asList(
+                Functional.take(3, input),
+                Functional.noException.take(10, input),
+                Functional.skip(2, input),
+                Functional.takeWhile(input, i -> i < 4),
+                Functional.skipWhile(input, i -> i < 2));
+        for (final List<Integer> slice : slices) {
+            Assert.assertTrue(slice instanceof RandomAccess);
+            try {
+                slice.set(0, 0);
+                Assert.fail("Expected UnsupportedOperationException");
+            } catch (final UnsupportedOperationException e) {
+            }
+        }
+        Assert.assertEquals(Arrays.asList(1, 2, 3), slices.get(0));
+        Assert.assertEquals(input, slices.get(1));
+        Assert.assertEquals(Arrays.asList(3, 4, 5), slices.get(2));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), slices.get(3));
+        Assert.assertEquals(Arrays.asList(2, 3, 4, 5), slices.get(4));
+        Assert.assertTrue(Functional.skip(5, input).isEmpty());
+        Assert.assertTrue(Functional.takeWhile(input, i -> i > 10).isEmpty());
+    }
+
+    @Test
+    public void slicesOfOtherListsAreIndependentOfThemTest() {
+        final List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5));
+        final List<Integer> taken = Functional.take(2, input);
+        final List<Integer> skipped = Functional.skip(3, input);
+        final List<Integer> takenWhile = Functional.takeWhile(input, i -> i < 3);
+        final List<Integer> skippedWhile = Functional.skipWhile(input, i -> i < 4);
+        input.set(0, 10);
+        input.add(6);
+        input.remove(1);
+        Assert.assertEquals(Arrays.asList(1, 2), taken);
+        Assert.assertEquals(Arrays.asList(4, 5), skipped);
+        Assert.assertEquals(Arrays.asList(1, 2), takenWhile);
+        Assert.assertEquals(Arrays.asList(4, 5), skippedWhile);
+    }
+
+    @Test
+    public void copyDetachesASliceTest() {
+        final List<Integer> input = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5));
+        final List<Integer> mapped = Functional.map(i -> i, input);
+        Assert.assertEquals(Arrays.asList(2, 3), Functional.copy(Functional.skip(1, Functional.take(3, mapped))));
+        Assert.assertEquals(Arrays.asList(1, 2), Functional.copy(Functional.seq.map(i -> i, Arrays.asList(1, 2))));
+    }
+
+    @Test
+    public void takeWhileAndSkipWhileOverLinkedListTest() {
+        final List<Integer> input = new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5));
+        Assert.assertEquals(Arrays.asList(1, 2), Functional.takeWhile(input, i -> i < 3));
+        Assert.assertEquals(Arrays.asList(3, 4, 5), Functional.skipWhile(input, i -> i < 3));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), Functional.take(3, input));
+    }
+
+    @Test
+    public void noExceptionTakeOfManyFromShortSequenceTest() {
+        Assert.assertEquals(Arrays.asList(1, 2), Functional.noException.take(Integer.MAX_VALUE, Functional.seq.map(i -> i, Arrays.asList(1, 2))));
+    }
+
+
+    @Test
+    public void seqChunkTest() {
+        final List<List<Integer>> expected = Functional.toList(Functional.seq.chunk(2, new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5))));
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), expected);
+        Assert.assertEquals(expected, Functional.toList(Functional.seq.chunk(2, Arrays.asList(1, 2, 3, 4, 5))));
+
+        final List<List<Integer>> pulled = new ArrayList<>();
+        for (final List<Integer> chunk : Functional.seq.chunk(2, new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5))))
+            pulled.add(chunk);
+        Assert.assertEquals(expected, pulled);
+        pulled.clear();
+        for (final List<Integer> chunk : Functional.seq.chunk(2, Arrays.asList(1, 2, 3, 4, 5)))
+            pulled.add(chunk);
+        Assert.assertEquals(expected, pulled);
+
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4)),
+                Functional.toList(Functional.seq.chunk(2, Arrays.asList(1, 2, 3, 4))));
+        Assert.assertTrue(Functional.toList(Functional.seq.chunk(3, new ArrayList<Integer>())).isEmpty());
+        Assert.assertEquals(2, Functional.seq.toStream(Functional.seq.chunk(3, Arrays.asList(1, 2, 3, 4))).count());
+    }
+
+    @Test
+    public void seqChunkOfInfiniteSequenceTest() {
+        final Iterable<List<Integer>> chunks = Functional.seq.chunk(3, Functional.seq.init(i -> i));
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6)), Functional.take(2, chunks));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void seqChunksAreImmutableTest() {
+        Functional.seq.chunk(2, new LinkedList<>(Arrays.asList(1, 2, 3))).iterator().next().add(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void seqChunkOfNonPositiveSizeTest() {
+        Functional.seq.chunk(0, Arrays.asList(1, 2, 3));
+    }
+
+    @Test
+    public void seqSlidingTest() {
+        final List<List<Integer>> overlapping = Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(2, 3, 4));
+        Assert.assertEquals(overlapping, Functional.toList(Functional.seq.sliding(3, 1, Arrays.asList(1, 2, 3, 4))));
+        Assert.assertEquals(overlapping, Functional.toList(Functional.seq.sliding(3, 1, new LinkedList<>(Arrays.asList(1, 2, 3, 4)))));
+
+        final List<List<Integer>> gapped = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(4, 5));
+        Assert.assertEquals(gapped, Functional.toList(Functional.seq.sliding(2, 3, Arrays.asList(1, 2, 3, 4, 5, 6))));
+        Assert.assertEquals(gapped, Functional.toList(Functional.seq.sliding(2, 3, new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5, 6)))));
+
+        final List<List<Integer>> pulled = new ArrayList<>();
+        for (final List<Integer> window : Functional.seq.sliding(2, 3, new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5, 6))))
+            pulled.add(window);
+        Assert.assertEquals(gapped, pulled);
+        pulled.clear();
+        for (final List<Integer> window : Functional.seq.sliding(3, 1, Arrays.asList(1, 2, 3, 4)))
+            pulled.add(window);
+        Assert.assertEquals(overlapping, pulled);
+
+        Assert.assertTrue(Functional.toList(Functional.seq.sliding(5, 1, Arrays.asList(1, 2, 3, 4))).isEmpty());
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4)),
+                Functional.take(2, Functional.seq.sliding(2, 2, Functional.seq.init(i -> i))));
+        Assert.assertEquals(2, Functional.seq.toStream(Functional.seq.sliding(3, 1, Arrays.asList(1, 2, 3, 4))).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void seqSlidingWithNonPositiveStepTest() {
+        Functional.seq.sliding(2, 0, Arrays.asList(1, 2, 3));
+    }
+
+    @Test
+    public void seqBatchMapTest() {
+        final List<Integer> batchSizes = new ArrayList<>();
+        final Function<List<Integer>, Iterable<Integer>> sumOfBatch = batch -> {
+            batchSizes.add(batch.size());
+            return Arrays.asList(Functional.fold((a, b) -> a + b, 0, batch));
+        };
+        Assert.assertEquals(Arrays.asList(3, 7, 5), Functional.toList(Functional.seq.batchMap(2, sumOfBatch, new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5)))));
+        Assert.assertEquals(Arrays.asList(2, 2, 1), batchSizes);
+        Assert.assertEquals(Arrays.asList(3, 7, 5), Functional.toList(Functional.seq.batchMap(2, sumOfBatch, Arrays.asList(1, 2, 3, 4, 5))));
+
+        final List<Integer> pulled = new ArrayList<>();
+        for (final Integer i : Functional.seq.batchMap(2, sumOfBatch, new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5))))
+            pulled.add(i);
+        Assert.assertEquals(Arrays.asList(3, 7, 5), pulled);
+        pulled.clear();
+        for (final Integer i : Functional.seq.batchMap(2, sumOfBatch, Arrays.asList(1, 2, 3, 4, 5)))
+            pulled.add(i);
+        Assert.assertEquals(Arrays.asList(3, 7, 5), pulled);
+    }
+
+    @Test
+    public void seqBatchMapMayReturnTheBatchItselfTest() {
+        final Function<List<Integer>, Iterable<Integer>> echo = batch -> batch;
+        final List<Integer> input = Arrays.asList(1, 2, 3, 4, 5);
+        Assert.assertEquals(input, Functional.toList(Functional.seq.batchMap(2, echo, new LinkedList<>(input))));
+        final List<Integer> pulled = new ArrayList<>();
+        for (final Integer i : Functional.seq.batchMap(2, echo, new LinkedList<>(input)))
+            pulled.add(i);
+        Assert.assertEquals(input, pulled);
+        Assert.assertEquals(Arrays.asList(2, 4), Functional.take(2, Functional.seq.batchMap(3, batch -> Functional.filter(Functional.isEven, batch), Functional.seq.init(i -> i))));
+    }
+
+
+    private static final List<Pair<Integer, String>> customers = Arrays.asList(Pair.of(1, "alice"), Pair.of(2, "bob"), Pair.of(3, "carol"));
+    private static final List<Pair<Integer, String>> orders = Arrays.asList(Pair.of(1, "apple"), Pair.of(3, "cherry"), Pair.of(1, "avocado"), Pair.of(4, "durian"));
+
+    @Test
+    public void innerJoinTest() {
+        final List<String> expected = Arrays.asList("alice:apple", "carol:cherry", "alice:avocado");
+        final BiFunction<Pair<Integer, String>, Pair<Integer, String>, String> describe = (c, o) -> c.getRight() + ":" + o.getRight();
+        Assert.assertEquals(expected, Functional.innerJoin(customers, orders, Pair::getLeft, Pair::getLeft, describe));
+
+        final List<String> pulled = new ArrayList<>();
+        for (final String s : Functional.seq.innerJoin(customers, orders, Pair::getLeft, Pair::getLeft, describe))
+            pulled.add(s);
+        Assert.assertEquals(expected, pulled);
+
+        // neither size known, so 'right' is hashed and the output follows 'left'
+        final Iterable<Pair<Integer, String>> unsizedCustomers = Functional.seq.filter(customers, c -> true);
+        final Iterable<Pair<Integer, String>> unsizedOrders = Functional.seq.filter(orders, o -> true);
+        Assert.assertEquals(Arrays.asList("alice:apple", "alice:avocado", "carol:cherry"),
+                Functional.innerJoin(unsizedCustomers, unsizedOrders, Pair::getLeft, Pair::getLeft, describe));
+    }
+
+    @Test
+    public void innerJoinWithInfiniteStreamedInputTest() {
+        final List<Pair<Integer, String>> evensNamed = Arrays.asList(Pair.of(2, "two"), Pair.of(4, "four"));
+        final Iterable<String> joined = Functional.seq.innerJoin(Functional.seq.init(i -> i), evensNamed, Function.identity(), Pair::getLeft, (i, p) -> p.getRight());
+        Assert.assertEquals(Arrays.asList("two", "four"), Functional.take(2, joined));
+    }
+
+    @Test
+    public void leftJoinTest() {
+        final List<String> expected = Arrays.asList("alice:apple", "alice:avocado", "bob:-", "carol:cherry");
+        final BiFunction<Pair<Integer, String>, Option<Pair<Integer, String>>, String> describe =
+                (c, o) -> c.getRight() + ":" + (o.isSome() ? o.Some().getRight() : "-");
+        Assert.assertEquals(expected, Functional.leftJoin(customers, orders, Pair::getLeft, Pair::getLeft, describe));
+
+        final List<String> pulled = new ArrayList<>();
+        for (final String s : Functional.seq.leftJoin(customers, orders, Pair::getLeft, Pair::getLeft, describe))
+            pulled.add(s);
+        Assert.assertEquals(expected, pulled);
+    }
+
+    @Test
+    public void groupJoinTest() {
+        final BiFunction<Pair<Integer, String>, List<Pair<Integer, String>>, String> describe =
+                (c, os) -> c.getRight() + ":" + Functional.join(",", Functional.map(Pair::getRight, os));
+        final List<String> expected = Arrays.asList("alice:apple,avocado", "bob:", "carol:cherry");
+        Assert.assertEquals(expected, Functional.groupJoin(customers, orders, Pair::getLeft, Pair::getLeft, describe));
+
+        final List<String> pulled = new ArrayList<>();
+        for (final String s : Functional.seq.groupJoin(customers, orders, Pair::getLeft, Pair::getLeft, describe))
+            pulled.add(s);
+        Assert.assertEquals(expected, pulled);
+    }
+
+    @Test
+    public void mergeJoinTest() {
+        final List<Integer> left = Arrays.asList(1, 2, 2, 4, 6, 7);
+        final List<Integer> right = Arrays.asList(0, 2, 2, 3, 4, 7, 8);
+        final BiFunction<Integer, Integer, String> describe = (l, r) -> l + "=" + r;
+        final List<String> expected = Arrays.asList("2=2", "2=2", "2=2", "2=2", "4=4", "7=7");
+        Assert.assertEquals(expected, Functional.mergeJoin(left, right, Function.identity(), Function.identity(), Comparator.naturalOrder(), describe));
+        Assert.assertEquals(expected, Functional.toList(Functional.seq.mergeJoin(left, right, Function.identity(), Function.identity(), Comparator.naturalOrder(), describe)));
+        Assert.assertTrue(Functional.mergeJoin(left, Arrays.<Integer>asList(), Function.identity(), Function.identity(), Comparator.naturalOrder(), describe).isEmpty());
+    }
+
+    @Test
+    public void mergeJoinOfInfiniteSequencesTest() {
+        final Iterable<Integer> multiplesOf2 = Functional.seq.init(i -> 2 * i);
+        final Iterable<Integer> multiplesOf3 = Functional.seq.init(i -> 3 * i);
+        Assert.assertEquals(Arrays.asList(6, 12, 18), Functional.take(3,
+                Functional.seq.mergeJoin(multiplesOf2, multiplesOf3, Function.identity(), Function.identity(), Comparator.<Integer>naturalOrder(), (l, r) -> l)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergeJoinOfUnsortedInputTest() {
+        Functional.mergeJoin(Arrays.asList(1, 3, 2), Arrays.asList(1, 2, 3), Function.identity(), Function.identity(), Comparator.<Integer>naturalOrder(), (l, r) -> l);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void innerJoinWithNullKeyFunctionTest() {
+        Functional.innerJoin(customers, orders, null, Pair::getLeft, (c, o) -> c);
+    }
+
+
+    @Test
+    public void groupFoldTest() {
+        final List<String> words = Arrays.asList("apple", "avocado", "banana", "blueberry", "cherry");
+        final Map<Character, Integer> totalLengths = Functional.groupFold(w -> w.charAt(0), 0, (total, w) -> total + w.length(), words);
+        final Map<Character, Integer> expected = new HashMap<>();
+        expected.put('a', 12);
+        expected.put('b', 15);
+        expected.put('c', 6);
+        Assert.assertEquals(expected, totalLengths);
+        Assert.assertEquals(Collections.emptyMap(), Functional.groupFold(w -> w.charAt(0), 0, (total, w) -> total + w.length(), new ArrayList<String>()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void groupFoldResultIsImmutableTest() {
+        Functional.groupFold(Functional.<Integer>identity(), 0, (a, b) -> a + b, Arrays.asList(1, 2)).put(3, 3);
+    }
+
+    @Test
+    public void groupFoldIntoTest() {
+        final TreeMap<Boolean, Integer> sums = new TreeMap<>();
+        sums.put(true, 100);
+        final TreeMap<Boolean, Integer> result = Functional.groupFoldInto(sums, Functional.isEven, 0, (a, b) -> a + b, Arrays.asList(1, 2, 3, 4));
+        Assert.assertSame(sums, result);
+        Assert.assertEquals(Integer.valueOf(106), result.get(true));
+        Assert.assertEquals(Integer.valueOf(4), result.get(false));
+        result.put(false, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void groupFoldFolderReturningNullTest() {
+        Functional.groupFold(Functional.isEven, 0, (a, b) -> b > 2 ? null : a + b, Arrays.asList(1, 2, 3, 4));
+    }
+
+    @Test
+    public void countByTest() {
+        final Map<Boolean, Integer> counts = Functional.countBy(Functional.isEven, Functional.init(Functional.<Integer>identity(), 1001));
+        Assert.assertEquals(Integer.valueOf(500), counts.get(true));
+        Assert.assertEquals(Integer.valueOf(501), counts.get(false));
+        Assert.assertEquals(2, counts.size());
+        Assert.assertEquals(Integer.valueOf(3), Functional.countBy(i -> "k", Functional.seq.init(i -> i, 3)).get("k"));
+    }
+
+    @Test
+    public void sumByTest() {
+        final List<Integer> input = Arrays.asList(1, 2, 3, 4, 5);
+        final Map<Boolean, Long> sums = Functional.sumBy(Functional.isEven, i -> i, input);
+        Assert.assertEquals(Long.valueOf(6), sums.get(true));
+        Assert.assertEquals(Long.valueOf(9), sums.get(false));
+        Assert.assertEquals(Long.valueOf(2L * Integer.MAX_VALUE), Functional.sumBy(i -> 0, i -> Integer.MAX_VALUE, Arrays.asList(1, 2)).get(0));
+
+        final Map<Boolean, Double> halves = Functional.sumByDouble(Functional.isEven, i -> i / 2.0, input);
+        Assert.assertEquals(3.0, halves.get(true), 0.0);
+        Assert.assertEquals(4.5, halves.get(false), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countByNullKeyFnTest() {
+        Functional.countBy(null, Arrays.asList(1, 2));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package me.shaftesbury.utils.functional;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+
+public class ImmutableArrayListTest {
+    private static ImmutableArrayList<Integer> of(final Integer... elements) {
+        return new ImmutableArrayList.Builder<Integer>(-1).addAll(Arrays.asList(elements)).build();
+    }
+
+    @Test
+    public void behavesLikeArrayListTest() {
+        final List<Integer> expected = new ArrayList<>(Arrays.asList(1, 2, 3, 2));
+        final ImmutableArrayList<Integer> l = of(1, 2, 3, 2);
+        Assert.assertEquals(expected, l);
+        Assert.assertEquals(l, expected);
+        Assert.assertEquals(expected.hashCode(), l.hashCode());
+        Assert.assertEquals(expected.toString(), l.toString());
+        Assert.assertEquals(1, l.indexOf(2));
+        Assert.assertEquals(3, l.lastIndexOf(2));
+        Assert.assertFalse(l.contains(4));
+        Assert.assertArrayEquals(expected.toArray(), l.toArray());
+        Assert.assertArrayEquals(expected.toArray(new Integer[0]), l.toArray(new Integer[0]));
+        Assert.assertEquals(expected, l.stream().collect(Collectors.toList()));
+        Assert.assertTrue(l instanceof RandomAccess);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void isImmutableTest() {
+        of(1, 2, 3).add(4);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void subListIsImmutableTest() {
+        of(1, 2, 3).subList(1, 2).set(0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutsideSubListTest() {
+        of(1, 2, 3).subList(1, 2).get(1);
+    }
+
+    @Test
+    public void subListTest() {
+        final ImmutableArrayList<Integer> l = of(1, 2, 3, 4, 5);
+        final ImmutableArrayList<Integer> sub = l.subList(1, 4);
+        Assert.assertEquals(Arrays.asList(2, 3, 4), sub);
+        Assert.assertEquals(Arrays.asList(3), sub.subList(1, 2));
+        Assert.assertArrayEquals(new Object[]{2, 3, 4}, sub.toArray());
+        Assert.assertEquals(2, sub.lastIndexOf(4));
+        Assert.assertSame(l, l.subList(0, 5));
+        Assert.assertTrue(l.subList(2, 2).isEmpty());
+        Assert.assertEquals(Arrays.asList(2, 3, 4), sub.copy());
+    }
+
+    @Test
+    public void concatTest() {
+        final ImmutableArrayList<Integer> l = ImmutableArrayList.concat(of(1, 2, 3).subList(1, 3), of(4, 5));
+        Assert.assertEquals(Arrays.asList(2, 3, 4, 5), l);
+        final ImmutableArrayList<Integer> nonEmpty = of(1);
+        Assert.assertSame(nonEmpty, ImmutableArrayList.concat(nonEmpty, ImmutableArrayList.<Integer>empty()));
+    }
+
+    @Test
+    public void builderTrimsUnusedCapacityTest() {
+        final ImmutableArrayList.Builder<Integer> builder = new ImmutableArrayList.Builder<>(1000);
+        builder.add(1).add(2);
+        Assert.assertEquals(2, builder.size());
+        final ImmutableArrayList<Integer> l = builder.build();
+        Assert.assertEquals(Arrays.asList(1, 2), l);
+        Assert.assertSame(l, l.copy());
+    }
+
+    @Test
+    public void copyOfTest() {
+        final ImmutableArrayList<Integer> l = of(1, 2);
+        Assert.assertSame(l, ImmutableArrayList.copyOf(l));
+        final List<Integer> source = new ArrayList<>(Arrays.asList(1, 2));
+        final ImmutableArrayList<Integer> copy = ImmutableArrayList.copyOf(source);
+        source.set(0, 3);
+        Assert.assertEquals(Arrays.asList(1, 2), copy);
+    }
+}
@@ -1,8 +1,10 @@
 package me.shaftesbury.utils.functional;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 
 import static me.shaftesbury.utils.functional.LispList.*;
@@ -209,4 +211,136 @@ public class LispListTest
     {
         LispList.<Integer>nil().tail();
     }
+
+
+    private static final int LONG_LIST_LENGTH = 500000;
+
+    private static List<Integer> longList()
+    {
+        List<Integer> l = LispList.nil();
+        for(int i = LONG_LIST_LENGTH; i > 0; --i)
+            l = cons(i, l);
+        return l;
+    }
+
+    @Test
+    public void longListIsStackSafeTest()
+    {
+        final List<Integer> input = longList();
+        final List<Integer> doubled = map(i -> i * 2, input);
+        Assert.assertEquals(LONG_LIST_LENGTH, length(doubled));
+        Assert.assertEquals(new Integer(2), doubled.head());
+        Assert.assertEquals(LONG_LIST_LENGTH / 2, length(filter(Functional.isEven, input)));
+        Assert.assertEquals(new Integer(LONG_LIST_LENGTH), reverse(input).head());
+        Assert.assertEquals(new Long(125000250000L), fold((state, i) -> state + i, 0L, input));
+        Assert.assertEquals(new Integer(1), foldRight((i, state) -> i, 0, input));
+        Assert.assertEquals(longList(), input);
+        Assert.assertEquals(longList().hashCode(), input.hashCode());
+        Assert.assertNotEquals(map(i -> i * 2, input), input);
+        Assert.assertEquals(2 * LONG_LIST_LENGTH, length(append(input, input)));
+        Assert.assertEquals(LONG_LIST_LENGTH, length(zip(input, doubled)));
+        Assert.assertEquals(LONG_LIST_LENGTH, length(take(LONG_LIST_LENGTH, input)));
+    }
+
+    @Test
+    public void foldRightTest2()
+    {
+        final List<String> input = list(java.util.Arrays.asList("a", "b", "c"));
+        Assert.assertEquals("abc", foldRight((o, state) -> o + state, "", input));
+    }
+
+    @Test
+    public void lengthTest1()
+    {
+        Assert.assertEquals(0, length(LispList.nil()));
+        Assert.assertEquals(5, length(list(2,list(4,list(6,list(8,list(10,LispList.<Integer>nil())))))));
+    }
+
+    @Test
+    public void appendSharesTheSecondListTest()
+    {
+        final List<Integer> first = compose(1, 2);
+        final List<Integer> second = compose(3, 4);
+        final List<Integer> output = append(first, second);
+        Assert.assertEquals(list(1, list(2, compose(3, 4))), output);
+        Assert.assertSame(second, drop(2, output));
+        Assert.assertEquals(compose(1, 2), first);
+        Assert.assertSame(second, append(LispList.nil(), second));
+    }
+
+    @Test
+    public void zipTest1()
+    {
+        final List<Pair<Integer, String>> output = zip(compose(1, 2), compose("a", "b"));
+        Assert.assertEquals(compose(Pair.of(1, "a"), Pair.of(2, "b")), output);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zipDifferentLengthsTest()
+    {
+        zip(compose(1, 2), list("a", LispList.nil()));
+    }
+
+    @Test
+    public void takeTest1()
+    {
+        final List<Integer> input = list(2,list(4,list(6,list(8,list(10,LispList.<Integer>nil())))));
+        Assert.assertEquals(compose(2, 4), take(2, input));
+        Assert.assertEquals(LispList.<Integer>nil(), take(0, input));
+        Assert.assertEquals(input, take(5, input));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void takeTooManyTest()
+    {
+        take(3, compose(1, 2));
+    }
+
+    @Test
+    public void dropTest1()
+    {
+        final List<Integer> input = list(2,list(4,list(6,list(8,list(10,LispList.<Integer>nil())))));
+        Assert.assertSame(input.tail().tail(), drop(2, input));
+        Assert.assertSame(input, drop(0, input));
+        Assert.assertTrue(drop(6, input).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void dropNegativeTest()
+    {
+        drop(-1, compose(1, 2));
+    }
+
+    @Test
+    public void iterableTest1()
+    {
+        final List<Integer> input = list(2,list(4,list(6,list(8,list(10,LispList.<Integer>nil())))));
+        AssertIterable.assertIterableEquals(java.util.Arrays.asList(2, 4, 6, 8, 10), input);
+        Assert.assertEquals(Integer.valueOf(30), Functional.fold((a, b) -> a + b, 0, input));
+        Assert.assertFalse(LispList.<Integer>nil().iterator().hasNext());
+        Assert.assertEquals(input, list(input));
+    }
+
+    @Test
+    public void consSharesTheTailTest()
+    {
+        final List<Integer> tail = compose(2, 3);
+        final List<Integer> a = cons(1, tail);
+        final List<Integer> b = cons(0, tail);
+        Assert.assertSame(a.tail(), b.tail());
+    }
+
+    @Test
+    public void toStringTest1()
+    {
+        Assert.assertEquals("( 1, ( 2, ( ) ) )", compose(1, 2).toString());
+        Assert.assertEquals("( )", LispList.nil().toString());
+    }
+
+    @Test
+    public void equalsWithNullElementTest()
+    {
+        Assert.assertEquals(list(null, compose(1, 2)), list(null, compose(1, 2)));
+        Assert.assertNotEquals(list(null, compose(1, 2)), list(0, compose(1, 2)));
+    }
 }
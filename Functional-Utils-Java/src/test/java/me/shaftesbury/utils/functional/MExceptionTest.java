@@ -6,6 +6,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -243,4 +244,90 @@ public class MExceptionTest
         Assert.assertFalse(c.hasException());
         Assert.assertEquals(new Integer(3),c.read());
     }
+
+
+    private static MException<Integer> parse(final String s)
+    {
+        return MException.toMException(() -> Integer.parseInt(s));
+    }
+
+    @Test
+    public void mapTest1()
+    {
+        Assert.assertEquals(Integer.valueOf(4), parse("2").map(i -> i * 2).read());
+        final MException<Integer> failed = parse("x");
+        Assert.assertSame(failed, failed.map(i -> i * 2));
+        Assert.assertTrue(parse("2").map(i -> i / 0).getException() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void recoverTest1()
+    {
+        final MException<Integer> ok = parse("2");
+        Assert.assertSame(ok, ok.recover(ex -> 0));
+        Assert.assertEquals(Integer.valueOf(0), parse("x").recover(ex -> 0).read());
+        Assert.assertFalse(parse("x").recover(ex -> 0).hasException());
+    }
+
+    @Test
+    public void sequenceTest1()
+    {
+        final MException<java.util.List<Integer>> all = MException.sequence(Arrays.asList(parse("1"), parse("2"), parse("3")));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), all.read());
+        final MException<Integer> failed = parse("x");
+        final MException<java.util.List<Integer>> some = MException.sequence(Arrays.asList(parse("1"), failed, parse("y")));
+        Assert.assertTrue(some.hasException());
+        Assert.assertSame(failed.getException(), some.getException());
+    }
+
+    @Test
+    public void bindPropagatesFailureWithoutCopyingTest()
+    {
+        final MException<Integer> failed = parse("x");
+        Assert.assertSame(failed, failed.bind(MExceptionTest::parseAgain));
+    }
+
+    private static MException<Integer> parseAgain(final Integer i)
+    {
+        return parse(i.toString());
+    }
+
+    @Test
+    public void supplierIsOnlyCalledOnceTest()
+    {
+        final int[] calls = {0};
+        final MException<Object> m = MException.toMException(() -> { ++calls[0]; return null; });
+        Assert.assertFalse(m.hasException());
+        Assert.assertNull(m.read());
+        Assert.assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void stackTracePolicyTest()
+    {
+        final MException.StackTracePolicy original = MException.getStackTracePolicy();
+        try
+        {
+            MException.setStackTracePolicy(MException.StackTracePolicy.none());
+            Assert.assertEquals(0, parse("x").getExceptionWithStackTrace().getRight().length);
+
+            MException.setStackTracePolicy(MException.StackTracePolicy.lazy(3));
+            Assert.assertEquals(3, parse("x").getExceptionWithStackTrace().getRight().length);
+
+            MException.setStackTracePolicy(MException.StackTracePolicy.full());
+            final StackTraceElement[] full = parse("x").getExceptionWithStackTrace().getRight();
+            Assert.assertTrue(full.length > 3);
+            Assert.assertEquals(MException.class.getName(), full[0].getClassName());
+        }
+        finally
+        {
+            MException.setStackTracePolicy(original);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setStackTracePolicyNullTest()
+    {
+        MException.setStackTracePolicy(null);
+    }
 }
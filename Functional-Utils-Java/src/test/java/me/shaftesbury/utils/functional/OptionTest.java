@@ -3,9 +3,12 @@ package me.shaftesbury.utils.functional;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -365,4 +368,68 @@ public class OptionTest
         map.put(Option.toOption(1),1);
         Assert.assertEquals(new Integer(1), map.get(Option.toOption(1)));
     }
+
+
+    @Test
+    public void NoneIsSharedTest()
+    {
+        Assert.assertSame(Option.<Integer>None(), Option.<String>None());
+        Assert.assertSame(Option.<Integer>None(), Option.<Integer>toOption(null));
+    }
+
+    @Test
+    public void equalityTest4()
+    {
+        Assert.assertFalse(Option.toOption(1).equals(Option.<Integer>None()));
+        Assert.assertFalse(Option.<Integer>None().equals(Option.toOption(1)));
+        Assert.assertFalse(Option.toOption(1).equals(1));
+        Assert.assertTrue(Option.<Integer>None().equals(Option.<String>None()));
+    }
+
+    @Test
+    public void mapTest1()
+    {
+        Assert.assertEquals(Option.toOption("2"), Option.toOption(2).map(String::valueOf));
+        Assert.assertTrue(Option.<Integer>None().map(String::valueOf).isNone());
+        Assert.assertTrue(Option.toOption(2).map(i -> null).isNone());
+    }
+
+    @Test
+    public void filterTest1()
+    {
+        final Option<Integer> two = Option.toOption(2);
+        Assert.assertSame(two, two.filter(i -> i % 2 == 0));
+        Assert.assertTrue(two.filter(i -> i % 2 != 0).isNone());
+        Assert.assertTrue(Option.<Integer>None().filter(i -> true).isNone());
+    }
+
+    @Test
+    public void orElseTest1()
+    {
+        Assert.assertEquals(Integer.valueOf(2), Option.toOption(2).orElse(3));
+        Assert.assertEquals(Integer.valueOf(3), Option.<Integer>None().orElse(3));
+    }
+
+    @Test
+    public void orElseGetTest1()
+    {
+        Assert.assertEquals(Integer.valueOf(2), Option.toOption(2).orElseGet(() -> { throw new AssertionError(); }));
+        Assert.assertEquals(Integer.valueOf(3), Option.<Integer>None().orElseGet(() -> 3));
+    }
+
+    @Test
+    public void ifSomeTest1()
+    {
+        final List<Integer> seen = new ArrayList<>();
+        Option.toOption(2).ifSome(seen::add);
+        Option.<Integer>None().ifSome(seen::add);
+        Assert.assertEquals(Arrays.asList(2), seen);
+    }
+
+    @Test
+    public void toOptionalTest1()
+    {
+        Assert.assertEquals(Optional.of(2), Option.toOption(2).toOptional());
+        Assert.assertEquals(Optional.empty(), Option.<Integer>None().toOptional());
+    }
 }
@@ -0,0 +1,48 @@
+package me.shaftesbury.utils.functional;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TrampolineTest {
+    private static Trampoline<Long> sum(final long n, final long accumulator) {
+        return n == 0 ? Trampoline.done(accumulator) : Trampoline.more(() -> sum(n - 1, accumulator + n));
+    }
+
+    private static Trampoline<Boolean> isEven(final int n) {
+        return n == 0 ? Trampoline.done(true) : Trampoline.more(() -> isOdd(n - 1));
+    }
+
+    private static Trampoline<Boolean> isOdd(final int n) {
+        return n == 0 ? Trampoline.done(false) : Trampoline.more(() -> isEven(n - 1));
+    }
+
+    @Test
+    public void doneTest() {
+        final Trampoline<String> t = Trampoline.done("result");
+        Assert.assertTrue(t.isDone());
+        Assert.assertEquals("result", t.run());
+    }
+
+    @Test
+    public void moreTest() {
+        final Trampoline<Long> t = sum(3, 0);
+        Assert.assertFalse(t.isDone());
+        Assert.assertEquals(Long.valueOf(6), t.run());
+    }
+
+    @Test
+    public void deepRecursionTest() {
+        Assert.assertEquals(Long.valueOf(500000500000L), sum(1000000, 0).run());
+    }
+
+    @Test
+    public void mutualRecursionTest() {
+        Assert.assertTrue(isEven(1000000).run());
+        Assert.assertTrue(isOdd(1000001).run());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void moreNullTest() {
+        Trampoline.more(null);
+    }
+}
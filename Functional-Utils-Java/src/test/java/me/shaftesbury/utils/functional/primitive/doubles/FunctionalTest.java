@@ -0,0 +1,85 @@
+package me.shaftesbury.utils.functional.primitive.doubles;
+
+import me.shaftesbury.utils.functional.Option;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class FunctionalTest
+{
+    private static final double delta = 1e-12;
+
+    private static final Func_double_double halver = new Func_double_double()
+    {
+        public double apply(final double a) { return a/2; }
+    };
+
+    private static DoubleIterable asIterable(final double... doubles)
+    {
+        final DoubleList list = new DoubleList(doubles);
+        return new DoubleIterable() { public DoubleIterator iterator() { return list.iterator(); } };
+    }
+
+    @Test
+    public void initToDoubleTest()
+    {
+        Assert.assertArrayEquals(new double[]{0.5, 1.0, 1.5}, Functional.initToDouble(halver, 3).toArray(), delta);
+    }
+
+    @Test
+    public void mapTest()
+    {
+        Assert.assertEquals(Arrays.asList("0.5", "1.5"), Functional.map(d -> Double.toString(d), new DoubleList(new double[]{0.5, 1.5})));
+        Assert.assertArrayEquals(new double[]{0.25, 0.75}, Functional.mapToDouble(halver, asIterable(0.5, 1.5)).toArray(), delta);
+        Assert.assertArrayEquals(new double[]{1.5, 2.5}, Functional.map((String s) -> Double.parseDouble(s), Arrays.asList("1.5", "2.5")).toArray(), delta);
+    }
+
+    @Test
+    public void filterAndPartitionTest()
+    {
+        final DoubleList input = new DoubleList(new double[]{-1.5, 2.5, -3.5, 4.5});
+        Assert.assertArrayEquals(new double[]{2.5, 4.5}, Functional.filter(d -> d > 0, input).toArray(), delta);
+        final Pair<DoubleList, DoubleList> output = Functional.partition(d -> d > 0, asIterable(input.toArray()));
+        Assert.assertArrayEquals(new double[]{2.5, 4.5}, output.getLeft().toArray(), delta);
+        Assert.assertArrayEquals(new double[]{-1.5, -3.5}, output.getRight().toArray(), delta);
+    }
+
+    @Test
+    public void foldTest()
+    {
+        final DoubleList input = Functional.initToDouble(halver, 4);
+        Assert.assertEquals(5.0, Functional.fold(Functional.sum, 0.0, input), delta);
+        Assert.assertEquals("0.51.01.52.0", Functional.fold((String s, double d) -> s + d, "", input));
+    }
+
+    @Test
+    public void chooseAndZipTest()
+    {
+        final DoubleList input = new DoubleList(new double[]{1.0, 4.0, 9.0});
+        final List<String> strings = Functional.choose(d -> d > 1 ? Option.toOption(Double.toString(d)) : Option.<String>None(), input);
+        Assert.assertEquals(Arrays.asList("4.0", "9.0"), strings);
+        Assert.assertArrayEquals(new double[]{2.0, 3.0}, Functional.chooseToDouble(d -> d > 1 ? Option_double.toOption(Math.sqrt(d)) : Option_double.None(), input).toArray(), delta);
+        Assert.assertArrayEquals(new double[]{2.0, 8.0, 18.0}, Functional.zipToDouble(Functional.sum, input, input).toArray(), delta);
+    }
+
+    @Test
+    public void doubleListComparesAsDoubleCompareTest()
+    {
+        final DoubleList list = new DoubleList(new double[]{0.0, Double.NaN});
+        Assert.assertEquals(1, list.indexOf(Double.NaN));
+        Assert.assertFalse(list.contains(-0.0));
+        Assert.assertEquals(new DoubleList(new double[]{0.0, Double.NaN}), list);
+    }
+
+    @Test
+    public void optionTest()
+    {
+        Assert.assertSame(Option_double.None(), Option_double.None());
+        Assert.assertEquals(Option_double.toOption(Double.NaN), Option_double.toOption(Double.NaN));
+        Assert.assertNotEquals(Option_double.toOption(Double.NaN), Option_double.None());
+        Assert.assertEquals(Option_double.toOption(3.5), Option_double.lift(Functional.sum, Option_double.toOption(1.5), Option_double.toOption(2.0)));
+    }
+}
@@ -311,10 +311,10 @@ public class FunctionalTest
     public void PartitionTest1()
     {
         final IntList m = Functional.init(TriplingGenerator, 5);
-        final Pair<List<Integer>, List<Integer>> r = Functional.partition(Functional.isOdd, m);
+        final Pair<IntList, IntList> r = Functional.partition(Functional.isOdd, m);
 
-        final Integer[] left = {3, 9, 15};
-        final Integer[] right = {6, 12};
+        final int[] left = {3, 9, 15};
+        final int[] right = {6, 12};
         Assert.assertArrayEquals(left, r.getLeft().toArray());
         Assert.assertArrayEquals(right, r.getRight().toArray());
     }
@@ -323,17 +323,17 @@ public class FunctionalTest
     public void PartitionTest2()
     {
         final IntList l = Functional.init(DoublingGenerator, 5);
-        final Pair<List<Integer>, List<Integer>> r = Functional.partition(Functional.isEven, l);
-        Assert.assertArrayEquals(l.toArray(new Integer[0]), r.getLeft().toArray());
-        Assert.assertArrayEquals(new Integer[]{}, r.getRight().toArray());
+        final Pair<IntList, IntList> r = Functional.partition(Functional.isEven, l);
+        Assert.assertArrayEquals(l.toArray(), r.getLeft().toArray());
+        Assert.assertArrayEquals(new int[]{}, r.getRight().toArray());
     }
 
     @Test
     public void PartitionTest3()
     {
         final IntList l = Functional.init(DoublingGenerator, 5);
-        final Pair<List<Integer>, List<Integer>> r = Functional.partition(Functional.isEven, l);
-        Assert.assertArrayEquals(Functional.filter(Functional.isEven, l).toArray(new Integer[0]), r.getLeft().toArray());
+        final Pair<IntList, IntList> r = Functional.partition(Functional.isEven, l);
+        Assert.assertArrayEquals(Functional.filter(Functional.isEven, l).toArray(), r.getLeft().toArray());
     }
 
     @Test
@@ -3297,4 +3297,355 @@ public class FunctionalTest
 //        output.add("24");
 //        Assert.assertTrue(output.contains("24"));
 //    }
+
+
+    private static IntIterable asIntIterable(final int... ints)
+    {
+        final IntList list = new IntList(ints);
+        return new IntIterable() { public IntIterator iterator() { return list.iterator(); } };
+    }
+
+    @Test
+    public void filterOverIntIterableTest()
+    {
+        final IntList output = Functional.filter(Functional.isEven, asIntIterable(1, 2, 3, 4, 5, 6));
+        Assert.assertArrayEquals(new int[]{2, 4, 6}, output.toArray());
+    }
+
+    @Test
+    public void chooseOverIntIterableTest()
+    {
+        final IntList output = Functional.choose(new Func_int_Option_int() {
+            public Option_int apply(final int i) { return i > 2 ? Option_int.toOption(i * 10) : Option_int.None(); }
+        }, asIntIterable(1, 2, 3, 4));
+        Assert.assertArrayEquals(new int[]{30, 40}, output.toArray());
+    }
+
+    @Test
+    public void sparseResultsDoNotKeepTheInputSizedBufferTest()
+    {
+        final Func_int_int identity = i -> i;
+        final IntList input = Functional.init(identity, 1000000);
+        final IntList filtered = Functional.filter(input, i -> i == 7);
+        Assert.assertArrayEquals(new int[]{7}, filtered.toArray());
+        Assert.assertEquals(1, filtered.extractBackingStoreWithoutCopy().length);
+        final Pair<IntList,IntList> partitioned = Functional.partition(input, i -> i <= 3);
+        Assert.assertEquals(3, partitioned.getLeft().extractBackingStoreWithoutCopy().length);
+        Assert.assertEquals(999997, partitioned.getRight().size());
+        final Func_int_Option_int seven = i -> i == 7 ? Option_int.toOption(i) : Option_int.None();
+        final IntList chosen = Functional.choose(seven, input);
+        Assert.assertEquals(1, chosen.extractBackingStoreWithoutCopy().length);
+    }
+
+    @Test
+    public void mapToIntListFromIterableTest()
+    {
+        final Iterable<String> input = new Iterable<String>() {
+            public Iterator<String> iterator() { return Arrays.asList("1", "2", "3").iterator(); }
+        };
+        final IntList output = Functional.map(new Func_T_int<String>() {
+            public int apply(final String s) { return Integer.parseInt(s); }
+        }, input);
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, output.toArray());
+    }
+
+    @Test
+    public void concatOfFilteredListsTest()
+    {
+        final IntList evens = Functional.filter(Functional.isEven, new IntList(new int[]{1, 2, 3, 4}));
+        final IntList odds = Functional.filter(Functional.isOdd, new IntList(new int[]{1, 2, 3, 4}));
+        Assert.assertArrayEquals(new int[]{2, 4, 1, 3}, Functional.concat(evens, odds).toArray());
+    }
+
+
+    @Test
+    public void intPredicateFormsTest()
+    {
+        final IntList input = new IntList(new int[]{1, 2, 3, 4, 5, 6});
+        Assert.assertArrayEquals(new int[]{2, 4, 6}, Functional.filter(input, i -> i % 2 == 0).toArray());
+        Assert.assertArrayEquals(new int[]{2, 4, 6}, Functional.filter(asIntIterable(1, 2, 3, 4, 5, 6), i -> i % 2 == 0).toArray());
+        Assert.assertEquals(3, Functional.find(input, i -> i > 2));
+        Assert.assertEquals(2, Functional.findIndex(input, i -> i > 2));
+        Assert.assertEquals(6, Functional.findLast(input, i -> i > 2));
+        Assert.assertTrue(Functional.exists(input, i -> i == 6));
+        Assert.assertTrue(Functional.forAll(input, i -> i > 0));
+        Assert.assertFalse(Functional.forAll(input, i -> i > 1));
+        final Pair<IntList, IntList> partitioned = Functional.partition(input, i -> i > 4);
+        Assert.assertArrayEquals(new int[]{5, 6}, partitioned.getLeft().toArray());
+        Assert.assertArrayEquals(new int[]{1, 2, 3, 4}, partitioned.getRight().toArray());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void findLastWithIntPredicateNoMatchTest()
+    {
+        Functional.findLast(new IntList(new int[]{1, 2}), i -> i > 2);
+    }
+
+
+    @Test
+    public void optionTest()
+    {
+        Assert.assertSame(Option_int.None(), Option_int.None());
+        Assert.assertEquals(Option_int.None(), Option_int.None());
+        Assert.assertEquals(Option_int.toOption(3), Option_int.toOption(3));
+        Assert.assertNotEquals(Option_int.toOption(3), Option_int.None());
+        Assert.assertNotEquals(Option_int.None(), Option_int.toOption(3));
+        Assert.assertNotEquals(Option_int.None(), Option_int.toOption(Integer.MIN_VALUE));
+    }
+
+
+    @Test
+    public void intListSliceTest()
+    {
+        final IntList l = new IntList(new int[]{1, 2, 3, 4, 5, 6});
+        final IntList taken = Functional.take(4, l);
+        Assert.assertArrayEquals(new int[]{1, 2, 3, 4}, taken.toArray());
+        final IntList middle = Functional.skip(1, taken);
+        Assert.assertArrayEquals(new int[]{2, 3, 4}, middle.toArray());
+        Assert.assertEquals(3, middle.size());
+        Assert.assertEquals(2, middle.get(0));
+        Assert.assertEquals(4, middle.get(2));
+        Assert.assertEquals("2,3,4", Functional.join(",", middle));
+        Assert.assertEquals(0, Functional.skip(10, l).size());
+        Assert.assertArrayEquals(new int[]{1, 2}, Functional.takeWhile(l, i -> i < 3).toArray());
+        Assert.assertArrayEquals(new int[]{5, 6}, Functional.skipWhile(l, i -> i < 5).toArray());
+        Assert.assertEquals(6, Functional.skipWhile(l, i -> i < 5).get(1));
+        Assert.assertArrayEquals(new int[]{2, 3, 4, 5, 6}, Functional.concat(middle, Functional.skip(4, l)).toArray());
+        Assert.assertArrayEquals(new int[]{2, 3, 4}, middle.copy().toArray());
+        Assert.assertArrayEquals(new Integer[]{2, 3, 4}, middle.toArray(new Integer[0]));
+        Assert.assertEquals(4, Functional.findLast(middle, i -> true));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void intListSliceGetOutOfRangeTest()
+    {
+        Functional.skip(2, new IntList(new int[]{1, 2, 3})).get(-1);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void intListTakeTooManyTest()
+    {
+        Functional.take(4, new IntList(new int[]{1, 2, 3}));
+    }
+
+
+    @Test
+    public void intToDictionaryTest()
+    {
+        final IntList l = new IntList(new int[]{1, 2, 3, 11, 0});
+        final IntIntMap output = Functional.toIntIntMap(i -> i % 10, i -> i * 2, l);
+        Assert.assertEquals(4, output.size());
+        Assert.assertEquals(22, output.getOrDefault(1, -1));
+        Assert.assertEquals(0, output.getOrDefault(0, -1));
+        final IntObjMap<String> strings = Functional.toIntObjMap(i -> i, Functional.dStringify(), l);
+        Assert.assertEquals("11", strings.get(11));
+        Assert.assertEquals(5, strings.size());
+        final Map<Integer, String> boxed = Functional.toDictionary(i -> i, i -> "v" + i, l);
+        Assert.assertEquals("v11", boxed.get(11));
+    }
+
+    @Test
+    public void intGroupByTest()
+    {
+        final IntList l = Functional.init(Functional.range(0), 20);
+        final IntObjMap<IntList> output = Functional.groupBy((Func_int_int) i -> i % 3, l);
+        Assert.assertEquals(3, output.size());
+        Assert.assertArrayEquals(new int[]{0, 3, 6, 9, 12, 15, 18}, output.get(0).toArray());
+        Assert.assertArrayEquals(new int[]{2, 5, 8, 11, 14, 17}, output.get(2).toArray());
+    }
+
+    @Test
+    public void countByTest()
+    {
+        final IntList l = new IntList(new int[]{5, 1, 5, 0, 5, 1});
+        final IntIntMap output = Functional.countBy(i -> i, l);
+        Assert.assertEquals(3, output.size());
+        Assert.assertEquals(3, output.getOrDefault(5, 0));
+        Assert.assertEquals(2, output.getOrDefault(1, 0));
+        Assert.assertEquals(1, output.getOrDefault(0, 0));
+    }
+
+    @Test
+    public void distinctTest()
+    {
+        final IntSet output = Functional.distinct(new IntList(new int[]{5, 1, 5, 0, 5, 1}));
+        Assert.assertEquals(3, output.size());
+        final int[] elements = output.toArray();
+        Arrays.sort(elements);
+        Assert.assertArrayEquals(new int[]{0, 1, 5}, elements);
+    }
+
+
+    @Test
+    public void intMapTest()
+    {
+        final IntList l = new IntList(new int[]{0, 1, 2, 3, 4, 5});
+        Assert.assertArrayEquals(new int[]{4, 6, 8}, Functional.mapToInt(DoublingGenerator, Functional.skip(2, Functional.take(5, l))).toArray());
+        Assert.assertArrayEquals(new int[]{0, 2, 4}, Functional.mapToInt(i -> 2 * i, Functional.filter(l, i -> i < 3)).toArray());
+        Assert.assertArrayEquals(new int[]{0, 2, 6, 12, 20, 30}, Functional.mapiToInt((pos, i) -> pos * (i + 1), l).toArray());
+        final List<Integer> boxed = Functional.map(i -> i * 2, l);
+        Assert.assertEquals(Arrays.asList(0, 2, 4, 6, 8, 10), boxed);
+        final List<Integer> boxedi = Functional.mapi((pos, i) -> pos + i, l);
+        Assert.assertEquals(Arrays.asList(0, 2, 4, 6, 8, 10), boxedi);
+    }
+
+    @Test
+    public void intZipTest()
+    {
+        final IntList l = new IntList(new int[]{1, 2, 3});
+        final IntList m = new IntList(new int[]{4, 5, 6});
+        final Pair<IntList, IntList> zipped = Functional.zip(l, m);
+        Assert.assertSame(l, zipped.getLeft());
+        Assert.assertSame(m, zipped.getRight());
+        final Pair<IntList, IntList> zippedIterables = Functional.zip(Iterators.reverse(l), Iterators.reverse(m));
+        Assert.assertArrayEquals(new int[]{3, 2, 1}, zippedIterables.getLeft().toArray());
+        Assert.assertArrayEquals(new int[]{6, 5, 4}, zippedIterables.getRight().toArray());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void intZipDifferentLengthsTest()
+    {
+        Functional.zip(Iterators.reverse(new IntList(new int[]{1, 2, 3})), Iterators.reverse(new IntList(new int[]{4, 5})));
+    }
+
+    @Test
+    public void unzipIntsTest()
+    {
+        final Pair<IntList, IntList> output = Functional.unzipInts(Arrays.asList(IntIntPair.of(1, 4), IntIntPair.of(2, 5), IntIntPair.of(3, 6)));
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, output.getLeft().toArray());
+        Assert.assertArrayEquals(new int[]{4, 5, 6}, output.getRight().toArray());
+        Assert.assertEquals(IntIntPair.of(1, 4), IntIntPair.of(1, 4));
+        Assert.assertEquals("(1,4)", IntIntPair.of(1, 4).toString());
+    }
+
+
+    @Test
+    public void intKernelsTest()
+    {
+        final int[] array = new int[1003];
+        long sum = 0;
+        long dot = 0;
+        for(int i=0; i<array.length; ++i)
+        {
+            array[i] = (i * 7919) % 2001 - 1000;
+            sum += array[i];
+            dot += (long) array[i] * array[i];
+        }
+        final IntList l = new IntList(array);
+        Assert.assertEquals(sum, Functional.sum(l));
+        Assert.assertEquals(Arrays.stream(array).min().getAsInt(), Functional.min(l));
+        Assert.assertEquals(Arrays.stream(array).max().getAsInt(), Functional.max(l));
+        Assert.assertEquals(Arrays.stream(array).filter(i -> i < 17).count(), Functional.countLessThan(17, l));
+        Assert.assertArrayEquals(Arrays.stream(array).map(i -> i + 5).toArray(), Functional.add(5, l).toArray());
+        Assert.assertArrayEquals(Arrays.stream(array).map(i -> i * -3).toArray(), Functional.multiply(-3, l).toArray());
+        Assert.assertEquals(dot, Functional.dot(l, l));
+        Assert.assertArrayEquals(Arrays.stream(array).filter(i -> i < 17).toArray(), Functional.filterLessThan(17, l).toArray());
+        Assert.assertArrayEquals(Arrays.stream(array).filter(i -> i < -900).toArray(), Functional.filterLessThan(-900, l).toArray());
+    }
+
+    @Test
+    public void intKernelsOnSliceTest()
+    {
+        final IntList l = Functional.skip(2, new IntList(new int[]{100, -100, 3, 1, 2}));
+        Assert.assertEquals(6, Functional.sum(l));
+        Assert.assertEquals(1, Functional.min(l));
+        Assert.assertEquals(3, Functional.max(l));
+        Assert.assertEquals(2, Functional.countLessThan(3, l));
+        Assert.assertArrayEquals(new int[]{4, 2, 3}, Functional.add(1, l).toArray());
+        Assert.assertArrayEquals(new int[]{6, 2, 4}, Functional.multiply(2, l).toArray());
+        Assert.assertEquals(14, Functional.dot(l, l));
+        Assert.assertArrayEquals(new int[]{1, 2}, Functional.filterLessThan(3, l).toArray());
+        Assert.assertEquals(2L * Integer.MAX_VALUE, Functional.sum(new IntList(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE})));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void minOfEmptyTest()
+    {
+        Functional.min(new IntList());
+    }
+
+
+    @Test
+    public void containsOnUnsortedListTest()
+    {
+        final IntList l = new IntList(new int[]{5, 1, 4, 1, 3});
+        Assert.assertFalse(l.isSorted());
+        Assert.assertTrue(l.contains(5));
+        Assert.assertTrue(l.contains(3));
+        Assert.assertFalse(l.contains(2));
+        Assert.assertEquals(1, l.indexOf(1));
+        Assert.assertEquals(3, l.lastIndexOf(1));
+        Assert.assertEquals(-1, l.indexOf(2));
+    }
+
+    @Test
+    public void indexOfOnSortedListTest()
+    {
+        final IntList l = new IntList(new int[]{-3, 1, 1, 1, 4, Integer.MAX_VALUE, Integer.MAX_VALUE});
+        Assert.assertTrue(l.isSorted());
+        Assert.assertEquals(1, l.indexOf(1));
+        Assert.assertEquals(3, l.lastIndexOf(1));
+        Assert.assertEquals(-1, l.indexOf(2));
+        Assert.assertEquals(-1, l.lastIndexOf(-4));
+        Assert.assertEquals(5, l.indexOf(Integer.MAX_VALUE));
+        Assert.assertEquals(6, l.lastIndexOf(Integer.MAX_VALUE));
+        final IntList slice = Functional.skip(2, l);
+        Assert.assertTrue(slice.isSorted());
+        Assert.assertEquals(0, slice.indexOf(1));
+        Assert.assertEquals(1, slice.lastIndexOf(1));
+    }
+
+    @Test
+    public void sortTest()
+    {
+        for(final int size : new int[]{0, 1, 100, 100000})
+        {
+            final int[] array = new int[size];
+            final Random random = new Random(size);
+            for(int i=0; i<size; ++i)
+                array[i] = i % 3 == 0 ? random.nextInt() : random.nextInt(1000) - 500;
+            final IntList sorted = Functional.sort(new IntList(array));
+            Arrays.sort(array);
+            Assert.assertArrayEquals(array, sorted.toArray());
+            Assert.assertTrue(sorted.isSorted());
+        }
+        final IntList alreadySorted = new IntList(new int[]{1, 2, 3});
+        Assert.assertSame(alreadySorted, Functional.sort(alreadySorted));
+    }
+
+    @Test
+    public void sortedSetAlgebraTest()
+    {
+        final Random random = new Random(42);
+        for(final int[] sizes : new int[][]{{0, 10}, {1000, 1000}, {1000, 20}, {50, 100000}})
+        {
+            final int[] a = new int[sizes[0]];
+            final int[] b = new int[sizes[1]];
+            for(int i=0; i<a.length; ++i) a[i] = random.nextInt(2000) - 1000;
+            for(int i=0; i<b.length; ++i) b[i] = random.nextInt(2000) - 1000;
+            final IntList l1 = Functional.sort(new IntList(a));
+            final IntList l2 = Functional.sort(new IntList(b));
+            final TreeSet<Integer> s1 = new TreeSet<Integer>(Functional.map(Functional.identity(), l1));
+            final TreeSet<Integer> s2 = new TreeSet<Integer>(Functional.map(Functional.identity(), l2));
+
+            final TreeSet<Integer> union = new TreeSet<Integer>(s1);
+            union.addAll(s2);
+            final TreeSet<Integer> intersection = new TreeSet<Integer>(s1);
+            intersection.retainAll(s2);
+            final TreeSet<Integer> difference = new TreeSet<Integer>(s1);
+            difference.removeAll(s2);
+
+            Assert.assertArrayEquals(union.stream().mapToInt(i -> i).toArray(), Functional.union(l1, l2).toArray());
+            Assert.assertArrayEquals(intersection.stream().mapToInt(i -> i).toArray(), Functional.intersect(l1, l2).toArray());
+            Assert.assertArrayEquals(intersection.stream().mapToInt(i -> i).toArray(), Functional.intersect(l2, l1).toArray());
+            Assert.assertArrayEquals(difference.stream().mapToInt(i -> i).toArray(), Functional.difference(l1, l2).toArray());
+            Assert.assertTrue(Functional.intersect(l1, l2).isSorted());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void intersectUnsortedTest()
+    {
+        Functional.intersect(new IntList(new int[]{2, 1}), new IntList(new int[]{1, 2}));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class IntIntMapTest
+{
+    @Test
+    public void putAndGetTest()
+    {
+        final IntIntMap map = new IntIntMap();
+        map.put(1, 10);
+        map.put(0, 20);
+        map.put(1, 30);
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals(30, map.getOrDefault(1, -1));
+        Assert.assertEquals(20, map.getOrDefault(0, -1));
+        Assert.assertEquals(-1, map.getOrDefault(2, -1));
+        Assert.assertTrue(map.containsKey(0));
+        Assert.assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    public void addToMatchesHashMapTest()
+    {
+        final IntIntMap map = new IntIntMap();
+        final Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+        for(int i=0; i<100000; ++i)
+        {
+            final int key = (i * 31) % 5000 - 2500;
+            Assert.assertEquals((int) expected.merge(key, i, Integer::sum), map.addTo(key, i));
+        }
+        Assert.assertEquals(expected.size(), map.size());
+        map.forEach((key, value) -> Assert.assertEquals((int) expected.get(key), value));
+        Assert.assertEquals(expected.size(), map.keys().size());
+    }
+
+    @Test
+    public void equalsTest()
+    {
+        final IntIntMap a = new IntIntMap();
+        final IntIntMap b = new IntIntMap();
+        a.put(0, 1);
+        a.put(2, 3);
+        b.put(2, 3);
+        b.put(0, 1);
+        Assert.assertEquals(a, b);
+        Assert.assertEquals(a.hashCode(), b.hashCode());
+        b.put(2, 4);
+        Assert.assertNotEquals(a, b);
+        Assert.assertEquals("{0=1, 2=3}", a.toString());
+    }
+}
@@ -0,0 +1,105 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class IntKernelsTest
+{
+    private static final IntBulkKernels scalar = ScalarIntKernels.INSTANCE;
+
+    /**
+     * Lengths either side of every multiple of the widest vector of ints, so that each kernel is run with and without a
+     * scalar tail
+     */
+    private static final int[] lengths = {0,1,2,3,4,5,7,8,9,15,16,17,31,32,33,63,64,65,100,1000};
+
+    private static int[] random(final Random random, final int length)
+    {
+        final int[] output = new int[length];
+        for(int i=0; i<length; ++i) output[i] = random.nextInt();
+        return output;
+    }
+
+    private static int[] filled(final int value, final int length)
+    {
+        final int[] output = new int[length];
+        Arrays.fill(output, value);
+        return output;
+    }
+
+    private static void assertSameAsScalar(final int[] a, final int from, final int length)
+    {
+        final IntBulkKernels bulk = IntKernels.BULK;
+        final String range = "from " + from + ", length " + length;
+        Assert.assertEquals(range, scalar.sum(a, from, length), bulk.sum(a, from, length));
+        Assert.assertEquals(range, scalar.min(a, from, length), bulk.min(a, from, length));
+        Assert.assertEquals(range, scalar.max(a, from, length), bulk.max(a, from, length));
+        for(final int threshold : new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE})
+        {
+            Assert.assertEquals(range, scalar.countLessThan(threshold, a, from, length), bulk.countLessThan(threshold, a, from, length));
+            Assert.assertArrayEquals(range, scalar.filterLessThan(threshold, a, from, length).toArray(), bulk.filterLessThan(threshold, a, from, length).toArray());
+        }
+        for(final int constant : new int[]{Integer.MIN_VALUE, -3, 0, 7, Integer.MAX_VALUE})
+        {
+            Assert.assertArrayEquals(range, scalar.add(constant, a, from, length), bulk.add(constant, a, from, length));
+            Assert.assertArrayEquals(range, scalar.multiply(constant, a, from, length), bulk.multiply(constant, a, from, length));
+        }
+        Assert.assertEquals(range, scalar.dot(a, from, a, from, length), bulk.dot(a, from, a, from, length));
+        Assert.assertEquals(range, scalar.dot(a, from, a, 0, length), bulk.dot(a, from, a, 0, length));
+    }
+
+    @Test
+    public void bulkKernelsMatchScalarKernelsTest()
+    {
+        final Random random = new Random(23);
+        for(final int length : lengths)
+        {
+            final int[] a = random(random, length+5);
+            assertSameAsScalar(a, 0, length);
+            assertSameAsScalar(a, 5, length);
+            assertSameAsScalar(a, 3, length);
+        }
+    }
+
+    @Test
+    public void bulkKernelsMatchScalarKernelsAtTheLimitsTest()
+    {
+        for(final int value : new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE+1, -1, 0xFFFF, 0x10000, Integer.MAX_VALUE})
+            for(final int length : lengths)
+                assertSameAsScalar(filled(value, length), 0, length);
+    }
+
+    @Test
+    public void bulkSumCannotOverflowTest()
+    {
+        // Long enough to span several blocks of the vector sum
+        final int length = 100003;
+        Assert.assertEquals((long) Integer.MAX_VALUE*length, IntKernels.BULK.sum(filled(Integer.MAX_VALUE, length), 0, length));
+        Assert.assertEquals((long) Integer.MIN_VALUE*length, IntKernels.BULK.sum(filled(Integer.MIN_VALUE, length), 0, length));
+        Assert.assertEquals((long) 0xFFFF*length, IntKernels.BULK.sum(filled(0xFFFF, length), 0, length));
+        final int[] a = random(new Random(17), length);
+        Assert.assertEquals(scalar.sum(a, 1, length-1), IntKernels.BULK.sum(a, 1, length-1));
+    }
+
+    @Test
+    public void bulkKernelsUseTheVectorApiWhereAvailableTest()
+    {
+        boolean available;
+        try
+        {
+            Class.forName("jdk.incubator.vector.IntVector");
+            Class.forName("me.shaftesbury.utils.functional.primitive.integer.VectorIntKernels");
+            available = Boolean.parseBoolean(System.getProperty(IntKernels.USE_VECTOR_API_PROPERTY, "true"));
+        }
+        catch(final ClassNotFoundException e)
+        {
+            available = false;
+        }
+        Assume.assumeTrue(available);
+        Assert.assertEquals("VectorIntKernels", IntKernels.BULK.getClass().getSimpleName());
+    }
+}
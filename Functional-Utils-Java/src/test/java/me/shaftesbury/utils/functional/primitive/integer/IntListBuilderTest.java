@@ -0,0 +1,83 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntListBuilderTest
+{
+    @Test
+    public void buildEmptyTest()
+    {
+        final IntList output = new IntListBuilder().build();
+        Assert.assertTrue(output.isEmpty());
+        Assert.assertFalse(output.iterator().hasNext());
+    }
+
+    @Test
+    public void addGrowsBeyondInitialCapacityTest()
+    {
+        final IntListBuilder builder = new IntListBuilder(0);
+        for(int i=0; i<1000; ++i)
+            builder.add(i);
+        final IntList output = builder.build();
+        Assert.assertEquals(1000, output.size());
+        Assert.assertEquals(999, output.get(999));
+    }
+
+    @Test
+    public void addAllTest()
+    {
+        final IntList output = new IntListBuilder(1)
+                .add(1)
+                .addAll(new int[]{2, 3})
+                .addAll(new IntList(new int[]{4, 5}))
+                .build();
+        Assert.assertArrayEquals(new int[]{1, 2, 3, 4, 5}, output.toArray());
+    }
+
+    @Test
+    public void ensureCapacityTest()
+    {
+        final IntListBuilder builder = new IntListBuilder(0).ensureCapacity(100);
+        Assert.assertEquals(0, builder.size());
+        builder.add(7);
+        Assert.assertArrayEquals(new int[]{7}, builder.build().toArray());
+    }
+
+    @Test
+    public void builtListIsUnaffectedByLaterAddsTest()
+    {
+        final IntListBuilder builder = new IntListBuilder(4).add(1).add(2);
+        final IntList first = builder.build();
+        builder.add(3);
+        final IntList second = builder.build();
+        Assert.assertArrayEquals(new int[]{1, 2}, first.toArray());
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, second.toArray());
+        final IntIterator iterator = first.iterator();
+        iterator.next();
+        iterator.next();
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void buildTrimsAMostlyUnusedBufferTest()
+    {
+        final IntList trimmed = new IntListBuilder(1000).add(1).add(2).build();
+        Assert.assertArrayEquals(new int[]{1, 2}, trimmed.toArray());
+        Assert.assertEquals(2, trimmed.extractBackingStoreWithoutCopy().length);
+        final IntList adopted = new IntListBuilder(4).add(1).add(2).add(3).build();
+        Assert.assertEquals(4, adopted.extractBackingStoreWithoutCopy().length);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getBeyondBuiltSizeThrowsTest()
+    {
+        new IntListBuilder(10).add(1).build().get(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addAllNullThrowsTest()
+    {
+        new IntListBuilder().addAll((int[]) null);
+    }
+}
@@ -0,0 +1,42 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class IntObjMapTest
+{
+    @Test
+    public void putAndGetTest()
+    {
+        final IntObjMap<String> map = new IntObjMap<String>();
+        Assert.assertNull(map.put(1, "a"));
+        Assert.assertNull(map.put(0, "b"));
+        Assert.assertEquals("a", map.put(1, "c"));
+        Assert.assertNull(map.put(2, null));
+        Assert.assertEquals(3, map.size());
+        Assert.assertEquals("c", map.get(1));
+        Assert.assertEquals("b", map.get(0));
+        Assert.assertNull(map.get(2));
+        Assert.assertTrue(map.containsKey(2));
+        Assert.assertEquals("d", map.getOrDefault(3, "d"));
+    }
+
+    @Test
+    public void computeIfAbsentMatchesHashMapTest()
+    {
+        final IntObjMap<StringBuilder> map = new IntObjMap<StringBuilder>(0);
+        final Map<Integer, StringBuilder> expected = new HashMap<Integer, StringBuilder>();
+        for(int i=0; i<50000; ++i)
+        {
+            final int key = (i * 7) % 3001;
+            map.computeIfAbsent(key, k -> new StringBuilder()).append('x');
+            expected.computeIfAbsent(key, k -> new StringBuilder()).append('x');
+        }
+        Assert.assertEquals(expected.size(), map.size());
+        map.forEach((key, value) -> Assert.assertEquals(expected.get(key).toString(), value.toString()));
+        Assert.assertEquals(expected.size(), map.values().size());
+    }
+}
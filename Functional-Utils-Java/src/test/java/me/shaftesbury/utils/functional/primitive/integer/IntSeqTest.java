@@ -0,0 +1,179 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+public class IntSeqTest
+{
+    private static int[] pull(final IntIterable input)
+    {
+        final IntListBuilder output = new IntListBuilder();
+        final IntIterator iterator = input.iterator();
+        while(iterator.hasNext()) output.add(iterator.next());
+        return output.build().toArray();
+    }
+
+    private static int[] push(final IntIterable input)
+    {
+        return IntSeq.toList(input).toArray();
+    }
+
+    /**
+     * An IntIterable which is neither an IntList nor a pipeline, so that it can only be read through its iterator
+     */
+    private static IntIterable opaque(final int... elements)
+    {
+        return () -> new IntList(elements).iterator();
+    }
+
+    @Test
+    public void rangeTest()
+    {
+        Assert.assertArrayEquals(new int[]{3,4,5,6}, pull(IntSeq.range(3, 7)));
+        Assert.assertArrayEquals(new int[]{3,4,5,6}, push(IntSeq.range(3, 7)));
+        Assert.assertArrayEquals(new int[0], push(IntSeq.range(7, 3)));
+        Assert.assertArrayEquals(new int[]{Integer.MAX_VALUE-1}, pull(IntSeq.range(Integer.MAX_VALUE-1, Integer.MAX_VALUE)));
+        Assert.assertEquals(4, IntSeq.count(IntSeq.range(3, 7)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void rangeIteratorThrowsWhenExhaustedTest()
+    {
+        final IntIterator iterator = IntSeq.range(0, 1).iterator();
+        iterator.next();
+        iterator.next();
+    }
+
+    @Test
+    public void mapTest()
+    {
+        Assert.assertArrayEquals(new int[]{2,4,6}, pull(IntSeq.map(i -> 2*i, IntSeq.range(1, 4))));
+        Assert.assertArrayEquals(new int[]{2,4,6}, push(IntSeq.map(i -> 2*i, opaque(1,2,3))));
+        Assert.assertArrayEquals(new int[]{2,4,6}, push(IntSeq.map(i -> 2*i, new IntList(new int[]{1,2,3}))));
+    }
+
+    @Test
+    public void mapOfMapTest()
+    {
+        final IntIterable output = IntSeq.map(i -> i+1, IntSeq.map(i -> 10*i, IntSeq.range(1, 4)));
+        Assert.assertArrayEquals(new int[]{11,21,31}, pull(output));
+        Assert.assertArrayEquals(new int[]{11,21,31}, push(IntSeq.map(i -> i+1, IntSeq.map(i -> 10*i, IntSeq.range(1, 4)))));
+    }
+
+    @Test
+    public void filterTest()
+    {
+        Assert.assertArrayEquals(new int[]{0,2,4}, pull(IntSeq.filter(i -> i%2==0, IntSeq.range(0, 6))));
+        Assert.assertArrayEquals(new int[]{0,2,4}, push(IntSeq.filter(IntSeq.range(0, 6), i -> i%2==0)));
+        Assert.assertArrayEquals(new int[]{0,6}, push(IntSeq.filter(IntSeq.filter(IntSeq.range(0, 10), i -> i%2==0), i -> i%3==0)));
+        Assert.assertArrayEquals(new int[]{0,6}, pull(IntSeq.filter(IntSeq.filter(IntSeq.range(0, 10), i -> i%2==0), i -> i%3==0)));
+        Assert.assertArrayEquals(new int[0], pull(IntSeq.filter(opaque(1,3,5), i -> i%2==0)));
+    }
+
+    @Test
+    public void takeTest()
+    {
+        Assert.assertArrayEquals(new int[]{0,1,2}, pull(IntSeq.take(3, IntSeq.range(0, 10))));
+        Assert.assertArrayEquals(new int[]{0,1}, push(IntSeq.take(3, IntSeq.range(0, 2))));
+        Assert.assertArrayEquals(new int[]{1,2}, push(IntSeq.take(2, new IntList(new int[]{1,2,3}))));
+        Assert.assertArrayEquals(new int[]{1,2}, push(IntSeq.take(2, opaque(1,2,3))));
+        Assert.assertArrayEquals(new int[]{1,2}, pull(IntSeq.take(2, opaque(1,2,3))));
+        Assert.assertArrayEquals(new int[0], push(IntSeq.take(0, opaque(1,2,3))));
+        Assert.assertArrayEquals(new int[]{1}, push(IntSeq.take(4, IntSeq.take(1, opaque(1,2,3)))));
+        Assert.assertArrayEquals(new int[]{Integer.MAX_VALUE-1}, push(IntSeq.take(5, IntSeq.range(Integer.MAX_VALUE-1, Integer.MAX_VALUE))));
+    }
+
+    @Test
+    public void takeStopsPullingFromInputTest()
+    {
+        final int[] pulled = {0};
+        final IntIterable input = IntSeq.map(i -> {++pulled[0]; return i;}, opaque(1,2,3,4,5));
+        Assert.assertEquals(3, IntSeq.sum(IntSeq.take(2, input)));
+        Assert.assertEquals(2, pulled[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void takeNegativeTest()
+    {
+        IntSeq.take(-1, IntSeq.range(0, 1));
+    }
+
+    @Test
+    public void skipTest()
+    {
+        Assert.assertArrayEquals(new int[]{7,8,9}, pull(IntSeq.skip(7, IntSeq.range(0, 10))));
+        Assert.assertArrayEquals(new int[0], push(IntSeq.skip(11, IntSeq.range(0, 10))));
+        Assert.assertArrayEquals(new int[]{3}, push(IntSeq.skip(2, new IntList(new int[]{1,2,3}))));
+        Assert.assertArrayEquals(new int[]{3}, push(IntSeq.skip(2, opaque(1,2,3))));
+        Assert.assertArrayEquals(new int[]{3}, pull(IntSeq.skip(2, opaque(1,2,3))));
+        Assert.assertArrayEquals(new int[]{4}, push(IntSeq.skip(1, IntSeq.skip(2, opaque(1,2,3,4)))));
+        Assert.assertArrayEquals(new int[0], push(IntSeq.skip(Integer.MAX_VALUE, IntSeq.skip(2, opaque(1,2,3,4)))));
+        Assert.assertArrayEquals(new int[0], push(IntSeq.skip(5, IntSeq.range(Integer.MAX_VALUE-1, Integer.MAX_VALUE))));
+    }
+
+    @Test
+    public void takeWhileTest()
+    {
+        Assert.assertArrayEquals(new int[]{0,1,2}, pull(IntSeq.takeWhile(i -> i<3, IntSeq.range(0, 10))));
+        Assert.assertArrayEquals(new int[]{0,1,2}, push(IntSeq.takeWhile(IntSeq.range(0, 10), i -> i<3)));
+        Assert.assertArrayEquals(new int[]{1,2}, push(IntSeq.takeWhile(opaque(1,2,5,1), i -> i<3)));
+        Assert.assertArrayEquals(new int[]{1,2}, pull(IntSeq.takeWhile(opaque(1,2,5,1), i -> i<3)));
+        Assert.assertArrayEquals(new int[0], push(IntSeq.takeWhile(opaque(5,1), i -> i<3)));
+        Assert.assertArrayEquals(new int[]{1}, push(IntSeq.take(1, IntSeq.takeWhile(opaque(1,2,5,1), i -> i<3))));
+    }
+
+    @Test
+    public void zipTest()
+    {
+        Assert.assertArrayEquals(new int[]{11,22,33}, pull(IntSeq.zip((a, b) -> a+b, IntSeq.range(1, 4), opaque(10,20,30))));
+        Assert.assertArrayEquals(new int[]{11,22,33}, push(IntSeq.zip((a, b) -> a+b, IntSeq.range(1, 4), opaque(10,20,30))));
+        Assert.assertArrayEquals(new int[]{11}, push(IntSeq.take(1, IntSeq.zip((a, b) -> a+b, IntSeq.range(1, 4), opaque(10,20,30)))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zipPushDifferingLengthsTest()
+    {
+        IntSeq.sum(IntSeq.zip((a, b) -> a+b, IntSeq.range(1, 4), opaque(10,20)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zipPushShorterFirstInputTest()
+    {
+        IntSeq.sum(IntSeq.zip((a, b) -> a+b, IntSeq.range(1, 2), opaque(10,20)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zipPullDifferingLengthsTest()
+    {
+        pull(IntSeq.zip((a, b) -> a+b, IntSeq.range(1, 2), opaque(10,20)));
+    }
+
+    @Test
+    public void terminalOperationsTest()
+    {
+        final IntIterable input = IntSeq.map(i -> i*i, IntSeq.filter(IntSeq.range(0, 1000), i -> i%3==0));
+        long expected = 0;
+        for(int i=0; i<1000; i+=3) expected += i*i;
+        Assert.assertEquals(expected, IntSeq.sum(input));
+        Assert.assertEquals(334, IntSeq.count(IntSeq.filter(IntSeq.range(0, 1000), i -> i%3==0)));
+        Assert.assertEquals(3, IntSeq.count(opaque(4,5,6)));
+        Assert.assertEquals(-6, IntSeq.fold((state, i) -> state-i, 0, IntSeq.range(1, 4)));
+        Assert.assertEquals(3L*Integer.MAX_VALUE, IntSeq.sum(opaque(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cannotEvaluateTwiceTest()
+    {
+        final IntIterable input = IntSeq.map(i -> i, IntSeq.range(0, 3));
+        IntSeq.sum(input);
+        IntSeq.sum(input);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullInputTest()
+    {
+        IntSeq.map(i -> i, null);
+    }
+}
@@ -0,0 +1,77 @@
+package me.shaftesbury.utils.functional.primitive.integer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class IntSetTest
+{
+    @Test
+    public void addAndContainsTest()
+    {
+        final IntSet set = new IntSet();
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertTrue(set.add(3));
+        Assert.assertTrue(set.add(0));
+        Assert.assertTrue(set.add(-7));
+        Assert.assertFalse(set.add(3));
+        Assert.assertFalse(set.add(0));
+        Assert.assertEquals(3, set.size());
+        Assert.assertTrue(set.contains(0));
+        Assert.assertTrue(set.contains(-7));
+        Assert.assertFalse(set.contains(4));
+    }
+
+    @Test
+    public void growsAndMatchesHashSetTest()
+    {
+        final IntSet set = new IntSet(0);
+        final Set<Integer> expected = new HashSet<Integer>();
+        for(int i=0; i<100000; ++i)
+        {
+            final int element = (i * 7919) % 65536 - 32768;
+            Assert.assertEquals(expected.add(element), set.add(element));
+        }
+        Assert.assertEquals(expected.size(), set.size());
+        final int[] elements = set.toArray();
+        Assert.assertEquals(expected.size(), elements.length);
+        for(final int element : elements)
+            Assert.assertTrue(expected.contains(element));
+        for(int i=-40000; i<40000; ++i)
+            Assert.assertEquals(expected.contains(i), set.contains(i));
+    }
+
+    @Test
+    public void iteratorTest()
+    {
+        final IntSet set = new IntSet();
+        for(final int element : new int[]{5, 0, 1 << 20, -1})
+            set.add(element);
+        final IntIterator iterator = set.iterator();
+        final int[] iterated = new int[4];
+        for(int i=0; i<4; ++i)
+            iterated[i] = iterator.next();
+        Assert.assertFalse(iterator.hasNext());
+        Arrays.sort(iterated);
+        Assert.assertArrayEquals(new int[]{-1, 0, 5, 1 << 20}, iterated);
+    }
+
+    @Test
+    public void equalsTest()
+    {
+        final IntSet a = new IntSet();
+        final IntSet b = new IntSet(100);
+        for(int i=0; i<10; ++i)
+        {
+            a.add(i);
+            b.add(9 - i);
+        }
+        Assert.assertEquals(a, b);
+        Assert.assertEquals(a.hashCode(), b.hashCode());
+        b.add(10);
+        Assert.assertNotEquals(a, b);
+    }
+}
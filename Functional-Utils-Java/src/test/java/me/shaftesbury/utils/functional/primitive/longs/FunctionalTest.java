@@ -0,0 +1,202 @@
+package me.shaftesbury.utils.functional.primitive.longs;
+
+import me.shaftesbury.utils.functional.Option;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class FunctionalTest
+{
+    private static final Func_long_long doubler = new Func_long_long()
+    {
+        public long apply(final long a) { return 2*a; }
+    };
+
+    private static LongIterable asIterable(final long... longs)
+    {
+        final LongList list = new LongList(longs);
+        return new LongIterable() { public LongIterator iterator() { return list.iterator(); } };
+    }
+
+    @Test
+    public void initToLongTest()
+    {
+        final LongList output = Functional.initToLong(doubler, 5);
+        Assert.assertArrayEquals(new long[]{2,4,6,8,10}, output.toArray());
+    }
+
+    @Test
+    public void initWithConstantTest()
+    {
+        Assert.assertArrayEquals(new long[]{7,7,7}, Functional.init(7L, 3).toArray());
+    }
+
+    @Test
+    public void initGenericTest()
+    {
+        final List<String> output = Functional.init(l -> Long.toString(l), 3);
+        Assert.assertEquals(Arrays.asList("1","2","3"), output);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void initWithZeroElementsThrowsTest()
+    {
+        Functional.initToLong(doubler, 0);
+    }
+
+    @Test
+    public void mapTest()
+    {
+        final LongList input = new LongList(new long[]{1, 2, 3});
+        Assert.assertEquals(Arrays.asList("1","2","3"), Functional.map(l -> Long.toString(l), input));
+    }
+
+    @Test
+    public void mapToLongTest()
+    {
+        final LongList input = new LongList(new long[]{1, 2, 3, Long.MAX_VALUE / 2});
+        Assert.assertArrayEquals(new long[]{2, 4, 6, Long.MAX_VALUE - 1}, Functional.mapToLong(doubler, input).toArray());
+    }
+
+    @Test
+    public void mapToLongOverIterableTest()
+    {
+        Assert.assertArrayEquals(new long[]{2, 4, 6}, Functional.mapToLong(doubler, asIterable(1, 2, 3)).toArray());
+    }
+
+    @Test
+    public void mapFromObjectsTest()
+    {
+        final LongList output = Functional.map((String s) -> Long.parseLong(s), Arrays.asList("10", "20"));
+        Assert.assertArrayEquals(new long[]{10, 20}, output.toArray());
+    }
+
+    @Test
+    public void filterTest()
+    {
+        final LongList input = Functional.initToLong(l -> l, 10);
+        Assert.assertArrayEquals(new long[]{2, 4, 6, 8, 10}, Functional.filter(Functional.isEven, input).toArray());
+    }
+
+    @Test
+    public void filterOverLongIterableTest()
+    {
+        final long[] input = new long[40];
+        for(int i=0; i<input.length; ++i) input[i] = i;
+        final LongList output = Functional.filter(Functional.isOdd, asIterable(input));
+        Assert.assertEquals(20, output.size());
+        Assert.assertEquals(39L, Functional.last(output));
+    }
+
+    @Test
+    public void partitionTest()
+    {
+        final Pair<LongList, LongList> output = Functional.partition(Functional.isEven, asIterable(1, 2, 3, 4, 5));
+        Assert.assertArrayEquals(new long[]{2, 4}, output.getLeft().toArray());
+        Assert.assertArrayEquals(new long[]{1, 3, 5}, output.getRight().toArray());
+    }
+
+    @Test
+    public void foldTest()
+    {
+        final LongList input = Functional.initToLong(l -> l, 100);
+        Assert.assertEquals(5050L, Functional.fold(Functional.sum, 0L, input));
+        Assert.assertEquals(5050L, Functional.fold(Functional.sum, 0L, asIterable(input.toArray())));
+    }
+
+    @Test
+    public void genericFoldTest()
+    {
+        final String output = Functional.fold((String s, long l) -> s + l, "", new LongList(new long[]{1, 2, 3}));
+        Assert.assertEquals("123", output);
+    }
+
+    @Test
+    public void chooseTest()
+    {
+        final List<String> output = Functional.choose(l -> l % 2 == 0 ? Option.toOption(Long.toString(l)) : Option.<String>None(), new LongList(new long[]{1, 2, 3, 4}));
+        Assert.assertEquals(Arrays.asList("2", "4"), output);
+    }
+
+    @Test
+    public void chooseToLongTest()
+    {
+        final LongList output = Functional.chooseToLong(l -> l > 2 ? Option_long.toOption(l * 10) : Option_long.None(), new LongList(new long[]{1, 2, 3, 4}));
+        Assert.assertArrayEquals(new long[]{30, 40}, output.toArray());
+    }
+
+    @Test
+    public void zipTest()
+    {
+        final List<Pair<Long, Long>> output = Functional.zip((a, b) -> Pair.of(a, b), new LongList(new long[]{1, 2}), new LongList(new long[]{3, 4}));
+        Assert.assertEquals(Arrays.asList(Pair.of(1L, 3L), Pair.of(2L, 4L)), output);
+    }
+
+    @Test
+    public void zipToLongTest()
+    {
+        final LongList output = Functional.zipToLong(Functional.sum, new LongList(new long[]{1, 2}), new LongList(new long[]{3, 4}));
+        Assert.assertArrayEquals(new long[]{4, 6}, output.toArray());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zipToLongWithDifferentLengthsThrowsTest()
+    {
+        Functional.zipToLong(Functional.sum, new LongList(new long[]{1, 2}), new LongList(new long[]{3}));
+    }
+
+    @Test
+    public void findTests()
+    {
+        final LongList input = new LongList(new long[]{1, 2, 3, 4});
+        Assert.assertEquals(2L, Functional.find(Functional.isEven, input));
+        Assert.assertEquals(1, Functional.findIndex(Functional.isEven, input));
+        Assert.assertEquals(4L, Functional.findLast(Functional.isEven, input));
+        Assert.assertTrue(Functional.exists(Functional.isOdd, input));
+        Assert.assertFalse(Functional.forAll(Functional.isOdd, input));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void findLastWithNoMatchThrowsTest()
+    {
+        Functional.findLast(l -> l > 10, new LongList(new long[]{1, 2}));
+    }
+
+    @Test
+    public void concatAndJoinTest()
+    {
+        final LongList output = Functional.concat(new LongList(new long[]{1, 2}), new LongList(new long[]{3}));
+        Assert.assertEquals("1,2,3", Functional.join(",", output));
+        Assert.assertEquals(new LongList(new long[]{1, 2, 3}), output);
+    }
+
+    @Test
+    public void longListTest()
+    {
+        final long[] array = {5, 6, 5};
+        final LongList list = new LongList(array);
+        array[0] = 0;
+        Assert.assertEquals(5L, list.get(0));
+        Assert.assertEquals(0, list.indexOf(5));
+        Assert.assertEquals(2, list.lastIndexOf(5));
+        Assert.assertEquals(-1, list.indexOf(7));
+        Assert.assertTrue(list.contains(6));
+        Assert.assertFalse(list.contains(7));
+    }
+
+    @Test
+    public void optionTest()
+    {
+        Assert.assertSame(Option_long.None(), Option_long.None());
+        Assert.assertEquals(Option_long.None(), Option_long.None());
+        Assert.assertEquals(Option_long.toOption(3), Option_long.toOption(3));
+        Assert.assertNotEquals(Option_long.toOption(3), Option_long.None());
+        Assert.assertNotEquals(Option_long.None(), Option_long.toOption(3));
+        Assert.assertEquals(Option_long.toOption(7), Option_long.lift(Functional.sum, Option_long.toOption(3), Option_long.toOption(4)));
+        Assert.assertEquals(Option_long.None(), Option_long.toOption(3).bind(l -> Option_long.None()));
+    }
+}